@@ -0,0 +1,433 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.Size;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A grid of square or hexagonal cells laid over a bounding box, the equivalent of the
+ * <a href="https://turfjs.org/docs/#squareGrid">squareGrid</a> and
+ * <a href="https://turfjs.org/docs/#hexGrid">hexGrid</a> modules of Turf: the cells are sized,
+ * centered on the box and numbered in the same order as the polygons generated by Turf.
+ * <p>
+ * The cell containing a position is computed arithmetically from its coordinates rather than by
+ * testing the cell polygons, so that points can be binned into counts or sums held in primitive
+ * arrays, optionally reduced in parallel, and polygons only created for the cells that aren't
+ * empty.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class BinningGrid {
+
+  private static final int PARALLEL_THRESHOLD = 16384;
+  private static final double SQRT_3 = Math.sqrt(3);
+
+  private final boolean hexagonal;
+  private final int columns;
+  private final int rows;
+  // square cells: the south west corner of the grid, hexagons: the center of the first column
+  private final double originX;
+  private final double originY;
+  // square cells: the cell size, hexagons: the radii of the cells
+  private final double cellWidth;
+  private final double cellHeight;
+  // hexagons: index of the first cell of each column
+  private final int[] columnStarts;
+
+  private BinningGrid(boolean hexagonal, int columns, int rows, double originX, double originY,
+                      double cellWidth, double cellHeight) {
+    this.hexagonal = hexagonal;
+    this.columns = Math.max(0, columns);
+    this.rows = Math.max(0, rows);
+    this.originX = originX;
+    this.originY = originY;
+    this.cellWidth = cellWidth;
+    this.cellHeight = cellHeight;
+    this.columnStarts = new int[this.columns + 1];
+    for (int column = 0; column < this.columns; column++) {
+      int first = hexagonal ? firstRow(column) : 0;
+      columnStarts[column + 1] = columnStarts[column] + Math.max(0, this.rows - first);
+    }
+  }
+
+  /**
+   * Creates a grid of square cells covering a bounding box. The cell size is measured along the
+   * southern and western edges of the box, and the columns and rows that fit are centered on it.
+   *
+   * @param bbox     the bounding box: [west, south, east, north]
+   * @param cellSide the length of the side of a cell
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a new {@link BinningGrid} instance
+   * @throws TurfException if the cell side isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static BinningGrid fromSquares(@NonNull @Size(min = 4) double[] bbox, double cellSide,
+                                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    checkCellSide(cellSide);
+    double west = bbox[0];
+    double south = bbox[1];
+    double east = bbox[2];
+    double north = bbox[3];
+    double boxWidth = east - west;
+    double boxHeight = north - south;
+    double width = cellSide / TurfMeasurement.distance(west, south, east, south, units) * boxWidth;
+    double height = cellSide / TurfMeasurement.distance(west, south, west, north, units)
+      * boxHeight;
+    int columns = (int) Math.floor(boxWidth / width);
+    int rows = (int) Math.floor(boxHeight / height);
+    double deltaX = (boxWidth - columns * width) / 2;
+    double deltaY = (boxHeight - rows * height) / 2;
+    return new BinningGrid(false, columns, rows, west + deltaX, south + deltaY, width, height);
+  }
+
+  /**
+   * Creates a grid of flat topped hexagonal cells covering a bounding box. The cell size is
+   * measured across the middle of the box, and the columns and rows that fit are centered on it.
+   *
+   * @param bbox     the bounding box: [west, south, east, north]
+   * @param cellSide the length of the side of a cell, which is also its radius
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a new {@link BinningGrid} instance
+   * @throws TurfException if the cell side isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static BinningGrid fromHexagons(@NonNull @Size(min = 4) double[] bbox, double cellSide,
+                                         @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    checkCellSide(cellSide);
+    double west = bbox[0];
+    double south = bbox[1];
+    double east = bbox[2];
+    double north = bbox[3];
+    double centerX = (west + east) / 2;
+    double centerY = (south + north) / 2;
+    double boxWidth = east - west;
+    double boxHeight = north - south;
+    double width = cellSide * 2
+      / TurfMeasurement.distance(west, centerY, east, centerY, units) * boxWidth;
+    double height = cellSide * 2
+      / TurfMeasurement.distance(centerX, south, centerX, north, units) * boxHeight;
+
+    double radius = width / 2;
+    double hexWidth = radius * 2;
+    double hexHeight = SQRT_3 / 2 * height;
+    double intervalX = 3.0 / 4 * hexWidth;
+    int countX = (int) Math.floor((boxWidth - hexWidth) / (hexWidth - radius / 2));
+    double adjustX = ((countX * intervalX - radius / 2) - boxWidth) / 2 - radius / 2
+      + intervalX / 2;
+    int countY = (int) Math.floor((boxHeight - hexHeight) / hexHeight);
+    double adjustY = (boxHeight - countY * hexHeight) / 2;
+    return new BinningGrid(true, countX + 1, countY + 1, west - adjustX, south + adjustY,
+      width / 2, height / 2);
+  }
+
+  private static void checkCellSide(double cellSide) {
+    if (!(cellSide > 0)) {
+      throw new TurfException("The cell side must be positive.");
+    }
+  }
+
+  /**
+   * Returns the number of cells of the grid.
+   *
+   * @return the number of cells
+   * @since 7.11.0
+   */
+  public int size() {
+    return columnStarts[columns];
+  }
+
+  /**
+   * Finds the cell containing a position. Positions on the edge shared by two cells belong to
+   * only one of them.
+   *
+   * @param longitude the longitude of the position
+   * @param latitude  the latitude of the position
+   * @return the index of the cell, or -1 if the position isn't inside of the grid
+   * @since 7.11.0
+   */
+  public int cellOf(double longitude, double latitude) {
+    if (!hexagonal) {
+      double x = Math.floor((longitude - originX) / cellWidth);
+      double y = Math.floor((latitude - originY) / cellHeight);
+      if (x < 0 || y < 0 || x >= columns || y >= rows) {
+        return -1;
+      }
+      return (int) x * rows + (int) y;
+    }
+
+    // axial coordinates of the position in a grid of unit hexagons, the rows growing southward
+    double u = (longitude - originX) / cellWidth;
+    double w = (originY - latitude) / cellHeight;
+    double q = 2.0 / 3 * u;
+    double r = -1.0 / 3 * u + SQRT_3 / 3 * w;
+    double s = -q - r;
+    // round to the nearest hexagon center
+    double roundQ = Math.rint(q);
+    double roundR = Math.rint(r);
+    double roundS = Math.rint(s);
+    double diffQ = Math.abs(roundQ - q);
+    double diffR = Math.abs(roundR - r);
+    double diffS = Math.abs(roundS - s);
+    if (diffQ > diffR && diffQ > diffS) {
+      roundQ = -roundR - roundS;
+    } else if (diffR > diffS) {
+      roundR = -roundQ - roundS;
+    }
+    if (roundQ < 0 || roundQ >= columns) {
+      return -1;
+    }
+    int column = (int) roundQ;
+    // odd columns are shifted half a row southward
+    double row = -roundR - (column - (column & 1)) / 2;
+    if (row < firstRow(column) || row >= rows) {
+      return -1;
+    }
+    return columnStarts[column] + (int) row - firstRow(column);
+  }
+
+  /**
+   * Returns the polygon of a cell.
+   *
+   * @param index the index of the cell
+   * @return the polygon of the cell
+   * @since 7.11.0
+   */
+  @NonNull
+  public Polygon cell(@IntRange(from = 0) int index) {
+    if (index < 0 || index >= size()) {
+      throw new TurfException("The grid has no cell " + index + ".");
+    }
+    List<Point> ring = new ArrayList<>(hexagonal ? 7 : 5);
+    if (!hexagonal) {
+      double x = originX + index / rows * cellWidth;
+      double y = originY + index % rows * cellHeight;
+      ring.add(Point.fromLngLat(x, y));
+      ring.add(Point.fromLngLat(x, y + cellHeight));
+      ring.add(Point.fromLngLat(x + cellWidth, y + cellHeight));
+      ring.add(Point.fromLngLat(x + cellWidth, y));
+      ring.add(Point.fromLngLat(x, y));
+    } else {
+      int column = Arrays.binarySearch(columnStarts, index);
+      // skip the empty columns sharing the same start
+      column = column < 0 ? -column - 2 : column;
+      while (columnStarts[column + 1] == index) {
+        column++;
+      }
+      int row = index - columnStarts[column] + firstRow(column);
+      double centerX = originX + column * 1.5 * cellWidth;
+      double centerY = originY + row * SQRT_3 * cellHeight - (column & 1) * SQRT_3 / 2 * cellHeight;
+      for (int i = 0; i < 6; i++) {
+        double angle = Math.PI / 3 * i;
+        ring.add(Point.fromLngLat(centerX + cellWidth * Math.cos(angle),
+          centerY + cellHeight * Math.sin(angle)));
+      }
+      ring.add(ring.get(0));
+    }
+    List<List<Point>> rings = new ArrayList<>(1);
+    rings.add(ring);
+    return Polygon.fromLngLats(rings);
+  }
+
+  /**
+   * Returns the polygons of all the cells, as generated by Turf.
+   *
+   * @return the cells, ordered by index
+   * @since 7.11.0
+   */
+  @NonNull
+  public FeatureCollection cells() {
+    List<Feature> features = new ArrayList<>(size());
+    for (int i = 0; i < size(); i++) {
+      features.add(Feature.fromGeometry(cell(i)));
+    }
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  /**
+   * Counts the positions falling inside of each cell. Positions outside of the grid are ignored.
+   *
+   * @param flattenLngLat the positions: [lng1, lat1, lng2, lat2, ...]
+   * @param pool          the pool reducing large inputs in parallel, or null to count on the
+   *                      calling thread
+   * @return the number of positions inside of each cell, by cell index
+   * @since 7.11.0
+   */
+  @NonNull
+  public int[] count(@NonNull double[] flattenLngLat, @Nullable ForkJoinPool pool) {
+    return bin(flattenLngLat, null, pool).counts;
+  }
+
+  /**
+   * Sums the values of the positions falling inside of each cell. Positions outside of the grid
+   * are ignored.
+   *
+   * @param flattenLngLat the positions: [lng1, lat1, lng2, lat2, ...]
+   * @param values        the value of each position
+   * @param pool          the pool reducing large inputs in parallel, or null to sum on the
+   *                      calling thread
+   * @return the sum of the values of the positions inside of each cell, by cell index
+   * @throws TurfException if there isn't one value per position
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] sum(@NonNull double[] flattenLngLat, @NonNull double[] values,
+                      @Nullable ForkJoinPool pool) {
+    if (values.length != flattenLngLat.length / 2) {
+      throw new TurfException("There must be one value per position.");
+    }
+    return bin(flattenLngLat, values, pool).sums;
+  }
+
+  /**
+   * Creates the polygons of the cells holding at least one position, with their count in a
+   * {@code count} property.
+   *
+   * @param counts the number of positions inside of each cell, as returned by
+   *               {@link #count(double[], ForkJoinPool)}
+   * @return the non empty cells, ordered by index
+   * @since 7.11.0
+   */
+  @NonNull
+  public FeatureCollection features(@NonNull int[] counts) {
+    return features(counts, null);
+  }
+
+  /**
+   * Creates the polygons of the cells holding at least one position, with their count in a
+   * {@code count} property and their sum in a {@code sum} property.
+   *
+   * @param counts the number of positions inside of each cell, as returned by
+   *               {@link #count(double[], ForkJoinPool)}
+   * @param sums   the sum of the values inside of each cell, as returned by
+   *               {@link #sum(double[], double[], ForkJoinPool)}, or null
+   * @return the non empty cells, ordered by index
+   * @since 7.11.0
+   */
+  @NonNull
+  public FeatureCollection features(@NonNull int[] counts, @Nullable double[] sums) {
+    List<Feature> features = new ArrayList<>();
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == 0) {
+        continue;
+      }
+      Feature feature = Feature.fromGeometry(cell(i));
+      feature.addNumberProperty("count", counts[i]);
+      if (sums != null) {
+        feature.addNumberProperty("sum", sums[i]);
+      }
+      features.add(feature);
+    }
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  /**
+   * Returns the first row of a column of hexagons, the first hexagon of the odd columns falling
+   * outside of the box.
+   */
+  private static int firstRow(int column) {
+    return column & 1;
+  }
+
+  private Bins bin(double[] flattenLngLat, @Nullable double[] values,
+                   @Nullable ForkJoinPool pool) {
+    int count = flattenLngLat.length / 2;
+    if (pool == null || count <= PARALLEL_THRESHOLD) {
+      return binRange(flattenLngLat, values, 0, count);
+    }
+    // one chunk per thread, each chunk allocating and merging bins for all the cells
+    int parallelism = pool.getParallelism();
+    int chunk = Math.max(Math.max(PARALLEL_THRESHOLD, size()),
+      (count + parallelism - 1) / parallelism);
+    return pool.invoke(new BinTask(flattenLngLat, values, 0, count, chunk));
+  }
+
+  private Bins binRange(double[] flattenLngLat, @Nullable double[] values, int from, int to) {
+    Bins bins = new Bins(size(), values != null);
+    for (int i = from; i < to; i++) {
+      int cell = cellOf(flattenLngLat[2 * i], flattenLngLat[2 * i + 1]);
+      if (cell >= 0) {
+        bins.counts[cell]++;
+        if (values != null) {
+          bins.sums[cell] += values[i];
+        }
+      }
+    }
+    return bins;
+  }
+
+  /**
+   * Counts and sums of the positions inside of each cell.
+   */
+  private static final class Bins {
+
+    final int[] counts;
+    final double[] sums;
+
+    Bins(int size, boolean sum) {
+      counts = new int[size];
+      sums = sum ? new double[size] : null;
+    }
+
+    void add(Bins other) {
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] += other.counts[i];
+      }
+      if (sums != null) {
+        for (int i = 0; i < sums.length; i++) {
+          sums[i] += other.sums[i];
+        }
+      }
+    }
+  }
+
+  /**
+   * Bins a range of positions, adding up the bins of its two halves until they hold at most a
+   * chunk of positions.
+   */
+  private final class BinTask extends RecursiveTask<Bins> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] coordinates;
+    private final double[] values;
+    private final int from;
+    private final int to;
+    private final int chunk;
+
+    BinTask(double[] coordinates, @Nullable double[] values, int from, int to, int chunk) {
+      this.coordinates = coordinates;
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.chunk = chunk;
+    }
+
+    @Override
+    protected Bins compute() {
+      if (to - from <= chunk) {
+        return binRange(coordinates, values, from, to);
+      }
+      int middle = (from + to) >>> 1;
+      BinTask right = new BinTask(coordinates, values, middle, to, chunk);
+      right.fork();
+      Bins left = new BinTask(coordinates, values, from, middle, chunk).compute();
+      left.add(right.join());
+      return left;
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Static packed R-tree over axis aligned boxes, porting
+ * <a href="https://github.com/mourner/flatbush">flatbush</a>. The boxes are sorted along a
+ * Hilbert curve through their centers and packed bottom-up into nodes of a fixed size, all the
+ * node boxes being stored in a single flat array.
+ */
+final class BoxIndex {
+
+  private static final int HILBERT_MAX = (1 << 16) - 1;
+
+  private final int numItems;
+  private final int nodeSize;
+  // boxes of the items first, then of the nodes of each level up to the root
+  private final double[] boxes;
+  // item index for the items, position of the first child box for the nodes
+  private final int[] indices;
+  // end position of each level in the boxes array
+  private final int[] levelBounds;
+
+  /**
+   * Indexes boxes.
+   *
+   * @param flattenBoxes the boxes: [minX1, minY1, maxX1, maxY1, minX2, ...]
+   * @param nodeSize     the maximum number of children of a node
+   */
+  BoxIndex(@NonNull double[] flattenBoxes, int nodeSize) {
+    this.numItems = flattenBoxes.length / 4;
+    this.nodeSize = nodeSize;
+
+    // count the nodes of every level, there is always a root node above the items
+    int n = numItems;
+    int numNodes = n;
+    int[] bounds = new int[32];
+    int levels = 0;
+    bounds[levels++] = n * 4;
+    do {
+      n = (n + nodeSize - 1) / nodeSize;
+      numNodes += n;
+      bounds[levels++] = numNodes * 4;
+    }
+    while (n > 1);
+    levelBounds = Arrays.copyOf(bounds, levels);
+    boxes = new double[numNodes * 4];
+    indices = new int[numNodes];
+
+    double minX = Double.POSITIVE_INFINITY;
+    double minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < numItems; i++) {
+      minX = Math.min(minX, flattenBoxes[4 * i]);
+      minY = Math.min(minY, flattenBoxes[4 * i + 1]);
+      maxX = Math.max(maxX, flattenBoxes[4 * i + 2]);
+      maxY = Math.max(maxY, flattenBoxes[4 * i + 3]);
+    }
+
+    // sort the items by the Hilbert value of their centers, packed with their index in a long
+    double width = maxX - minX;
+    double height = maxY - minY;
+    long[] order = new long[numItems];
+    for (int i = 0; i < numItems; i++) {
+      int x = width == 0 ? 0 : (int) Math.floor(HILBERT_MAX
+        * ((flattenBoxes[4 * i] + flattenBoxes[4 * i + 2]) / 2 - minX) / width);
+      int y = height == 0 ? 0 : (int) Math.floor(HILBERT_MAX
+        * ((flattenBoxes[4 * i + 1] + flattenBoxes[4 * i + 3]) / 2 - minY) / height);
+      order[i] = (hilbert(x, y) & 0xFFFFFFFFL) << 31 | i;
+    }
+    Arrays.sort(order);
+    for (int i = 0; i < numItems; i++) {
+      int item = (int) (order[i] & Integer.MAX_VALUE);
+      System.arraycopy(flattenBoxes, 4 * item, boxes, 4 * i, 4);
+      indices[i] = item;
+    }
+
+    // generate the nodes of each level from the boxes of the level below
+    int pos = 0;
+    int end = numItems * 4;
+    for (int level = 0; level < levelBounds.length - 1; level++) {
+      int levelEnd = levelBounds[level];
+      while (pos < levelEnd) {
+        int nodeIndex = pos;
+        double nodeMinX = Double.POSITIVE_INFINITY;
+        double nodeMinY = Double.POSITIVE_INFINITY;
+        double nodeMaxX = Double.NEGATIVE_INFINITY;
+        double nodeMaxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < nodeSize && pos < levelEnd; i++, pos += 4) {
+          nodeMinX = Math.min(nodeMinX, boxes[pos]);
+          nodeMinY = Math.min(nodeMinY, boxes[pos + 1]);
+          nodeMaxX = Math.max(nodeMaxX, boxes[pos + 2]);
+          nodeMaxY = Math.max(nodeMaxY, boxes[pos + 3]);
+        }
+        indices[end / 4] = nodeIndex;
+        boxes[end] = nodeMinX;
+        boxes[end + 1] = nodeMinY;
+        boxes[end + 2] = nodeMaxX;
+        boxes[end + 3] = nodeMaxY;
+        end += 4;
+      }
+    }
+  }
+
+  /**
+   * Finds the items whose box intersects a query box, boundaries included.
+   *
+   * @return the indices of the matching items in the original input, in no particular order
+   */
+  @NonNull
+  int[] search(double minX, double minY, double maxX, double maxY) {
+    if (numItems == 0) {
+      return new int[0];
+    }
+    int[] results = new int[8];
+    int count = 0;
+    int[] queue = new int[16];
+    int queued = 0;
+    int nodeIndex = boxes.length - 4;
+
+    while (true) {
+      // find the end index of the node
+      int end = Math.min(nodeIndex + nodeSize * 4, upperBound(nodeIndex));
+      for (int pos = nodeIndex; pos < end; pos += 4) {
+        if (maxX < boxes[pos] || maxY < boxes[pos + 1]
+          || minX > boxes[pos + 2] || minY > boxes[pos + 3]) {
+          continue;
+        }
+        int index = indices[pos >> 2];
+        if (nodeIndex >= numItems * 4) {
+          // node, search its children
+          if (queued == queue.length) {
+            queue = Arrays.copyOf(queue, queued * 2);
+          }
+          queue[queued++] = index;
+        } else {
+          if (count == results.length) {
+            results = Arrays.copyOf(results, count * 2);
+          }
+          results[count++] = index;
+        }
+      }
+      if (queued == 0) {
+        break;
+      }
+      nodeIndex = queue[--queued];
+    }
+    return Arrays.copyOf(results, count);
+  }
+
+  /**
+   * Finds the end of the level a node position belongs to.
+   */
+  private int upperBound(int nodeIndex) {
+    int i = 0;
+    int j = levelBounds.length - 1;
+    while (i < j) {
+      int m = (i + j) >> 1;
+      if (levelBounds[m] > nodeIndex) {
+        j = m;
+      } else {
+        i = m + 1;
+      }
+    }
+    return levelBounds[i];
+  }
+
+  /**
+   * Fast Hilbert curve algorithm by http://threadlocalmutex.com/, ported from C++
+   * https://github.com/rawrunprotected/hilbert_curves (public domain).
+   */
+  private static int hilbert(int x, int y) {
+    final int a0 = x ^ y;
+    final int b0 = 0xFFFF ^ a0;
+    final int c0 = 0xFFFF ^ (x | y);
+    final int d0 = x & (y ^ 0xFFFF);
+
+    final int a1 = a0 | (b0 >>> 1);
+    final int b1 = (a0 >>> 1) ^ a0;
+    final int c1 = ((c0 >>> 1) ^ (b0 & (d0 >>> 1))) ^ c0;
+    final int d1 = ((a0 & (c0 >>> 1)) ^ (d0 >>> 1)) ^ d0;
+
+    final int a2 = (a1 & (a1 >>> 2)) ^ (b1 & (b1 >>> 2));
+    final int b2 = (a1 & (b1 >>> 2)) ^ (b1 & ((a1 ^ b1) >>> 2));
+    final int c2 = c1 ^ (a1 & (c1 >>> 2)) ^ (b1 & (d1 >>> 2));
+    final int d2 = d1 ^ (b1 & (c1 >>> 2)) ^ ((a1 ^ b1) & (d1 >>> 2));
+
+    final int a3 = (a2 & (a2 >>> 4)) ^ (b2 & (b2 >>> 4));
+    final int b3 = (a2 & (b2 >>> 4)) ^ (b2 & ((a2 ^ b2) >>> 4));
+    final int c3 = c2 ^ (a2 & (c2 >>> 4)) ^ (b2 & (d2 >>> 4));
+    final int d3 = d2 ^ (b2 & (c2 >>> 4)) ^ ((a2 ^ b2) & (d2 >>> 4));
+
+    final int c4 = c3 ^ (a3 & (c3 >>> 8)) ^ (b3 & (d3 >>> 8));
+    final int d4 = d3 ^ (b3 & (c3 >>> 8)) ^ ((a3 ^ b3) & (d3 >>> 8));
+
+    final int a = c4 ^ (c4 >>> 1);
+    final int b = d4 ^ (d4 >>> 1);
+
+    int i0 = x ^ y;
+    int i1 = b | (0xFFFF ^ (i0 | a));
+
+    i1 = (i1 | (i1 << 8)) & 0x00FF00FF;
+    i1 = (i1 | (i1 << 4)) & 0x0F0F0F0F;
+    i1 = (i1 | (i1 << 2)) & 0x33333333;
+    i1 = (i1 | (i1 << 1)) & 0x55555555;
+
+    i0 = (i0 | (i0 << 8)) & 0x00FF00FF;
+    i0 = (i0 | (i0 << 4)) & 0x0F0F0F0F;
+    i0 = (i0 | (i0 << 2)) & 0x33333333;
+    i0 = (i0 | (i0 << 1)) & 0x55555555;
+
+    return (i1 << 1) | i0;
+  }
+
+}
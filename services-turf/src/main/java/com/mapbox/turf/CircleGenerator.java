@@ -0,0 +1,227 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+import static com.mapbox.turf.TurfConversion.radiansToDegrees;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates circle polygons with a fixed number of steps. The sine and cosine of every step
+ * bearing are computed once, when the generator is created, and the trigonometric values of each
+ * center and radius once per circle, so that generating many circles only costs the remaining
+ * {@code asin} and {@code atan2} per vertex.
+ * <p>
+ * Circles are written as closed rings to flat coordinate arrays:
+ * [lng1, lat1, lng2, lat2, ..., lng1, lat1], made up of {@link #ringSize()} coordinates. The
+ * vertices are the same as the ones of
+ * {@link TurfTransformation#circle(Point, double, int, String)}.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class CircleGenerator {
+
+  /**
+   * Number of circles below which the parallel generation stops splitting the work.
+   */
+  private static final int PARALLEL_THRESHOLD = 256;
+
+  private final int steps;
+  private final double[] sinBearings;
+  private final double[] cosBearings;
+
+  private CircleGenerator(int steps) {
+    this.steps = steps;
+    sinBearings = new double[steps];
+    cosBearings = new double[steps];
+    for (int i = 0; i < steps; i++) {
+      double bearing = degreesToRadians(i * 360d / steps);
+      sinBearings[i] = Math.sin(bearing);
+      cosBearings[i] = Math.cos(bearing);
+    }
+  }
+
+  /**
+   * Creates a generator for circles made up of the provided number of steps.
+   *
+   * @param steps number of steps which make up the circle parameter
+   * @return a new {@link CircleGenerator} instance
+   * @throws TurfException if the number of steps is lower than 1
+   * @since 7.11.0
+   */
+  @NonNull
+  public static CircleGenerator fromSteps(@IntRange(from = 1) int steps) {
+    if (steps < 1) {
+      throw new TurfException("A circle requires at least 1 step.");
+    }
+    return new CircleGenerator(steps);
+  }
+
+  /**
+   * Returns the number of coordinates of each generated ring, including the closing coordinate.
+   *
+   * @return the number of coordinates of a ring
+   * @since 7.11.0
+   */
+  public int ringSize() {
+    return steps + 1;
+  }
+
+  /**
+   * Calculates the circle polygon around a center.
+   *
+   * @param center a {@link Point} which the circle will center around
+   * @param radius the radius of the circle
+   * @param units  one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link Polygon} which represents the newly created circle
+   * @since 7.11.0
+   */
+  @NonNull
+  public Polygon circle(@NonNull Point center, double radius,
+                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double[] ring = new double[ringSize() * 2];
+    circle(center.longitude(), center.latitude(), radius, units, ring, 0);
+    List<Point> coordinates = new ArrayList<>(ringSize());
+    for (int i = 0; i < ring.length; i += 2) {
+      coordinates.add(Point.fromLngLat(ring[i], ring[i + 1]));
+    }
+    List<List<Point>> rings = new ArrayList<>(1);
+    rings.add(coordinates);
+    return Polygon.fromLngLats(rings);
+  }
+
+  /**
+   * Writes the ring of the circle around a center to a flat coordinate array.
+   *
+   * @param longitude longitude of the center
+   * @param latitude  latitude of the center
+   * @param radius    the radius of the circle
+   * @param units     one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @param out       array receiving the {@link #ringSize()} coordinates of the ring
+   * @param offset    index in the output array where the first longitude is written
+   * @since 7.11.0
+   */
+  public void circle(double longitude, double latitude, double radius,
+                     @NonNull @TurfConstants.TurfUnitCriteria String units,
+                     @NonNull double[] out, int offset) {
+    ring(longitude, latitude, TurfConversion.lengthToRadians(radius, units), out, offset);
+  }
+
+  /**
+   * Generates one circle with the same radius around each center.
+   *
+   * @param flattenCenters the centers as a flat array of coordinates: [lng1, lat1, lng2, ...]
+   * @param radius         the radius of the circles
+   * @param units          one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the rings one after the other, the ring of the center {@code i} starts at index
+   *   {@code i * ringSize() * 2}
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] circles(@NonNull double[] flattenCenters, double radius,
+                          @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    int count = flattenCenters.length / 2;
+    int ringLength = ringSize() * 2;
+    double radians = TurfConversion.lengthToRadians(radius, units);
+    double[] rings = new double[count * ringLength];
+    for (int i = 0; i < count; i++) {
+      ring(flattenCenters[2 * i], flattenCenters[2 * i + 1], radians, rings, i * ringLength);
+    }
+    return rings;
+  }
+
+  /**
+   * Generates one circle around each center with its own radius, splitting the work across the
+   * threads of the provided pool.
+   *
+   * @param flattenCenters the centers as a flat array of coordinates: [lng1, lat1, lng2, ...]
+   * @param radii          the radius of each circle
+   * @param units          one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @param pool           the pool generating the circles
+   * @return the rings one after the other, the ring of the center {@code i} starts at index
+   *   {@code i * ringSize() * 2}
+   * @throws TurfException if the number of radii doesn't match the number of centers
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] circles(@NonNull double[] flattenCenters, @NonNull double[] radii,
+                          @NonNull @TurfConstants.TurfUnitCriteria String units,
+                          @NonNull ForkJoinPool pool) {
+    int count = flattenCenters.length / 2;
+    if (radii.length != count) {
+      throw new TurfException("CircleGenerator requires one radius per center, got "
+        + radii.length + " radii for " + count + " centers.");
+    }
+    double[] rings = new double[count * ringSize() * 2];
+    pool.invoke(new CirclesTask(flattenCenters, radii, units, rings, 0, count));
+    return rings;
+  }
+
+  private void ring(double longitude, double latitude, double radians,
+                    double[] out, int offset) {
+    double longitude1 = degreesToRadians(longitude);
+    double latitude1 = degreesToRadians(latitude);
+    double sinLatitude1 = Math.sin(latitude1);
+    double cosLatitude1 = Math.cos(latitude1);
+    double sinRadians = Math.sin(radians);
+    double cosRadians = Math.cos(radians);
+
+    for (int i = 0; i < steps; i++) {
+      // same formula as TurfMeasurement#destination
+      double latitude2 = Math.asin(sinLatitude1 * cosRadians
+        + cosLatitude1 * sinRadians * cosBearings[i]);
+      double longitude2 = longitude1 + Math.atan2(sinBearings[i] * sinRadians * cosLatitude1,
+        cosRadians - sinLatitude1 * Math.sin(latitude2));
+      out[offset + 2 * i] = radiansToDegrees(longitude2);
+      out[offset + 2 * i + 1] = radiansToDegrees(latitude2);
+    }
+    out[offset + 2 * steps] = out[offset];
+    out[offset + 2 * steps + 1] = out[offset + 1];
+  }
+
+  private final class CirclesTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] centers;
+    private final double[] radii;
+    private final String units;
+    private final double[] rings;
+    private final int from;
+    private final int to;
+
+    CirclesTask(double[] centers, double[] radii, String units, double[] rings,
+                int from, int to) {
+      this.centers = centers;
+      this.radii = radii;
+      this.units = units;
+      this.rings = rings;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        int ringLength = ringSize() * 2;
+        for (int i = from; i < to; i++) {
+          ring(centers[2 * i], centers[2 * i + 1],
+            TurfConversion.lengthToRadians(radii[i], units), rings, i * ringLength);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new CirclesTask(centers, radii, units, rings, from, middle),
+        new CirclesTask(centers, radii, units, rings, middle, to));
+    }
+  }
+}
@@ -0,0 +1,506 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.Size;
+
+import com.google.gson.JsonObject;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Clusters point features for every zoom level of a map, porting the algorithm of
+ * <a href="https://github.com/mapbox/supercluster">supercluster</a>. The points are projected to
+ * Web Mercator once, then clustered greedily zoom level after zoom level, from the highest to the
+ * lowest, each level being built from the clusters of the previous one and indexed by its own
+ * {@link KdTree}.
+ * <p>
+ * Clusters are returned as point features positioned at the weighted center of their points, with
+ * the following properties: {@code cluster} set to true, {@code cluster_id}, the identifier
+ * accepted by {@link #getChildren(long)} and {@link #getLeaves(long, int, int)},
+ * {@code point_count} and {@code point_count_abbreviated}. Points which aren't part of a cluster
+ * are returned as the original features.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class ClusterIndex {
+
+  private static final int DEFAULT_MIN_ZOOM = 0;
+  private static final int DEFAULT_MAX_ZOOM = 16;
+  private static final int DEFAULT_MIN_POINTS = 2;
+  private static final double DEFAULT_RADIUS = 40;
+  private static final double DEFAULT_EXTENT = 512;
+  private static final int NODE_SIZE = 64;
+
+  /**
+   * Highest supported zoom level, cluster ids store the zoom level they were created at in 5 bits.
+   */
+  private static final int MAX_ZOOM = 30;
+
+  /**
+   * Number of points below which the parallel projection stops splitting the work.
+   */
+  private static final int PARALLEL_THRESHOLD = 4096;
+
+  // Every point or cluster of a zoom level takes STRIDE values of the level's data array.
+  private static final int STRIDE = 6;
+  private static final int OFFSET_X = 0;
+  private static final int OFFSET_Y = 1;
+  private static final int OFFSET_ZOOM = 2;
+  private static final int OFFSET_ID = 3;
+  private static final int OFFSET_PARENT = 4;
+  private static final int OFFSET_NUM = 5;
+
+  private final List<Feature> points;
+  private final int minZoom;
+  private final int maxZoom;
+  private final int minPoints;
+  private final double radius;
+  private final double extent;
+  private final double[][] data;
+  private final KdTree[] trees;
+
+  private ClusterIndex(List<Feature> points, int minZoom, int maxZoom, int minPoints,
+                       double radius, double extent, @Nullable ForkJoinPool pool) {
+    this.points = points;
+    this.minZoom = minZoom;
+    this.maxZoom = maxZoom;
+    this.minPoints = minPoints;
+    this.radius = radius;
+    this.extent = extent;
+    this.data = new double[maxZoom + 2][];
+    this.trees = new KdTree[maxZoom + 2];
+
+    int[] pointIndices = new int[points.size()];
+    int count = 0;
+    for (int i = 0; i < points.size(); i++) {
+      if (points.get(i).geometry() instanceof Point) {
+        pointIndices[count++] = i;
+      }
+    }
+    double[] leaves = new double[count * STRIDE];
+    if (pool == null || count <= PARALLEL_THRESHOLD) {
+      project(pointIndices, leaves, 0, count);
+    } else {
+      pool.invoke(new ProjectTask(pointIndices, leaves, 0, count));
+    }
+
+    data[maxZoom + 1] = leaves;
+    trees[maxZoom + 1] = createTree(leaves, pool);
+    for (int zoom = maxZoom; zoom >= minZoom; zoom--) {
+      data[zoom] = cluster(zoom);
+      trees[zoom] = createTree(data[zoom], pool);
+    }
+  }
+
+  /**
+   * Clusters point features with the default options: zoom levels 0 to 16, a cluster radius of 40
+   * pixels for 512 pixels tiles, and at least 2 points per cluster.
+   *
+   * @param features the features to cluster, the ones without a {@link Point} geometry are ignored
+   * @return a new {@link ClusterIndex} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static ClusterIndex fromFeatures(@NonNull List<Feature> features) {
+    return fromFeatures(features, DEFAULT_MIN_ZOOM, DEFAULT_MAX_ZOOM, DEFAULT_RADIUS,
+      DEFAULT_EXTENT, DEFAULT_MIN_POINTS, null);
+  }
+
+  /**
+   * Clusters point features.
+   *
+   * @param features  the features to cluster, the ones without a {@link Point} geometry are
+   *                  ignored
+   * @param minZoom   the lowest zoom level at which points are clustered
+   * @param maxZoom   the highest zoom level at which points are clustered, above it all the points
+   *                  are returned as they are
+   * @param radius    the cluster radius in pixels
+   * @param extent    the tile extent, the radius is expressed relatively to it
+   * @param minPoints the minimum number of points forming a cluster
+   * @param pool      the pool projecting the points and building the indices of large inputs, or
+   *                  null to build the index on the calling thread
+   * @return a new {@link ClusterIndex} instance
+   * @throws TurfException if the zoom levels aren't in the 0 to 30 range, or if a cluster would
+   *                       accept fewer than 2 points
+   * @since 7.11.0
+   */
+  @NonNull
+  public static ClusterIndex fromFeatures(@NonNull List<Feature> features,
+                                          @IntRange(from = 0, to = MAX_ZOOM) int minZoom,
+                                          @IntRange(from = 0, to = MAX_ZOOM) int maxZoom,
+                                          double radius, double extent,
+                                          @IntRange(from = 2) int minPoints,
+                                          @Nullable ForkJoinPool pool) {
+    if (minZoom < 0 || maxZoom > MAX_ZOOM || minZoom > maxZoom) {
+      throw new TurfException("Cluster zoom levels must be between 0 and " + MAX_ZOOM
+        + ", got " + minZoom + " to " + maxZoom + ".");
+    }
+    if (minPoints < 2) {
+      throw new TurfException("A cluster requires at least 2 points.");
+    }
+    return new ClusterIndex(new ArrayList<>(features), minZoom, maxZoom, minPoints, radius,
+      extent, pool);
+  }
+
+  /**
+   * Returns the clusters and points found inside of a bounding box at a zoom level. Boxes whose
+   * west edge is greater than their east edge cross the antimeridian.
+   *
+   * @param bbox a bounding box in this order {@code [west, south, east, north]}
+   * @param zoom the zoom level, clamped to the zoom levels of the index
+   * @return the cluster features and the original features of the unclustered points
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Feature> getClusters(@NonNull @Size(min = 4) double[] bbox, int zoom) {
+    double minLng = wrapLongitude(bbox[0]);
+    double minLat = Math.max(-90, Math.min(90, bbox[1]));
+    double maxLng = bbox[2] == 180 ? 180 : wrapLongitude(bbox[2]);
+    double maxLat = Math.max(-90, Math.min(90, bbox[3]));
+
+    List<Feature> clusters = new ArrayList<>();
+    int level = Math.max(minZoom, Math.min(zoom, maxZoom + 1));
+    if (bbox[2] - bbox[0] >= 360) {
+      appendClusters(clusters, level, -180, minLat, 180, maxLat);
+    } else if (minLng > maxLng) {
+      appendClusters(clusters, level, minLng, minLat, 180, maxLat);
+      appendClusters(clusters, level, -180, minLat, maxLng, maxLat);
+    } else {
+      appendClusters(clusters, level, minLng, minLat, maxLng, maxLat);
+    }
+    return clusters;
+  }
+
+  /**
+   * Returns the clusters and points merged into a cluster at the next zoom level.
+   *
+   * @param clusterId the {@code cluster_id} property of the cluster
+   * @return the cluster features and the original features of the children
+   * @throws TurfException if the index doesn't contain the cluster
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Feature> getChildren(long clusterId) {
+    int zoom = originZoom(clusterId);
+    double[] levelData = data[zoom];
+    int[] children = children(clusterId);
+    List<Feature> features = new ArrayList<>(children.length);
+    for (int offset : children) {
+      features.add(feature(levelData, offset));
+    }
+    return features;
+  }
+
+  /**
+   * Returns the original features of the points making up a cluster, supporting pagination.
+   *
+   * @param clusterId the {@code cluster_id} property of the cluster
+   * @param limit     the maximum number of points to return
+   * @param offset    the number of points to skip
+   * @return the original features of up to {@code limit} points
+   * @throws TurfException if the index doesn't contain the cluster
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Feature> getLeaves(long clusterId, @IntRange(from = 0) int limit,
+                                 @IntRange(from = 0) int offset) {
+    List<Feature> leaves = new ArrayList<>(Math.min(limit, 64));
+    if (limit > 0) {
+      appendLeaves(leaves, clusterId, limit, offset, 0);
+    }
+    return leaves;
+  }
+
+  /**
+   * Returns the zoom level at which a cluster splits into several children.
+   *
+   * @param clusterId the {@code cluster_id} property of the cluster
+   * @return the lowest zoom level where the points of the cluster aren't all in one cluster
+   * @throws TurfException if the index doesn't contain the cluster
+   * @since 7.11.0
+   */
+  public int getClusterExpansionZoom(long clusterId) {
+    long id = clusterId;
+    int expansionZoom = originZoom(id) - 1;
+    while (expansionZoom <= maxZoom) {
+      int[] children = children(id);
+      expansionZoom++;
+      double[] levelData = data[originZoom(id)];
+      if (children.length != 1 || levelData[children[0] + OFFSET_NUM] == 1) {
+        break;
+      }
+      id = (long) levelData[children[0] + OFFSET_ID];
+    }
+    return expansionZoom;
+  }
+
+  private void appendClusters(List<Feature> clusters, int zoom, double west, double south,
+                              double east, double north) {
+    double[] levelData = data[zoom];
+    int[] indices = trees[zoom].range(mercatorX(west), mercatorY(north),
+      mercatorX(east), mercatorY(south));
+    for (int index : indices) {
+      clusters.add(feature(levelData, index * STRIDE));
+    }
+  }
+
+  private int appendLeaves(List<Feature> leaves, long clusterId, int limit, int offset,
+                           int skipped) {
+    double[] levelData = data[originZoom(clusterId)];
+    for (int child : children(clusterId)) {
+      double numPoints = levelData[child + OFFSET_NUM];
+      if (numPoints > 1) {
+        if (skipped + numPoints <= offset) {
+          // skip the whole cluster
+          skipped += (int) numPoints;
+        } else {
+          skipped = appendLeaves(leaves, (long) levelData[child + OFFSET_ID], limit, offset,
+            skipped);
+        }
+      } else if (skipped < offset) {
+        skipped++;
+      } else {
+        leaves.add(points.get((int) levelData[child + OFFSET_ID]));
+      }
+      if (leaves.size() == limit) {
+        break;
+      }
+    }
+    return skipped;
+  }
+
+  /**
+   * Finds the data offsets of the children of a cluster, in the level it was created from.
+   */
+  private int[] children(long clusterId) {
+    long origin = clusterId - points.size();
+    int zoom = originZoom(clusterId);
+    double[] levelData = zoom >= minZoom && zoom <= maxZoom + 1 ? data[zoom] : null;
+    long offset = (origin >> 5) * STRIDE;
+    if (origin < 0 || levelData == null || offset >= levelData.length) {
+      throw new TurfException("No cluster with the specified id.");
+    }
+    double r = radius / (extent * Math.pow(2, zoom - 1));
+    double x = levelData[(int) offset + OFFSET_X];
+    double y = levelData[(int) offset + OFFSET_Y];
+    int[] neighbors = within(trees[zoom], levelData, x, y, r);
+    int count = 0;
+    for (int neighbor : neighbors) {
+      int k = neighbor * STRIDE;
+      if (levelData[k + OFFSET_PARENT] == clusterId) {
+        neighbors[count++] = k;
+      }
+    }
+    if (count == 0) {
+      throw new TurfException("No cluster with the specified id.");
+    }
+    return Arrays.copyOf(neighbors, count);
+  }
+
+  private int originZoom(long clusterId) {
+    return (int) ((clusterId - points.size()) % 32);
+  }
+
+  /**
+   * Merges the points and clusters of the level above a zoom level into the clusters of the zoom
+   * level.
+   */
+  private double[] cluster(int zoom) {
+    double[] levelData = data[zoom + 1];
+    KdTree tree = trees[zoom + 1];
+    double r = radius / (extent * Math.pow(2, zoom));
+    double[] next = new double[levelData.length];
+    int size = 0;
+
+    for (int i = 0; i < levelData.length; i += STRIDE) {
+      // already merged into a cluster at this zoom level
+      if (levelData[i + OFFSET_ZOOM] <= zoom) {
+        continue;
+      }
+      levelData[i + OFFSET_ZOOM] = zoom;
+
+      double x = levelData[i + OFFSET_X];
+      double y = levelData[i + OFFSET_Y];
+      int[] neighbors = within(tree, levelData, x, y, r);
+
+      double numPointsOrigin = levelData[i + OFFSET_NUM];
+      double numPoints = numPointsOrigin;
+      for (int neighbor : neighbors) {
+        int k = neighbor * STRIDE;
+        if (levelData[k + OFFSET_ZOOM] > zoom) {
+          numPoints += levelData[k + OFFSET_NUM];
+        }
+      }
+
+      if (numPoints > numPointsOrigin && numPoints >= minPoints) {
+        double weightedX = x * numPointsOrigin;
+        double weightedY = y * numPointsOrigin;
+        // the position of the first point in its level, the zoom level and the number of points
+        // make the id unique across all the levels
+        long id = ((long) (i / STRIDE) << 5) + (zoom + 1) + points.size();
+        for (int neighbor : neighbors) {
+          int k = neighbor * STRIDE;
+          if (levelData[k + OFFSET_ZOOM] <= zoom) {
+            continue;
+          }
+          levelData[k + OFFSET_ZOOM] = zoom;
+          double count = levelData[k + OFFSET_NUM];
+          weightedX += levelData[k + OFFSET_X] * count;
+          weightedY += levelData[k + OFFSET_Y] * count;
+          levelData[k + OFFSET_PARENT] = id;
+        }
+        levelData[i + OFFSET_PARENT] = id;
+        next[size + OFFSET_X] = weightedX / numPoints;
+        next[size + OFFSET_Y] = weightedY / numPoints;
+        next[size + OFFSET_ZOOM] = Double.POSITIVE_INFINITY;
+        next[size + OFFSET_ID] = id;
+        next[size + OFFSET_PARENT] = -1;
+        next[size + OFFSET_NUM] = numPoints;
+        size += STRIDE;
+      } else {
+        System.arraycopy(levelData, i, next, size, STRIDE);
+        size += STRIDE;
+        // not enough points for a cluster, the neighbors are carried over as they are
+        if (numPoints > 1) {
+          for (int neighbor : neighbors) {
+            int k = neighbor * STRIDE;
+            if (levelData[k + OFFSET_ZOOM] <= zoom) {
+              continue;
+            }
+            levelData[k + OFFSET_ZOOM] = zoom;
+            System.arraycopy(levelData, k, next, size, STRIDE);
+            size += STRIDE;
+          }
+        }
+      }
+    }
+    return Arrays.copyOf(next, size);
+  }
+
+  private void project(int[] pointIndices, double[] leaves, int from, int to) {
+    for (int i = from; i < to; i++) {
+      Point point = (Point) points.get(pointIndices[i]).geometry();
+      int k = i * STRIDE;
+      leaves[k + OFFSET_X] = mercatorX(point.longitude());
+      leaves[k + OFFSET_Y] = mercatorY(point.latitude());
+      leaves[k + OFFSET_ZOOM] = Double.POSITIVE_INFINITY;
+      leaves[k + OFFSET_ID] = pointIndices[i];
+      leaves[k + OFFSET_PARENT] = -1;
+      leaves[k + OFFSET_NUM] = 1;
+    }
+  }
+
+  private Feature feature(double[] levelData, int offset) {
+    double numPoints = levelData[offset + OFFSET_NUM];
+    if (numPoints == 1) {
+      return points.get((int) levelData[offset + OFFSET_ID]);
+    }
+    long id = (long) levelData[offset + OFFSET_ID];
+    int count = (int) numPoints;
+    JsonObject properties = new JsonObject();
+    properties.addProperty("cluster", true);
+    properties.addProperty("cluster_id", id);
+    properties.addProperty("point_count", count);
+    properties.addProperty("point_count_abbreviated", abbreviate(count));
+    Point point = Point.fromLngLat(longitude(levelData[offset + OFFSET_X]),
+      latitude(levelData[offset + OFFSET_Y]));
+    return Feature.fromGeometry(point, properties, String.valueOf(id));
+  }
+
+  private static String abbreviate(int count) {
+    if (count >= 10000) {
+      return Math.round(count / 1000d) + "k";
+    }
+    if (count >= 1000) {
+      return Math.round(count / 100d) / 10d + "k";
+    }
+    return String.valueOf(count);
+  }
+
+  private static KdTree createTree(double[] levelData, @Nullable ForkJoinPool pool) {
+    int count = levelData.length / STRIDE;
+    double[] coordinates = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      coordinates[2 * i] = levelData[i * STRIDE + OFFSET_X];
+      coordinates[2 * i + 1] = levelData[i * STRIDE + OFFSET_Y];
+    }
+    return KdTree.fromLngLats(coordinates, NODE_SIZE, pool);
+  }
+
+  /**
+   * Finds the points of a level within a planar distance of a position in projected coordinates.
+   */
+  private static int[] within(KdTree tree, double[] levelData, double x, double y, double r) {
+    int[] candidates = tree.range(x - r, y - r, x + r, y + r);
+    double r2 = r * r;
+    int count = 0;
+    for (int candidate : candidates) {
+      double dx = levelData[candidate * STRIDE + OFFSET_X] - x;
+      double dy = levelData[candidate * STRIDE + OFFSET_Y] - y;
+      if (dx * dx + dy * dy <= r2) {
+        candidates[count++] = candidate;
+      }
+    }
+    return Arrays.copyOf(candidates, count);
+  }
+
+  private static double wrapLongitude(double longitude) {
+    return ((longitude + 180) % 360 + 360) % 360 - 180;
+  }
+
+  private static double mercatorX(double longitude) {
+    return longitude / 360 + 0.5;
+  }
+
+  private static double mercatorY(double latitude) {
+    double sin = Math.sin(latitude * Math.PI / 180);
+    double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+    return y < 0 ? 0 : y > 1 ? 1 : y;
+  }
+
+  private static double longitude(double x) {
+    return (x - 0.5) * 360;
+  }
+
+  private static double latitude(double y) {
+    double y2 = (180 - y * 360) * Math.PI / 180;
+    return 360 * Math.atan(Math.exp(y2)) / Math.PI - 90;
+  }
+
+  private final class ProjectTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] pointIndices;
+    private final double[] leaves;
+    private final int from;
+    private final int to;
+
+    ProjectTask(int[] pointIndices, double[] leaves, int from, int to) {
+      this.pointIndices = pointIndices;
+      this.leaves = leaves;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        project(pointIndices, leaves, from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new ProjectTask(pointIndices, leaves, from, middle),
+        new ProjectTask(pointIndices, leaves, middle, to));
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.mapbox.turf;
+
+/**
+ * Accumulates doubles with Neumaier's variant of Kahan summation, keeping track of the low-order
+ * bits lost by each addition. Summing many small terms into a large total, as done when measuring
+ * long lines or big polygons, stays accurate to a few ulps regardless of the number of terms.
+ *
+ * @since 7.11.0
+ */
+final class CompensatedSum {
+
+  private double sum;
+  private double compensation;
+
+  /**
+   * Adds a term to the sum.
+   *
+   * @param value the term to add
+   * @since 7.11.0
+   */
+  void add(double value) {
+    double total = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - total) + value;
+    } else {
+      compensation += (value - total) + sum;
+    }
+    sum = total;
+  }
+
+  /**
+   * Returns the compensated sum of all the terms added so far.
+   *
+   * @return the sum
+   * @since 7.11.0
+   */
+  double value() {
+    return sum + compensation;
+  }
+}
@@ -0,0 +1,401 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Concave hull over flat arrays of coordinates, porting
+ * <a href="https://github.com/mapbox/concaveman">concaveman</a>. The hull starts as the convex
+ * hull, then each edge is repeatedly dug into, replacing it by two edges through the closest
+ * remaining point, as long as that point is close enough compared to the length of the edge and
+ * the new edges don't cross the hull.
+ * <p>
+ * The points are indexed by a {@link KdTree}: the candidates for an edge are found with a range
+ * query around the edge, since a point only qualifies if its distance to the edge is shorter than
+ * the edge length divided by the concavity. The hull edges are indexed by a uniform grid, updated
+ * as the edges are dug into, so that checking whether a new edge crosses the hull only tests the
+ * edges of the cells it overlaps.
+ * </p>
+ */
+final class ConcaveHull {
+
+  /**
+   * Average number of points per cell of the grid indexing the hull edges.
+   */
+  private static final int POINTS_PER_CELL = 8;
+  private static final int MAX_GRID_SIZE = 1024;
+
+  private final double[] points;
+  private final KdTree tree;
+  private final boolean[] used;
+
+  // hull vertices as a doubly linked list
+  private double[] xs;
+  private double[] ys;
+  private int[] next;
+  private int[] prev;
+  private int size;
+
+  // grid of the hull edges, every edge being listed in the cells overlapped by its bounding box
+  // under the index of its first node
+  private double minX;
+  private double minY;
+  private double cellWidth;
+  private double cellHeight;
+  private int gridSize;
+  private int[][] cells;
+  private int[] cellSizes;
+  // last query which tested the edge of a node, to test every edge once per query
+  private int[] stamps;
+  private int stamp;
+
+  private ConcaveHull(double[] points, @Nullable ForkJoinPool pool) {
+    this.points = points;
+    this.tree = KdTree.fromLngLats(points, 16, pool);
+    this.used = new boolean[points.length / 2];
+  }
+
+  /**
+   * Computes the concave hull of the coordinates.
+   *
+   * @param flattenLngLat   the coordinates: [lng1, lat1, lng2, lat2, ...], not modified
+   * @param concavity       the relative measure of concavity, 1 results in a relatively detailed
+   *                        shape, {@link Double#POSITIVE_INFINITY} in the convex hull
+   * @param lengthThreshold the edge length below which edges aren't dug into anymore
+   * @param pool            the pool sorting large inputs, or null to compute the hull on the
+   *                        calling thread
+   * @return the hull as a closed counterclockwise ring
+   */
+  @NonNull
+  static double[] hull(@NonNull double[] flattenLngLat, double concavity, double lengthThreshold,
+                       @Nullable ForkJoinPool pool) {
+    double[] convex = ConvexHull.hull(flattenLngLat, pool);
+    if (convex.length < 8) {
+      return convex;
+    }
+    ConcaveHull hull = new ConcaveHull(flattenLngLat, pool);
+    return hull.dig(convex, concavity * concavity, lengthThreshold * lengthThreshold);
+  }
+
+  private double[] dig(double[] convex, double sqConcavity, double sqLengthThreshold) {
+    int count = convex.length / 2 - 1;
+    int capacity = Math.max(16, count * 2);
+    xs = new double[capacity];
+    ys = new double[capacity];
+    next = new int[capacity];
+    prev = new int[capacity];
+    stamps = new int[capacity];
+    initGrid(convex);
+
+    // FIFO queue of the nodes starting the edges left to dig into
+    int[] queue = new int[capacity];
+    int head = 0;
+    int tail = 0;
+    for (int i = 0; i < count; i++) {
+      int node = addNode(convex[2 * i], convex[2 * i + 1]);
+      next[node] = (i + 1) % count;
+      prev[node] = (i + count - 1) % count;
+      queue[tail++] = node;
+      markUsed(convex[2 * i], convex[2 * i + 1]);
+    }
+    for (int i = 0; i < count; i++) {
+      addEdge(i);
+    }
+
+    while (head < tail) {
+      int node = queue[head++];
+      int nextNode = next[node];
+      double ax = xs[node];
+      double ay = ys[node];
+      double bx = xs[nextNode];
+      double by = ys[nextNode];
+
+      double sqLength = sqDistance(ax, ay, bx, by);
+      if (sqLength < sqLengthThreshold) {
+        continue;
+      }
+      double maxSqLength = sqLength / sqConcavity;
+
+      int candidate = findCandidate(node, maxSqLength);
+      if (candidate < 0) {
+        continue;
+      }
+      double px = points[2 * candidate];
+      double py = points[2 * candidate + 1];
+      if (Math.min(sqDistance(px, py, ax, ay), sqDistance(px, py, bx, by)) > maxSqLength) {
+        continue;
+      }
+
+      int inserted = addNode(px, py);
+      removeEdge(node);
+      next[inserted] = nextNode;
+      prev[inserted] = node;
+      next[node] = inserted;
+      prev[nextNode] = inserted;
+      addEdge(node);
+      addEdge(inserted);
+      markUsed(px, py);
+
+      if (tail + 2 > queue.length) {
+        queue = Arrays.copyOf(queue, queue.length * 2);
+      }
+      queue[tail++] = node;
+      queue[tail++] = inserted;
+    }
+
+    double[] ring = new double[(size + 1) * 2];
+    int node = 0;
+    for (int i = 0; i < size; i++) {
+      ring[2 * i] = xs[node];
+      ring[2 * i + 1] = ys[node];
+      node = next[node];
+    }
+    ring[2 * size] = ring[0];
+    ring[2 * size + 1] = ring[1];
+    return ring;
+  }
+
+  /**
+   * Finds the closest unused point to the edge starting at a node which is closer to that edge
+   * than to the two adjacent edges and can be connected to both ends of the edge without crossing
+   * the hull.
+   *
+   * @return the index of the point, or -1 if there isn't any
+   */
+  private int findCandidate(int node, double maxSqDistance) {
+    int nextNode = next[node];
+    int previousNode = prev[node];
+    int afterNode = next[nextNode];
+    double bx = xs[node];
+    double by = ys[node];
+    double cx = xs[nextNode];
+    double cy = ys[nextNode];
+
+    double maxDistance = Math.sqrt(maxSqDistance);
+    int[] candidates = tree.range(Math.min(bx, cx) - maxDistance, Math.min(by, cy) - maxDistance,
+      Math.max(bx, cx) + maxDistance, Math.max(by, cy) + maxDistance);
+    // squared distances of the qualifying candidates, the others being dropped
+    double[] distances = new double[candidates.length];
+    int count = 0;
+    int closest = -1;
+    for (int i = 0; i < candidates.length; i++) {
+      int candidate = candidates[i];
+      if (used[candidate]) {
+        continue;
+      }
+      double distance = sqSegmentDistance(points[2 * candidate], points[2 * candidate + 1],
+        bx, by, cx, cy);
+      if (distance <= maxSqDistance) {
+        candidates[count] = candidate;
+        distances[count] = distance;
+        closest = closest < 0 || distance < distances[closest] ? count : closest;
+        count++;
+      }
+    }
+    if (closest < 0) {
+      return -1;
+    }
+    // the closest candidate usually qualifies, only order the others when it doesn't
+    if (qualifies(candidates[closest], distances[closest], previousNode, node, nextNode,
+      afterNode)) {
+      return candidates[closest];
+    }
+    IndexedMinHeap heap = new IndexedMinHeap(count);
+    for (int i = 0; i < count; i++) {
+      if (i != closest) {
+        heap.push(i, distances[i]);
+      }
+    }
+    while (!heap.isEmpty()) {
+      double distance = heap.key(heap.peek());
+      int i = heap.poll();
+      if (qualifies(candidates[i], distance, previousNode, node, nextNode, afterNode)) {
+        return candidates[i];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Whether a point is closer to the edge between two nodes than to the adjacent edges, and can be
+   * connected to both nodes without crossing the hull.
+   */
+  private boolean qualifies(int candidate, double distance, int previousNode, int node,
+                            int nextNode, int afterNode) {
+    double px = points[2 * candidate];
+    double py = points[2 * candidate + 1];
+    double bx = xs[node];
+    double by = ys[node];
+    double cx = xs[nextNode];
+    double cy = ys[nextNode];
+    return distance < sqSegmentDistance(px, py, xs[previousNode], ys[previousNode], bx, by)
+      && distance < sqSegmentDistance(px, py, cx, cy, xs[afterNode], ys[afterNode])
+      && noIntersections(bx, by, px, py) && noIntersections(cx, cy, px, py);
+  }
+
+  private boolean noIntersections(double ax, double ay, double bx, double by) {
+    stamp++;
+    int fromColumn = column(Math.min(ax, bx));
+    int toColumn = column(Math.max(ax, bx));
+    int fromRow = row(Math.min(ay, by));
+    int toRow = row(Math.max(ay, by));
+    for (int row = fromRow; row <= toRow; row++) {
+      for (int column = fromColumn; column <= toColumn; column++) {
+        int cell = row * gridSize + column;
+        for (int i = 0; i < cellSizes[cell]; i++) {
+          int node = cells[cell][i];
+          if (stamps[node] == stamp) {
+            continue;
+          }
+          stamps[node] = stamp;
+          int nextNode = next[node];
+          if (intersects(xs[node], ys[node], xs[nextNode], ys[nextNode], ax, ay, bx, by)) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sizes the grid to the bounding box of the convex hull, which holds every point.
+   */
+  private void initGrid(double[] convex) {
+    minX = Double.POSITIVE_INFINITY;
+    minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < convex.length; i += 2) {
+      minX = Math.min(minX, convex[i]);
+      minY = Math.min(minY, convex[i + 1]);
+      maxX = Math.max(maxX, convex[i]);
+      maxY = Math.max(maxY, convex[i + 1]);
+    }
+    gridSize = (int) Math.max(1, Math.min(MAX_GRID_SIZE,
+      Math.sqrt(points.length / 2.0 / POINTS_PER_CELL)));
+    cellWidth = maxX > minX ? (maxX - minX) / gridSize : 1;
+    cellHeight = maxY > minY ? (maxY - minY) / gridSize : 1;
+    cells = new int[gridSize * gridSize][];
+    cellSizes = new int[gridSize * gridSize];
+  }
+
+  private int column(double x) {
+    return Math.max(0, Math.min(gridSize - 1, (int) ((x - minX) / cellWidth)));
+  }
+
+  private int row(double y) {
+    return Math.max(0, Math.min(gridSize - 1, (int) ((y - minY) / cellHeight)));
+  }
+
+  /**
+   * Lists the edge starting at a node in the cells it overlaps.
+   */
+  private void addEdge(int node) {
+    int nextNode = next[node];
+    int toColumn = column(Math.max(xs[node], xs[nextNode]));
+    int toRow = row(Math.max(ys[node], ys[nextNode]));
+    for (int row = row(Math.min(ys[node], ys[nextNode])); row <= toRow; row++) {
+      for (int column = column(Math.min(xs[node], xs[nextNode])); column <= toColumn; column++) {
+        int cell = row * gridSize + column;
+        if (cells[cell] == null) {
+          cells[cell] = new int[4];
+        } else if (cellSizes[cell] == cells[cell].length) {
+          cells[cell] = Arrays.copyOf(cells[cell], cellSizes[cell] * 2);
+        }
+        cells[cell][cellSizes[cell]++] = node;
+      }
+    }
+  }
+
+  /**
+   * Removes the edge starting at a node from the cells it overlaps, before the node is linked to
+   * another one.
+   */
+  private void removeEdge(int node) {
+    int nextNode = next[node];
+    int toColumn = column(Math.max(xs[node], xs[nextNode]));
+    int toRow = row(Math.max(ys[node], ys[nextNode]));
+    for (int row = row(Math.min(ys[node], ys[nextNode])); row <= toRow; row++) {
+      for (int column = column(Math.min(xs[node], xs[nextNode])); column <= toColumn; column++) {
+        int cell = row * gridSize + column;
+        int[] edges = cells[cell];
+        for (int i = 0; i < cellSizes[cell]; i++) {
+          if (edges[i] == node) {
+            edges[i] = edges[--cellSizes[cell]];
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks every point at a position as part of the hull, including duplicates.
+   */
+  private void markUsed(double x, double y) {
+    for (int index : tree.range(x, y, x, y)) {
+      used[index] = true;
+    }
+  }
+
+  private int addNode(double x, double y) {
+    if (size == xs.length) {
+      int capacity = size * 2;
+      xs = Arrays.copyOf(xs, capacity);
+      ys = Arrays.copyOf(ys, capacity);
+      next = Arrays.copyOf(next, capacity);
+      prev = Arrays.copyOf(prev, capacity);
+      stamps = Arrays.copyOf(stamps, capacity);
+    }
+    xs[size] = x;
+    ys[size] = y;
+    return size++;
+  }
+
+  /**
+   * Whether two segments cross, segments sharing an end point don't.
+   */
+  private static boolean intersects(double p1x, double p1y, double q1x, double q1y,
+                                    double p2x, double p2y, double q2x, double q2y) {
+    if (p1x == q2x && p1y == q2y || q1x == p2x && q1y == p2y) {
+      return false;
+    }
+    return orient(p1x, p1y, q1x, q1y, p2x, p2y) > 0 != orient(p1x, p1y, q1x, q1y, q2x, q2y) > 0
+      && orient(p2x, p2y, q2x, q2y, p1x, p1y) > 0 != orient(p2x, p2y, q2x, q2y, q1x, q1y) > 0;
+  }
+
+  private static double orient(double px, double py, double qx, double qy, double rx, double ry) {
+    return (qy - py) * (rx - qx) - (qx - px) * (ry - qy);
+  }
+
+  private static double sqDistance(double ax, double ay, double bx, double by) {
+    double dx = ax - bx;
+    double dy = ay - by;
+    return dx * dx + dy * dy;
+  }
+
+  private static double sqSegmentDistance(double px, double py, double x0, double y0,
+                                          double x1, double y1) {
+    double x = x0;
+    double y = y0;
+    double dx = x1 - x0;
+    double dy = y1 - y0;
+    if (dx != 0 || dy != 0) {
+      double t = ((px - x0) * dx + (py - y0) * dy) / (dx * dx + dy * dy);
+      if (t > 1) {
+        x = x1;
+        y = y1;
+      } else if (t > 0) {
+        x += dx * t;
+        y += dy * t;
+      }
+    }
+    dx = px - x;
+    dy = py - y;
+    return dx * dx + dy * dy;
+  }
+}
@@ -0,0 +1,224 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Andrew's monotone chain convex hull over flat arrays of coordinates. The coordinates are sorted
+ * lexicographically, then the lower and upper chains are built in a single pass each.
+ * <p>
+ * Large inputs can be split across the threads of a pool: every chunk is sorted and reduced to
+ * its own hull, and the hull of the union of these hulls, which only holds a few coordinates, is
+ * the hull of the input.
+ * </p>
+ */
+final class ConvexHull {
+
+  /**
+   * Number of coordinates below which the parallel hull stops splitting the work.
+   */
+  private static final int PARALLEL_THRESHOLD = 16384;
+
+  private static final int INSERTION_SORT_THRESHOLD = 12;
+
+  private ConvexHull() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Computes the convex hull of the coordinates.
+   *
+   * @param flattenLngLat the coordinates: [lng1, lat1, lng2, lat2, ...], not modified
+   * @param pool          the pool sorting large inputs, or null to compute the hull on the calling
+   *                      thread
+   * @return the hull as a closed counterclockwise ring, without collinear coordinates
+   */
+  @NonNull
+  static double[] hull(@NonNull double[] flattenLngLat, @Nullable ForkJoinPool pool) {
+    int count = flattenLngLat.length / 2;
+    double[] hull;
+    if (pool == null || count <= PARALLEL_THRESHOLD) {
+      hull = chunkHull(Arrays.copyOf(flattenLngLat, count * 2), count);
+    } else {
+      hull = pool.invoke(new HullTask(flattenLngLat, 0, count));
+    }
+    if (hull.length == 0) {
+      return hull;
+    }
+    double[] ring = Arrays.copyOf(hull, hull.length + 2);
+    ring[hull.length] = hull[0];
+    ring[hull.length + 1] = hull[1];
+    return ring;
+  }
+
+  /**
+   * Sorts the first coordinates of an array in place and returns their hull as an open ring.
+   */
+  private static double[] chunkHull(double[] coordinates, int count) {
+    if (count == 0) {
+      return new double[0];
+    }
+    sort(coordinates, 0, count - 1);
+    int size = 1;
+    for (int i = 1; i < count; i++) {
+      if (coordinates[2 * i] != coordinates[2 * (size - 1)]
+        || coordinates[2 * i + 1] != coordinates[2 * (size - 1) + 1]) {
+        coordinates[2 * size] = coordinates[2 * i];
+        coordinates[2 * size + 1] = coordinates[2 * i + 1];
+        size++;
+      }
+    }
+    if (size < 3) {
+      return Arrays.copyOf(coordinates, size * 2);
+    }
+
+    double[] hull = new double[4 * size];
+    int k = 0;
+    for (int i = 0; i < size; i++) {
+      k = push(hull, k, 2, coordinates[2 * i], coordinates[2 * i + 1]);
+    }
+    int lower = k + 1;
+    for (int i = size - 2; i >= 0; i--) {
+      k = push(hull, k, lower, coordinates[2 * i], coordinates[2 * i + 1]);
+    }
+    // the last coordinate of the upper chain is the first of the lower chain
+    return Arrays.copyOf(hull, (k - 1) * 2);
+  }
+
+  /**
+   * Appends a coordinate to a chain after popping the coordinates which don't make a strict left
+   * turn with it, keeping at least {@code minSize - 1} coordinates.
+   */
+  private static int push(double[] hull, int size, int minSize, double x, double y) {
+    int k = size;
+    while (k >= minSize && cross(hull[2 * (k - 2)], hull[2 * (k - 2) + 1],
+      hull[2 * (k - 1)], hull[2 * (k - 1) + 1], x, y) <= 0) {
+      k--;
+    }
+    hull[2 * k] = x;
+    hull[2 * k + 1] = y;
+    return k + 1;
+  }
+
+  private static double cross(double ox, double oy, double ax, double ay, double bx, double by) {
+    return (ax - ox) * (by - oy) - (ay - oy) * (bx - ox);
+  }
+
+  /**
+   * Sorts the coordinates between two coordinate indices, both inclusive, by longitude then
+   * latitude.
+   */
+  private static void sort(double[] coordinates, int left, int right) {
+    int from = left;
+    int to = right;
+    while (to - from > INSERTION_SORT_THRESHOLD) {
+      int middle = (from + to) >>> 1;
+      // median of three as the pivot
+      if (compare(coordinates, middle, from) < 0) {
+        swap(coordinates, middle, from);
+      }
+      if (compare(coordinates, to, from) < 0) {
+        swap(coordinates, to, from);
+      }
+      if (compare(coordinates, to, middle) < 0) {
+        swap(coordinates, to, middle);
+      }
+      double pivotX = coordinates[2 * middle];
+      double pivotY = coordinates[2 * middle + 1];
+      int i = from;
+      int j = to;
+      while (i <= j) {
+        while (compare(coordinates, i, pivotX, pivotY) < 0) {
+          i++;
+        }
+        while (compare(coordinates, j, pivotX, pivotY) > 0) {
+          j--;
+        }
+        if (i <= j) {
+          swap(coordinates, i, j);
+          i++;
+          j--;
+        }
+      }
+      // recurse into the smaller side to bound the stack depth
+      if (j - from < to - i) {
+        sort(coordinates, from, j);
+        from = i;
+      } else {
+        sort(coordinates, i, to);
+        to = j;
+      }
+    }
+    for (int i = from + 1; i <= to; i++) {
+      double x = coordinates[2 * i];
+      double y = coordinates[2 * i + 1];
+      int j = i - 1;
+      while (j >= from && compare(coordinates, j, x, y) > 0) {
+        coordinates[2 * (j + 1)] = coordinates[2 * j];
+        coordinates[2 * (j + 1) + 1] = coordinates[2 * j + 1];
+        j--;
+      }
+      coordinates[2 * (j + 1)] = x;
+      coordinates[2 * (j + 1) + 1] = y;
+    }
+  }
+
+  private static int compare(double[] coordinates, int i, int j) {
+    return compare(coordinates, i, coordinates[2 * j], coordinates[2 * j + 1]);
+  }
+
+  private static int compare(double[] coordinates, int i, double x, double y) {
+    double dx = coordinates[2 * i] - x;
+    if (dx != 0) {
+      return dx < 0 ? -1 : 1;
+    }
+    double dy = coordinates[2 * i + 1] - y;
+    return dy < 0 ? -1 : dy > 0 ? 1 : 0;
+  }
+
+  private static void swap(double[] coordinates, int i, int j) {
+    final double x = coordinates[2 * i];
+    final double y = coordinates[2 * i + 1];
+    coordinates[2 * i] = coordinates[2 * j];
+    coordinates[2 * i + 1] = coordinates[2 * j + 1];
+    coordinates[2 * j] = x;
+    coordinates[2 * j + 1] = y;
+  }
+
+  /**
+   * Computes the open hull of a range of coordinates, merging the hulls of its two halves.
+   */
+  private static final class HullTask extends RecursiveTask<double[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] coordinates;
+    private final int from;
+    private final int to;
+
+    HullTask(double[] coordinates, int from, int to) {
+      this.coordinates = coordinates;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected double[] compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        return chunkHull(Arrays.copyOfRange(coordinates, 2 * from, 2 * to), to - from);
+      }
+      int middle = (from + to) >>> 1;
+      HullTask right = new HullTask(coordinates, middle, to);
+      right.fork();
+      double[] leftHull = new HullTask(coordinates, from, middle).compute();
+      double[] rightHull = right.join();
+      double[] merged = Arrays.copyOf(leftHull, leftHull.length + rightHull.length);
+      System.arraycopy(rightHull, 0, merged, leftHull.length, rightHull.length);
+      return chunkHull(merged, merged.length / 2);
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds the point features lying within a corridor around a route, ordered by their distance
+ * along the route.
+ * <p>
+ * The points are indexed once by a {@link KdTree}, so that a single instance can be searched
+ * along any number of routes. A search groups the segments of the route into short runs, queries
+ * the points inside of the buffered bounding box of each run and projects them on the segments of
+ * that run only: the distance along the route and the lateral offset of every hit come out of the
+ * same pass over the route, instead of a {@link TurfMisc#nearestPointOnLine(Point, List)} per
+ * point over the whole route.
+ * </p>
+ * <p>
+ * The projection on a segment is planar, scaled for the latitude of the segment like
+ * {@link LocalRuler}, which is accurate as long as the segments and the corridor are short
+ * compared to the size of the Earth. The distances along the route sum the great circle lengths
+ * of the segments, like {@link TurfMeasurement#length(LineString, String)}. The bounding boxes
+ * don't wrap around the antimeridian.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class CorridorSearch {
+
+  private static final int SEGMENTS_PER_RUN = 16;
+  private static final double RADIANS_PER_DEGREE = Math.PI / 180;
+
+  private final List<Feature> features;
+  private final double[] coordinates;
+  private final KdTree index;
+
+  private CorridorSearch(List<Feature> features, double[] coordinates) {
+    this.features = features;
+    this.coordinates = coordinates;
+    this.index = KdTree.fromLngLats(coordinates);
+  }
+
+  /**
+   * Indexes the features of a collection having a {@link Point} geometry, the other features are
+   * ignored.
+   *
+   * @param featureCollection the features to search
+   * @return a new {@link CorridorSearch} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static CorridorSearch fromFeatures(@NonNull FeatureCollection featureCollection) {
+    List<Feature> features = new ArrayList<>();
+    List<Feature> all = featureCollection.features();
+    double[] coordinates = new double[all == null ? 0 : all.size() * 2];
+    if (all != null) {
+      for (Feature feature : all) {
+        if (feature.geometry() instanceof Point) {
+          Point point = (Point) feature.geometry();
+          coordinates[2 * features.size()] = point.longitude();
+          coordinates[2 * features.size() + 1] = point.latitude();
+          features.add(feature);
+        }
+      }
+    }
+    return new CorridorSearch(features, Arrays.copyOf(coordinates, features.size() * 2));
+  }
+
+  /**
+   * Returns the number of indexed point features.
+   *
+   * @return the number of points
+   * @since 7.11.0
+   */
+  public int size() {
+    return features.size();
+  }
+
+  /**
+   * Finds the points within a distance of a route. Each point is reported once, projected on the
+   * closest segment of the route; points at the same distance of several segments are projected
+   * on the first one.
+   *
+   * @param route the route
+   * @param width the maximum distance between a point and the route
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the hits, sorted by distance along the route
+   * @throws TurfException if the width is negative
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Hit> along(@NonNull LineString route, double width,
+                         @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return along(route.flattenCoordinates().getFlattenLngLatArray(), width, units);
+  }
+
+  /**
+   * Finds the points within a distance of a route. Each point is reported once, projected on the
+   * closest segment of the route; points at the same distance of several segments are projected
+   * on the first one.
+   *
+   * @param flattenLngLat the coordinates of the route: [lng1, lat1, lng2, lat2, ...]
+   * @param width         the maximum distance between a point and the route
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the hits, sorted by distance along the route
+   * @throws TurfException if the width is negative
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Hit> along(@NonNull double[] flattenLngLat, double width,
+                         @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    if (width < 0) {
+      throw new TurfException("The width of the corridor must not be negative.");
+    }
+    double maxOffset = TurfConversion.lengthToRadians(width, units);
+    int segments = flattenLngLat.length / 2 - 1;
+
+    // best projection found so far for every point, the points in the corridor being listed
+    int size = features.size();
+    double[] offsets = new double[size];
+    Arrays.fill(offsets, Double.POSITIVE_INFINITY);
+    double[] signedOffsets = new double[size];
+    double[] distances = new double[size];
+    int[] hitSegments = new int[size];
+    int[] found = new int[16];
+    int count = 0;
+    double runStart = 0;
+    for (int first = 0; first < segments; first += SEGMENTS_PER_RUN) {
+      int last = Math.min(first + SEGMENTS_PER_RUN, segments);
+
+      double west = Double.POSITIVE_INFINITY;
+      double south = Double.POSITIVE_INFINITY;
+      double east = Double.NEGATIVE_INFINITY;
+      double north = Double.NEGATIVE_INFINITY;
+      for (int i = 2 * first; i <= 2 * last; i += 2) {
+        west = Math.min(west, flattenLngLat[i]);
+        south = Math.min(south, flattenLngLat[i + 1]);
+        east = Math.max(east, flattenLngLat[i]);
+        north = Math.max(north, flattenLngLat[i + 1]);
+      }
+      // buffer the box of the run by the width, widening the longitudes at its farthest latitude
+      double latBuffer = maxOffset / RADIANS_PER_DEGREE;
+      double maxLat = Math.max(Math.abs(south), Math.abs(north)) + latBuffer;
+      double lngBuffer = maxLat >= 90
+        ? 360 : latBuffer / Math.cos(maxLat * RADIANS_PER_DEGREE);
+      int[] candidates = index.range(
+        west - lngBuffer, south - latBuffer, east + lngBuffer, north + latBuffer);
+
+      double segmentStart = runStart;
+      for (int segment = first; segment < last; segment++) {
+        double ax = flattenLngLat[2 * segment];
+        double ay = flattenLngLat[2 * segment + 1];
+        double bx = flattenLngLat[2 * segment + 2];
+        double by = flattenLngLat[2 * segment + 3];
+        double length = TurfMeasurement.distanceRadians(ax, ay, bx, by);
+
+        // local planar frame of the segment, in radians of arc
+        double ky = RADIANS_PER_DEGREE;
+        double kx = ky * Math.cos((ay + by) / 2 * RADIANS_PER_DEGREE);
+        double dx = (bx - ax) * kx;
+        double dy = (by - ay) * ky;
+        double squaredLength = dx * dx + dy * dy;
+
+        for (int candidate : candidates) {
+          double px = (coordinates[2 * candidate] - ax) * kx;
+          double py = (coordinates[2 * candidate + 1] - ay) * ky;
+          double t = squaredLength == 0 ? 0 : (px * dx + py * dy) / squaredLength;
+          t = Math.max(0, Math.min(1, t));
+          double ox = px - t * dx;
+          double oy = py - t * dy;
+          double offset = Math.sqrt(ox * ox + oy * oy);
+          if (offset > maxOffset) {
+            continue;
+          }
+          if (offset < offsets[candidate]) {
+            if (offsets[candidate] == Double.POSITIVE_INFINITY) {
+              if (count == found.length) {
+                found = Arrays.copyOf(found, count * 2);
+              }
+              found[count++] = candidate;
+            }
+            offsets[candidate] = offset;
+            // positive on the right hand side of the route
+            signedOffsets[candidate] = dx * py - dy * px > 0 ? -offset : offset;
+            distances[candidate] = segmentStart + t * length;
+            hitSegments[candidate] = segment;
+          }
+        }
+        segmentStart += length;
+      }
+      runStart = segmentStart;
+    }
+
+    double factor = TurfConversion.radiansToLength(1, units);
+    List<Hit> sorted = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int point = found[i];
+      sorted.add(new Hit(features.get(point), point, hitSegments[point],
+        factor * distances[point], factor * signedOffsets[point]));
+    }
+    Collections.sort(sorted, new Comparator<Hit>() {
+      @Override
+      public int compare(Hit first, Hit second) {
+        int compare = Double.compare(first.distanceAlong, second.distanceAlong);
+        return compare != 0 ? compare : first.index - second.index;
+      }
+    });
+    return sorted;
+  }
+
+  /**
+   * A point found within the corridor of a route.
+   *
+   * @since 7.11.0
+   */
+  public static final class Hit {
+
+    private final Feature feature;
+    private final int index;
+    private final int segment;
+    private final double distanceAlong;
+    private final double offset;
+
+    Hit(Feature feature, int index, int segment, double distanceAlong, double offset) {
+      this.feature = feature;
+      this.index = index;
+      this.segment = segment;
+      this.distanceAlong = distanceAlong;
+      this.offset = offset;
+    }
+
+    /**
+     * Returns the feature found.
+     *
+     * @return the feature, with a {@link Point} geometry
+     * @since 7.11.0
+     */
+    @NonNull
+    public Feature feature() {
+      return feature;
+    }
+
+    /**
+     * Returns the index of the segment of the route the point is projected on, the segment
+     * starting at the coordinate of the same index.
+     *
+     * @return the index of the segment
+     * @since 7.11.0
+     */
+    public int segmentIndex() {
+      return segment;
+    }
+
+    /**
+     * Returns the distance along the route from its start to the projection of the point.
+     *
+     * @return the distance, in the units of the search
+     * @since 7.11.0
+     */
+    public double distanceAlong() {
+      return distanceAlong;
+    }
+
+    /**
+     * Returns the distance between the point and the route, positive when the point is on the
+     * right hand side of the route and negative when it is on its left hand side.
+     *
+     * @return the signed distance, in the units of the search
+     * @since 7.11.0
+     */
+    public double offset() {
+      return offset;
+    }
+  }
+}
@@ -0,0 +1,751 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Polygon triangulation by ear clipping, porting
+ * <a href="https://github.com/mapbox/earcut">earcut</a>. Holes are first joined to the outer ring
+ * with bridges, then ears are clipped from the resulting ring. Vertices are ordered along a
+ * z-order curve for larger polygons, so that the points inside of a candidate ear are found
+ * without walking the whole ring.
+ */
+final class Earcut {
+
+  /**
+   * Number of coordinates above which the ear checks use the z-order index.
+   */
+  private static final int HASH_THRESHOLD = 80;
+
+  private Earcut() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Triangulates a polygon.
+   *
+   * @param data        the coordinates of all the rings one after the other:
+   *                    [x1, y1, x2, y2, ...]
+   * @param holeIndices the index of the first coordinate of each hole, or null without holes
+   * @return the indices of the coordinates making up the triangles, three per triangle
+   */
+  @NonNull
+  static int[] triangulate(@NonNull double[] data, @Nullable int[] holeIndices) {
+    boolean hasHoles = holeIndices != null && holeIndices.length > 0;
+    int outerLength = hasHoles ? holeIndices[0] * 2 : data.length;
+    Node outerNode = linkedList(data, 0, outerLength, true);
+    Triangles triangles = new Triangles(Math.max(data.length / 2 - 2, 1) * 3);
+
+    if (outerNode == null || outerNode.next == outerNode.prev) {
+      return triangles.toArray();
+    }
+    if (hasHoles) {
+      outerNode = eliminateHoles(data, holeIndices, outerNode);
+    }
+
+    double minX = 0;
+    double minY = 0;
+    double invSize = 0;
+    // z-order curve hash for shapes which aren't too simple, over the bbox of the outer ring
+    if (data.length > HASH_THRESHOLD * 2) {
+      minX = data[0];
+      minY = data[1];
+      double maxX = minX;
+      double maxY = minY;
+      for (int i = 2; i < outerLength; i += 2) {
+        minX = Math.min(minX, data[i]);
+        minY = Math.min(minY, data[i + 1]);
+        maxX = Math.max(maxX, data[i]);
+        maxY = Math.max(maxY, data[i + 1]);
+      }
+      invSize = Math.max(maxX - minX, maxY - minY);
+      invSize = invSize != 0 ? 32767 / invSize : 0;
+    }
+
+    earcutLinked(outerNode, triangles, minX, minY, invSize, 0);
+    return triangles.toArray();
+  }
+
+  /**
+   * Creates a circular doubly linked list from the ring coordinates in the specified winding
+   * order.
+   */
+  private static Node linkedList(double[] data, int start, int end, boolean clockwise) {
+    Node last = null;
+    if (clockwise == (signedArea(data, start, end) > 0)) {
+      for (int i = start; i < end; i += 2) {
+        last = insertNode(i / 2, data[i], data[i + 1], last);
+      }
+    } else {
+      for (int i = end - 2; i >= start; i -= 2) {
+        last = insertNode(i / 2, data[i], data[i + 1], last);
+      }
+    }
+    if (last != null && equals(last, last.next)) {
+      removeNode(last);
+      last = last.next;
+    }
+    return last;
+  }
+
+  /**
+   * Eliminates colinear or duplicate points.
+   */
+  private static Node filterPoints(Node start, Node end) {
+    if (start == null) {
+      return null;
+    }
+    Node last = end == null ? start : end;
+    Node p = start;
+    boolean again;
+    do {
+      again = false;
+      if (!p.steiner && (equals(p, p.next) || area(p.prev, p, p.next) == 0)) {
+        removeNode(p);
+        p = p.prev;
+        last = p;
+        if (p == p.next) {
+          break;
+        }
+        again = true;
+      } else {
+        p = p.next;
+      }
+    }
+    while (again || p != last);
+    return last;
+  }
+
+  /**
+   * Main ear slicing loop which triangulates a polygon, given as a linked list.
+   */
+  private static void earcutLinked(Node start, Triangles triangles, double minX, double minY,
+                                   double invSize, int pass) {
+    if (start == null) {
+      return;
+    }
+    // interlink polygon nodes in z-order
+    if (pass == 0 && invSize != 0) {
+      indexCurve(start, minX, minY, invSize);
+    }
+
+    Node ear = start;
+    Node stop = ear;
+    // iterate through ears, slicing them one by one
+    while (ear.prev != ear.next) {
+      Node prev = ear.prev;
+      Node next = ear.next;
+
+      if (invSize != 0 ? isEarHashed(ear, minX, minY, invSize) : isEar(ear)) {
+        triangles.add(prev.index, ear.index, next.index);
+        removeNode(ear);
+        // skipping the next vertex leads to less sliver triangles
+        ear = next.next;
+        stop = next.next;
+        continue;
+      }
+
+      ear = next;
+      // if the whole polygon was looped through without finding any ear
+      if (ear == stop) {
+        if (pass == 0) {
+          // try filtering points and slicing again
+          earcutLinked(filterPoints(ear, null), triangles, minX, minY, invSize, 1);
+        } else if (pass == 1) {
+          // try to cure small local self-intersections
+          ear = cureLocalIntersections(filterPoints(ear, null), triangles);
+          earcutLinked(ear, triangles, minX, minY, invSize, 2);
+        } else {
+          // as a last resort, try splitting the remaining polygon into two
+          splitEarcut(ear, triangles, minX, minY, invSize);
+        }
+        break;
+      }
+    }
+  }
+
+  /**
+   * Checks whether a polygon node forms a valid ear with adjacent nodes.
+   */
+  private static boolean isEar(Node ear) {
+    Node a = ear.prev;
+    Node b = ear;
+    Node c = ear.next;
+    // reflex, can't be an ear
+    if (area(a, b, c) >= 0) {
+      return false;
+    }
+
+    double x0 = Math.min(a.x, Math.min(b.x, c.x));
+    double y0 = Math.min(a.y, Math.min(b.y, c.y));
+    double x1 = Math.max(a.x, Math.max(b.x, c.x));
+    double y1 = Math.max(a.y, Math.max(b.y, c.y));
+
+    // make sure no other point is inside of the potential ear
+    Node p = c.next;
+    while (p != a) {
+      if (p.x >= x0 && p.x <= x1 && p.y >= y0 && p.y <= y1
+        && pointInTriangle(a.x, a.y, b.x, b.y, c.x, c.y, p.x, p.y)
+        && area(p.prev, p, p.next) >= 0) {
+        return false;
+      }
+      p = p.next;
+    }
+    return true;
+  }
+
+  private static boolean isEarHashed(Node ear, double minX, double minY, double invSize) {
+    Node a = ear.prev;
+    Node b = ear;
+    Node c = ear.next;
+    if (area(a, b, c) >= 0) {
+      return false;
+    }
+
+    double x0 = Math.min(a.x, Math.min(b.x, c.x));
+    double y0 = Math.min(a.y, Math.min(b.y, c.y));
+    double x1 = Math.max(a.x, Math.max(b.x, c.x));
+    double y1 = Math.max(a.y, Math.max(b.y, c.y));
+
+    // z-order range for the current triangle bbox
+    int minZ = zOrder(x0, y0, minX, minY, invSize);
+    int maxZ = zOrder(x1, y1, minX, minY, invSize);
+
+    Node p = ear.prevZ;
+    Node n = ear.nextZ;
+    // look for points inside of the triangle in both directions
+    while (p != null && p.z >= minZ && n != null && n.z <= maxZ) {
+      if (blocksEar(p, a, b, c, x0, y0, x1, y1)) {
+        return false;
+      }
+      p = p.prevZ;
+      if (blocksEar(n, a, b, c, x0, y0, x1, y1)) {
+        return false;
+      }
+      n = n.nextZ;
+    }
+    // look for remaining points in decreasing z-order
+    while (p != null && p.z >= minZ) {
+      if (blocksEar(p, a, b, c, x0, y0, x1, y1)) {
+        return false;
+      }
+      p = p.prevZ;
+    }
+    // look for remaining points in increasing z-order
+    while (n != null && n.z <= maxZ) {
+      if (blocksEar(n, a, b, c, x0, y0, x1, y1)) {
+        return false;
+      }
+      n = n.nextZ;
+    }
+    return true;
+  }
+
+  private static boolean blocksEar(Node p, Node a, Node b, Node c,
+                                   double x0, double y0, double x1, double y1) {
+    return p.x >= x0 && p.x <= x1 && p.y >= y0 && p.y <= y1 && p != a && p != c
+      && pointInTriangle(a.x, a.y, b.x, b.y, c.x, c.y, p.x, p.y)
+      && area(p.prev, p, p.next) >= 0;
+  }
+
+  /**
+   * Goes through all polygon nodes and cures small local self-intersections.
+   */
+  private static Node cureLocalIntersections(Node start, Triangles triangles) {
+    Node first = start;
+    Node p = start;
+    do {
+      Node a = p.prev;
+      Node b = p.next.next;
+      if (!equals(a, b) && intersects(a, p, p.next, b)
+        && locallyInside(a, b) && locallyInside(b, a)) {
+        triangles.add(a.index, p.index, b.index);
+        // remove two nodes involved
+        removeNode(p);
+        removeNode(p.next);
+        p = b;
+        first = b;
+      }
+      p = p.next;
+    }
+    while (p != first);
+    return filterPoints(p, null);
+  }
+
+  /**
+   * Tries splitting the polygon into two and triangulates them independently.
+   */
+  private static void splitEarcut(Node start, Triangles triangles, double minX, double minY,
+                                  double invSize) {
+    // look for a valid diagonal that divides the polygon into two
+    Node a = start;
+    do {
+      Node b = a.next.next;
+      while (b != a.prev) {
+        if (a.index != b.index && isValidDiagonal(a, b)) {
+          Node c = splitPolygon(a, b);
+          // filter colinear points around the cuts
+          a = filterPoints(a, a.next);
+          c = filterPoints(c, c.next);
+          earcutLinked(a, triangles, minX, minY, invSize, 0);
+          earcutLinked(c, triangles, minX, minY, invSize, 0);
+          return;
+        }
+        b = b.next;
+      }
+      a = a.next;
+    }
+    while (a != start);
+  }
+
+  /**
+   * Links every hole into the outer loop, producing a single-ring polygon without holes.
+   */
+  private static Node eliminateHoles(double[] data, int[] holeIndices, Node outerNode) {
+    Node[] queue = new Node[holeIndices.length];
+    int count = 0;
+    for (int i = 0; i < holeIndices.length; i++) {
+      int start = holeIndices[i] * 2;
+      int end = i < holeIndices.length - 1 ? holeIndices[i + 1] * 2 : data.length;
+      Node list = linkedList(data, start, end, false);
+      if (list == null) {
+        continue;
+      }
+      if (list == list.next) {
+        list.steiner = true;
+      }
+      queue[count++] = getLeftmost(list);
+    }
+    Arrays.sort(queue, 0, count, new Comparator<Node>() {
+      @Override
+      public int compare(Node a, Node b) {
+        return Double.compare(a.x, b.x);
+      }
+    });
+
+    // process holes from left to right
+    Node node = outerNode;
+    for (int i = 0; i < count; i++) {
+      node = eliminateHole(queue[i], node);
+    }
+    return node;
+  }
+
+  /**
+   * Finds a bridge between vertices that connects a hole with the outer ring and links them.
+   */
+  private static Node eliminateHole(Node hole, Node outerNode) {
+    Node bridge = findHoleBridge(hole, outerNode);
+    if (bridge == null) {
+      return outerNode;
+    }
+    Node bridgeReverse = splitPolygon(bridge, hole);
+    // filter colinear points around the cuts
+    filterPoints(bridgeReverse, bridgeReverse.next);
+    return filterPoints(bridge, bridge.next);
+  }
+
+  /**
+   * David Eberly's algorithm for finding a bridge between a hole and the outer polygon.
+   */
+  private static Node findHoleBridge(Node hole, Node outerNode) {
+    Node p = outerNode;
+    double hx = hole.x;
+    double hy = hole.y;
+    double qx = Double.NEGATIVE_INFINITY;
+    Node m = null;
+
+    // find a segment intersected by a ray from the hole's leftmost point to the left,
+    // the segment's endpoint with the lesser x will be a potential connection point
+    do {
+      if (hy <= p.y && hy >= p.next.y && p.next.y != p.y) {
+        double x = p.x + (hy - p.y) * (p.next.x - p.x) / (p.next.y - p.y);
+        if (x <= hx && x > qx) {
+          qx = x;
+          m = p.x < p.next.x ? p : p.next;
+          if (x == hx) {
+            // the hole touches the outer segment, pick its leftmost endpoint
+            return m;
+          }
+        }
+      }
+      p = p.next;
+    }
+    while (p != outerNode);
+
+    if (m == null) {
+      return null;
+    }
+
+    // look for points inside of the triangle of the hole point, the segment intersection and the
+    // endpoint; if there are no points found, we have a valid connection, otherwise choose the
+    // point of the minimum angle with the ray as the connection point
+    Node stop = m;
+    double mx = m.x;
+    double my = m.y;
+    double tanMin = Double.POSITIVE_INFINITY;
+    p = m;
+    do {
+      if (hx >= p.x && p.x >= mx && hx != p.x
+        && pointInTriangle(hy < my ? hx : qx, hy, mx, my, hy < my ? qx : hx, hy, p.x, p.y)) {
+        double tan = Math.abs(hy - p.y) / (hx - p.x);
+        if (locallyInside(p, hole) && (tan < tanMin
+          || tan == tanMin && (p.x > m.x || p.x == m.x && sectorContainsSector(m, p)))) {
+          m = p;
+          tanMin = tan;
+        }
+      }
+      p = p.next;
+    }
+    while (p != stop);
+    return m;
+  }
+
+  /**
+   * Whether the sector in vertex m contains the sector in vertex p in the same coordinates.
+   */
+  private static boolean sectorContainsSector(Node m, Node p) {
+    return area(m.prev, m, p.prev) < 0 && area(p.next, m, m.next) < 0;
+  }
+
+  /**
+   * Interlinks polygon nodes in z-order.
+   */
+  private static void indexCurve(Node start, double minX, double minY, double invSize) {
+    Node p = start;
+    do {
+      if (p.z == 0) {
+        p.z = zOrder(p.x, p.y, minX, minY, invSize);
+      }
+      p.prevZ = p.prev;
+      p.nextZ = p.next;
+      p = p.next;
+    }
+    while (p != start);
+
+    p.prevZ.nextZ = null;
+    p.prevZ = null;
+    sortLinked(p);
+  }
+
+  /**
+   * Simon Tatham's linked list merge sort algorithm.
+   */
+  private static Node sortLinked(Node head) {
+    Node list = head;
+    int inSize = 1;
+    int numMerges;
+    do {
+      Node p = list;
+      list = null;
+      Node tail = null;
+      numMerges = 0;
+
+      while (p != null) {
+        numMerges++;
+        Node q = p;
+        int pSize = 0;
+        for (int i = 0; i < inSize; i++) {
+          pSize++;
+          q = q.nextZ;
+          if (q == null) {
+            break;
+          }
+        }
+        int qSize = inSize;
+
+        while (pSize > 0 || qSize > 0 && q != null) {
+          Node e;
+          if (pSize != 0 && (qSize == 0 || q == null || p.z <= q.z)) {
+            e = p;
+            p = p.nextZ;
+            pSize--;
+          } else {
+            e = q;
+            q = q.nextZ;
+            qSize--;
+          }
+          if (tail != null) {
+            tail.nextZ = e;
+          } else {
+            list = e;
+          }
+          e.prevZ = tail;
+          tail = e;
+        }
+        p = q;
+      }
+      tail.nextZ = null;
+      inSize *= 2;
+    }
+    while (numMerges > 1);
+    return list;
+  }
+
+  /**
+   * Z-order of a point given coordinates and the inverse of the longer side of the data bbox.
+   */
+  private static int zOrder(double px, double py, double minX, double minY, double invSize) {
+    // coords are transformed into non-negative 15-bit integer range
+    int x = (int) ((px - minX) * invSize);
+    x = (x | (x << 8)) & 0x00FF00FF;
+    x = (x | (x << 4)) & 0x0F0F0F0F;
+    x = (x | (x << 2)) & 0x33333333;
+    x = (x | (x << 1)) & 0x55555555;
+
+    int y = (int) ((py - minY) * invSize);
+    y = (y | (y << 8)) & 0x00FF00FF;
+    y = (y | (y << 4)) & 0x0F0F0F0F;
+    y = (y | (y << 2)) & 0x33333333;
+    y = (y | (y << 1)) & 0x55555555;
+
+    return x | (y << 1);
+  }
+
+  /**
+   * Finds the leftmost node of a polygon ring.
+   */
+  private static Node getLeftmost(Node start) {
+    Node p = start;
+    Node leftmost = start;
+    do {
+      if (p.x < leftmost.x || p.x == leftmost.x && p.y < leftmost.y) {
+        leftmost = p;
+      }
+      p = p.next;
+    }
+    while (p != start);
+    return leftmost;
+  }
+
+  /**
+   * Checks if a point lies within a convex triangle.
+   */
+  private static boolean pointInTriangle(double ax, double ay, double bx, double by,
+                                         double cx, double cy, double px, double py) {
+    return (cx - px) * (ay - py) >= (ax - px) * (cy - py)
+      && (ax - px) * (by - py) >= (bx - px) * (ay - py)
+      && (bx - px) * (cy - py) >= (cx - px) * (by - py);
+  }
+
+  /**
+   * Checks if a diagonal between two polygon nodes is valid (lies in polygon interior).
+   */
+  private static boolean isValidDiagonal(Node a, Node b) {
+    // doesn't intersect other edges
+    return a.next.index != b.index && a.prev.index != b.index && !intersectsPolygon(a, b)
+      // locally visible, without creating opposite-facing sectors
+      && (locallyInside(a, b) && locallyInside(b, a) && middleInside(a, b)
+      && (area(a.prev, a, b.prev) != 0 || area(a, b.prev, b) != 0)
+      // special zero-length case
+      || equals(a, b) && area(a.prev, a, a.next) > 0 && area(b.prev, b, b.next) > 0);
+  }
+
+  /**
+   * Signed area of a triangle.
+   */
+  private static double area(Node p, Node q, Node r) {
+    return (q.y - p.y) * (r.x - q.x) - (q.x - p.x) * (r.y - q.y);
+  }
+
+  private static boolean equals(Node p1, Node p2) {
+    return p1.x == p2.x && p1.y == p2.y;
+  }
+
+  /**
+   * Checks if two segments intersect.
+   */
+  private static boolean intersects(Node p1, Node q1, Node p2, Node q2) {
+    int o1 = sign(area(p1, q1, p2));
+    int o2 = sign(area(p1, q1, q2));
+    int o3 = sign(area(p2, q2, p1));
+    int o4 = sign(area(p2, q2, q1));
+
+    if (o1 != o2 && o3 != o4) {
+      // general case
+      return true;
+    }
+    // collinear cases, where a point of a segment lies on the other segment
+    return o1 == 0 && onSegment(p1, p2, q1) || o2 == 0 && onSegment(p1, q2, q1)
+      || o3 == 0 && onSegment(p2, p1, q2) || o4 == 0 && onSegment(p2, q1, q2);
+  }
+
+  /**
+   * For collinear points p, q, r, checks if point q lies on segment pr.
+   */
+  private static boolean onSegment(Node p, Node q, Node r) {
+    return q.x <= Math.max(p.x, r.x) && q.x >= Math.min(p.x, r.x)
+      && q.y <= Math.max(p.y, r.y) && q.y >= Math.min(p.y, r.y);
+  }
+
+  private static int sign(double value) {
+    return value > 0 ? 1 : value < 0 ? -1 : 0;
+  }
+
+  /**
+   * Checks if a polygon diagonal intersects any polygon segments.
+   */
+  private static boolean intersectsPolygon(Node a, Node b) {
+    Node p = a;
+    do {
+      if (p.index != a.index && p.next.index != a.index && p.index != b.index
+        && p.next.index != b.index && intersects(p, p.next, a, b)) {
+        return true;
+      }
+      p = p.next;
+    }
+    while (p != a);
+    return false;
+  }
+
+  /**
+   * Checks if a polygon diagonal is locally inside the polygon.
+   */
+  private static boolean locallyInside(Node a, Node b) {
+    return area(a.prev, a, a.next) < 0
+      ? area(a, b, a.next) >= 0 && area(a, a.prev, b) >= 0
+      : area(a, b, a.prev) < 0 || area(a, a.next, b) < 0;
+  }
+
+  /**
+   * Checks if the middle point of a polygon diagonal is inside the polygon.
+   */
+  private static boolean middleInside(Node a, Node b) {
+    Node p = a;
+    boolean inside = false;
+    double px = (a.x + b.x) / 2;
+    double py = (a.y + b.y) / 2;
+    do {
+      if (p.y > py != p.next.y > py && p.next.y != p.y
+        && px < (p.next.x - p.x) * (py - p.y) / (p.next.y - p.y) + p.x) {
+        inside = !inside;
+      }
+      p = p.next;
+    }
+    while (p != a);
+    return inside;
+  }
+
+  /**
+   * Links two polygon vertices with a bridge; if the vertices belong to the same ring, it splits
+   * the polygon into two, if one belongs to the outer ring and another to a hole, it merges them
+   * into a single ring.
+   */
+  private static Node splitPolygon(Node a, Node b) {
+    Node a2 = new Node(a.index, a.x, a.y);
+    final Node b2 = new Node(b.index, b.x, b.y);
+    Node an = a.next;
+    final Node bp = b.prev;
+
+    a.next = b;
+    b.prev = a;
+
+    a2.next = an;
+    an.prev = a2;
+
+    b2.next = a2;
+    a2.prev = b2;
+
+    bp.next = b2;
+    b2.prev = bp;
+    return b2;
+  }
+
+  /**
+   * Creates a node and optionally links it with the previous one, in a circular doubly linked
+   * list.
+   */
+  private static Node insertNode(int index, double x, double y, Node last) {
+    Node p = new Node(index, x, y);
+    if (last == null) {
+      p.prev = p;
+      p.next = p;
+    } else {
+      p.next = last.next;
+      p.prev = last;
+      last.next.prev = p;
+      last.next = p;
+    }
+    return p;
+  }
+
+  private static void removeNode(Node p) {
+    p.next.prev = p.prev;
+    p.prev.next = p.next;
+    if (p.prevZ != null) {
+      p.prevZ.nextZ = p.nextZ;
+    }
+    if (p.nextZ != null) {
+      p.nextZ.prevZ = p.prevZ;
+    }
+  }
+
+  private static double signedArea(double[] data, int start, int end) {
+    double sum = 0;
+    for (int i = start, j = end - 2; i < end; i += 2) {
+      sum += (data[j] - data[i]) * (data[i + 1] + data[j + 1]);
+      j = i;
+    }
+    return sum;
+  }
+
+  /**
+   * Vertex of a ring, also linked to its neighbors in z-order.
+   */
+  private static final class Node {
+
+    // vertex index in the coordinates array
+    final int index;
+    final double x;
+    final double y;
+
+    // previous and next vertex nodes in a polygon ring
+    Node prev;
+    Node next;
+
+    // z-order curve value
+    int z;
+
+    // previous and next nodes in z-order
+    Node prevZ;
+    Node nextZ;
+
+    // indicates whether this is a steiner point
+    boolean steiner;
+
+    Node(int index, double x, double y) {
+      this.index = index;
+      this.x = x;
+      this.y = y;
+    }
+  }
+
+  /**
+   * Growable array of triangle indices.
+   */
+  private static final class Triangles {
+
+    private int[] indices;
+    private int size;
+
+    Triangles(int capacity) {
+      indices = new int[capacity];
+    }
+
+    void add(int a, int b, int c) {
+      if (size + 3 > indices.length) {
+        indices = Arrays.copyOf(indices, Math.max(indices.length * 2, size + 3));
+      }
+      indices[size++] = a;
+      indices[size++] = b;
+      indices[size++] = c;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(indices, size);
+    }
+  }
+}
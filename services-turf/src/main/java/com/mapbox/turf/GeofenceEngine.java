@@ -0,0 +1,332 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Polygon;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which fences a set of moving entities are inside of, and reports the transitions of each
+ * entity as its positions are streamed in.
+ * <p>
+ * The fences are polygons or multi polygons, indexed once by a packed R-tree over their bounding
+ * boxes and prepared as a {@link Triangulation}, so that locating a position only tests the few
+ * fences whose bounding box contains it. The only state kept is, for every entity currently
+ * inside of at least one fence, the fences it is inside of and when it entered them.
+ * </p>
+ * <p>
+ * Updates of different entities can be applied concurrently from any number of threads: the
+ * entities are spread over lock stripes, and the fence lookup runs before taking the lock of the
+ * entity. The updates of one entity are expected in chronological order: while an entity is
+ * inside of a fence, an update older than its last one is ignored.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class GeofenceEngine {
+
+  /**
+   * The entity moved inside of the fence.
+   *
+   * @since 7.11.0
+   */
+  public static final int TRANSITION_ENTER = 1;
+
+  /**
+   * The entity moved outside of the fence.
+   *
+   * @since 7.11.0
+   */
+  public static final int TRANSITION_EXIT = 2;
+
+  /**
+   * The entity has been inside of the fence for the dwell time, reported once per visit.
+   *
+   * @since 7.11.0
+   */
+  public static final int TRANSITION_DWELL = 3;
+
+  /**
+   * Retention policy for the geofence transitions.
+   *
+   * @since 7.11.0
+   */
+  @Retention(RetentionPolicy.CLASS)
+  @IntDef( {
+    TRANSITION_ENTER,
+    TRANSITION_EXIT,
+    TRANSITION_DWELL
+  })
+  public @interface Transition {
+  }
+
+  /**
+   * Receives the transitions computed by the engine.
+   *
+   * @since 7.11.0
+   */
+  public interface TransitionListener {
+
+    /**
+     * Called on the thread applying the update, while the entity is locked: the transitions of an
+     * entity are always received in order, and the listener should return quickly.
+     *
+     * @param entityId   the identifier of the entity
+     * @param fenceId    the identifier of the fence
+     * @param transition one of {@link #TRANSITION_ENTER}, {@link #TRANSITION_EXIT} or
+     *                   {@link #TRANSITION_DWELL}
+     * @param time       the time of the update which caused the transition
+     * @since 7.11.0
+     */
+    void onTransition(@NonNull String entityId, @NonNull String fenceId,
+                      @Transition int transition, long time);
+  }
+
+  private static final int NODE_SIZE = 16;
+  private static final int STRIPES = 64;
+  private static final int[] NO_FENCES = new int[0];
+
+  private final String[] fenceIds;
+  private final Triangulation[] fences;
+  private final BoxIndex index;
+  private final long dwellTime;
+  private final TransitionListener listener;
+  private final Object[] locks;
+  private final List<Map<String, EntityState>> states;
+
+  private GeofenceEngine(String[] fenceIds, Triangulation[] fences, double[] boxes,
+                         long dwellTime, TransitionListener listener) {
+    this.fenceIds = fenceIds;
+    this.fences = fences;
+    this.index = new BoxIndex(boxes, NODE_SIZE);
+    this.dwellTime = dwellTime;
+    this.listener = listener;
+    this.locks = new Object[STRIPES];
+    this.states = new ArrayList<>(STRIPES);
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new Object();
+      states.add(new HashMap<String, EntityState>());
+    }
+  }
+
+  /**
+   * Creates an engine watching fences.
+   *
+   * @param fences    the fences, features with a {@link Polygon} or {@link MultiPolygon} geometry
+   *                  and an id
+   * @param dwellTime the time an entity has to stay inside of a fence before a
+   *                  {@link #TRANSITION_DWELL} is reported, in the unit of the update times
+   * @param listener  the listener receiving the transitions
+   * @return a new {@link GeofenceEngine} instance
+   * @throws TurfException if a fence has no id or isn't a polygon or multi polygon
+   * @since 7.11.0
+   */
+  @NonNull
+  public static GeofenceEngine fromFeatures(@NonNull List<Feature> fences,
+                                            @IntRange(from = 0) long dwellTime,
+                                            @NonNull TransitionListener listener) {
+    String[] fenceIds = new String[fences.size()];
+    Triangulation[] triangulations = new Triangulation[fences.size()];
+    double[] boxes = new double[fences.size() * 4];
+    for (int i = 0; i < fences.size(); i++) {
+      Feature fence = fences.get(i);
+      Geometry geometry = fence.geometry();
+      if (fence.id() == null) {
+        throw new TurfException("Every fence requires an id.");
+      }
+      if (geometry instanceof Polygon) {
+        triangulations[i] = Triangulation.fromPolygon((Polygon) geometry);
+      } else if (geometry instanceof MultiPolygon) {
+        triangulations[i] = Triangulation.fromMultiPolygon((MultiPolygon) geometry);
+      } else {
+        throw new TurfException("The fence " + fence.id()
+          + " must have a Polygon or MultiPolygon geometry.");
+      }
+      fenceIds[i] = fence.id();
+      System.arraycopy(TurfMeasurement.bbox(geometry), 0, boxes, 4 * i, 4);
+    }
+    return new GeofenceEngine(fenceIds, triangulations, boxes, dwellTime, listener);
+  }
+
+  /**
+   * Applies a new position of an entity, reporting its transitions to the listener: an exit for
+   * each fence it left, an enter for each fence it entered and a dwell for each fence it has now
+   * been inside of for the dwell time.
+   *
+   * @param entityId  the identifier of the entity
+   * @param longitude the longitude of the entity
+   * @param latitude  the latitude of the entity
+   * @param time      the time of the position, in the unit of the dwell time
+   * @since 7.11.0
+   */
+  public void update(@NonNull String entityId, double longitude, double latitude, long time) {
+    int[] inside = locate(longitude, latitude);
+    int stripe = stripe(entityId);
+    synchronized (locks[stripe]) {
+      Map<String, EntityState> entities = states.get(stripe);
+      EntityState state = entities.get(entityId);
+      if (state != null && time < state.time) {
+        return;
+      }
+      EntityState next = transition(entityId, state, inside, time);
+      if (next == null) {
+        entities.remove(entityId);
+      } else {
+        entities.put(entityId, next);
+      }
+    }
+  }
+
+  /**
+   * Stops tracking an entity, reporting an exit for each fence it is inside of.
+   *
+   * @param entityId the identifier of the entity
+   * @param time     the time reported with the exits
+   * @since 7.11.0
+   */
+  public void remove(@NonNull String entityId, long time) {
+    int stripe = stripe(entityId);
+    synchronized (locks[stripe]) {
+      EntityState state = states.get(stripe).remove(entityId);
+      if (state != null) {
+        transition(entityId, state, NO_FENCES, time);
+      }
+    }
+  }
+
+  /**
+   * Returns the fences an entity is currently inside of.
+   *
+   * @param entityId the identifier of the entity
+   * @return the identifiers of the fences, in no particular order
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<String> fencesOf(@NonNull String entityId) {
+    int stripe = stripe(entityId);
+    synchronized (locks[stripe]) {
+      EntityState state = states.get(stripe).get(entityId);
+      if (state == null) {
+        return Collections.emptyList();
+      }
+      List<String> ids = new ArrayList<>(state.fences.length);
+      for (int fence : state.fences) {
+        ids.add(fenceIds[fence]);
+      }
+      return ids;
+    }
+  }
+
+  /**
+   * Returns the fences containing a position, boundaries included.
+   *
+   * @param longitude the longitude of the position
+   * @param latitude  the latitude of the position
+   * @return the identifiers of the fences, in no particular order
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<String> fencesAt(double longitude, double latitude) {
+    int[] inside = locate(longitude, latitude);
+    List<String> ids = new ArrayList<>(inside.length);
+    for (int fence : inside) {
+      ids.add(fenceIds[fence]);
+    }
+    return ids;
+  }
+
+  /**
+   * Finds the fences containing a position, sorted by index.
+   */
+  private int[] locate(double longitude, double latitude) {
+    int[] candidates = index.search(longitude, latitude, longitude, latitude);
+    int count = 0;
+    for (int candidate : candidates) {
+      if (fences[candidate].contains(longitude, latitude)) {
+        candidates[count++] = candidate;
+      }
+    }
+    if (count == 0) {
+      return NO_FENCES;
+    }
+    int[] inside = Arrays.copyOf(candidates, count);
+    Arrays.sort(inside);
+    return inside;
+  }
+
+  /**
+   * Merges the sorted fences of the previous and new states, reporting the differences.
+   *
+   * @return the new state, or null if the entity isn't inside of any fence anymore
+   */
+  private EntityState transition(String entityId, EntityState previous, int[] inside,
+                                 long time) {
+    int[] before = previous == null ? NO_FENCES : previous.fences;
+    long[] entered = new long[inside.length];
+    boolean[] dwelled = new boolean[inside.length];
+    int i = 0;
+    int j = 0;
+    while (i < before.length || j < inside.length) {
+      if (j == inside.length || i < before.length && before[i] < inside[j]) {
+        listener.onTransition(entityId, fenceIds[before[i]], TRANSITION_EXIT, time);
+        i++;
+      } else if (i == before.length || inside[j] < before[i]) {
+        listener.onTransition(entityId, fenceIds[inside[j]], TRANSITION_ENTER, time);
+        entered[j] = time;
+        dwelled[j] = reportDwell(entityId, inside[j], time, time);
+        j++;
+      } else {
+        entered[j] = previous.entered[i];
+        dwelled[j] = previous.dwelled[i] || reportDwell(entityId, inside[j], entered[j], time);
+        i++;
+        j++;
+      }
+    }
+    return inside.length == 0 ? null : new EntityState(inside, entered, dwelled, time);
+  }
+
+  private boolean reportDwell(String entityId, int fence, long entered, long time) {
+    if (time - entered < dwellTime) {
+      return false;
+    }
+    listener.onTransition(entityId, fenceIds[fence], TRANSITION_DWELL, time);
+    return true;
+  }
+
+  private static int stripe(String entityId) {
+    int hash = entityId.hashCode();
+    // spread the bits of the hash like HashMap does
+    return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+  }
+
+  /**
+   * Fences an entity is inside of, sorted by index, with the time it entered each of them.
+   */
+  private static final class EntityState {
+
+    final int[] fences;
+    final long[] entered;
+    final boolean[] dwelled;
+    final long time;
+
+    EntityState(int[] fences, long[] entered, boolean[] dwelled, long time) {
+      this.fences = fences;
+      this.entered = entered;
+      this.dwelled = dwelled;
+      this.time = time;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.mapbox.turf;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of integer ids in {@code [0, capacity)}, each with a double key. The position
+ * of every id is tracked so that its key can be changed or the id removed in logarithmic time,
+ * which lets simplification algorithms re-prioritize the neighbours of a removed vertex without
+ * rebuilding the heap.
+ *
+ * @since 7.11.0
+ */
+final class IndexedMinHeap {
+
+  private final int[] heap;
+  private final int[] positions;
+  private final double[] keys;
+  private int size;
+
+  IndexedMinHeap(int capacity) {
+    heap = new int[capacity];
+    positions = new int[capacity];
+    keys = new double[capacity];
+    Arrays.fill(positions, -1);
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  boolean contains(int id) {
+    return positions[id] >= 0;
+  }
+
+  /**
+   * Returns the id with the smallest key, the heap must not be empty.
+   */
+  int peek() {
+    return heap[0];
+  }
+
+  double key(int id) {
+    return keys[id];
+  }
+
+  /**
+   * Inserts the id, or updates its key if it's already in the heap.
+   */
+  void push(int id, double key) {
+    if (contains(id)) {
+      update(id, key);
+      return;
+    }
+    keys[id] = key;
+    heap[size] = id;
+    positions[id] = size;
+    siftUp(size++);
+  }
+
+  void update(int id, double key) {
+    double previous = keys[id];
+    keys[id] = key;
+    if (key < previous) {
+      siftUp(positions[id]);
+    } else {
+      siftDown(positions[id]);
+    }
+  }
+
+  /**
+   * Removes and returns the id with the smallest key, the heap must not be empty.
+   */
+  int poll() {
+    int id = heap[0];
+    remove(id);
+    return id;
+  }
+
+  void remove(int id) {
+    int position = positions[id];
+    if (position < 0) {
+      return;
+    }
+    positions[id] = -1;
+    size--;
+    if (position == size) {
+      return;
+    }
+    int last = heap[size];
+    heap[position] = last;
+    positions[last] = position;
+    siftUp(position);
+    siftDown(positions[last]);
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      positions[heap[i]] = -1;
+    }
+    size = 0;
+  }
+
+  private void siftUp(int position) {
+    int id = heap[position];
+    double key = keys[id];
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+      int parentId = heap[parent];
+      if (keys[parentId] <= key) {
+        break;
+      }
+      heap[position] = parentId;
+      positions[parentId] = position;
+      position = parent;
+    }
+    heap[position] = id;
+    positions[id] = position;
+  }
+
+  private void siftDown(int position) {
+    int id = heap[position];
+    double key = keys[id];
+    int half = size >>> 1;
+    while (position < half) {
+      int child = 2 * position + 1;
+      int right = child + 1;
+      if (right < size && keys[heap[right]] < keys[heap[child]]) {
+        child = right;
+      }
+      int childId = heap[child];
+      if (key <= keys[childId]) {
+        break;
+      }
+      heap[position] = childId;
+      positions[childId] = position;
+      position = child;
+    }
+    heap[position] = id;
+    positions[id] = position;
+  }
+}
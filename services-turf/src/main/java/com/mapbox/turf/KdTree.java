@@ -0,0 +1,639 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A static spatial index over a fixed set of points, built once and queried many times. Points are
+ * stored in a flat {@code double} array that is sorted in place into a KD-tree, so building the
+ * index costs {@code O(n log n)} and no per-point objects are kept around.
+ * <p>
+ * Nearest neighbour and radius queries are geodesic: they return the same results as a linear
+ * scan with {@link TurfMeasurement#distance(Point, Point, String)}, but prune whole branches of
+ * the tree using a great circle lower bound on the distance to each branch's bounding box.
+ * {@link TurfClassification#nearestPoint(Point, List)} remains the brute-force alternative for
+ * small or one-off inputs.
+ * </p>
+ * <p>
+ * Query results are expressed as indices into the original input, which makes it easy to map them
+ * back onto whatever data the points were built from.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class KdTree {
+
+  private static final int DEFAULT_NODE_SIZE = 64;
+
+  /**
+   * Number of points below which a parallel build sorts the remaining subtree on a single thread.
+   */
+  private static final int PARALLEL_THRESHOLD = 8192;
+
+  private final int nodeSize;
+  private final int[] ids;
+  private final double[] coords;
+  private final double[] bounds;
+  @Nullable
+  private final List<Point> points;
+  @Nullable
+  private final int[] positions;
+
+  private KdTree(@NonNull double[] coords, @Nullable List<Point> points, int nodeSize,
+                 @Nullable ForkJoinPool pool) {
+    this.nodeSize = nodeSize;
+    this.coords = coords;
+    this.points = points;
+    int size = coords.length / 2;
+    this.ids = new int[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = i;
+    }
+    if (pool == null || size <= PARALLEL_THRESHOLD) {
+      sort(0, size - 1, 0);
+    } else {
+      pool.invoke(new SortTask(0, size - 1, 0));
+    }
+
+    bounds = new double[] {
+      Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+    for (int i = 0; i < size; i++) {
+      bounds[0] = Math.min(bounds[0], coords[2 * i]);
+      bounds[1] = Math.min(bounds[1], coords[2 * i + 1]);
+      bounds[2] = Math.max(bounds[2], coords[2 * i]);
+      bounds[3] = Math.max(bounds[3], coords[2 * i + 1]);
+    }
+    if (points == null) {
+      positions = new int[size];
+      for (int i = 0; i < size; i++) {
+        positions[ids[i]] = i;
+      }
+    } else {
+      positions = null;
+    }
+  }
+
+  /**
+   * Builds an index over the provided list of {@link Point}s.
+   *
+   * @param points the points to index, the list isn't modified
+   * @return a new {@link KdTree} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static KdTree fromPoints(@NonNull List<Point> points) {
+    double[] coords = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      Point point = points.get(i);
+      coords[i * 2] = point.longitude();
+      coords[i * 2 + 1] = point.latitude();
+    }
+    return new KdTree(coords, new ArrayList<>(points), DEFAULT_NODE_SIZE, null);
+  }
+
+  /**
+   * Builds an index over a flat array of coordinates: [lng1, lat1, lng2, lat2, ...], such as the
+   * one returned by {@link com.mapbox.geojson.FlattenListOfPoints#getFlattenLngLatArray()}.
+   *
+   * @param flattenLngLat the coordinates to index, the array is copied and isn't modified
+   * @return a new {@link KdTree} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static KdTree fromLngLats(@NonNull double[] flattenLngLat) {
+    return fromLngLats(flattenLngLat, DEFAULT_NODE_SIZE);
+  }
+
+  /**
+   * Builds an index over a flat array of coordinates: [lng1, lat1, lng2, lat2, ...].
+   *
+   * @param flattenLngLat the coordinates to index, the array is copied and isn't modified
+   * @param nodeSize      the number of points stored in a leaf of the tree. Smaller leaves make
+   *                      queries faster at the cost of a slower build, the default is 64
+   * @return a new {@link KdTree} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static KdTree fromLngLats(@NonNull double[] flattenLngLat,
+                                   @IntRange(from = 1) int nodeSize) {
+    return fromLngLats(flattenLngLat, nodeSize, null);
+  }
+
+  /**
+   * Builds an index over a flat array of coordinates: [lng1, lat1, lng2, lat2, ...], sorting the
+   * independent branches of large trees in parallel.
+   *
+   * @param flattenLngLat the coordinates to index, the array is copied and isn't modified
+   * @param nodeSize      the number of points stored in a leaf of the tree. Smaller leaves make
+   *                      queries faster at the cost of a slower build, the default is 64
+   * @param pool          the pool sorting the tree, or null to build it on the calling thread
+   * @return a new {@link KdTree} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static KdTree fromLngLats(@NonNull double[] flattenLngLat,
+                                   @IntRange(from = 1) int nodeSize,
+                                   @Nullable ForkJoinPool pool) {
+    if (flattenLngLat.length % 2 != 0) {
+      throw new TurfException("A flat coordinate array must contain an even number of values.");
+    }
+    if (nodeSize < 1) {
+      throw new TurfException("The node size of a KdTree must be at least 1.");
+    }
+    return new KdTree(Arrays.copyOf(flattenLngLat, flattenLngLat.length), null, nodeSize, pool);
+  }
+
+  /**
+   * Returns the number of points held by this index.
+   *
+   * @return the number of indexed points
+   * @since 7.11.0
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Finds the point closest to the provided coordinate. This calculation is geodesic.
+   *
+   * @param longitude longitude of the reference coordinate
+   * @param latitude  latitude of the reference coordinate
+   * @return the index of the closest point in the original input, or -1 if the index is empty
+   * @since 7.11.0
+   */
+  public int nearest(double longitude, double latitude) {
+    int[] result = kNearest(longitude, latitude, 1);
+    return result.length > 0 ? result[0] : -1;
+  }
+
+  /**
+   * Finds the point closest to the provided reference point. This calculation is geodesic.
+   *
+   * @param targetPoint the reference point
+   * @return the closest point, or null if the index is empty
+   * @since 7.11.0
+   */
+  @Nullable
+  public Point nearest(@NonNull Point targetPoint) {
+    int index = nearest(targetPoint.longitude(), targetPoint.latitude());
+    return index >= 0 ? point(index) : null;
+  }
+
+  /**
+   * Finds the {@code k} points closest to the provided coordinate. This calculation is geodesic.
+   *
+   * @param longitude longitude of the reference coordinate
+   * @param latitude  latitude of the reference coordinate
+   * @param k         maximum number of points to return
+   * @return indices of the closest points in the original input, ordered from the closest to the
+   *   farthest
+   * @since 7.11.0
+   */
+  @NonNull
+  public int[] kNearest(double longitude, double latitude, @IntRange(from = 0) int k) {
+    Search search = new Search(longitude, latitude, Math.min(k, ids.length), Double.MAX_VALUE);
+    if (search.capacity > 0) {
+      search(search, 0, ids.length - 1, 0, bounds[0], bounds[1], bounds[2], bounds[3]);
+    }
+    return search.sortedIds();
+  }
+
+  /**
+   * Finds the {@code k} points closest to the provided reference point. This calculation is
+   * geodesic.
+   *
+   * @param targetPoint the reference point
+   * @param k           maximum number of points to return
+   * @return the closest points, ordered from the closest to the farthest
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Point> kNearest(@NonNull Point targetPoint, @IntRange(from = 0) int k) {
+    return points(kNearest(targetPoint.longitude(), targetPoint.latitude(), k));
+  }
+
+  /**
+   * Finds all the points within the given distance of the provided coordinate. This calculation
+   * is geodesic.
+   *
+   * @param longitude longitude of the reference coordinate
+   * @param latitude  latitude of the reference coordinate
+   * @param radius    the maximum distance from the reference coordinate, inclusive
+   * @param units     one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return indices of the matching points in the original input, ordered from the closest to
+   *   the farthest
+   * @since 7.11.0
+   */
+  @NonNull
+  public int[] withinRadius(double longitude, double latitude, double radius,
+                            @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double radians = TurfConversion.lengthToRadians(radius, units);
+    if (radians < 0 || ids.length == 0) {
+      return new int[0];
+    }
+    double maxHaverSin = radians >= Math.PI ? 1 : haverSin(radians);
+    Search search = new Search(longitude, latitude, ids.length, maxHaverSin);
+    search(search, 0, ids.length - 1, 0, bounds[0], bounds[1], bounds[2], bounds[3]);
+    return search.sortedIds();
+  }
+
+  /**
+   * Finds all the points within the given distance of the provided reference point. This
+   * calculation is geodesic.
+   *
+   * @param targetPoint the reference point
+   * @param radius      the maximum distance from the reference point, inclusive
+   * @param units       one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the matching points, ordered from the closest to the farthest
+   * @since 7.11.0
+   */
+  @NonNull
+  public List<Point> withinRadius(@NonNull Point targetPoint, double radius,
+                                  @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return points(withinRadius(targetPoint.longitude(), targetPoint.latitude(), radius, units));
+  }
+
+  /**
+   * Finds all the points inside of an axis aligned bounding box. The box is compared against the
+   * raw coordinates, so it doesn't wrap around the antimeridian.
+   *
+   * @param west  the minimum longitude of the box
+   * @param south the minimum latitude of the box
+   * @param east  the maximum longitude of the box
+   * @param north the maximum latitude of the box
+   * @return indices of the matching points in the original input, in no particular order
+   * @since 7.11.0
+   */
+  @NonNull
+  public int[] range(double west, double south, double east, double north) {
+    int[] result = new int[16];
+    int count = 0;
+    int[] stack = new int[64];
+    int top = 0;
+    if (ids.length > 0) {
+      stack[top++] = 0;
+      stack[top++] = ids.length - 1;
+      stack[top++] = 0;
+    }
+    while (top > 0) {
+      final int axis = stack[--top];
+      int right = stack[--top];
+      int left = stack[--top];
+
+      if (right - left <= nodeSize) {
+        for (int i = left; i <= right; i++) {
+          double x = coords[2 * i];
+          double y = coords[2 * i + 1];
+          if (x >= west && x <= east && y >= south && y <= north) {
+            if (count == result.length) {
+              result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = ids[i];
+          }
+        }
+        continue;
+      }
+
+      int middle = (left + right) >> 1;
+      double x = coords[2 * middle];
+      double y = coords[2 * middle + 1];
+      if (x >= west && x <= east && y >= south && y <= north) {
+        if (count == result.length) {
+          result = Arrays.copyOf(result, count * 2);
+        }
+        result[count++] = ids[middle];
+      }
+
+      if (top + 6 > stack.length) {
+        stack = Arrays.copyOf(stack, stack.length * 2);
+      }
+      if (axis == 0 ? west <= x : south <= y) {
+        stack[top++] = left;
+        stack[top++] = middle - 1;
+        stack[top++] = 1 - axis;
+      }
+      if (axis == 0 ? east >= x : north >= y) {
+        stack[top++] = middle + 1;
+        stack[top++] = right;
+        stack[top++] = 1 - axis;
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  /**
+   * Returns the indexed point found at the given position of the original input.
+   *
+   * @param index position of the point in the original input
+   * @return the original {@link Point} if the index was built from points, otherwise a new
+   *   {@link Point} with the indexed coordinate
+   * @since 7.11.0
+   */
+  @NonNull
+  public Point point(int index) {
+    if (points != null) {
+      return points.get(index);
+    }
+    int position = positions[index];
+    return Point.fromLngLat(coords[2 * position], coords[2 * position + 1]);
+  }
+
+  private List<Point> points(int[] indices) {
+    if (indices.length == 0) {
+      return Collections.emptyList();
+    }
+    List<Point> result = new ArrayList<>(indices.length);
+    for (int index : indices) {
+      result.add(point(index));
+    }
+    return result;
+  }
+
+  private void search(Search search, int left, int right, int axis,
+                      double minLng, double minLat, double maxLng, double maxLat) {
+    if (boxHaverSin(search, minLng, minLat, maxLng, maxLat) > search.threshold()) {
+      return;
+    }
+    if (right - left <= nodeSize) {
+      for (int i = left; i <= right; i++) {
+        search.offer(ids[i], coords[2 * i], coords[2 * i + 1]);
+      }
+      return;
+    }
+
+    int middle = (left + right) >> 1;
+    double split = coords[2 * middle + axis];
+    search.offer(ids[middle], coords[2 * middle], coords[2 * middle + 1]);
+
+    // Visit the half containing the query first so that the threshold shrinks faster.
+    boolean lowerFirst = (axis == 0 ? search.lng : search.lat) <= split;
+    for (int pass = 0; pass < 2; pass++) {
+      if (lowerFirst == (pass == 0)) {
+        if (left <= middle - 1) {
+          search(search, left, middle - 1, 1 - axis, minLng, minLat,
+            axis == 0 ? split : maxLng, axis == 1 ? split : maxLat);
+        }
+      } else if (middle + 1 <= right) {
+        search(search, middle + 1, right, 1 - axis,
+          axis == 0 ? split : minLng, axis == 1 ? split : minLat, maxLng, maxLat);
+      }
+    }
+  }
+
+  /**
+   * Lower bound of the haversine of the angular distance between the query and any location in
+   * the box.
+   */
+  private static double boxHaverSin(Search search, double minLng, double minLat,
+                                    double maxLng, double maxLat) {
+    double lng = search.lng;
+    double lat = search.lat;
+    if (lng >= minLng && lng <= maxLng) {
+      if (lat < minLat) {
+        return haverSin(degreesToRadians(lat - minLat));
+      }
+      if (lat > maxLat) {
+        return haverSin(degreesToRadians(lat - maxLat));
+      }
+      return 0;
+    }
+
+    // The query is east or west of the box, the closest location in the box lies on the nearest
+    // meridian at the latitude where the great circle through the query is perpendicular to it.
+    double haverSinLng = Math.min(haverSin(degreesToRadians(lng - minLng)),
+      haverSin(degreesToRadians(lng - maxLng)));
+    double cosLng = 1 - 2 * haverSinLng;
+    double extremumLat;
+    if (cosLng <= 0) {
+      extremumLat = lat > 0 ? 90 : -90;
+    } else {
+      extremumLat = Math.toDegrees(Math.atan(Math.tan(Math.toRadians(lat)) / cosLng));
+    }
+    if (extremumLat > minLat && extremumLat < maxLat) {
+      return haverSinDistance(haverSinLng, search.cosLat, lat, extremumLat);
+    }
+    return Math.min(haverSinDistance(haverSinLng, search.cosLat, lat, minLat),
+      haverSinDistance(haverSinLng, search.cosLat, lat, maxLat));
+  }
+
+  private static double haverSinDistance(double haverSinLng, double cosLat1,
+                                         double lat1, double lat2) {
+    return cosLat1 * Math.cos(degreesToRadians(lat2)) * haverSinLng
+      + haverSin(degreesToRadians(lat1 - lat2));
+  }
+
+  private static double haverSin(double radians) {
+    double sin = Math.sin(radians / 2);
+    return sin * sin;
+  }
+
+  private void sort(int left, int right, int axis) {
+    if (right - left <= nodeSize) {
+      return;
+    }
+    int middle = (left + right) >> 1;
+    select(middle, left, right, axis);
+    sort(left, middle - 1, 1 - axis);
+    sort(middle + 1, right, 1 - axis);
+  }
+
+  /**
+   * Partially sorts the range so that the k-th element is in place, with smaller values before it
+   * and larger values after it. Uses the Floyd-Rivest selection algorithm.
+   */
+  private void select(int k, int left, int right, int axis) {
+    while (right > left) {
+      if (right - left > 600) {
+        int n = right - left + 1;
+        int m = k - left + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * (m - n / 2 < 0 ? -1 : 1);
+        int newLeft = (int) Math.max(left, Math.floor(k - m * s / n + sd));
+        int newRight = (int) Math.min(right, Math.floor(k + (n - m) * s / n + sd));
+        select(k, newLeft, newRight, axis);
+      }
+
+      double pivot = coords[2 * k + axis];
+      int i = left;
+      int j = right;
+
+      swap(left, k);
+      if (coords[2 * right + axis] > pivot) {
+        swap(left, right);
+      }
+
+      while (i < j) {
+        swap(i, j);
+        i++;
+        j--;
+        while (coords[2 * i + axis] < pivot) {
+          i++;
+        }
+        while (coords[2 * j + axis] > pivot) {
+          j--;
+        }
+      }
+
+      if (coords[2 * left + axis] == pivot) {
+        swap(left, j);
+      } else {
+        j++;
+        swap(j, right);
+      }
+
+      if (j <= k) {
+        left = j + 1;
+      }
+      if (k <= j) {
+        right = j - 1;
+      }
+    }
+  }
+
+  private void swap(int i, int j) {
+    int id = ids[i];
+    ids[i] = ids[j];
+    ids[j] = id;
+    double x = coords[2 * i];
+    coords[2 * i] = coords[2 * j];
+    coords[2 * j] = x;
+    double y = coords[2 * i + 1];
+    coords[2 * i + 1] = coords[2 * j + 1];
+    coords[2 * j + 1] = y;
+  }
+
+  /**
+   * Sorts a subtree like {@link #sort(int, int, int)}, forking the two halves of large ranges.
+   * The halves are disjoint ranges of the arrays, so they can be sorted concurrently.
+   */
+  private final class SortTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int left;
+    private final int right;
+    private final int axis;
+
+    SortTask(int left, int right, int axis) {
+      this.left = left;
+      this.right = right;
+      this.axis = axis;
+    }
+
+    @Override
+    protected void compute() {
+      if (right - left <= PARALLEL_THRESHOLD) {
+        sort(left, right, axis);
+        return;
+      }
+      int middle = (left + right) >> 1;
+      select(middle, left, right, axis);
+      invokeAll(new SortTask(left, middle - 1, 1 - axis),
+        new SortTask(middle + 1, right, 1 - axis));
+    }
+  }
+
+  /**
+   * Bounded max-heap of candidates keyed by the haversine of their distance to the query.
+   */
+  private static final class Search {
+
+    private final double lng;
+    private final double lat;
+    private final double cosLat;
+    private final double maxHaverSin;
+    private final int capacity;
+    private int size;
+    private int[] heapIds;
+    private double[] heapValues;
+
+    Search(double lng, double lat, int capacity, double maxHaverSin) {
+      this.lng = lng;
+      this.lat = lat;
+      this.cosLat = Math.cos(degreesToRadians(lat));
+      this.maxHaverSin = maxHaverSin;
+      this.capacity = capacity;
+      int initial = Math.max(1, Math.min(capacity, 64));
+      this.heapIds = new int[initial];
+      this.heapValues = new double[initial];
+    }
+
+    double threshold() {
+      return size == capacity ? heapValues[0] : maxHaverSin;
+    }
+
+    void offer(int id, double pointLng, double pointLat) {
+      double value = haverSinDistance(haverSin(degreesToRadians(pointLng - lng)), cosLat,
+        lat, pointLat);
+      if (value > maxHaverSin) {
+        return;
+      }
+      if (size < capacity) {
+        if (size == heapIds.length) {
+          heapIds = Arrays.copyOf(heapIds, Math.min(capacity, size * 2));
+          heapValues = Arrays.copyOf(heapValues, heapIds.length);
+        }
+        int i = size++;
+        while (i > 0) {
+          int parent = (i - 1) >> 1;
+          if (heapValues[parent] >= value) {
+            break;
+          }
+          heapIds[i] = heapIds[parent];
+          heapValues[i] = heapValues[parent];
+          i = parent;
+        }
+        heapIds[i] = id;
+        heapValues[i] = value;
+      } else if (value < heapValues[0]) {
+        siftDown(id, value, size);
+      }
+    }
+
+    private void siftDown(int id, double value, int heapSize) {
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= heapSize) {
+          break;
+        }
+        if (child + 1 < heapSize && heapValues[child + 1] > heapValues[child]) {
+          child++;
+        }
+        if (heapValues[child] <= value) {
+          break;
+        }
+        heapIds[i] = heapIds[child];
+        heapValues[i] = heapValues[child];
+        i = child;
+      }
+      heapIds[i] = id;
+      heapValues[i] = value;
+    }
+
+    int[] sortedIds() {
+      // Heap sort in place: repeatedly move the farthest candidate to the end.
+      int[] result = new int[size];
+      for (int end = size - 1; end >= 0; end--) {
+        result[end] = heapIds[0];
+        siftDown(heapIds[end], heapValues[end], end);
+      }
+      return result;
+    }
+  }
+}
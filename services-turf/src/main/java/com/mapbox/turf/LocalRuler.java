@@ -0,0 +1,297 @@
+package com.mapbox.turf;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Size;
+
+import java.util.Arrays;
+
+/**
+ * Fast approximations of common measurements for coordinates that lie close to a given latitude.
+ * The ellipsoid is locally projected onto a plane once, when the ruler is created, so that
+ * subsequent calls only need a few multiplications instead of the trigonometric functions used by
+ * {@link TurfMeasurement}.
+ * <p>
+ * The scale factors are derived from the WGS84 ellipsoid, which makes the results more precise
+ * than the spherical Haversine formula for distances up to a few hundred kilometers; the error
+ * grows with the distance from the latitude the ruler was created for. Use
+ * {@link TurfMeasurement} for anything that spans large areas or crosses the poles.
+ * </p>
+ * <p>
+ * All methods work on raw coordinates, lines are represented as flat arrays of coordinates:
+ * [lng1, lat1, lng2, lat2, ...].
+ * </p>
+ *
+ * @see <a href="https://github.com/mapbox/cheap-ruler">cheap-ruler</a>
+ * @since 7.11.0
+ */
+public final class LocalRuler {
+
+  // WGS84 equatorial radius in kilometers and flattening
+  private static final double EQUATORIAL_RADIUS = 6378.137;
+  private static final double FLATTENING = 1 / 298.257223563;
+  private static final double SQUARED_ECCENTRICITY = FLATTENING * (2 - FLATTENING);
+  private static final double RAD = Math.PI / 180;
+
+  private final double kx;
+  private final double ky;
+
+  private LocalRuler(double latitude, @NonNull String units) {
+    double multiplier = RAD
+      * TurfConversion.convertLength(EQUATORIAL_RADIUS, TurfConstants.UNIT_KILOMETERS, units);
+    double cosLat = Math.cos(latitude * RAD);
+    double w2 = 1 / (1 - SQUARED_ECCENTRICITY * (1 - cosLat * cosLat));
+    double w = Math.sqrt(w2);
+    // scale factors based on the normal and meridional radius of curvature
+    kx = multiplier * w * cosLat;
+    ky = multiplier * w * w2 * (1 - SQUARED_ECCENTRICITY);
+  }
+
+  /**
+   * Creates a ruler for measurements around the provided latitude, in
+   * {@link TurfConstants#UNIT_DEFAULT} units.
+   *
+   * @param latitude the latitude the measured coordinates are close to
+   * @return a new {@link LocalRuler} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static LocalRuler fromLatitude(@FloatRange(from = -90, to = 90) double latitude) {
+    return new LocalRuler(latitude, TurfConstants.UNIT_DEFAULT);
+  }
+
+  /**
+   * Creates a ruler for measurements around the provided latitude.
+   *
+   * @param latitude the latitude the measured coordinates are close to
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}, used
+   *                 for both the input and output distances of this ruler
+   * @return a new {@link LocalRuler} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static LocalRuler fromLatitude(@FloatRange(from = -90, to = 90) double latitude,
+                                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return new LocalRuler(latitude, units);
+  }
+
+  /**
+   * Creates a ruler for measurements inside of a bounding box, using its middle latitude.
+   *
+   * @param bbox  a bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a new {@link LocalRuler} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static LocalRuler fromBbox(@NonNull @Size(min = 4) double[] bbox,
+                                    @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return new LocalRuler((bbox[1] + bbox[3]) / 2, units);
+  }
+
+  /**
+   * Calculates the distance between two coordinates.
+   *
+   * @param longitude1 longitude of the first coordinate
+   * @param latitude1  latitude of the first coordinate
+   * @param longitude2 longitude of the second coordinate
+   * @param latitude2  latitude of the second coordinate
+   * @return the distance in the units of this ruler
+   * @since 7.11.0
+   */
+  public double distance(double longitude1, double latitude1,
+                         double longitude2, double latitude2) {
+    double dx = wrap(longitude1 - longitude2) * kx;
+    double dy = (latitude1 - latitude2) * ky;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * Calculates the bearing from the first coordinate to the second one.
+   *
+   * @param longitude1 longitude of the first coordinate
+   * @param latitude1  latitude of the first coordinate
+   * @param longitude2 longitude of the second coordinate
+   * @param latitude2  latitude of the second coordinate
+   * @return bearing in decimal degrees, between -180 and 180 degrees (positive clockwise)
+   * @since 7.11.0
+   */
+  public double bearing(double longitude1, double latitude1,
+                        double longitude2, double latitude2) {
+    double dx = wrap(longitude2 - longitude1) * kx;
+    double dy = (latitude2 - latitude1) * ky;
+    return Math.atan2(dx, dy) / RAD;
+  }
+
+  /**
+   * Calculates the coordinate found at the given distance and bearing from a starting coordinate.
+   *
+   * @param longitude longitude of the starting coordinate
+   * @param latitude  latitude of the starting coordinate
+   * @param distance  distance from the starting coordinate, in the units of this ruler
+   * @param bearing   ranging from -180 to 180 in decimal degrees
+   * @param out       array the destination longitude and latitude are written to
+   * @param offset    index in the output array where the longitude is written, the latitude is
+   *                  written right after it
+   * @since 7.11.0
+   */
+  public void destination(double longitude, double latitude, double distance, double bearing,
+                          @NonNull double[] out, int offset) {
+    double radians = bearing * RAD;
+    out[offset] = longitude + Math.sin(radians) * distance / kx;
+    out[offset + 1] = latitude + Math.cos(radians) * distance / ky;
+  }
+
+  /**
+   * Calculates the length of a line.
+   *
+   * @param flattenLngLat the line as a flat array of coordinates
+   * @return the length of the line in the units of this ruler
+   * @since 7.11.0
+   */
+  public double length(@NonNull double[] flattenLngLat) {
+    double total = 0;
+    for (int i = 2; i + 1 < flattenLngLat.length; i += 2) {
+      total += distance(flattenLngLat[i - 2], flattenLngLat[i - 1],
+        flattenLngLat[i], flattenLngLat[i + 1]);
+    }
+    return total;
+  }
+
+  /**
+   * Finds the closest location on a line to the given coordinate.
+   *
+   * @param flattenLngLat the line as a flat array of coordinates, made up of at least 2
+   *                      coordinates
+   * @param longitude     longitude of the coordinate to snap
+   * @param latitude      latitude of the coordinate to snap
+   * @param out           array of at least 3 elements receiving the longitude and latitude of the
+   *                      closest location followed by its position along the closest segment,
+   *                      between 0 (segment start) and 1 (segment end)
+   * @return the index of the first coordinate of the closest segment
+   * @throws TurfException if the line is made up of less than 2 coordinates
+   * @since 7.11.0
+   */
+  public int pointOnLine(@NonNull double[] flattenLngLat, double longitude, double latitude,
+                         @NonNull @Size(min = 3) double[] out) {
+    if (flattenLngLat.length < 4) {
+      throw new TurfException("LocalRuler pointOnLine requires a line made up of at least 2 "
+        + "coordinates.");
+    }
+    double minDistance = Double.POSITIVE_INFINITY;
+    int minIndex = 0;
+    for (int i = 0; i + 3 < flattenLngLat.length; i += 2) {
+      double x = flattenLngLat[i];
+      double y = flattenLngLat[i + 1];
+      double dx = wrap(flattenLngLat[i + 2] - x) * kx;
+      double dy = (flattenLngLat[i + 3] - y) * ky;
+      double t = 0;
+
+      if (dx != 0 || dy != 0) {
+        t = (wrap(longitude - x) * kx * dx + (latitude - y) * ky * dy) / (dx * dx + dy * dy);
+        if (t > 1) {
+          x = flattenLngLat[i + 2];
+          y = flattenLngLat[i + 3];
+        } else if (t > 0) {
+          x += dx / kx * t;
+          y += dy / ky * t;
+        }
+      }
+
+      dx = wrap(longitude - x) * kx;
+      dy = (latitude - y) * ky;
+      double squaredDistance = dx * dx + dy * dy;
+      if (squaredDistance < minDistance) {
+        minDistance = squaredDistance;
+        minIndex = i / 2;
+        out[0] = x;
+        out[1] = y;
+        out[2] = Math.max(0, Math.min(1, t));
+      }
+    }
+    return minIndex;
+  }
+
+  /**
+   * Returns the part of a line in-between two distances along it.
+   *
+   * @param flattenLngLat the line as a flat array of coordinates
+   * @param startDist     distance along the line to the starting point, in the units of this
+   *                      ruler
+   * @param stopDist      distance along the line to the ending point, in the units of this ruler
+   * @return the sliced line as a flat array of coordinates, empty if the start distance is beyond
+   *   the line
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] lineSliceAlong(@NonNull double[] flattenLngLat, double startDist,
+                                 double stopDist) {
+    double[] slice = new double[flattenLngLat.length + 4];
+    int size = 0;
+    double sum = 0;
+    for (int i = 0; i + 3 < flattenLngLat.length; i += 2) {
+      double x0 = flattenLngLat[i];
+      double y0 = flattenLngLat[i + 1];
+      double x1 = flattenLngLat[i + 2];
+      double y1 = flattenLngLat[i + 3];
+      double segment = distance(x0, y0, x1, y1);
+      sum += segment;
+
+      if (sum > startDist && size == 0) {
+        size = interpolate(x0, y0, x1, y1, fraction(startDist - (sum - segment), segment),
+          slice, size);
+      }
+      if (sum >= stopDist) {
+        size = interpolate(x0, y0, x1, y1, fraction(stopDist - (sum - segment), segment),
+          slice, size);
+        return Arrays.copyOf(slice, size);
+      }
+      if (sum > startDist) {
+        slice[size++] = x1;
+        slice[size++] = y1;
+      }
+    }
+    return Arrays.copyOf(slice, size);
+  }
+
+  /**
+   * Expands a bounding box by the given distance on each side.
+   *
+   * @param bbox   a bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @param buffer distance to add on each side, in the units of this ruler
+   * @return a new bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] bufferBBox(@NonNull @Size(min = 4) double[] bbox, double buffer) {
+    double vertical = buffer / ky;
+    double horizontal = buffer / kx;
+    return new double[] {
+      bbox[0] - horizontal,
+      bbox[1] - vertical,
+      bbox[2] + horizontal,
+      bbox[3] + vertical
+    };
+  }
+
+  private static double fraction(double distance, double segment) {
+    return segment > 0 ? distance / segment : 0;
+  }
+
+  private static int interpolate(double x0, double y0, double x1, double y1, double t,
+                                 double[] out, int offset) {
+    out[offset] = x0 + wrap(x1 - x0) * t;
+    out[offset + 1] = y0 + (y1 - y0) * t;
+    return offset + 2;
+  }
+
+  private static double wrap(double degrees) {
+    while (degrees < -180) {
+      degrees += 360;
+    }
+    while (degrees > 180) {
+      degrees -= 360;
+    }
+    return degrees;
+  }
+}
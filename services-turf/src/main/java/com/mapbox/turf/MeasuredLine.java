@@ -0,0 +1,231 @@
+package com.mapbox.turf;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link LineString} paired with the cumulative distance from its first coordinate to each of
+ * its vertices. The distances are measured once when the instance is created, afterwards every
+ * lookup by distance is a binary search instead of a walk from the start of the line.
+ * <p>
+ * Use this class when the same line is queried many times, for example when asking for the
+ * position at a given distance along a route. The results are the same as the ones of
+ * {@link TurfMeasurement#along(LineString, double, String)} and
+ * {@link TurfMisc#lineSliceAlong(LineString, double, double, String)}.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class MeasuredLine {
+
+  private final double[] coords;
+  private final double[] cumulativeRadians;
+
+  private MeasuredLine(@NonNull double[] coords) {
+    this.coords = coords;
+    int size = coords.length / 2;
+    cumulativeRadians = new double[size];
+    for (int i = 1; i < size; i++) {
+      cumulativeRadians[i] = cumulativeRadians[i - 1] + TurfMeasurement.distanceRadians(
+        coords[2 * (i - 1)], coords[2 * (i - 1) + 1], coords[2 * i], coords[2 * i + 1]);
+    }
+  }
+
+  /**
+   * Measures the provided {@link LineString}.
+   *
+   * @param lineString the line to measure
+   * @return a new {@link MeasuredLine} instance
+   * @throws TurfException if the line doesn't contain any coordinate
+   * @since 7.11.0
+   */
+  @NonNull
+  public static MeasuredLine fromLineString(@NonNull LineString lineString) {
+    return fromLngLats(lineString.flattenCoordinates().getFlattenLngLatArray());
+  }
+
+  /**
+   * Measures a line represented by a flat array of coordinates: [lng1, lat1, lng2, lat2, ...].
+   *
+   * @param flattenLngLat the coordinates of the line, the array is stored as is and must not be
+   *                      modified afterwards
+   * @return a new {@link MeasuredLine} instance
+   * @throws TurfException if the array doesn't contain any coordinate
+   * @since 7.11.0
+   */
+  @NonNull
+  public static MeasuredLine fromLngLats(@NonNull double[] flattenLngLat) {
+    if (flattenLngLat.length < 2 || flattenLngLat.length % 2 != 0) {
+      throw new TurfException("A MeasuredLine requires a flat coordinate array made up of at "
+        + "least 1 coordinate.");
+    }
+    return new MeasuredLine(flattenLngLat);
+  }
+
+  /**
+   * Returns the number of vertices of the line.
+   *
+   * @return the number of coordinates
+   * @since 7.11.0
+   */
+  public int size() {
+    return cumulativeRadians.length;
+  }
+
+  /**
+   * Returns the total length of the line.
+   *
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return length of the line in the units specified
+   * @since 7.11.0
+   */
+  public double length(@NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return distanceAt(cumulativeRadians.length - 1, units);
+  }
+
+  /**
+   * Returns the distance along the line from its first coordinate to the vertex at the provided
+   * index.
+   *
+   * @param index index of the vertex
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the distance to the vertex in the units specified
+   * @since 7.11.0
+   */
+  public double distanceAt(int index, @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return TurfConversion.radiansToLength(cumulativeRadians[index], units);
+  }
+
+  /**
+   * Returns the index of the first vertex whose distance along the line is equal to or greater
+   * than the provided distance. Values past the end of the line return {@link #size()}.
+   *
+   * @param distance distance along the line
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return index of the first vertex at or beyond the distance
+   * @since 7.11.0
+   */
+  public int indexAt(double distance, @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return lowerBound(TurfConversion.lengthToRadians(distance, units));
+  }
+
+  /**
+   * Returns the point at the specified distance along the line.
+   *
+   * @param distance distance along the line
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link Point} on the line at the distance from its origin, or the last coordinate
+   *   of the line if the distance is longer than the line
+   * @see TurfMeasurement#along(LineString, double, String)
+   * @since 7.11.0
+   */
+  @NonNull
+  public Point along(@FloatRange(from = 0) double distance,
+                     @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    int last = cumulativeRadians.length - 1;
+    int index = lowerBound(TurfConversion.lengthToRadians(distance, units));
+    if (index > last || distance >= distanceAt(last, units)) {
+      return point(last);
+    }
+    double overshot = distance - distanceAt(index, units);
+    if (overshot == 0 || index == 0) {
+      return point(index);
+    }
+    return interpolate(index, overshot, units);
+  }
+
+  /**
+   * Returns the subsection of the line in-between two distances along it.
+   *
+   * @param startDist distance along the line to starting point
+   * @param stopDist  distance along the line to ending point
+   * @param units     one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return sliced line
+   * @throws TurfException signals that a Turf exception of some sort has occurred.
+   * @see TurfMisc#lineSliceAlong(LineString, double, double, String)
+   * @since 7.11.0
+   */
+  @NonNull
+  public LineString lineSliceAlong(@FloatRange(from = 0) double startDist,
+                                   @FloatRange(from = 0) double stopDist,
+                                   @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    int size = cumulativeRadians.length;
+    if (size < 2) {
+      throw new TurfException("Turf lineSlice requires a LineString Geometry made up of "
+        + "at least 2 coordinates. The LineString passed in only contains " + size + ".");
+    } else if (startDist == stopDist) {
+      throw new TurfException("Start and stop distance in Turf lineSliceAlong "
+        + "cannot equal each other.");
+    }
+
+    // Vertices closer than both distances don't contribute to the slice, skip straight to the
+    // first one that does.
+    int first = Math.min(size - 1, Math.max(0,
+      lowerBound(TurfConversion.lengthToRadians(Math.min(startDist, stopDist), units)) - 1));
+
+    List<Point> slice = new ArrayList<>();
+    double travelled = 0;
+    for (int i = first; i < size; i++) {
+      travelled = distanceAt(i, units);
+
+      if (startDist >= travelled && i == size - 1) {
+        break;
+      } else if (travelled > startDist && slice.size() == 0) {
+        slice.add(interpolate(i, startDist - travelled, units));
+      }
+
+      if (travelled >= stopDist) {
+        double overshot = stopDist - travelled;
+        if (overshot == 0) {
+          slice.add(point(i));
+          return LineString.fromLngLats(slice);
+        }
+        slice.add(interpolate(i, overshot, units));
+        return LineString.fromLngLats(slice);
+      }
+
+      if (travelled >= startDist) {
+        slice.add(point(i));
+      }
+    }
+
+    if (travelled < startDist) {
+      throw new TurfException("Start position is beyond line");
+    }
+    return LineString.fromLngLats(slice);
+  }
+
+  /**
+   * Moves from the vertex at the index towards the previous vertex, a negative overshot moves
+   * back along the segment.
+   */
+  private Point interpolate(int index, double overshot, String units) {
+    Point vertex = point(index);
+    double direction = TurfMeasurement.bearing(vertex, point(index - 1)) - 180;
+    return TurfMeasurement.destination(vertex, overshot, direction, units);
+  }
+
+  private Point point(int index) {
+    return Point.fromLngLat(coords[2 * index], coords[2 * index + 1]);
+  }
+
+  private int lowerBound(double radians) {
+    int low = 0;
+    int high = cumulativeRadians.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (cumulativeRadians[middle] < radians) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
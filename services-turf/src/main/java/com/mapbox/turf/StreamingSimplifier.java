@@ -0,0 +1,211 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+/**
+ * Online line simplification for coordinates that arrive one at a time, such as a live vehicle
+ * trace. Memory is bounded by a fixed number of buffered coordinates and retained coordinates
+ * are handed to a {@link TurfMeta.CoordinateVisitor} as soon as they are known to be kept.
+ * <p>
+ * This is an adaptation of SQUISH-E: every buffered coordinate has a priority made up of its
+ * distance to the segment joining its neighbours plus the largest priority of the neighbours
+ * removed next to it. Coordinates are dropped, lowest priority first, as long as their priority
+ * doesn't exceed the tolerance, so that the distance between a dropped coordinate and the
+ * simplified line stays within the tolerance. When the buffer is full and nothing can be dropped,
+ * the oldest buffered coordinate is emitted. Distances are measured in the units of the
+ * coordinates, as done by {@link TurfTransformation#simplify(double[], double, boolean)}.
+ * </p>
+ * <p>
+ * Instances are not thread safe.
+ * </p>
+ *
+ * @see <a href="https://doi.org/10.1007/s10707-013-0184-0">SQUISH-E</a>
+ * @since 7.11.0
+ */
+public final class StreamingSimplifier {
+
+  private final double tolerance;
+  private final int capacity;
+  private final TurfMeta.CoordinateVisitor visitor;
+
+  // slots of the buffer, linked from the last emitted coordinate (head) to the newest one (tail)
+  private final double[] longitudes;
+  private final double[] latitudes;
+  private final double[] errors;
+  private final int[] prev;
+  private final int[] next;
+  private final int[] freeSlots;
+  private final IndexedMinHeap heap;
+  private int freeCount;
+  private int head = -1;
+  private int tail = -1;
+  private int pending;
+
+  private StreamingSimplifier(double tolerance, int capacity,
+                              @NonNull TurfMeta.CoordinateVisitor visitor) {
+    this.tolerance = tolerance;
+    this.capacity = capacity;
+    this.visitor = visitor;
+    // the emitted head, the pending coordinates and the one being added
+    int slots = capacity + 2;
+    longitudes = new double[slots];
+    latitudes = new double[slots];
+    errors = new double[slots];
+    prev = new int[slots];
+    next = new int[slots];
+    freeSlots = new int[slots];
+    heap = new IndexedMinHeap(slots);
+    reset();
+  }
+
+  /**
+   * Creates a simplifier.
+   *
+   * @param tolerance maximum distance between a dropped coordinate and the simplified line, in
+   *                  the same measurement as the point coordinates
+   * @param capacity  maximum number of coordinates waiting to be either dropped or emitted, at
+   *                  least 2
+   * @param visitor   receives the retained coordinates, in order
+   * @return a new {@link StreamingSimplifier} instance
+   * @throws TurfException if the capacity is lower than 2
+   * @since 7.11.0
+   */
+  @NonNull
+  public static StreamingSimplifier fromTolerance(double tolerance,
+                                                  @IntRange(from = 2) int capacity,
+                                                  @NonNull TurfMeta.CoordinateVisitor visitor) {
+    if (capacity < 2) {
+      throw new TurfException("StreamingSimplifier requires a capacity of at least 2.");
+    }
+    return new StreamingSimplifier(tolerance, capacity, visitor);
+  }
+
+  /**
+   * Adds the next coordinate of the line. The first coordinate of a line is emitted right away.
+   *
+   * @param longitude longitude of the coordinate
+   * @param latitude  latitude of the coordinate
+   * @since 7.11.0
+   */
+  public void add(double longitude, double latitude) {
+    int slot = freeSlots[--freeCount];
+    longitudes[slot] = longitude;
+    latitudes[slot] = latitude;
+    errors[slot] = 0;
+    next[slot] = -1;
+    if (head < 0) {
+      prev[slot] = -1;
+      head = slot;
+      tail = slot;
+      visitor.onCoordinate(longitude, latitude);
+      return;
+    }
+
+    int previousTail = tail;
+    prev[slot] = previousTail;
+    next[previousTail] = slot;
+    tail = slot;
+    pending++;
+    if (previousTail != head) {
+      heap.push(previousTail, priority(previousTail));
+    }
+
+    while (!heap.isEmpty() && heap.key(heap.peek()) <= tolerance) {
+      drop(heap.poll());
+    }
+    if (pending > capacity) {
+      emitOldest();
+    }
+  }
+
+  /**
+   * Ends the current line: emits every coordinate still waiting in the buffer, including the last
+   * one added. The next coordinate added afterwards starts a new line.
+   *
+   * @since 7.11.0
+   */
+  public void finish() {
+    if (head >= 0) {
+      for (int slot = next[head]; slot >= 0; slot = next[slot]) {
+        visitor.onCoordinate(longitudes[slot], latitudes[slot]);
+      }
+    }
+    reset();
+  }
+
+  /**
+   * Returns the number of coordinates waiting to be either dropped or emitted.
+   *
+   * @return the number of buffered coordinates
+   * @since 7.11.0
+   */
+  public int pending() {
+    return pending;
+  }
+
+  private void drop(int slot) {
+    final double priority = heap.key(slot);
+    int before = prev[slot];
+    int after = next[slot];
+    next[before] = after;
+    prev[after] = before;
+    freeSlots[freeCount++] = slot;
+    pending--;
+
+    errors[before] = Math.max(errors[before], priority);
+    errors[after] = Math.max(errors[after], priority);
+    if (heap.contains(before)) {
+      heap.update(before, priority(before));
+    }
+    if (heap.contains(after)) {
+      heap.update(after, priority(after));
+    }
+  }
+
+  private void emitOldest() {
+    int oldest = next[head];
+    heap.remove(oldest);
+    visitor.onCoordinate(longitudes[oldest], latitudes[oldest]);
+    freeSlots[freeCount++] = head;
+    prev[oldest] = -1;
+    head = oldest;
+    pending--;
+  }
+
+  private double priority(int slot) {
+    int before = prev[slot];
+    int after = next[slot];
+    double x = longitudes[before];
+    double y = latitudes[before];
+    double dx = longitudes[after] - x;
+    double dy = latitudes[after] - y;
+
+    if (dx != 0 || dy != 0) {
+      double t = ((longitudes[slot] - x) * dx + (latitudes[slot] - y) * dy)
+        / (dx * dx + dy * dy);
+      if (t > 1) {
+        x = longitudes[after];
+        y = latitudes[after];
+      } else if (t > 0) {
+        x += dx * t;
+        y += dy * t;
+      }
+    }
+
+    dx = longitudes[slot] - x;
+    dy = latitudes[slot] - y;
+    return errors[slot] + Math.sqrt(dx * dx + dy * dy);
+  }
+
+  private void reset() {
+    heap.clear();
+    freeCount = freeSlots.length;
+    for (int i = 0; i < freeSlots.length; i++) {
+      freeSlots[i] = freeSlots.length - 1 - i;
+    }
+    head = -1;
+    tail = -1;
+    pending = 0;
+  }
+}
@@ -0,0 +1,435 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Triangulation of a {@link Polygon} or {@link MultiPolygon}, holes included, computed with the
+ * earcut algorithm. The triangles are exposed as indices over the flattened coordinates of the
+ * rings, and are reused to answer area, centroid, point-in-polygon and random point queries
+ * without going back to the rings.
+ * <p>
+ * The triangulation is computed in the plane of the longitudes and latitudes, like the other
+ * planar operations of this library.
+ * </p>
+ *
+ * @see <a href="https://github.com/mapbox/earcut">earcut</a>
+ * @since 7.11.0
+ */
+public final class Triangulation {
+
+  /**
+   * Maximum number of cells on each side of the point-in-polygon grid.
+   */
+  private static final int MAX_GRID_SIZE = 1024;
+
+  private final double[] coordinates;
+  private final int[] triangles;
+  private final double[] cumulativeAreas;
+
+  // point-in-polygon grid, built on the first query and safely published to the other threads
+  private volatile Grid grid;
+
+  private Triangulation(double[] coordinates, int[] triangles) {
+    this.coordinates = coordinates;
+    this.triangles = triangles;
+    this.cumulativeAreas = new double[triangles.length / 3];
+    double total = 0;
+    for (int i = 0; i < cumulativeAreas.length; i++) {
+      total += Math.abs(planarArea(i));
+      cumulativeAreas[i] = total;
+    }
+  }
+
+  /**
+   * Triangulates a polygon and its holes.
+   *
+   * @param polygon the polygon to triangulate
+   * @return a new {@link Triangulation} instance
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Triangulation fromPolygon(@NonNull Polygon polygon) {
+    return fromPolygons(Arrays.asList(polygon.coordinates()));
+  }
+
+  /**
+   * Triangulates the polygons of a multi polygon and their holes.
+   *
+   * @param multiPolygon the polygons to triangulate
+   * @return a new {@link Triangulation} instance, the coordinates of the polygons are flattened one
+   *   after the other
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Triangulation fromMultiPolygon(@NonNull MultiPolygon multiPolygon) {
+    return fromPolygons(multiPolygon.coordinates());
+  }
+
+  /**
+   * Triangulates a polygon given as flat arrays of coordinates.
+   *
+   * @param flattenRings the outer ring first and then the holes, each one as a flat array of
+   *                     coordinates: [lng1, lat1, lng2, lat2, ...], closed or not
+   * @return a new {@link Triangulation} instance, the coordinates of the rings are flattened one
+   *   after the other
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Triangulation fromLngLats(@NonNull double[][] flattenRings) {
+    int length = 0;
+    for (double[] ring : flattenRings) {
+      length += ring.length;
+    }
+    double[] coordinates = new double[length];
+    int[] holeIndices = new int[Math.max(flattenRings.length - 1, 0)];
+    int offset = 0;
+    for (int i = 0; i < flattenRings.length; i++) {
+      if (i > 0) {
+        holeIndices[i - 1] = offset / 2;
+      }
+      System.arraycopy(flattenRings[i], 0, coordinates, offset, flattenRings[i].length);
+      offset += flattenRings[i].length;
+    }
+    return new Triangulation(coordinates, Earcut.triangulate(coordinates, holeIndices));
+  }
+
+  private static Triangulation fromPolygons(List<List<List<Point>>> polygons) {
+    int length = 0;
+    for (List<List<Point>> rings : polygons) {
+      for (List<Point> ring : rings) {
+        length += ring.size() * 2;
+      }
+    }
+    double[] coordinates = new double[length];
+    int[] triangles = new int[0];
+    int offset = 0;
+    for (List<List<Point>> rings : polygons) {
+      int start = offset;
+      int[] holeIndices = new int[Math.max(rings.size() - 1, 0)];
+      for (int i = 0; i < rings.size(); i++) {
+        if (i > 0) {
+          holeIndices[i - 1] = (offset - start) / 2;
+        }
+        for (Point point : rings.get(i)) {
+          coordinates[offset++] = point.longitude();
+          coordinates[offset++] = point.latitude();
+        }
+      }
+      int[] polygonTriangles = Earcut.triangulate(
+        Arrays.copyOfRange(coordinates, start, offset), holeIndices);
+      int size = triangles.length;
+      triangles = Arrays.copyOf(triangles, size + polygonTriangles.length);
+      for (int i = 0; i < polygonTriangles.length; i++) {
+        triangles[size + i] = polygonTriangles[i] + start / 2;
+      }
+    }
+    return new Triangulation(coordinates, triangles);
+  }
+
+  /**
+   * Returns the flattened coordinates of the rings the triangles refer to.
+   *
+   * @return a copy of the coordinates: [lng1, lat1, lng2, lat2, ...]
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] coordinates() {
+    return Arrays.copyOf(coordinates, coordinates.length);
+  }
+
+  /**
+   * Returns the triangles as indices of coordinates, three per triangle. The coordinate of index
+   * {@code i} is found at positions {@code 2 * i} and {@code 2 * i + 1} of
+   * {@link #coordinates()}.
+   *
+   * @return a copy of the triangle indices
+   * @since 7.11.0
+   */
+  @NonNull
+  public int[] triangles() {
+    return Arrays.copyOf(triangles, triangles.length);
+  }
+
+  /**
+   * Returns the number of triangles.
+   *
+   * @return the number of triangles
+   * @since 7.11.0
+   */
+  public int size() {
+    return triangles.length / 3;
+  }
+
+  /**
+   * Calculates the geodesic area of the triangulated polygons, as the sum of the areas of their
+   * triangles.
+   *
+   * @return the area of the polygons in square meters
+   * @see TurfMeasurement#area(com.mapbox.geojson.Geometry)
+   * @since 7.11.0
+   */
+  public double area() {
+    CompensatedSum total = new CompensatedSum();
+    for (int i = 0; i < triangles.length; i += 3) {
+      double lng1 = Math.toRadians(coordinates[2 * triangles[i]]);
+      double lat1 = Math.toRadians(coordinates[2 * triangles[i] + 1]);
+      double lng2 = Math.toRadians(coordinates[2 * triangles[i + 1]]);
+      double lat2 = Math.toRadians(coordinates[2 * triangles[i + 1] + 1]);
+      double lng3 = Math.toRadians(coordinates[2 * triangles[i + 2]]);
+      double lat3 = Math.toRadians(coordinates[2 * triangles[i + 2] + 1]);
+      // same ring formula as TurfMeasurement#area, over the open triangle ring
+      total.add(Math.abs((lng3 - lng1) * Math.sin(lat2) + (lng1 - lng2) * Math.sin(lat3)
+        + (lng2 - lng3) * Math.sin(lat1)));
+    }
+    return total.value() * TurfMeasurement.EARTH_RADIUS * TurfMeasurement.EARTH_RADIUS / 2;
+  }
+
+  /**
+   * Calculates the center of mass of the triangulated polygons, as the average of the centers of
+   * their triangles weighted by their area.
+   *
+   * @return the center of mass, or the average of the coordinates if the polygons have no area
+   * @since 7.11.0
+   */
+  @NonNull
+  public Point centroid() {
+    double totalArea = 0;
+    double longitude = 0;
+    double latitude = 0;
+    for (int i = 0; i < triangles.length; i += 3) {
+      double area = Math.abs(planarArea(i / 3));
+      totalArea += area;
+      longitude += area * (coordinates[2 * triangles[i]] + coordinates[2 * triangles[i + 1]]
+        + coordinates[2 * triangles[i + 2]]) / 3;
+      latitude += area * (coordinates[2 * triangles[i] + 1]
+        + coordinates[2 * triangles[i + 1] + 1] + coordinates[2 * triangles[i + 2] + 1]) / 3;
+    }
+    if (totalArea > 0) {
+      return Point.fromLngLat(longitude / totalArea, latitude / totalArea);
+    }
+    int count = coordinates.length / 2;
+    longitude = 0;
+    latitude = 0;
+    for (int i = 0; i < count; i++) {
+      longitude += coordinates[2 * i];
+      latitude += coordinates[2 * i + 1];
+    }
+    return Point.fromLngLat(longitude / count, latitude / count);
+  }
+
+  /**
+   * Takes a {@link Point} and determines if it is inside of the triangulated polygons. Points on
+   * the edges of the polygons are inside. The triangles are indexed by a grid on the first
+   * query, so that each following query only tests the few triangles of one cell.
+   *
+   * @param point the point to test
+   * @return true if the point is inside of the polygons or on their boundary
+   * @see TurfJoins#inside(Point, Polygon)
+   * @since 7.11.0
+   */
+  public boolean contains(@NonNull Point point) {
+    return contains(point.longitude(), point.latitude());
+  }
+
+  /**
+   * Determines if a coordinate is inside of the triangulated polygons, see
+   * {@link #contains(Point)}.
+   *
+   * @param longitude the longitude of the coordinate
+   * @param latitude  the latitude of the coordinate
+   * @return true if the coordinate is inside of the polygons or on their boundary
+   * @since 7.11.0
+   */
+  public boolean contains(double longitude, double latitude) {
+    Grid current = grid;
+    if (current == null) {
+      current = buildGrid();
+    }
+    double x = (longitude - current.minX) / current.cellWidth;
+    double y = (latitude - current.minY) / current.cellHeight;
+    int size = current.size;
+    if (!(x >= 0 && y >= 0 && x <= size && y <= size)) {
+      return false;
+    }
+    int cell = Math.min((int) y, size - 1) * size + Math.min((int) x, size - 1);
+    for (int i = current.cellStarts[cell]; i < current.cellStarts[cell + 1]; i++) {
+      if (inTriangle(current.cellTriangles[i] * 3, longitude, latitude)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Generates random coordinates uniformly distributed inside of the triangulated polygons, in the
+   * plane of the longitudes and latitudes.
+   *
+   * @param count  the number of coordinates to generate
+   * @param random the source of randomness
+   * @return the coordinates as a flat array: [lng1, lat1, lng2, lat2, ...]
+   * @throws TurfException if the polygons have no area
+   * @since 7.11.0
+   */
+  @NonNull
+  public double[] randomPoints(@IntRange(from = 0) int count, @NonNull Random random) {
+    double totalArea = cumulativeAreas.length == 0
+      ? 0 : cumulativeAreas[cumulativeAreas.length - 1];
+    if (!(totalArea > 0)) {
+      throw new TurfException("Random points require polygons with an area.");
+    }
+    double[] points = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      // pick a triangle with a probability proportional to its area
+      int triangle = Arrays.binarySearch(cumulativeAreas, random.nextDouble() * totalArea);
+      triangle = triangle < 0 ? -triangle - 1 : triangle;
+      triangle = Math.min(triangle, cumulativeAreas.length - 1);
+
+      double u = random.nextDouble();
+      double v = random.nextDouble();
+      if (u + v > 1) {
+        u = 1 - u;
+        v = 1 - v;
+      }
+      int a = 2 * triangles[triangle * 3];
+      int b = 2 * triangles[triangle * 3 + 1];
+      int c = 2 * triangles[triangle * 3 + 2];
+      points[2 * i] = coordinates[a] + u * (coordinates[b] - coordinates[a])
+        + v * (coordinates[c] - coordinates[a]);
+      points[2 * i + 1] = coordinates[a + 1] + u * (coordinates[b + 1] - coordinates[a + 1])
+        + v * (coordinates[c + 1] - coordinates[a + 1]);
+    }
+    return points;
+  }
+
+  private double planarArea(int triangle) {
+    int a = 2 * triangles[triangle * 3];
+    int b = 2 * triangles[triangle * 3 + 1];
+    int c = 2 * triangles[triangle * 3 + 2];
+    return ((coordinates[b] - coordinates[a]) * (coordinates[c + 1] - coordinates[a + 1])
+      - (coordinates[b + 1] - coordinates[a + 1]) * (coordinates[c] - coordinates[a])) / 2;
+  }
+
+  private boolean inTriangle(int offset, double x, double y) {
+    int a = 2 * triangles[offset];
+    int b = 2 * triangles[offset + 1];
+    int c = 2 * triangles[offset + 2];
+    double d1 = (coordinates[b] - coordinates[a]) * (y - coordinates[a + 1])
+      - (coordinates[b + 1] - coordinates[a + 1]) * (x - coordinates[a]);
+    double d2 = (coordinates[c] - coordinates[b]) * (y - coordinates[b + 1])
+      - (coordinates[c + 1] - coordinates[b + 1]) * (x - coordinates[b]);
+    double d3 = (coordinates[a] - coordinates[c]) * (y - coordinates[c + 1])
+      - (coordinates[a + 1] - coordinates[c + 1]) * (x - coordinates[c]);
+    // either orientation, the boundary included
+    return d1 >= 0 && d2 >= 0 && d3 >= 0 || d1 <= 0 && d2 <= 0 && d3 <= 0;
+  }
+
+  /**
+   * Builds the point-in-polygon grid once, the following queries reading it without locking.
+   */
+  private Grid buildGrid() {
+    synchronized (this) {
+      Grid current = grid;
+      if (current == null) {
+        current = new Grid(coordinates, triangles);
+        grid = current;
+      }
+      return current;
+    }
+  }
+
+  /**
+   * Buckets the triangles into the cells of a uniform grid covering their bounding box, each
+   * triangle being referenced by all the cells its bounding box overlaps.
+   */
+  private static final class Grid {
+
+    private final double[] coordinates;
+    private final int[] triangles;
+    private final int size;
+    private final double minX;
+    private final double minY;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int[] cellStarts;
+    private final int[] cellTriangles;
+
+    Grid(double[] coordinates, int[] triangles) {
+      this.coordinates = coordinates;
+      this.triangles = triangles;
+      final int count = triangles.length / 3;
+      double x0 = Double.POSITIVE_INFINITY;
+      double y0 = Double.POSITIVE_INFINITY;
+      double x1 = Double.NEGATIVE_INFINITY;
+      double y1 = Double.NEGATIVE_INFINITY;
+      for (int index : triangles) {
+        x0 = Math.min(x0, coordinates[2 * index]);
+        y0 = Math.min(y0, coordinates[2 * index + 1]);
+        x1 = Math.max(x1, coordinates[2 * index]);
+        y1 = Math.max(y1, coordinates[2 * index + 1]);
+      }
+      minX = x0;
+      minY = y0;
+      size = Math.max(1, Math.min(MAX_GRID_SIZE, (int) Math.sqrt(count)));
+      // cells have a non-zero size even if the triangles are degenerate
+      cellWidth = count == 0 ? 1 : Math.max(x1 - x0, Double.MIN_NORMAL) / size;
+      cellHeight = count == 0 ? 1 : Math.max(y1 - y0, Double.MIN_NORMAL) / size;
+
+      int[] starts = new int[size * size + 1];
+      int[] ranges = new int[count * 4];
+      for (int i = 0; i < count; i++) {
+        cellRange(i, ranges);
+        for (int y = ranges[4 * i + 1]; y <= ranges[4 * i + 3]; y++) {
+          for (int x = ranges[4 * i]; x <= ranges[4 * i + 2]; x++) {
+            starts[y * size + x + 1]++;
+          }
+        }
+      }
+      for (int i = 0; i < size * size; i++) {
+        starts[i + 1] += starts[i];
+      }
+      int[] cells = new int[starts[size * size]];
+      int[] sizes = new int[size * size];
+      for (int i = 0; i < count; i++) {
+        for (int y = ranges[4 * i + 1]; y <= ranges[4 * i + 3]; y++) {
+          for (int x = ranges[4 * i]; x <= ranges[4 * i + 2]; x++) {
+            int cell = y * size + x;
+            cells[starts[cell] + sizes[cell]++] = i;
+          }
+        }
+      }
+      cellTriangles = cells;
+      cellStarts = starts;
+    }
+
+    private void cellRange(int triangle, int[] ranges) {
+      double x0 = Double.POSITIVE_INFINITY;
+      double y0 = Double.POSITIVE_INFINITY;
+      double x1 = Double.NEGATIVE_INFINITY;
+      double y1 = Double.NEGATIVE_INFINITY;
+      for (int k = 0; k < 3; k++) {
+        int index = 2 * triangles[triangle * 3 + k];
+        x0 = Math.min(x0, coordinates[index]);
+        y0 = Math.min(y0, coordinates[index + 1]);
+        x1 = Math.max(x1, coordinates[index]);
+        y1 = Math.max(y1, coordinates[index + 1]);
+      }
+      ranges[4 * triangle] = cell((x0 - minX) / cellWidth);
+      ranges[4 * triangle + 1] = cell((y0 - minY) / cellHeight);
+      ranges[4 * triangle + 2] = cell((x1 - minX) / cellWidth);
+      ranges[4 * triangle + 3] = cell((y1 - minY) / cellHeight);
+    }
+
+    private int cell(double position) {
+      return Math.max(0, Math.min(size - 1, (int) position));
+    }
+  }
+}
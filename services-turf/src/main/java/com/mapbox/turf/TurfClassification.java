@@ -21,6 +21,10 @@ public class TurfClassification {
   /**
    * Takes a reference point and a list of {@link Point} geometries and returns the point from the
    * set point list closest to the reference. This calculation is geodesic.
+   * <p>
+   * Every call scans the whole list. When the same set of points is queried repeatedly, build a
+   * {@link KdTree} once and use {@link KdTree#nearest(Point)} instead.
+   * </p>
    *
    * @param targetPoint the reference point
    * @param points      set list of points to run against the input point
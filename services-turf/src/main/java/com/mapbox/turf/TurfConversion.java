@@ -32,6 +32,10 @@ public final class TurfConversion {
 
   private static final Map<String, Double> FACTORS;
 
+  // radius of the WGS84 ellipsoid used by the spherical Web Mercator projection, in meters
+  private static final double MERCATOR_RADIUS = 6378137.0;
+  private static final double MERCATOR_MAX_EXTENT = 20037508.342789244;
+
   static {
     FACTORS = new HashMap<>();
     FACTORS.put(TurfConstants.UNIT_MILES, 3960d);
@@ -177,6 +181,65 @@ public final class TurfConversion {
     return radiansToLength(lengthToRadians(distance, originalUnit), finalUnit);
   }
 
+  /**
+   * Projects WGS84 coordinates to Web Mercator (EPSG:3857) meters, like the toMercator method of
+   * the Turf projection module. Longitudes outside of [-180, 180] are shifted by one turn and the
+   * projected coordinates are clamped to the extent of the projection, so that the poles don't
+   * project to infinity.
+   * <p>
+   * The arrays may be the same to project in place. The arrays are read and written sequentially
+   * without allocating anything, so that large arrays stream through the loop.
+   * </p>
+   *
+   * @param flattenLngLat   the coordinates to project: [lng1, lat1, lng2, lat2, ...]
+   * @param flattenMercator receives the projected coordinates: [x1, y1, x2, y2, ...]
+   * @throws TurfException if the output array is shorter than the input array
+   * @since 7.11.0
+   */
+  public static void toMercator(@NonNull double[] flattenLngLat,
+                                @NonNull double[] flattenMercator) {
+    checkMercatorLengths(flattenLngLat, flattenMercator);
+    double scale = MERCATOR_RADIUS * Math.PI / 180;
+    for (int i = 0; i + 1 < flattenLngLat.length; i += 2) {
+      double longitude = flattenLngLat[i];
+      double sin = Math.sin(Math.toRadians(flattenLngLat[i + 1]));
+      longitude -= Math.abs(longitude) <= 180 ? 0 : Math.signum(longitude) * 360;
+      // equivalent to log(tan(pi / 4 + latitude / 2)), with a single trigonometric function
+      double y = MERCATOR_RADIUS / 2 * Math.log((1 + sin) / (1 - sin));
+      flattenMercator[i] = Math.max(-MERCATOR_MAX_EXTENT,
+        Math.min(MERCATOR_MAX_EXTENT, scale * longitude));
+      flattenMercator[i + 1] = Math.max(-MERCATOR_MAX_EXTENT, Math.min(MERCATOR_MAX_EXTENT, y));
+    }
+  }
+
+  /**
+   * Unprojects Web Mercator (EPSG:3857) meters to WGS84 coordinates, like the toWgs84 method of
+   * the Turf projection module. The arrays may be the same to unproject in place.
+   *
+   * @param flattenMercator the coordinates to unproject: [x1, y1, x2, y2, ...]
+   * @param flattenLngLat   receives the unprojected coordinates: [lng1, lat1, lng2, lat2, ...]
+   * @throws TurfException if the output array is shorter than the input array
+   * @since 7.11.0
+   */
+  public static void fromMercator(@NonNull double[] flattenMercator,
+                                  @NonNull double[] flattenLngLat) {
+    checkMercatorLengths(flattenMercator, flattenLngLat);
+    double scale = 180 / Math.PI / MERCATOR_RADIUS;
+    for (int i = 0; i + 1 < flattenMercator.length; i += 2) {
+      double x = flattenMercator[i];
+      double y = flattenMercator[i + 1];
+      flattenLngLat[i] = x * scale;
+      flattenLngLat[i + 1] = Math.toDegrees(
+        Math.PI / 2 - 2 * Math.atan(Math.exp(-y / MERCATOR_RADIUS)));
+    }
+  }
+
+  private static void checkMercatorLengths(double[] input, double[] output) {
+    if (output.length < input.length) {
+      throw new TurfException("The output array must be at least as long as the input array.");
+    }
+  }
+
   /**
    * Takes a {@link FeatureCollection} and
    * returns all positions as {@link Point} objects.
@@ -0,0 +1,404 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Methods removing near duplicate positions of large sets of positions, given as flattened
+ * coordinates [lng1, lat1, lng2, lat2, ...].
+ * <p>
+ * {@link #dedupe(double[], double, String, ForkJoinPool)} hashes the positions into cells as tall
+ * as the tolerance, so that every position is only compared to the kept positions of the
+ * neighbouring cells, with great circle distances. The cells are grouped into bands of latitude
+ * which are processed in parallel, the even bands first, then the odd bands, since only
+ * neighbouring bands can hold positions within the tolerance of each other.
+ * {@link #snapRound(double[], double[], double, String)} rounds the positions to a grid instead,
+ * so that near duplicate positions become equal.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class TurfDeduplication {
+
+  /**
+   * Number of positions below which the parallel deduplication stops splitting the work.
+   */
+  private static final int PARALLEL_THRESHOLD = 16384;
+
+  /**
+   * Smallest number of rows of cells of a band.
+   */
+  private static final int MIN_BAND_ROWS = 4;
+
+  private TurfDeduplication() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Removes the positions within a distance of a previous position. A position is kept unless a
+   * kept position lies within the tolerance, so the kept positions are farther than the tolerance
+   * from each other and every removed position lies within the tolerance of a kept position.
+   *
+   * @param flattenLngLat the positions: [lng1, lat1, lng2, lat2, ...]
+   * @param tolerance     the largest distance between duplicate positions
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @param pool          the pool processing the bands of latitude in parallel, or null to
+   *                      process them on the calling thread
+   * @return the kept positions, in their original order
+   * @see #dedupeIndices(double[], double, String, ForkJoinPool)
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] dedupe(@NonNull double[] flattenLngLat,
+                                @FloatRange(from = 0, fromInclusive = false) double tolerance,
+                                @NonNull @TurfConstants.TurfUnitCriteria String units,
+                                @Nullable ForkJoinPool pool) {
+    int[] kept = dedupeIndices(flattenLngLat, tolerance, units, pool);
+    int count = 0;
+    for (int i = 0; i < kept.length; i++) {
+      count += kept[i] == i ? 1 : 0;
+    }
+    double[] output = new double[2 * count];
+    int offset = 0;
+    for (int i = 0; i < kept.length; i++) {
+      if (kept[i] == i) {
+        output[offset++] = flattenLngLat[2 * i];
+        output[offset++] = flattenLngLat[2 * i + 1];
+      }
+    }
+    return output;
+  }
+
+  /**
+   * Finds the kept position of every position, as described in
+   * {@link #dedupe(double[], double, String, ForkJoinPool)}. The positions of every band of
+   * latitude are visited in their original order, the even bands before the odd ones, so a
+   * position close to the edge of a band may be removed in favour of a later position of the
+   * neighbouring band. The result doesn't depend on the pool.
+   *
+   * @param flattenLngLat the positions: [lng1, lat1, lng2, lat2, ...]
+   * @param tolerance     the largest distance between duplicate positions
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @param pool          the pool processing the bands of latitude in parallel, or null to
+   *                      process them on the calling thread
+   * @return for every position, the index of the closest kept position within the tolerance, which
+   *   is the index of the position itself when it is kept
+   * @throws TurfException if the tolerance isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static int[] dedupeIndices(@NonNull double[] flattenLngLat,
+                                    @FloatRange(from = 0, fromInclusive = false) double tolerance,
+                                    @NonNull @TurfConstants.TurfUnitCriteria String units,
+                                    @Nullable ForkJoinPool pool) {
+    double radians = TurfConversion.lengthToRadians(tolerance, units);
+    if (!(radians > 0)) {
+      throw new TurfException("The tolerance must be greater than 0.");
+    }
+    Deduplicator deduplicator = new Deduplicator(flattenLngLat, radians);
+    deduplicator.run(pool);
+    return deduplicator.kept;
+  }
+
+  /**
+   * Rounds positions to the closest node of a grid spaced by the tolerance in degrees of arc, so
+   * that every position moves by less than the tolerance and positions closer than the tolerance
+   * usually become equal. Unlike {@link #dedupe(double[], double, String, ForkJoinPool)}, close
+   * positions on both sides of a line of the grid are rounded to different nodes.
+   * <p>
+   * The arrays may be the same to round in place.
+   * </p>
+   *
+   * @param flattenLngLat the positions to round: [lng1, lat1, lng2, lat2, ...]
+   * @param output        receives the rounded positions
+   * @param tolerance     the spacing of the grid
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @throws TurfException if the tolerance isn't positive or the output array is shorter than the
+   *                       input array
+   * @since 7.11.0
+   */
+  public static void snapRound(@NonNull double[] flattenLngLat, @NonNull double[] output,
+                               @FloatRange(from = 0, fromInclusive = false) double tolerance,
+                               @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double step = TurfConversion.lengthToDegrees(tolerance, units);
+    if (!(step > 0)) {
+      throw new TurfException("The tolerance must be greater than 0.");
+    }
+    if (output.length < flattenLngLat.length) {
+      throw new TurfException("The output array must be at least as long as the input array.");
+    }
+    for (int i = 0; i < flattenLngLat.length; i++) {
+      output[i] = Math.rint(flattenLngLat[i] / step) * step;
+    }
+  }
+
+  private static long floorMod(long value, long modulus) {
+    long mod = value % modulus;
+    return mod < 0 ? mod + modulus : mod;
+  }
+
+  /**
+   * State of a deduplication. The rows of cells are as tall as the tolerance, so that positions
+   * within the tolerance of each other lie in the same or neighbouring rows. Every row is split
+   * into columns all around the globe, as wide as the longitude difference reachable within the
+   * tolerance from its latitude farthest from the equator.
+   */
+  private static final class Deduplicator {
+
+    private final double[] coordinates;
+    private final double tolerance;
+    private final double haversineTolerance;
+    private final double[] cosLats;
+    private final long[] rows;
+    private final long minRow;
+    private final long maxRow;
+    private final long bandRows;
+    // indices of the positions ordered by band, the positions of band b being in
+    // order[offsets[b]] to order[offsets[b + 1] - 1]
+    private final int[] order;
+    private final int[] offsets;
+    private final CellTable[] tables;
+    // next kept position of the same cell
+    private final int[] next;
+    final int[] kept;
+
+    Deduplicator(double[] coordinates, double tolerance) {
+      this.coordinates = coordinates;
+      this.tolerance = tolerance;
+      double sin = Math.sin(tolerance / 2);
+      this.haversineTolerance = sin * sin;
+      int count = coordinates.length / 2;
+      cosLats = new double[count];
+      rows = new long[count];
+      long lowest = Long.MAX_VALUE;
+      long highest = Long.MIN_VALUE;
+      for (int i = 0; i < count; i++) {
+        double lat = degreesToRadians(coordinates[2 * i + 1]);
+        cosLats[i] = Math.cos(lat);
+        rows[i] = (long) Math.floor(lat / tolerance);
+        lowest = Math.min(lowest, rows[i]);
+        highest = Math.max(highest, rows[i]);
+      }
+      minRow = lowest;
+      maxRow = highest;
+      // at most about one band per position
+      long span = count == 0 ? 0 : maxRow - minRow + 1;
+      bandRows = Math.max(MIN_BAND_ROWS, (span + count - 1) / Math.max(1, count));
+      int bands = (int) ((span + bandRows - 1) / bandRows);
+
+      offsets = new int[bands + 1];
+      for (int i = 0; i < count; i++) {
+        offsets[band(rows[i]) + 1]++;
+      }
+      for (int b = 0; b < bands; b++) {
+        offsets[b + 1] += offsets[b];
+      }
+      order = new int[count];
+      int[] cursors = Arrays.copyOf(offsets, bands);
+      for (int i = 0; i < count; i++) {
+        order[cursors[band(rows[i])]++] = i;
+      }
+      tables = new CellTable[bands];
+      next = new int[count];
+      kept = new int[count];
+    }
+
+    void run(@Nullable ForkJoinPool pool) {
+      int bands = tables.length;
+      for (int parity = 0; parity < 2; parity++) {
+        if (pool == null || order.length <= PARALLEL_THRESHOLD) {
+          processBands(0, bands, parity);
+        } else {
+          pool.invoke(new BandTask(0, bands, parity));
+        }
+      }
+    }
+
+    private int band(long row) {
+      return (int) ((row - minRow) / bandRows);
+    }
+
+    private void processBands(int from, int to, int parity) {
+      for (int b = from; b < to; b++) {
+        if (b % 2 == parity && offsets[b + 1] > offsets[b]) {
+          processBand(b);
+        }
+      }
+    }
+
+    private void processBand(int band) {
+      CellTable table = new CellTable(offsets[band + 1] - offsets[band]);
+      tables[band] = table;
+      for (int k = offsets[band]; k < offsets[band + 1]; k++) {
+        int i = order[k];
+        int closest = findClosest(i);
+        if (closest >= 0) {
+          kept[i] = closest;
+          continue;
+        }
+        kept[i] = i;
+        long columns = columns(rows[i]);
+        double lon = degreesToRadians(coordinates[2 * i]);
+        long column = floorMod((long) Math.floor((lon + Math.PI) / (2 * Math.PI / columns)),
+          columns);
+        table.add(rows[i], column, i, next);
+      }
+    }
+
+    /**
+     * Returns the closest kept position within the tolerance of a position, or -1.
+     */
+    private int findClosest(int i) {
+      double lon = degreesToRadians(coordinates[2 * i]);
+      double lat = degreesToRadians(coordinates[2 * i + 1]);
+      double cosLat = cosLats[i];
+      double reach = longitudeReach(lat);
+      int closest = -1;
+      double closestDistance = haversineTolerance;
+      for (long row = rows[i] - 1; row <= rows[i] + 1; row++) {
+        if (row < minRow || row > maxRow) {
+          continue;
+        }
+        CellTable table = tables[band(row)];
+        if (table == null) {
+          continue;
+        }
+        long columns = columns(row);
+        double width = 2 * Math.PI / columns;
+        long first = 0;
+        long last = columns - 1;
+        if (reach >= 0) {
+          first = (long) Math.floor((lon - reach + Math.PI) / width);
+          last = Math.min(first + columns - 1, (long) Math.floor((lon + reach + Math.PI) / width));
+        }
+        for (long column = first; column <= last; column++) {
+          for (int j = table.get(row, floorMod(column, columns)); j >= 0; j = next[j]) {
+            double distance = haversine(lon, lat, cosLat, j);
+            // ties go to the first position, so that the result doesn't depend on the hashing
+            if (distance < closestDistance
+              || distance == closestDistance && (closest < 0 || j < closest)) {
+              closest = j;
+              closestDistance = distance;
+            }
+          }
+        }
+      }
+      return closest;
+    }
+
+    /**
+     * Returns the haversine of the central angle between a position and a position by index,
+     * which grows with the angle and is cheaper to compare than the angle itself.
+     */
+    private double haversine(double lon, double lat, double cosLat, int j) {
+      double sinLat = Math.sin((degreesToRadians(coordinates[2 * j + 1]) - lat) / 2);
+      double sinLon = Math.sin((degreesToRadians(coordinates[2 * j]) - lon) / 2);
+      return sinLat * sinLat + sinLon * sinLon * cosLat * cosLats[j];
+    }
+
+    /**
+     * Returns the largest longitude difference from a latitude to a position within the
+     * tolerance, or -1 if every longitude may be reached.
+     */
+    private double longitudeReach(double lat) {
+      double farthest = Math.abs(lat) + tolerance;
+      if (farthest >= Math.PI / 2) {
+        return -1;
+      }
+      // the haversine of the distance is at least cos(lat1) * cos(lat2) * hav(dLon)
+      double value = haversineTolerance / (Math.cos(lat) * Math.cos(farthest));
+      return value >= 1 ? -1 : 2 * Math.asin(Math.sqrt(value));
+    }
+
+    private long columns(long row) {
+      double edge = Math.min(Math.PI / 2,
+        Math.max(Math.abs(row * tolerance), Math.abs((row + 1) * tolerance)));
+      double reach = longitudeReach(edge);
+      return reach < 0 ? 1 : Math.max(1, (long) Math.floor(2 * Math.PI / reach));
+    }
+
+    /**
+     * Processes the bands of a parity of a range of bands, splitting the range in two halves
+     * processed in parallel.
+     */
+    private final class BandTask extends RecursiveAction {
+
+      private static final long serialVersionUID = 1L;
+
+      private final int from;
+      private final int to;
+      private final int parity;
+
+      BandTask(int from, int to, int parity) {
+        this.from = from;
+        this.to = to;
+        this.parity = parity;
+      }
+
+      @Override
+      protected void compute() {
+        if (to - from <= 1 || offsets[to] - offsets[from] <= PARALLEL_THRESHOLD) {
+          processBands(from, to, parity);
+          return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new BandTask(from, middle, parity), new BandTask(middle, to, parity));
+      }
+    }
+  }
+
+  /**
+   * Open addressing hash table from the cells of a band to the first kept position of each cell,
+   * the other kept positions of the cell being chained through an array indexed by position.
+   */
+  private static final class CellTable {
+
+    private final long[] rows;
+    private final long[] columns;
+    private final int[] heads;
+    private final int mask;
+
+    CellTable(int positions) {
+      int capacity = Integer.highestOneBit(Math.max(1, positions)) << 2;
+      rows = new long[capacity];
+      columns = new long[capacity];
+      heads = new int[capacity];
+      Arrays.fill(heads, -1);
+      mask = capacity - 1;
+    }
+
+    void add(long row, long column, int position, int[] next) {
+      int slot = slot(row, column);
+      next[position] = heads[slot];
+      rows[slot] = row;
+      columns[slot] = column;
+      heads[slot] = position;
+    }
+
+    int get(long row, long column) {
+      return heads[slot(row, column)];
+    }
+
+    /**
+     * Returns the slot of a cell, which is either empty or holds the cell.
+     */
+    private int slot(long row, long column) {
+      long hash = row * 0x9E3779B97F4A7C15L + column;
+      hash ^= hash >>> 33;
+      hash *= 0xFF51AFD7ED558CCDL;
+      hash ^= hash >>> 33;
+      int slot = (int) hash & mask;
+      while (heads[slot] >= 0 && (rows[slot] != row || columns[slot] != column)) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+}
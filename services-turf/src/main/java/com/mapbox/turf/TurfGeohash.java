@@ -0,0 +1,310 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Size;
+
+import java.util.Arrays;
+
+/**
+ * Methods to compute the geohashes of coordinates, their neighbors and the geohashes covering a
+ * bounding box, for instance to key cached results or route them to shards.
+ * <p>
+ * Geohashes are handled as packed {@code long} ids, holding the interleaved bits of the cell below
+ * a leading marker bit, so that ids of different precisions never collide and ids of the same
+ * precision sort like their geohash strings. Use {@link #geohash(long, char[], int)} and
+ * {@link #fromGeohash(CharSequence)} to convert them from and to strings; apart from the methods
+ * returning strings or arrays, nothing is allocated.
+ * </p>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Geohash">Geohash</a>
+ * @since 7.11.0
+ */
+public final class TurfGeohash {
+
+  /**
+   * Highest supported precision, the bits of a geohash of 12 characters fill 60 bits.
+   */
+  public static final int MAX_PRECISION = 12;
+
+  private static final int BITS_PER_CHARACTER = 5;
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+  private static final byte[] BASE32_VALUES = new byte[128];
+
+  static {
+    Arrays.fill(BASE32_VALUES, (byte) -1);
+    for (int i = 0; i < BASE32.length; i++) {
+      BASE32_VALUES[BASE32[i]] = (byte) i;
+      BASE32_VALUES[Character.toUpperCase(BASE32[i])] = (byte) i;
+    }
+  }
+
+  private TurfGeohash() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Returns the geohash of the cell containing a coordinate.
+   *
+   * @param longitude longitude of the coordinate
+   * @param latitude  latitude of the coordinate
+   * @param precision number of characters of the geohash
+   * @return the geohash id
+   * @throws TurfException if the precision isn't supported
+   * @since 7.11.0
+   */
+  public static long pointToGeohash(double longitude, double latitude,
+                                    @IntRange(from = 0, to = MAX_PRECISION) int precision) {
+    checkPrecision(precision);
+    int bits = BITS_PER_CHARACTER * precision;
+    return id(column(longitude, bits), row(latitude, bits), bits);
+  }
+
+  /**
+   * Returns the number of characters of a geohash.
+   *
+   * @param geohash the geohash id
+   * @return the precision of the geohash
+   * @throws TurfException if the id isn't a valid geohash id
+   * @since 7.11.0
+   */
+  public static int precision(long geohash) {
+    return bits(geohash) / BITS_PER_CHARACTER;
+  }
+
+  /**
+   * Returns the string of a geohash.
+   *
+   * @param geohash the geohash id
+   * @return the geohash, made up of one base 32 character per 5 bits
+   * @throws TurfException if the id isn't a valid geohash id
+   * @since 7.11.0
+   */
+  @NonNull
+  public static String geohash(long geohash) {
+    char[] characters = new char[precision(geohash)];
+    geohash(geohash, characters, 0);
+    return new String(characters);
+  }
+
+  /**
+   * Writes the string of a geohash into an array, without allocating anything.
+   *
+   * @param geohash the geohash id
+   * @param output  receives the characters of the geohash
+   * @param offset  index of the first character in the output array
+   * @return the number of characters written, which is the precision of the geohash
+   * @throws TurfException if the id isn't a valid geohash id
+   * @see #geohash(long)
+   * @since 7.11.0
+   */
+  public static int geohash(long geohash, @NonNull char[] output, int offset) {
+    int precision = precision(geohash);
+    for (int i = 0; i < precision; i++) {
+      int shift = BITS_PER_CHARACTER * (precision - 1 - i);
+      output[offset + i] = BASE32[(int) (geohash >>> shift) & 31];
+    }
+    return precision;
+  }
+
+  /**
+   * Returns the id of a geohash string. Upper case characters are accepted.
+   *
+   * @param geohash the geohash string
+   * @return the geohash id
+   * @throws TurfException if the geohash has more than {@link #MAX_PRECISION} characters or a
+   *                       character outside of the geohash alphabet
+   * @since 7.11.0
+   */
+  public static long fromGeohash(@NonNull CharSequence geohash) {
+    int precision = geohash.length();
+    checkPrecision(precision);
+    long id = 1;
+    for (int i = 0; i < precision; i++) {
+      char character = geohash.charAt(i);
+      int value = character < BASE32_VALUES.length ? BASE32_VALUES[character] : -1;
+      if (value < 0) {
+        throw new TurfException("Invalid geohash character: " + character + ".");
+      }
+      id = (id << BITS_PER_CHARACTER) | value;
+    }
+    return id;
+  }
+
+  /**
+   * Writes the bounding box of the cell of a geohash into an array.
+   *
+   * @param geohash the geohash id
+   * @param output  receives the box: [west, south, east, north]
+   * @throws TurfException if the id isn't a valid geohash id
+   * @since 7.11.0
+   */
+  public static void bbox(long geohash, @NonNull @Size(min = 4) double[] output) {
+    int bits = bits(geohash);
+    long cell = geohash & ((1L << bits) - 1);
+    double width = 360.0 / (1L << columnBits(bits));
+    double height = 180.0 / (1L << rowBits(bits));
+    long column = compact(bits % 2 == 1 ? cell : cell >>> 1);
+    long row = compact(bits % 2 == 1 ? cell >>> 1 : cell);
+    output[0] = -180 + column * width;
+    output[1] = -90 + row * height;
+    output[2] = output[0] + width;
+    output[3] = output[1] + height;
+  }
+
+  /**
+   * Returns a geohash shifted from another one by a number of cells, wrapping around the
+   * antimeridian.
+   *
+   * @param geohash the geohash id
+   * @param dx      number of cells to the east, or to the west if negative
+   * @param dy      number of cells to the north, or to the south if negative
+   * @return the id of the shifted geohash, or -1 if it's beyond a pole
+   * @throws TurfException if the id isn't a valid geohash id
+   * @since 7.11.0
+   */
+  public static long neighbor(long geohash, int dx, int dy) {
+    int bits = bits(geohash);
+    long cell = geohash & ((1L << bits) - 1);
+    long columns = 1L << columnBits(bits);
+    long column = compact(bits % 2 == 1 ? cell : cell >>> 1) + dx;
+    long row = compact(bits % 2 == 1 ? cell >>> 1 : cell) + dy;
+    if (row < 0 || row >= 1L << rowBits(bits)) {
+      return -1;
+    }
+    column %= columns;
+    return id(column < 0 ? column + columns : column, row, bits);
+  }
+
+  /**
+   * Writes the 8 neighbors of a geohash into an array, clockwise from the north: north,
+   * north east, east, south east, south, south west, west and north west. Neighbors beyond a pole
+   * are written as -1.
+   *
+   * @param geohash the geohash id
+   * @param output  receives the ids of the neighbors
+   * @throws TurfException if the id isn't a valid geohash id
+   * @since 7.11.0
+   */
+  public static void neighbors(long geohash, @NonNull @Size(min = 8) long[] output) {
+    output[0] = neighbor(geohash, 0, 1);
+    output[1] = neighbor(geohash, 1, 1);
+    output[2] = neighbor(geohash, 1, 0);
+    output[3] = neighbor(geohash, 1, -1);
+    output[4] = neighbor(geohash, 0, -1);
+    output[5] = neighbor(geohash, -1, -1);
+    output[6] = neighbor(geohash, -1, 0);
+    output[7] = neighbor(geohash, -1, 1);
+  }
+
+  /**
+   * Computes the geohashes intersecting a bounding box. Boxes whose west edge is east of their
+   * east edge cross the antimeridian.
+   *
+   * @param bbox      the box: [west, south, east, north]
+   * @param precision number of characters of the geohashes
+   * @return the sorted geohash ids
+   * @throws TurfException if the precision isn't supported or the box covers more than
+   *                       {@link Integer#MAX_VALUE} geohashes
+   * @since 7.11.0
+   */
+  @NonNull
+  public static long[] bboxCover(@NonNull @Size(min = 4) double[] bbox,
+                                 @IntRange(from = 0, to = MAX_PRECISION) int precision) {
+    checkPrecision(precision);
+    int bits = BITS_PER_CHARACTER * precision;
+    long totalColumns = 1L << columnBits(bits);
+    long west = column(bbox[0], bits);
+    long east = column(bbox[2], bits);
+    long south = row(bbox[1], bits);
+    long north = row(bbox[3], bits);
+    long columns = bbox[0] > bbox[2] ? Math.min(totalColumns, totalColumns - west + east + 1)
+      : Math.max(0, east - west + 1);
+    long count = columns * Math.max(0, north - south + 1);
+    if (count > Integer.MAX_VALUE || count < 0) {
+      throw new TurfException("The box covers too many geohashes.");
+    }
+    long[] ids = new long[(int) count];
+    int index = 0;
+    for (long column = 0; column < columns; column++) {
+      for (long row = south; row <= north; row++) {
+        ids[index++] = id((west + column) % totalColumns, row, bits);
+      }
+    }
+    Arrays.sort(ids);
+    return ids;
+  }
+
+  private static void checkPrecision(int precision) {
+    if (precision < 0 || precision > MAX_PRECISION) {
+      throw new TurfException("Precision must be between 0 and " + MAX_PRECISION + ", got "
+        + precision + ".");
+    }
+  }
+
+  /**
+   * Returns the number of bits of the cell of a geohash id, below its marker bit.
+   */
+  private static int bits(long geohash) {
+    int bits = 63 - Long.numberOfLeadingZeros(geohash);
+    if (geohash <= 0 || bits % BITS_PER_CHARACTER != 0) {
+      throw new TurfException("Invalid geohash id: " + geohash + ".");
+    }
+    return bits;
+  }
+
+  // the first bit of a geohash splits the longitudes, then the bits alternate
+  private static int columnBits(int bits) {
+    return (bits + 1) / 2;
+  }
+
+  private static int rowBits(int bits) {
+    return bits / 2;
+  }
+
+  private static long column(double longitude, int bits) {
+    long columns = 1L << columnBits(bits);
+    long column = (long) Math.floor((longitude + 180) / 360 * columns);
+    return Math.max(0, Math.min(columns - 1, column));
+  }
+
+  private static long row(double latitude, int bits) {
+    long rows = 1L << rowBits(bits);
+    long row = (long) Math.floor((latitude + 90) / 180 * rows);
+    return Math.max(0, Math.min(rows - 1, row));
+  }
+
+  /**
+   * Packs a cell, interleaving the bits of its column and row below the marker bit.
+   */
+  private static long id(long column, long row, int bits) {
+    long cell = bits % 2 == 1 ? spread(column) | spread(row) << 1
+      : spread(column) << 1 | spread(row);
+    return 1L << bits | cell;
+  }
+
+  /**
+   * Moves the 32 lower bits of a value to the even bits of the result.
+   */
+  private static long spread(long value) {
+    long spread = value & 0xFFFFFFFFL;
+    spread = (spread | spread << 16) & 0x0000FFFF0000FFFFL;
+    spread = (spread | spread << 8) & 0x00FF00FF00FF00FFL;
+    spread = (spread | spread << 4) & 0x0F0F0F0F0F0F0F0FL;
+    spread = (spread | spread << 2) & 0x3333333333333333L;
+    return (spread | spread << 1) & 0x5555555555555555L;
+  }
+
+  /**
+   * Moves the even bits of a value to the 32 lower bits of the result, reverting
+   * {@link #spread(long)}.
+   */
+  private static long compact(long value) {
+    long compact = value & 0x5555555555555555L;
+    compact = (compact | compact >>> 1) & 0x3333333333333333L;
+    compact = (compact | compact >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+    compact = (compact | compact >>> 4) & 0x00FF00FF00FF00FFL;
+    compact = (compact | compact >>> 8) & 0x0000FFFF0000FFFFL;
+    return (compact | compact >>> 16) & 0xFFFFFFFFL;
+  }
+}
@@ -21,10 +21,11 @@ import com.mapbox.geojson.MultiPolygon;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Class contains an assortment of methods used to calculate measurements such as bearing,
@@ -44,6 +45,22 @@ public final class TurfMeasurement {
    */
   public static double EARTH_RADIUS = 6378137;
 
+  /**
+   * Number of features below which the parallel collection measurements stop splitting the work.
+   */
+  private static final int PARALLEL_THRESHOLD = 16;
+
+  /**
+   * Number of destinations per tile of the distance matrix, small enough for their converted
+   * coordinates to stay in the L1 cache.
+   */
+  private static final int MATRIX_BLOCK = 256;
+
+  /**
+   * Number of distances below which the parallel distance matrix stops splitting the work.
+   */
+  private static final int MATRIX_PARALLEL_THRESHOLD = 1 << 16;
+
   /**
    * Takes two {@link Point}s and finds the geographic bearing between them.
    *
@@ -126,16 +143,181 @@ public final class TurfMeasurement {
    */
   public static double distance(@NonNull Point point1, @NonNull Point point2,
                                 @NonNull @TurfConstants.TurfUnitCriteria String units) {
-    double difLat = degreesToRadians((point2.latitude() - point1.latitude()));
-    double difLon = degreesToRadians((point2.longitude() - point1.longitude()));
-    double lat1 = degreesToRadians(point1.latitude());
-    double lat2 = degreesToRadians(point2.latitude());
-
-    double value = Math.pow(Math.sin(difLat / 2), 2)
-      + Math.pow(Math.sin(difLon / 2), 2) * Math.cos(lat1) * Math.cos(lat2);
+    return distance(point1.longitude(), point1.latitude(),
+      point2.longitude(), point2.latitude(), units);
+  }
 
+  /**
+   * Calculates the distance between two coordinates in degress, radians, miles, or kilometers.
+   * This uses the Haversine formula to account for global curvature and gives the same result as
+   * {@link #distance(Point, Point, String)} without requiring {@link Point} instances.
+   *
+   * @param longitude1 longitude of the first coordinate
+   * @param latitude1  latitude of the first coordinate
+   * @param longitude2 longitude of the second coordinate
+   * @param latitude2  latitude of the second coordinate
+   * @param units      one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return distance between the two coordinates in the units specified
+   * @since 7.11.0
+   */
+  public static double distance(double longitude1, double latitude1,
+                                double longitude2, double latitude2,
+                                @NonNull @TurfConstants.TurfUnitCriteria String units) {
     return TurfConversion.radiansToLength(
-      2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)), units);
+      distanceRadians(longitude1, latitude1, longitude2, latitude2), units);
+  }
+
+  static double distanceRadians(double longitude1, double latitude1,
+                                double longitude2, double latitude2) {
+    double lat1 = degreesToRadians(latitude1);
+    double lat2 = degreesToRadians(latitude2);
+    return haversine(degreesToRadians(longitude1), lat1, Math.cos(lat1),
+      degreesToRadians(longitude2), lat2, Math.cos(lat2));
+  }
+
+  /**
+   * Calculates the distances between one coordinate and each coordinate of a flat array, giving
+   * the same results as {@link #distance(double, double, double, double, String)}. The origin is
+   * converted once and the coordinates are read and written sequentially, so that large batches
+   * run without allocating anything.
+   *
+   * @param longitude     longitude of the origin
+   * @param latitude      latitude of the origin
+   * @param flattenLngLat the coordinates to measure to: [lng1, lat1, lng2, lat2, ...]
+   * @param distances     receives the distance to each coordinate, in the order of the array
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @throws TurfException if the output array is shorter than the number of coordinates
+   * @since 7.11.0
+   */
+  public static void distances(double longitude, double latitude,
+                               @NonNull double[] flattenLngLat, @NonNull double[] distances,
+                               @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    int count = flattenLngLat.length / 2;
+    if (distances.length < count) {
+      throw new TurfException("The output array must hold one distance per coordinate.");
+    }
+    double factor = TurfConversion.radiansToLength(1, units);
+    double lon1 = degreesToRadians(longitude);
+    double lat1 = degreesToRadians(latitude);
+    double cosLat1 = Math.cos(lat1);
+    for (int i = 0; i < count; i++) {
+      double lat2 = degreesToRadians(flattenLngLat[2 * i + 1]);
+      distances[i] = factor * haversine(lon1, lat1, cosLat1,
+        degreesToRadians(flattenLngLat[2 * i]), lat2, Math.cos(lat2));
+    }
+  }
+
+  /**
+   * Calculates the distances between the coordinates of the same index of two flat arrays,
+   * giving the same results as {@link #distance(double, double, double, double, String)}. Only
+   * the i-th coordinates of both arrays are paired, see
+   * {@link #distanceMatrix(double[], double[], String, ForkJoinPool)} for the distances between
+   * every coordinate of one array and every coordinate of the other.
+   *
+   * @param flattenLngLat1 the first coordinates: [lng1, lat1, lng2, lat2, ...]
+   * @param flattenLngLat2 the second coordinates, as many as the first ones
+   * @param distances      receives the distance between each pair of coordinates
+   * @param units          one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @throws TurfException if the arrays don't hold the same number of coordinates or the output
+   *                       array is shorter than the number of coordinates
+   * @since 7.11.0
+   */
+  public static void distances(@NonNull double[] flattenLngLat1, @NonNull double[] flattenLngLat2,
+                               @NonNull double[] distances,
+                               @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    int count = flattenLngLat1.length / 2;
+    if (flattenLngLat2.length / 2 != count) {
+      throw new TurfException("Both arrays must hold the same number of coordinates.");
+    }
+    if (distances.length < count) {
+      throw new TurfException("The output array must hold one distance per coordinate.");
+    }
+    double factor = TurfConversion.radiansToLength(1, units);
+    for (int i = 0; i < count; i++) {
+      double lat1 = degreesToRadians(flattenLngLat1[2 * i + 1]);
+      double lat2 = degreesToRadians(flattenLngLat2[2 * i + 1]);
+      distances[i] = factor * haversine(degreesToRadians(flattenLngLat1[2 * i]), lat1,
+        Math.cos(lat1), degreesToRadians(flattenLngLat2[2 * i]), lat2, Math.cos(lat2));
+    }
+  }
+
+  /**
+   * Calculates the distance between every source and every destination, the local counterpart of
+   * the Mapbox Matrix API giving the same results as
+   * {@link #distance(double, double, double, double, String)}. The destinations are converted
+   * once and walked in tiles small enough to stay in the cache while the rows of a tile are
+   * filled.
+   *
+   * @param sources      the sources: [lng1, lat1, lng2, lat2, ...]
+   * @param destinations the destinations: [lng1, lat1, lng2, lat2, ...]
+   * @param units        one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @param pool         the pool filling large matrices in parallel, or null to fill them on the
+   *                     calling thread
+   * @return the distances in row-major order: the distance between source i and destination j
+   *   is at index {@code i * destinations.length / 2 + j}
+   * @throws TurfException if the matrix has more than {@link Integer#MAX_VALUE} distances
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] distanceMatrix(@NonNull double[] sources, @NonNull double[] destinations,
+                                        @NonNull @TurfConstants.TurfUnitCriteria String units,
+                                        @Nullable ForkJoinPool pool) {
+    int rows = sources.length / 2;
+    int columns = destinations.length / 2;
+    if ((long) rows * columns > Integer.MAX_VALUE) {
+      throw new TurfException("The distance matrix is too large for a single array.");
+    }
+    double[] lons = new double[columns];
+    double[] lats = new double[columns];
+    double[] cosLats = new double[columns];
+    for (int j = 0; j < columns; j++) {
+      lons[j] = degreesToRadians(destinations[2 * j]);
+      lats[j] = degreesToRadians(destinations[2 * j + 1]);
+      cosLats[j] = Math.cos(lats[j]);
+    }
+    double factor = TurfConversion.radiansToLength(1, units);
+    double[] matrix = new double[rows * columns];
+    if (pool == null || (long) rows * columns <= MATRIX_PARALLEL_THRESHOLD) {
+      fillMatrix(sources, lons, lats, cosLats, factor, matrix, 0, rows);
+    } else {
+      pool.invoke(new MatrixTask(sources, lons, lats, cosLats, factor, matrix, 0, rows));
+    }
+    return matrix;
+  }
+
+  /**
+   * Fills a range of rows of a distance matrix, one tile of destinations at a time.
+   */
+  private static void fillMatrix(double[] sources, double[] lons, double[] lats,
+                                 double[] cosLats, double factor, double[] matrix,
+                                 int from, int to) {
+    int columns = lons.length;
+    for (int block = 0; block < columns; block += MATRIX_BLOCK) {
+      int blockEnd = Math.min(block + MATRIX_BLOCK, columns);
+      for (int i = from; i < to; i++) {
+        double lon = degreesToRadians(sources[2 * i]);
+        double lat = degreesToRadians(sources[2 * i + 1]);
+        double cosLat = Math.cos(lat);
+        int row = i * columns;
+        for (int j = block; j < blockEnd; j++) {
+          matrix[row + j] = factor * haversine(lon, lat, cosLat, lons[j], lats[j], cosLats[j]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Haversine formula over coordinates already in radians, with the cosines of the latitudes
+   * computed by the caller so that batches can reuse them.
+   *
+   * @return the central angle between the coordinates, in radians
+   */
+  static double haversine(double lon1, double lat1, double cosLat1,
+                          double lon2, double lat2, double cosLat2) {
+    double sinLat = Math.sin((lat2 - lat1) / 2);
+    double sinLon = Math.sin((lon2 - lon1) / 2);
+    double value = sinLat * sinLat + sinLon * sinLon * cosLat1 * cosLat2;
+    return 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value));
   }
 
   /**
@@ -233,6 +415,54 @@ public final class TurfMeasurement {
     return travelled;
   }
 
+  /**
+   * Measures the length of a line represented by a flat array of coordinates:
+   * [lng1, lat1, lng2, lat2, ...]. The segment lengths are accumulated with compensated
+   * summation, so that lines made up of a very large number of short segments don't lose
+   * precision.
+   *
+   * @param flattenLngLat the coordinates of the line
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return length of the input line in the units specified
+   * @see <a href="http://turfjs.org/docs/#linedistance">Turf Line Distance documentation</a>
+   * @since 7.11.0
+   */
+  public static double length(@NonNull double[] flattenLngLat,
+                              @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    CompensatedSum travelled = new CompensatedSum();
+    for (int i = 2; i + 1 < flattenLngLat.length; i += 2) {
+      travelled.add(distanceRadians(flattenLngLat[i - 2], flattenLngLat[i - 1],
+        flattenLngLat[i], flattenLngLat[i + 1]));
+    }
+    return TurfConversion.radiansToLength(travelled.value(), units);
+  }
+
+  /**
+   * Measures the length of every feature of a {@link FeatureCollection}, splitting the work
+   * across the threads of the provided pool. Lines are measured along their coordinates and
+   * polygons along all of their rings; points have no length.
+   *
+   * @param featureCollection the features to measure
+   * @param units             one of the units found inside
+   *                          {@link TurfConstants.TurfUnitCriteria}
+   * @param pool              the pool running the measurements
+   * @return the length of each feature, in the order of the collection and in the units
+   *   specified
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] lengths(@NonNull FeatureCollection featureCollection,
+                                 @NonNull @TurfConstants.TurfUnitCriteria String units,
+                                 @NonNull ForkJoinPool pool) {
+    List<Feature> features = featureCollection.features();
+    if (features == null) {
+      return new double[0];
+    }
+    double[] result = new double[features.size()];
+    pool.invoke(new MeasureTask(features, units, result, 0, result.length));
+    return result;
+  }
+
   /**
    * Takes two {@link Point}s and returns a point midway between them. The midpoint is calculated
    * geodesically, meaning the curvature of the earth is taken into account.
@@ -257,6 +487,7 @@ public final class TurfMeasurement {
    * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
    * @return a {@link Point} which is on the linestring provided and at the distance from
    *         the origin of that line to the end of the distance
+   * @see MeasuredLine#along(double, String) for repeated lookups along the same line
    * @since 1.3.0
    */
   public static Point along(@NonNull LineString line, @FloatRange(from = 0) double distance,
@@ -305,8 +536,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull Point point) {
-    List<Point> resultCoords = TurfMeta.coordAll(point);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(point);
   }
 
   /**
@@ -317,8 +547,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull LineString lineString) {
-    List<Point> resultCoords = TurfMeta.coordAll(lineString);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(lineString);
   }
 
   /**
@@ -329,8 +558,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull MultiPoint multiPoint) {
-    List<Point> resultCoords = TurfMeta.coordAll(multiPoint);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(multiPoint);
   }
 
   /**
@@ -341,8 +569,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull Polygon polygon) {
-    List<Point> resultCoords = TurfMeta.coordAll(polygon, false);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(polygon);
   }
 
   /**
@@ -353,8 +580,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull MultiLineString multiLineString) {
-    List<Point> resultCoords = TurfMeta.coordAll(multiLineString);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(multiLineString);
   }
 
   /**
@@ -365,8 +591,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(MultiPolygon multiPolygon) {
-    List<Point> resultCoords = TurfMeta.coordAll(multiPolygon, false);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(multiPolygon);
   }
 
   /**
@@ -406,7 +631,7 @@ public final class TurfMeasurement {
    * @since 4.8.0
    */
   public static double[] bbox(FeatureCollection featureCollection) {
-    return bboxCalculator(TurfMeta.coordAll(featureCollection, false));
+    return bboxCalculator(featureCollection);
   }
 
   /**
@@ -417,7 +642,7 @@ public final class TurfMeasurement {
    * @since 4.8.0
    */
   public static double[] bbox(Feature feature) {
-    return bboxCalculator(TurfMeta.coordAll(feature, false));
+    return bboxCalculator(feature);
   }
 
   /**
@@ -441,43 +666,38 @@ public final class TurfMeasurement {
     } else if (geometry instanceof MultiPolygon) {
       return bbox((MultiPolygon) geometry);
     } else if (geometry instanceof GeometryCollection) {
-      List<Point> points = new ArrayList<>();
-      for (Geometry geo : ((GeometryCollection) geometry).geometries()) {
-        // recursive
-        double[] bbox = bbox(geo);
-        points.add(Point.fromLngLat(bbox[0], bbox[1]));
-        points.add(Point.fromLngLat(bbox[2], bbox[1]));
-        points.add(Point.fromLngLat(bbox[2], bbox[3]));
-        points.add(Point.fromLngLat(bbox[0], bbox[3]));
-      }
-      return TurfMeasurement.bbox(MultiPoint.fromLngLats(points));
+      return bboxCalculator(geometry);
     } else {
       throw new RuntimeException(("Unknown geometry class: " + geometry.getClass()));
     }
   }
 
-  private static double[] bboxCalculator(List<Point> resultCoords) {
-    double[] bbox = new double[4];
+  private static double[] bboxCalculator(@NonNull GeoJson geoJson) {
+    final double[] bbox = new double[4];
 
     bbox[0] = Double.POSITIVE_INFINITY;
     bbox[1] = Double.POSITIVE_INFINITY;
     bbox[2] = Double.NEGATIVE_INFINITY;
     bbox[3] = Double.NEGATIVE_INFINITY;
 
-    for (Point point : resultCoords) {
-      if (bbox[0] > point.longitude()) {
-        bbox[0] = point.longitude();
-      }
-      if (bbox[1] > point.latitude()) {
-        bbox[1] = point.latitude();
-      }
-      if (bbox[2] < point.longitude()) {
-        bbox[2] = point.longitude();
-      }
-      if (bbox[3] < point.latitude()) {
-        bbox[3] = point.latitude();
+    // the closing coordinate of a ring can't extend the bbox, skip it
+    TurfMeta.coordEach(geoJson, true, new TurfMeta.CoordinateVisitor() {
+      @Override
+      public void onCoordinate(double longitude, double latitude) {
+        if (bbox[0] > longitude) {
+          bbox[0] = longitude;
+        }
+        if (bbox[1] > latitude) {
+          bbox[1] = latitude;
+        }
+        if (bbox[2] < longitude) {
+          bbox[2] = longitude;
+        }
+        if (bbox[3] < latitude) {
+          bbox[3] = latitude;
+        }
       }
-    }
+    });
     return bbox;
   }
 
@@ -608,7 +828,7 @@ public final class TurfMeasurement {
    * @since 4.10.0
    */
   public static double area(@NonNull Feature feature) {
-    return feature.geometry() != null ? area(feature.geometry()) : 0.0f;
+    return calculateArea(feature);
   }
 
   /**
@@ -619,14 +839,7 @@ public final class TurfMeasurement {
    * @since 4.10.0
    */
   public static double area(@NonNull FeatureCollection featureCollection) {
-    List<Feature> features = featureCollection.features();
-    double total = 0.0f;
-    if (features != null) {
-      for (Feature feature : features) {
-        total += area(feature);
-      }
-    }
-    return total;
+    return calculateArea(featureCollection);
   }
 
   /**
@@ -640,20 +853,83 @@ public final class TurfMeasurement {
     return calculateArea(geometry);
   }
 
-  private static double calculateArea(@NonNull Geometry geometry) {
-    double total = 0.0f;
-    if (geometry instanceof Polygon) {
-      return polygonArea(((Polygon) geometry).coordinates());
-    } else if (geometry instanceof MultiPolygon) {
-      List<List<List<Point>>> coordinates = ((MultiPolygon) geometry).coordinates();
-      for (int i = 0; i < coordinates.size(); i++) {
-        total += polygonArea(coordinates.get(i));
+  /**
+   * Takes the rings of a polygon, each represented by a flat array of coordinates:
+   * [lng1, lat1, lng2, lat2, ...], and returns its area in square meters. The first ring is the
+   * outer ring, the following ones are holes. The ring areas are accumulated with compensated
+   * summation.
+   *
+   * @param flattenRings the rings of the polygon
+   * @return area in square meters
+   * @since 7.11.0
+   */
+  public static double area(@NonNull double[][] flattenRings) {
+    double total = 0;
+    if (flattenRings.length > 0) {
+      total += Math.abs(ringArea(flattenRings[0]));
+      for (int i = 1; i < flattenRings.length; i++) {
+        total -= Math.abs(ringArea(flattenRings[i]));
       }
-      return total;
-    } else {
-      // Area should be 0 for case Point, MultiPoint, LineString and MultiLineString
-      return 0.0f;
     }
+    return total;
+  }
+
+  /**
+   * Takes one {@link FeatureCollection} and returns its area in square meters, measuring the
+   * features in parallel on the provided pool.
+   *
+   * @param featureCollection input {@link FeatureCollection}
+   * @param pool              the pool running the measurements
+   * @return area in square meters
+   * @since 7.11.0
+   */
+  public static double area(@NonNull FeatureCollection featureCollection,
+                            @NonNull ForkJoinPool pool) {
+    CompensatedSum total = new CompensatedSum();
+    for (double area : areas(featureCollection, pool)) {
+      total.add(area);
+    }
+    return total.value();
+  }
+
+  /**
+   * Measures the area of every feature of a {@link FeatureCollection}, splitting the work across
+   * the threads of the provided pool.
+   *
+   * @param featureCollection input {@link FeatureCollection}
+   * @param pool              the pool running the measurements
+   * @return the area of each feature in square meters, in the order of the collection
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] areas(@NonNull FeatureCollection featureCollection,
+                               @NonNull ForkJoinPool pool) {
+    List<Feature> features = featureCollection.features();
+    if (features == null) {
+      return new double[0];
+    }
+    double[] result = new double[features.size()];
+    pool.invoke(new MeasureTask(features, null, result, 0, result.length));
+    return result;
+  }
+
+  private static double calculateArea(@NonNull GeoJson geoJson) {
+    final double[] total = new double[1];
+    TurfMeta.geomEach(geoJson, new TurfMeta.GeometryVisitor() {
+      @Override
+      public void onGeometry(@NonNull Geometry geometry, int featureIndex) {
+        if (geometry instanceof Polygon) {
+          total[0] += polygonArea(((Polygon) geometry).coordinates());
+        } else if (geometry instanceof MultiPolygon) {
+          List<List<List<Point>>> coordinates = ((MultiPolygon) geometry).coordinates();
+          for (int i = 0; i < coordinates.size(); i++) {
+            total[0] += polygonArea(coordinates.get(i));
+          }
+        }
+        // Area should be 0 for case Point, MultiPoint, LineString and MultiLineString
+      }
+    });
+    return total[0];
   }
 
   private static double polygonArea(@NonNull List<List<Point>> coordinates) {
@@ -687,7 +963,7 @@ public final class TurfMeasurement {
     int lowerIndex;
     int middleIndex;
     int upperIndex;
-    double total = 0.0f;
+    CompensatedSum total = new CompensatedSum();
     final int coordsLength = coordinates.size();
 
     if (coordsLength > 2) {
@@ -708,11 +984,42 @@ public final class TurfMeasurement {
         p1 = coordinates.get(lowerIndex);
         p2 = coordinates.get(middleIndex);
         p3 = coordinates.get(upperIndex);
-        total += (rad(p3.longitude()) - rad(p1.longitude())) * Math.sin(rad(p2.latitude()));
+        total.add((rad(p3.longitude()) - rad(p1.longitude())) * Math.sin(rad(p2.latitude())));
       }
-      total = total * EARTH_RADIUS * EARTH_RADIUS / 2;
+      return total.value() * EARTH_RADIUS * EARTH_RADIUS / 2;
     }
-    return total;
+    return 0;
+  }
+
+  /**
+   * Same as {@link #ringArea(List)} over a flat array of coordinates.
+   */
+  private static double ringArea(@NonNull double[] flattenLngLat) {
+    final int coordsLength = flattenLngLat.length / 2;
+    if (coordsLength <= 2) {
+      return 0;
+    }
+    CompensatedSum total = new CompensatedSum();
+    for (int i = 0; i < coordsLength; i++) {
+      int lowerIndex = i;
+      int middleIndex = i + 1 < coordsLength ? i + 1 : i + 1 - coordsLength;
+      int upperIndex = i + 2 < coordsLength ? i + 2 : i + 2 - coordsLength;
+      total.add((rad(flattenLngLat[2 * upperIndex]) - rad(flattenLngLat[2 * lowerIndex]))
+        * Math.sin(rad(flattenLngLat[2 * middleIndex + 1])));
+    }
+    return total.value() * EARTH_RADIUS * EARTH_RADIUS / 2;
+  }
+
+  private static double lengthRadians(@NonNull GeoJson geoJson) {
+    final CompensatedSum total = new CompensatedSum();
+    TurfMeta.segmentEach(geoJson, new TurfMeta.SegmentVisitor() {
+      @Override
+      public void onSegment(double startLongitude, double startLatitude,
+                            double endLongitude, double endLatitude) {
+        total.add(distanceRadians(startLongitude, startLatitude, endLongitude, endLatitude));
+      }
+    });
+    return total.value();
   }
 
   private static double rad(double num) {
@@ -778,4 +1085,85 @@ public final class TurfMeasurement {
   public static Feature center(FeatureCollection featureCollection) {
     return center(featureCollection, null, null);
   }
+
+  /**
+   * Measures the area, or the length when units are provided, of a range of features and writes
+   * the results at the matching indices of the output array.
+   */
+  private static final class MeasureTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Feature> features;
+    @Nullable
+    private final String units;
+    private final double[] result;
+    private final int from;
+    private final int to;
+
+    MeasureTask(List<Feature> features, @Nullable String units, double[] result,
+                int from, int to) {
+      this.features = features;
+      this.units = units;
+      this.result = result;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        for (int i = from; i < to; i++) {
+          Feature feature = features.get(i);
+          result[i] = units == null
+            ? area(feature)
+            : TurfConversion.radiansToLength(lengthRadians(feature), units);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new MeasureTask(features, units, result, from, middle),
+        new MeasureTask(features, units, result, middle, to));
+    }
+  }
+
+  /**
+   * Fills a range of rows of a distance matrix, tile by tile.
+   */
+  private static final class MatrixTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] sources;
+    private final double[] lons;
+    private final double[] lats;
+    private final double[] cosLats;
+    private final double factor;
+    private final double[] matrix;
+    private final int from;
+    private final int to;
+
+    MatrixTask(double[] sources, double[] lons, double[] lats, double[] cosLats, double factor,
+               double[] matrix, int from, int to) {
+      this.sources = sources;
+      this.lons = lons;
+      this.lats = lats;
+      this.cosLats = cosLats;
+      this.factor = factor;
+      this.matrix = matrix;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= 1 || (long) (to - from) * lons.length <= MATRIX_PARALLEL_THRESHOLD) {
+        fillMatrix(sources, lons, lats, cosLats, factor, matrix, from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new MatrixTask(sources, lons, lats, cosLats, factor, matrix, from, middle),
+        new MatrixTask(sources, lons, lats, cosLats, factor, matrix, middle, to));
+    }
+  }
 }
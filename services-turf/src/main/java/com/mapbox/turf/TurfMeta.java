@@ -1,9 +1,11 @@
 package com.mapbox.turf;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.GeoJson;
 import com.mapbox.geojson.Geometry;
 import com.mapbox.geojson.GeometryCollection;
 import com.mapbox.geojson.LineString;
@@ -329,6 +331,184 @@ public final class TurfMeta {
     return pointList;
   }
 
+  /**
+   * Iterates over all coordinates of any {@link GeoJson} object without creating intermediate
+   * lists or {@link Point}s. This is the callback equivalent of the {@code coordAll} methods.
+   *
+   * @param geoJson          a {@link Feature}, {@link FeatureCollection} or {@link Geometry}
+   * @param excludeWrapCoord whether or not to include the final coordinate of LinearRings that
+   *                         wraps the ring in its iteration. Used to handle {@link Polygon} and
+   *                         {@link MultiPolygon} geometries.
+   * @param visitor          called once per coordinate, in order
+   * @see <a href="http://turfjs.org/docs/#coordEach">Turf coordEach documentation</a>
+   * @since 7.11.0
+   */
+  public static void coordEach(@NonNull GeoJson geoJson, boolean excludeWrapCoord,
+                               @NonNull CoordinateVisitor visitor) {
+    if (geoJson instanceof FeatureCollection) {
+      List<Feature> features = ((FeatureCollection) geoJson).features();
+      if (features != null) {
+        for (int i = 0; i < features.size(); i++) {
+          coordEach(features.get(i).geometry(), excludeWrapCoord, visitor);
+        }
+      }
+    } else if (geoJson instanceof Feature) {
+      coordEach(((Feature) geoJson).geometry(), excludeWrapCoord, visitor);
+    } else if (geoJson instanceof Geometry) {
+      coordEach((Geometry) geoJson, excludeWrapCoord, visitor);
+    }
+  }
+
+  private static void coordEach(@Nullable Geometry geometry, boolean excludeWrapCoord,
+                                @NonNull CoordinateVisitor visitor) {
+    if (geometry instanceof Point) {
+      Point point = (Point) geometry;
+      visitor.onCoordinate(point.longitude(), point.latitude());
+    } else if (geometry instanceof MultiPoint) {
+      coordEach(((MultiPoint) geometry).flattenCoordinates().getFlattenLngLatArray(), visitor);
+    } else if (geometry instanceof LineString) {
+      coordEach(((LineString) geometry).flattenCoordinates().getFlattenLngLatArray(), visitor);
+    } else if (geometry instanceof MultiLineString) {
+      List<List<Point>> lines = ((MultiLineString) geometry).coordinates();
+      for (int i = 0; i < lines.size(); i++) {
+        coordEach(lines.get(i), 0, visitor);
+      }
+    } else if (geometry instanceof Polygon) {
+      coordEachRing(((Polygon) geometry).coordinates(), excludeWrapCoord ? 1 : 0, visitor);
+    } else if (geometry instanceof MultiPolygon) {
+      List<List<List<Point>>> polygons = ((MultiPolygon) geometry).coordinates();
+      for (int i = 0; i < polygons.size(); i++) {
+        coordEachRing(polygons.get(i), excludeWrapCoord ? 1 : 0, visitor);
+      }
+    } else if (geometry instanceof GeometryCollection) {
+      // recursive
+      List<Geometry> geometries = ((GeometryCollection) geometry).geometries();
+      for (int i = 0; i < geometries.size(); i++) {
+        coordEach(geometries.get(i), excludeWrapCoord, visitor);
+      }
+    }
+  }
+
+  private static void coordEach(@NonNull double[] flattenLngLat,
+                                @NonNull CoordinateVisitor visitor) {
+    for (int i = 0; i + 1 < flattenLngLat.length; i += 2) {
+      visitor.onCoordinate(flattenLngLat[i], flattenLngLat[i + 1]);
+    }
+  }
+
+  private static void coordEach(@NonNull List<Point> points, int wrapShrink,
+                                @NonNull CoordinateVisitor visitor) {
+    for (int i = 0; i < points.size() - wrapShrink; i++) {
+      Point point = points.get(i);
+      visitor.onCoordinate(point.longitude(), point.latitude());
+    }
+  }
+
+  private static void coordEachRing(@NonNull List<List<Point>> rings, int wrapShrink,
+                                    @NonNull CoordinateVisitor visitor) {
+    for (int i = 0; i < rings.size(); i++) {
+      coordEach(rings.get(i), wrapShrink, visitor);
+    }
+  }
+
+  /**
+   * Iterates over all 2-vertex segments of any {@link GeoJson} object: the consecutive
+   * coordinates of every line and of every polygon ring. {@link Point} and {@link MultiPoint}
+   * geometries don't have segments.
+   *
+   * @param geoJson a {@link Feature}, {@link FeatureCollection} or {@link Geometry}
+   * @param visitor called once per segment, in order
+   * @see <a href="http://turfjs.org/docs/#segmentEach">Turf segmentEach documentation</a>
+   * @since 7.11.0
+   */
+  public static void segmentEach(@NonNull GeoJson geoJson, @NonNull SegmentVisitor visitor) {
+    if (geoJson instanceof FeatureCollection) {
+      List<Feature> features = ((FeatureCollection) geoJson).features();
+      if (features != null) {
+        for (int i = 0; i < features.size(); i++) {
+          segmentEach(features.get(i).geometry(), visitor);
+        }
+      }
+    } else if (geoJson instanceof Feature) {
+      segmentEach(((Feature) geoJson).geometry(), visitor);
+    } else if (geoJson instanceof Geometry) {
+      segmentEach((Geometry) geoJson, visitor);
+    }
+  }
+
+  private static void segmentEach(@Nullable Geometry geometry, @NonNull SegmentVisitor visitor) {
+    if (geometry instanceof LineString) {
+      double[] coords = ((LineString) geometry).flattenCoordinates().getFlattenLngLatArray();
+      for (int i = 2; i + 1 < coords.length; i += 2) {
+        visitor.onSegment(coords[i - 2], coords[i - 1], coords[i], coords[i + 1]);
+      }
+    } else if (geometry instanceof MultiLineString) {
+      segmentEachLine(((MultiLineString) geometry).coordinates(), visitor);
+    } else if (geometry instanceof Polygon) {
+      segmentEachLine(((Polygon) geometry).coordinates(), visitor);
+    } else if (geometry instanceof MultiPolygon) {
+      List<List<List<Point>>> polygons = ((MultiPolygon) geometry).coordinates();
+      for (int i = 0; i < polygons.size(); i++) {
+        segmentEachLine(polygons.get(i), visitor);
+      }
+    } else if (geometry instanceof GeometryCollection) {
+      // recursive
+      List<Geometry> geometries = ((GeometryCollection) geometry).geometries();
+      for (int i = 0; i < geometries.size(); i++) {
+        segmentEach(geometries.get(i), visitor);
+      }
+    }
+  }
+
+  private static void segmentEachLine(@NonNull List<List<Point>> lines,
+                                      @NonNull SegmentVisitor visitor) {
+    for (int i = 0; i < lines.size(); i++) {
+      List<Point> line = lines.get(i);
+      for (int j = 1; j < line.size(); j++) {
+        Point start = line.get(j - 1);
+        Point end = line.get(j);
+        visitor.onSegment(start.longitude(), start.latitude(), end.longitude(), end.latitude());
+      }
+    }
+  }
+
+  /**
+   * Iterates over every {@link Geometry} of any {@link GeoJson} object. The members of a
+   * {@link GeometryCollection} are visited individually, the collection itself isn't.
+   *
+   * @param geoJson a {@link Feature}, {@link FeatureCollection} or {@link Geometry}
+   * @param visitor called once per geometry, in order
+   * @see <a href="http://turfjs.org/docs/#geomEach">Turf geomEach documentation</a>
+   * @since 7.11.0
+   */
+  public static void geomEach(@NonNull GeoJson geoJson, @NonNull GeometryVisitor visitor) {
+    if (geoJson instanceof FeatureCollection) {
+      List<Feature> features = ((FeatureCollection) geoJson).features();
+      if (features != null) {
+        for (int i = 0; i < features.size(); i++) {
+          geomEach(features.get(i).geometry(), i, visitor);
+        }
+      }
+    } else if (geoJson instanceof Feature) {
+      geomEach(((Feature) geoJson).geometry(), 0, visitor);
+    } else if (geoJson instanceof Geometry) {
+      geomEach((Geometry) geoJson, 0, visitor);
+    }
+  }
+
+  private static void geomEach(@Nullable Geometry geometry, int featureIndex,
+                               @NonNull GeometryVisitor visitor) {
+    if (geometry instanceof GeometryCollection) {
+      // recursive
+      List<Geometry> geometries = ((GeometryCollection) geometry).geometries();
+      for (int i = 0; i < geometries.size(); i++) {
+        geomEach(geometries.get(i), featureIndex, visitor);
+      }
+    } else if (geometry != null) {
+      visitor.onGeometry(geometry, featureIndex);
+    }
+  }
+
   /**
    * Unwrap a coordinate {@link Point} from a {@link Feature} with a {@link Point} geometry.
    *
@@ -343,4 +523,59 @@ public final class TurfMeta {
     }
     throw new TurfException("A Feature with a Point geometry is required.");
   }
+
+  /**
+   * Callback used by {@link #coordEach(GeoJson, boolean, CoordinateVisitor)}.
+   *
+   * @since 7.11.0
+   */
+  public interface CoordinateVisitor {
+
+    /**
+     * Called for every visited coordinate.
+     *
+     * @param longitude longitude of the coordinate
+     * @param latitude  latitude of the coordinate
+     * @since 7.11.0
+     */
+    void onCoordinate(double longitude, double latitude);
+  }
+
+  /**
+   * Callback used by {@link #segmentEach(GeoJson, SegmentVisitor)}.
+   *
+   * @since 7.11.0
+   */
+  public interface SegmentVisitor {
+
+    /**
+     * Called for every visited segment.
+     *
+     * @param startLongitude longitude of the first coordinate of the segment
+     * @param startLatitude  latitude of the first coordinate of the segment
+     * @param endLongitude   longitude of the second coordinate of the segment
+     * @param endLatitude    latitude of the second coordinate of the segment
+     * @since 7.11.0
+     */
+    void onSegment(double startLongitude, double startLatitude,
+                   double endLongitude, double endLatitude);
+  }
+
+  /**
+   * Callback used by {@link #geomEach(GeoJson, GeometryVisitor)}.
+   *
+   * @since 7.11.0
+   */
+  public interface GeometryVisitor {
+
+    /**
+     * Called for every visited geometry.
+     *
+     * @param geometry     the geometry
+     * @param featureIndex index of the feature the geometry belongs to when iterating over a
+     *                     {@link FeatureCollection}, 0 otherwise
+     * @since 7.11.0
+     */
+    void onGeometry(@NonNull Geometry geometry, int featureIndex);
+  }
 }
@@ -10,6 +10,7 @@ import com.mapbox.geojson.Point;
 import com.mapbox.turf.models.LineIntersectsResult;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -203,11 +204,17 @@ public final class TurfMisc {
 
     double travelled = 0;
     for (int i = 0; i < size; i++) {
-      Point pointAtI = Point.fromLngLat(coords[i * 2], coords[i * 2 + 1]);
-
       if (startDist >= travelled && i == size - 1) {
         break;
-      } else if (travelled > startDist && slice.size() == 0) {
+      } else if (travelled < startDist && travelled < stopDist) {
+        // Nothing to add before the slice starts, only accumulate the distance.
+        travelled += TurfMeasurement.distance(coords[i * 2], coords[i * 2 + 1],
+          coords[(i + 1) * 2], coords[(i + 1) * 2 + 1], units);
+        continue;
+      }
+      Point pointAtI = Point.fromLngLat(coords[i * 2], coords[i * 2 + 1]);
+
+      if (travelled > startDist && slice.size() == 0) {
         // This logic handles finding the starting point when startDist is not 0
         double overshot = startDist - travelled;
         Point previousPoint = Point.fromLngLat(coords[((i - 1) * 2)], coords[((i - 1) * 2) + 1]);
@@ -236,8 +243,8 @@ public final class TurfMisc {
       if (i == size - 1) {
         return LineString.fromLngLats(slice);
       }
-      Point nextPoint = Point.fromLngLat(coords[((i + 1) * 2)], coords[((i + 1) * 2) + 1]);
-      travelled += TurfMeasurement.distance(pointAtI, nextPoint, units);
+      travelled += TurfMeasurement.distance(coords[i * 2], coords[i * 2 + 1],
+        coords[(i + 1) * 2], coords[(i + 1) * 2 + 1], units);
     }
 
     if (travelled < startDist) {
@@ -247,6 +254,181 @@ public final class TurfMisc {
     return LineString.fromLngLats(slice);
   }
 
+  /**
+   * Resamples a line at a fixed interval: the positions at every multiple of the interval along
+   * the line, from its start, followed by its last position unless the length of the line is a
+   * multiple of the interval. The positions are the ones {@link TurfMeasurement#along} finds, but
+   * the line is walked only once for all of them.
+   *
+   * @param line     the line to resample
+   * @param interval the distance between two samples
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the samples: [lng1, lat1, lng2, lat2, ...]
+   * @throws TurfException if the interval isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] resample(@NonNull LineString line, double interval,
+                                  @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return resample(line.flattenCoordinates().getFlattenLngLatArray(), interval, units);
+  }
+
+  /**
+   * Resamples a line at a fixed interval, as described by
+   * {@link #resample(LineString, double, String)}.
+   *
+   * @param flattenLngLat the coordinates of the line: [lng1, lat1, lng2, lat2, ...]
+   * @param interval      the distance between two samples
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the samples: [lng1, lat1, lng2, lat2, ...]
+   * @throws TurfException if the interval isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] resample(@NonNull double[] flattenLngLat, double interval,
+                                  @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    if (!(interval > 0)) {
+      throw new TurfException("The interval must be positive.");
+    }
+    double step = TurfConversion.lengthToRadians(interval, units);
+    int size = flattenLngLat.length / 2;
+    if (size == 0) {
+      return new double[0];
+    }
+    double[] samples = new double[64];
+    int count = 0;
+    int sample = 0;
+    double travelled = 0;
+    for (int i = 0; i + 1 < size; i++) {
+      double length = TurfMeasurement.distanceRadians(flattenLngLat[2 * i],
+        flattenLngLat[2 * i + 1], flattenLngLat[2 * i + 2], flattenLngLat[2 * i + 3]);
+      // every sample up to the end of the segment, the end itself belonging to the next one
+      for (double target = sample * step; target < travelled + length;
+           target = ++sample * step) {
+        if (count + 2 > samples.length) {
+          samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        interpolate(flattenLngLat, i, target - travelled, samples, count);
+        count += 2;
+      }
+      travelled += length;
+    }
+    // the last position, which is also the last sample when the length is a multiple of the step
+    samples = Arrays.copyOf(samples, count + 2);
+    interpolate(flattenLngLat, size - 1, 0, samples, count);
+    return samples;
+  }
+
+  /**
+   * Divides a line into chunks of a given length, like the lineChunk module of Turf: every chunk
+   * is the slice {@link #lineSliceAlong(LineString, double, double, String)} returns, the last
+   * one being shorter if the length of the line isn't a multiple of the chunk length. The line is
+   * walked only once for all the chunks.
+   *
+   * @param line          the line to divide
+   * @param segmentLength the length of the chunks
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the chunks, each one as a flat array of coordinates: [lng1, lat1, lng2, lat2, ...]
+   * @throws TurfException if the length of the chunks isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[][] lineChunk(@NonNull LineString line, double segmentLength,
+                                     @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return lineChunk(line.flattenCoordinates().getFlattenLngLatArray(), segmentLength, units);
+  }
+
+  /**
+   * Divides a line into chunks of a given length, as described by
+   * {@link #lineChunk(LineString, double, String)}.
+   *
+   * @param flattenLngLat the coordinates of the line: [lng1, lat1, lng2, lat2, ...]
+   * @param segmentLength the length of the chunks
+   * @param units         one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the chunks, each one as a flat array of coordinates: [lng1, lat1, lng2, lat2, ...]
+   * @throws TurfException if the length of the chunks isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[][] lineChunk(@NonNull double[] flattenLngLat, double segmentLength,
+                                     @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    if (!(segmentLength > 0)) {
+      throw new TurfException("The length of the chunks must be positive.");
+    }
+    double step = TurfConversion.lengthToRadians(segmentLength, units);
+    int size = flattenLngLat.length / 2;
+    if (size < 2) {
+      return new double[0][];
+    }
+    List<double[]> chunks = new ArrayList<>();
+    double[] chunk = new double[16];
+    int count = 0;
+    interpolate(flattenLngLat, 0, 0, chunk, count);
+    count += 2;
+    int chunkIndex = 1;
+    double travelled = 0;
+    for (int i = 0; i + 1 < size; i++) {
+      double length = TurfMeasurement.distanceRadians(flattenLngLat[2 * i],
+        flattenLngLat[2 * i + 1], flattenLngLat[2 * i + 2], flattenLngLat[2 * i + 3]);
+      for (double end = chunkIndex * step; end < travelled + length;
+           end = ++chunkIndex * step) {
+        if (count + 4 > chunk.length) {
+          chunk = Arrays.copyOf(chunk, chunk.length * 2);
+        }
+        double offset = end - travelled;
+        if (offset > 0) {
+          interpolate(flattenLngLat, i, offset, chunk, count);
+          count += 2;
+        }
+        // the chunk ends here and the next one starts from the same position
+        chunks.add(Arrays.copyOf(chunk, count));
+        chunk[0] = chunk[count - 2];
+        chunk[1] = chunk[count - 1];
+        count = 2;
+      }
+      if (count + 2 > chunk.length) {
+        chunk = Arrays.copyOf(chunk, chunk.length * 2);
+      }
+      interpolate(flattenLngLat, i + 1, 0, chunk, count);
+      count += 2;
+      travelled += length;
+    }
+    if (count > 2) {
+      chunks.add(Arrays.copyOf(chunk, count));
+    }
+    return chunks.toArray(new double[chunks.size()][]);
+  }
+
+  /**
+   * Writes the position at a distance from a position of a line toward the next one, following
+   * the great circle between them.
+   *
+   * @param distance the distance from the position, in radians
+   */
+  private static void interpolate(double[] coordinates, int index, double distance,
+                                  double[] output, int offset) {
+    double lon1 = coordinates[2 * index];
+    double lat1 = coordinates[2 * index + 1];
+    if (distance == 0) {
+      output[offset] = lon1;
+      output[offset + 1] = lat1;
+      return;
+    }
+    double latitude = Math.toRadians(lat1);
+    double nextLatitude = Math.toRadians(coordinates[2 * index + 3]);
+    double deltaLongitude = Math.toRadians(coordinates[2 * index + 2] - lon1);
+    double bearing = Math.atan2(Math.sin(deltaLongitude) * Math.cos(nextLatitude),
+      Math.cos(latitude) * Math.sin(nextLatitude)
+        - Math.sin(latitude) * Math.cos(nextLatitude) * Math.cos(deltaLongitude));
+    double latitude2 = Math.asin(Math.sin(latitude) * Math.cos(distance)
+      + Math.cos(latitude) * Math.sin(distance) * Math.cos(bearing));
+    double longitude2 = Math.toRadians(lon1) + Math.atan2(
+      Math.sin(bearing) * Math.sin(distance) * Math.cos(latitude),
+      Math.cos(distance) - Math.sin(latitude) * Math.sin(latitude2));
+    output[offset] = Math.toDegrees(longitude2);
+    output[offset + 1] = Math.toDegrees(latitude2);
+  }
+
   /**
    * Takes a {@link Point} and a {@link LineString} and calculates the closest Point on the
    * LineString.
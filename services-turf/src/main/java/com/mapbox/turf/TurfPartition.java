@@ -0,0 +1,443 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Methods splitting a large set of positions, such as the stops of a multi vehicle plan, into
+ * spatially compact groups, for instance to send one optimization request per group.
+ * <p>
+ * Positions are given as flattened coordinates [lng1, lat1, lng2, lat2, ...] and grouped with
+ * k-means, seeded with k-means++. The distances are measured in a local equirectangular
+ * projection centered on the latitudes of the positions, which is accurate for the extent of a
+ * plan but not for positions spread around the globe or across the antimeridian. The distances
+ * to the centers, which make most of the work, are computed in parallel by chunks of positions;
+ * the rest is sequential, so the groups only depend on the seed and not on the pool.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class TurfPartition {
+
+  /**
+   * Number of positions of a chunk, the unit of parallel work.
+   */
+  private static final int CHUNK_SIZE = 4096;
+
+  private static final int MAX_ITERATIONS = 100;
+  private static final int MAX_BALANCING_ITERATIONS = 20;
+
+  /**
+   * Number of closest centers considered for each position by the balanced assignment, before
+   * falling back to all centers.
+   */
+  private static final int CANDIDATES = 8;
+
+  private TurfPartition() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Splits positions into groups with k-means, minimizing the squared distances from the
+   * positions to the centers of their groups.
+   *
+   * @param flattenLngLat the positions: [lng1, lat1, lng2, lat2, ...]
+   * @param groups        the number of groups, some of them staying empty when there are fewer
+   *                      distinct positions than groups
+   * @param seed          the seed of the random choice of the initial centers
+   * @param pool          the pool computing the distances in parallel, or null to compute them on
+   *                      the calling thread
+   * @return the group of every position, between 0 and groups - 1
+   * @throws TurfException if the number of groups isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static int[] kMeans(@NonNull double[] flattenLngLat, @IntRange(from = 1) int groups,
+                             long seed, @Nullable ForkJoinPool pool) {
+    if (groups < 1) {
+      throw new TurfException("The number of groups must be at least 1.");
+    }
+    Partitioner partitioner = new Partitioner(flattenLngLat, groups, pool);
+    partitioner.seed(new Random(seed));
+    partitioner.cluster();
+    return partitioner.groups;
+  }
+
+  /**
+   * Splits positions into as few groups as the capacity allows, holding at most the capacity
+   * each. The centers found by {@link #kMeans(double[], int, long, ForkJoinPool)} are refined
+   * with capacity constrained assignments: the positions which would lose the most by moving to
+   * their second closest center are assigned first, each to its closest center having room left.
+   *
+   * @param flattenLngLat the positions: [lng1, lat1, lng2, lat2, ...]
+   * @param capacity      the largest number of positions of a group
+   * @param seed          the seed of the random choice of the initial centers
+   * @param pool          the pool computing the distances in parallel, or null to compute them on
+   *                      the calling thread
+   * @return the group of every position, between 0 and ceil(positions / capacity) - 1
+   * @throws TurfException if the capacity isn't positive
+   * @since 7.11.0
+   */
+  @NonNull
+  public static int[] balancedKMeans(@NonNull double[] flattenLngLat,
+                                     @IntRange(from = 1) int capacity, long seed,
+                                     @Nullable ForkJoinPool pool) {
+    if (capacity < 1) {
+      throw new TurfException("The capacity must be at least 1.");
+    }
+    int count = flattenLngLat.length / 2;
+    int groups = Math.max(1, (count + capacity - 1) / capacity);
+    Partitioner partitioner = new Partitioner(flattenLngLat, groups, pool);
+    partitioner.seed(new Random(seed));
+    partitioner.cluster();
+    partitioner.balance(capacity);
+    return partitioner.groups;
+  }
+
+  /**
+   * Lists the positions of every group.
+   *
+   * @param groups the group of every position, as returned by
+   *               {@link #kMeans(double[], int, long, ForkJoinPool)} or
+   *               {@link #balancedKMeans(double[], int, long, ForkJoinPool)}
+   * @return for every group, the indices of its positions in increasing order
+   * @since 7.11.0
+   */
+  @NonNull
+  public static int[][] groupIndices(@NonNull int[] groups) {
+    int groupCount = 0;
+    for (int group : groups) {
+      groupCount = Math.max(groupCount, group + 1);
+    }
+    int[] sizes = new int[groupCount];
+    for (int group : groups) {
+      sizes[group]++;
+    }
+    int[][] indices = new int[groupCount][];
+    for (int g = 0; g < groupCount; g++) {
+      indices[g] = new int[sizes[g]];
+    }
+    Arrays.fill(sizes, 0);
+    for (int i = 0; i < groups.length; i++) {
+      indices[groups[i]][sizes[groups[i]]++] = i;
+    }
+    return indices;
+  }
+
+  /**
+   * State of a partition: the projected positions, the centers and the groups.
+   */
+  private static final class Partitioner {
+
+    private static final int SEED = 0;
+    private static final int ASSIGN = 1;
+    private static final int RANK = 2;
+
+    @Nullable
+    private final ForkJoinPool pool;
+    private final int count;
+    private final int centerCount;
+    // projected positions and centers: [x1, y1, x2, y2, ...]
+    private final double[] positions;
+    private final double[] centers;
+    final int[] groups;
+    private final int chunks;
+
+    // k-means++: squared distance to the closest center, summed by chunk
+    private double[] closest;
+    private double[] chunkSums;
+    private int newestCenter;
+
+    // k-means: number of positions which changed group, by chunk
+    private final int[] chunkChanges;
+
+    // balancing: closest centers of every position, with the positions sorted by regret
+    private int[] candidates;
+    private long[] regrets;
+
+    Partitioner(double[] flattenLngLat, int centerCount, @Nullable ForkJoinPool pool) {
+      this.pool = pool;
+      this.count = flattenLngLat.length / 2;
+      this.centerCount = centerCount;
+      double south = Double.POSITIVE_INFINITY;
+      double north = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < count; i++) {
+        south = Math.min(south, flattenLngLat[2 * i + 1]);
+        north = Math.max(north, flattenLngLat[2 * i + 1]);
+      }
+      // shrinks the longitudes so that both axes have about the same scale
+      double kx = count == 0 ? 1 : Math.cos(Math.toRadians((south + north) / 2));
+      positions = new double[2 * count];
+      for (int i = 0; i < count; i++) {
+        positions[2 * i] = flattenLngLat[2 * i] * kx;
+        positions[2 * i + 1] = flattenLngLat[2 * i + 1];
+      }
+      centers = new double[2 * centerCount];
+      groups = new int[count];
+      Arrays.fill(groups, -1);
+      chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      chunkChanges = new int[chunks];
+    }
+
+    /**
+     * Picks the initial centers with k-means++, each center being a position picked with a
+     * probability proportional to its squared distance to the closest previous center.
+     */
+    void seed(Random random) {
+      if (count == 0) {
+        return;
+      }
+      closest = new double[count];
+      chunkSums = new double[chunks];
+      Arrays.fill(closest, Double.POSITIVE_INFINITY);
+      setCenter(0, random.nextInt(count));
+      for (int c = 1; c < centerCount; c++) {
+        double total = 0;
+        for (double sum : chunkSums) {
+          total += sum;
+        }
+        if (!(total > 0)) {
+          // every position is a center already
+          setCenter(c, random.nextInt(count));
+          continue;
+        }
+        double target = random.nextDouble() * total;
+        int chunk = 0;
+        while (chunk < chunks - 1 && target >= chunkSums[chunk]) {
+          target -= chunkSums[chunk++];
+        }
+        while (chunkSums[chunk] == 0) {
+          // the rounding errors overshot the target
+          chunk--;
+        }
+        int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+        int picked = -1;
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+          if (closest[i] > 0) {
+            // the last position farther than 0 if the rounding errors overshot the target
+            picked = i;
+            target -= closest[i];
+            if (target < 0) {
+              break;
+            }
+          }
+        }
+        setCenter(c, picked);
+      }
+      closest = null;
+      chunkSums = null;
+    }
+
+    private void setCenter(int center, int position) {
+      centers[2 * center] = positions[2 * position];
+      centers[2 * center + 1] = positions[2 * position + 1];
+      newestCenter = center;
+      run(SEED);
+    }
+
+    /**
+     * Runs Lloyd's iterations, assigning every position to its closest center then moving every
+     * center to the mean of its positions, until no position changes group.
+     */
+    void cluster() {
+      double[] sums = new double[2 * centerCount];
+      int[] sizes = new int[centerCount];
+      for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+        run(ASSIGN);
+        int changes = 0;
+        for (int chunkChange : chunkChanges) {
+          changes += chunkChange;
+        }
+        if (changes == 0) {
+          return;
+        }
+        updateCenters(sums, sizes);
+      }
+    }
+
+    /**
+     * Assigns the positions again to centers having room left, in decreasing order of regret,
+     * until no position changes group.
+     */
+    void balance(int capacity) {
+      int candidateCount = Math.min(CANDIDATES, centerCount);
+      candidates = new int[count * candidateCount];
+      regrets = new long[count];
+      double[] sums = new double[2 * centerCount];
+      int[] sizes = new int[centerCount];
+      for (int iteration = 0; iteration < MAX_BALANCING_ITERATIONS; iteration++) {
+        run(RANK);
+        Arrays.sort(regrets);
+        Arrays.fill(sizes, 0);
+        int changes = 0;
+        for (int k = count - 1; k >= 0; k--) {
+          int i = (int) regrets[k];
+          int group = -1;
+          for (int j = 0; j < candidateCount && group < 0; j++) {
+            int candidate = candidates[i * candidateCount + j];
+            group = sizes[candidate] < capacity ? candidate : -1;
+          }
+          if (group < 0) {
+            group = closestCenter(i, sizes, capacity);
+          }
+          sizes[group]++;
+          changes += groups[i] != group ? 1 : 0;
+          groups[i] = group;
+        }
+        if (changes == 0) {
+          break;
+        }
+        updateCenters(sums, sizes);
+      }
+      candidates = null;
+      regrets = null;
+    }
+
+    private void updateCenters(double[] sums, int[] sizes) {
+      Arrays.fill(sums, 0);
+      Arrays.fill(sizes, 0);
+      for (int i = 0; i < count; i++) {
+        sums[2 * groups[i]] += positions[2 * i];
+        sums[2 * groups[i] + 1] += positions[2 * i + 1];
+        sizes[groups[i]]++;
+      }
+      for (int c = 0; c < centerCount; c++) {
+        // empty groups keep their center
+        if (sizes[c] > 0) {
+          centers[2 * c] = sums[2 * c] / sizes[c];
+          centers[2 * c + 1] = sums[2 * c + 1] / sizes[c];
+        }
+      }
+    }
+
+    /**
+     * Returns the closest center to a position among the centers having room left.
+     */
+    private int closestCenter(int i, int[] sizes, int capacity) {
+      int best = -1;
+      double bestDistance = Double.POSITIVE_INFINITY;
+      for (int c = 0; c < centerCount; c++) {
+        double distance = squaredDistance(i, c);
+        if (sizes[c] < capacity && distance < bestDistance) {
+          best = c;
+          bestDistance = distance;
+        }
+      }
+      return best;
+    }
+
+    private double squaredDistance(int position, int center) {
+      double dx = positions[2 * position] - centers[2 * center];
+      double dy = positions[2 * position + 1] - centers[2 * center + 1];
+      return dx * dx + dy * dy;
+    }
+
+    private void run(int operation) {
+      if (pool == null || chunks <= 1) {
+        for (int chunk = 0; chunk < chunks; chunk++) {
+          process(operation, chunk);
+        }
+      } else {
+        pool.invoke(new ChunkTask(operation, 0, chunks));
+      }
+    }
+
+    private void process(int operation, int chunk) {
+      int from = chunk * CHUNK_SIZE;
+      int to = Math.min(count, from + CHUNK_SIZE);
+      if (operation == SEED) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+          closest[i] = Math.min(closest[i], squaredDistance(i, newestCenter));
+          sum += closest[i];
+        }
+        chunkSums[chunk] = sum;
+      } else if (operation == ASSIGN) {
+        int changes = 0;
+        for (int i = from; i < to; i++) {
+          int group = 0;
+          double best = squaredDistance(i, 0);
+          for (int c = 1; c < centerCount; c++) {
+            double distance = squaredDistance(i, c);
+            if (distance < best) {
+              group = c;
+              best = distance;
+            }
+          }
+          changes += groups[i] != group ? 1 : 0;
+          groups[i] = group;
+        }
+        chunkChanges[chunk] = changes;
+      } else {
+        double[] distances = new double[Math.min(CANDIDATES, centerCount)];
+        for (int i = from; i < to; i++) {
+          rank(i, distances);
+        }
+      }
+    }
+
+    /**
+     * Finds the closest centers of a position, sorted by distance, and packs its regret, the
+     * difference between the squared distances to its two closest centers, with its index.
+     */
+    private void rank(int i, double[] distances) {
+      int candidateCount = distances.length;
+      int offset = i * candidateCount;
+      int found = 0;
+      for (int c = 0; c < centerCount; c++) {
+        double distance = squaredDistance(i, c);
+        if (found == candidateCount && distance >= distances[found - 1]) {
+          continue;
+        }
+        int j = Math.min(found, candidateCount - 1);
+        while (j > 0 && distances[j - 1] > distance) {
+          distances[j] = distances[j - 1];
+          candidates[offset + j] = candidates[offset + j - 1];
+          j--;
+        }
+        distances[j] = distance;
+        candidates[offset + j] = c;
+        found = Math.min(candidateCount, found + 1);
+      }
+      float regret = candidateCount > 1 ? (float) (distances[1] - distances[0]) : 0;
+      // the bits of non negative floats sort like the floats
+      regrets[i] = (long) Float.floatToIntBits(regret) << 32 | i;
+    }
+
+    /**
+     * Processes a range of chunks, splitting it in two halves processed in parallel.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+      private static final long serialVersionUID = 1L;
+
+      private final int operation;
+      private final int from;
+      private final int to;
+
+      ChunkTask(int operation, int from, int to) {
+        this.operation = operation;
+        this.from = from;
+        this.to = to;
+      }
+
+      @Override
+      protected void compute() {
+        if (to - from <= 1) {
+          for (int chunk = from; chunk < to; chunk++) {
+            process(operation, chunk);
+          }
+          return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ChunkTask(operation, from, middle), new ChunkTask(operation, middle, to));
+      }
+    }
+  }
+}
@@ -0,0 +1,313 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.LineString;
+
+import java.util.Arrays;
+
+/**
+ * Methods measuring how similar two lines are, such as alternative routes or a matched trace and
+ * its planned route, over the positions of the lines and with great circle distances.
+ * <p>
+ * The Hausdorff distance is the largest distance from a position of either line to the closest
+ * position of the other line. The discrete Frechet distance also follows the order of the
+ * positions: it is the shortest leash allowing to walk both lines from start to end, never going
+ * backward. Both are bounded from below by the distances between the positions and the bounding
+ * boxes of runs of positions of the other line, which lets the searches skip most pairs of
+ * positions and the threshold checks give up as soon as the threshold can't be met, instead of
+ * always comparing every pair of positions.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class TurfSimilarity {
+
+  // positions per run of a line, each run being indexed by its bounding box
+  private static final int RUN_SIZE = 16;
+
+  private TurfSimilarity() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Calculates the discrete Hausdorff distance between two lines.
+   *
+   * @param line1 the first line
+   * @param line2 the second line
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the largest distance from a position of a line to the closest position of the other
+   *   line, in the units specified
+   * @since 7.11.0
+   */
+  public static double hausdorffDistance(@NonNull LineString line1, @NonNull LineString line2,
+                                         @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    IndexedLine first = new IndexedLine(line1.flattenCoordinates().getFlattenLngLatArray());
+    IndexedLine second = new IndexedLine(line2.flattenCoordinates().getFlattenLngLatArray());
+    double distance = Math.max(directedHausdorff(first, second, Double.POSITIVE_INFINITY),
+      directedHausdorff(second, first, Double.POSITIVE_INFINITY));
+    return TurfConversion.radiansToLength(distance, units);
+  }
+
+  /**
+   * Checks whether the discrete Hausdorff distance between two lines is at most a threshold,
+   * giving up as soon as a position farther than the threshold from the other line is found.
+   *
+   * @param line1    the first line
+   * @param line2    the second line
+   * @param distance the threshold
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return true if the Hausdorff distance is at most the threshold
+   * @since 7.11.0
+   */
+  public static boolean isHausdorffWithin(@NonNull LineString line1, @NonNull LineString line2,
+                                          @FloatRange(from = 0) double distance,
+                                          @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double threshold = TurfConversion.lengthToRadians(distance, units);
+    IndexedLine first = new IndexedLine(line1.flattenCoordinates().getFlattenLngLatArray());
+    IndexedLine second = new IndexedLine(line2.flattenCoordinates().getFlattenLngLatArray());
+    return withinHausdorff(first, second, threshold);
+  }
+
+  /**
+   * Calculates the discrete Frechet distance between two lines. Every pair of positions is
+   * measured, use {@link #isFrechetWithin(LineString, LineString, double, String)} to compare
+   * the distance to a threshold faster.
+   *
+   * @param line1 the first line
+   * @param line2 the second line
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the discrete Frechet distance, in the units specified
+   * @since 7.11.0
+   */
+  public static double frechetDistance(@NonNull LineString line1, @NonNull LineString line2,
+                                       @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    IndexedLine first = new IndexedLine(line1.flattenCoordinates().getFlattenLngLatArray());
+    IndexedLine second = new IndexedLine(line2.flattenCoordinates().getFlattenLngLatArray());
+    int columns = second.size();
+    // coupling distance of the previous and current rows
+    double[] previous = new double[columns];
+    double[] current = new double[columns];
+    for (int i = 0; i < first.size(); i++) {
+      for (int j = 0; j < columns; j++) {
+        double distance = first.distance(i, second, j);
+        double reach;
+        if (i == 0 && j == 0) {
+          reach = distance;
+        } else if (i == 0) {
+          reach = current[j - 1];
+        } else if (j == 0) {
+          reach = previous[j];
+        } else {
+          reach = Math.min(previous[j], Math.min(previous[j - 1], current[j - 1]));
+        }
+        current[j] = Math.max(reach, distance);
+      }
+      double[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return TurfConversion.radiansToLength(previous[columns - 1], units);
+  }
+
+  /**
+   * Checks whether the discrete Frechet distance between two lines is at most a threshold. The
+   * lines are first compared by their end positions and by their Hausdorff distance, which are
+   * lower bounds of the Frechet distance; then only the pairs of positions reachable by a leash
+   * within the threshold are visited, giving up as soon as the walk gets stuck.
+   *
+   * @param line1    the first line
+   * @param line2    the second line
+   * @param distance the threshold
+   * @param units    one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return true if the discrete Frechet distance is at most the threshold
+   * @since 7.11.0
+   */
+  public static boolean isFrechetWithin(@NonNull LineString line1, @NonNull LineString line2,
+                                        @FloatRange(from = 0) double distance,
+                                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double threshold = TurfConversion.lengthToRadians(distance, units);
+    IndexedLine first = new IndexedLine(line1.flattenCoordinates().getFlattenLngLatArray());
+    IndexedLine second = new IndexedLine(line2.flattenCoordinates().getFlattenLngLatArray());
+    int rows = first.size();
+    int columns = second.size();
+    if (first.distance(0, second, 0) > threshold
+      || first.distance(rows - 1, second, columns - 1) > threshold
+      || !withinHausdorff(first, second, threshold)) {
+      return false;
+    }
+
+    // reachable cells of the previous and current rows, only the range [low, high] being set
+    boolean[] previous = new boolean[columns];
+    boolean[] current = new boolean[columns];
+    previous[0] = true;
+    int low = 0;
+    int high = 0;
+    for (int j = 1; j < columns && first.distance(0, second, j) <= threshold; j++) {
+      previous[j] = true;
+      high = j;
+    }
+    for (int i = 1; i < rows; i++) {
+      int nextLow = -1;
+      int nextHigh = -1;
+      for (int j = low; j < columns; j++) {
+        boolean fromLeft = j > low && current[j - 1];
+        if (j > high + 1 && !fromLeft) {
+          // nothing further right can be reached
+          break;
+        }
+        boolean fromPrevious = j <= high && previous[j] || j > low && previous[j - 1];
+        current[j] = (fromPrevious || fromLeft) && first.distance(i, second, j) <= threshold;
+        if (current[j]) {
+          nextLow = nextLow < 0 ? j : nextLow;
+          nextHigh = j;
+        }
+      }
+      if (nextLow < 0) {
+        return false;
+      }
+      // only the cells of the range can be reachable, clear them to reuse the row
+      Arrays.fill(previous, low, high + 1, false);
+      boolean[] swap = previous;
+      previous = current;
+      current = swap;
+      low = nextLow;
+      high = nextHigh;
+    }
+    return high == columns - 1 && previous[columns - 1];
+  }
+
+  private static boolean withinHausdorff(IndexedLine first, IndexedLine second,
+                                         double threshold) {
+    return directedHausdorff(first, second, threshold) <= threshold
+      && directedHausdorff(second, first, threshold) <= threshold;
+  }
+
+  /**
+   * Finds the largest distance from a position of a line to the closest position of another
+   * line, returning early with a larger value as soon as it exceeds the limit.
+   */
+  private static double directedHausdorff(IndexedLine from, IndexedLine to, double limit) {
+    double largest = 0;
+    int hint = 0;
+    for (int i = 0; i < from.size(); i++) {
+      double lon = from.lons[i];
+      double lat = from.lats[i];
+      double cosLat = from.cosLats[i];
+      if (to.lowerBound(to.runs(), lon, lat, cosLat) > limit) {
+        return Double.POSITIVE_INFINITY;
+      }
+      // visit the runs starting from the one holding the previous closest position
+      double closest = Double.POSITIVE_INFINITY;
+      int closestRun = hint;
+      int runs = to.runs();
+      for (int k = 0; k < runs && closest > largest; k++) {
+        int run = (hint + k) % runs;
+        if (to.lowerBound(run, lon, lat, cosLat) >= closest) {
+          continue;
+        }
+        int end = Math.min(to.size(), (run + 1) * RUN_SIZE);
+        for (int j = run * RUN_SIZE; j < end; j++) {
+          double distance = TurfMeasurement.haversine(lon, lat, cosLat,
+            to.lons[j], to.lats[j], to.cosLats[j]);
+          if (distance < closest) {
+            closest = distance;
+            closestRun = run;
+            if (closest <= largest) {
+              // this position can't make the distance any larger
+              break;
+            }
+          }
+        }
+      }
+      hint = closestRun;
+      largest = Math.max(largest, closest);
+      if (largest > limit) {
+        return largest;
+      }
+    }
+    return largest;
+  }
+
+  /**
+   * Positions of a line in radians, with the bounding boxes of its runs of positions and of the
+   * whole line.
+   */
+  private static final class IndexedLine {
+
+    final double[] lons;
+    final double[] lats;
+    final double[] cosLats;
+    // west, south, east, north of every run, followed by the box of the whole line
+    final double[] boxes;
+
+    IndexedLine(double[] flattenLngLat) {
+      int size = flattenLngLat.length / 2;
+      if (size == 0) {
+        throw new TurfException("Lines must have at least one position.");
+      }
+      lons = new double[size];
+      lats = new double[size];
+      cosLats = new double[size];
+      int runs = (size + RUN_SIZE - 1) / RUN_SIZE;
+      boxes = new double[4 * (runs + 1)];
+      Arrays.fill(boxes, 0, 4 * (runs + 1), Double.NaN);
+      for (int i = 0; i < size; i++) {
+        lons[i] = degreesToRadians(flattenLngLat[2 * i]);
+        lats[i] = degreesToRadians(flattenLngLat[2 * i + 1]);
+        cosLats[i] = Math.cos(lats[i]);
+        extend(i / RUN_SIZE, lons[i], lats[i]);
+        extend(runs, lons[i], lats[i]);
+      }
+    }
+
+    private void extend(int run, double lon, double lat) {
+      int k = 4 * run;
+      if (Double.isNaN(boxes[k])) {
+        boxes[k] = lon;
+        boxes[k + 1] = lat;
+        boxes[k + 2] = lon;
+        boxes[k + 3] = lat;
+        return;
+      }
+      boxes[k] = Math.min(boxes[k], lon);
+      boxes[k + 1] = Math.min(boxes[k + 1], lat);
+      boxes[k + 2] = Math.max(boxes[k + 2], lon);
+      boxes[k + 3] = Math.max(boxes[k + 3], lat);
+    }
+
+    int size() {
+      return lons.length;
+    }
+
+    int runs() {
+      return boxes.length / 4 - 1;
+    }
+
+    double distance(int i, IndexedLine other, int j) {
+      return TurfMeasurement.haversine(lons[i], lats[i], cosLats[i],
+        other.lons[j], other.lats[j], other.cosLats[j]);
+    }
+
+    /**
+     * Returns a lower bound of the central angle between a position and the positions of a run,
+     * or of the whole line for the index {@link #runs()}: a path to the box either crosses the
+     * latitude gap or one of the meridians bounding the box, unless it starts within them.
+     */
+    double lowerBound(int run, double lon, double lat, double cosLat) {
+      int k = 4 * run;
+      double latitudeGap = lat < boxes[k + 1] ? boxes[k + 1] - lat
+        : lat > boxes[k + 3] ? lat - boxes[k + 3] : 0;
+      if (lon >= boxes[k] && lon <= boxes[k + 2]) {
+        return latitudeGap;
+      }
+      // distance to the great circles of the western and eastern meridians of the box
+      double sin = Math.min(Math.abs(Math.sin(lon - boxes[k])),
+        Math.abs(Math.sin(lon - boxes[k + 2])));
+      return Math.max(latitudeGap, Math.asin(Math.min(1, cosLat * sin)));
+    }
+  }
+}
@@ -0,0 +1,546 @@
+package com.mapbox.turf;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Size;
+
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.GeometryCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Methods to compute the XYZ tiles of the Web Mercator tiling scheme covering a geometry at a
+ * given zoom level. Lines are walked tile by tile and polygons are filled with a scanline over
+ * the tile rows, so that the cost grows with the number of covered tiles rather than with the
+ * area of the bounding box.
+ * <p>
+ * Tiles are returned as packed {@code long} ids holding the zoom level, x and y of the tile; use
+ * {@link #tileX(long)}, {@link #tileY(long)}, {@link #tileZoom(long)} and {@link #quadkey(long)}
+ * to read them.
+ * </p>
+ *
+ * @see <a href="https://github.com/mapbox/tile-cover">tile-cover</a>
+ * @since 7.11.0
+ */
+public final class TurfTiles {
+
+  /**
+   * Highest supported zoom level, tile coordinates are packed on 29 bits.
+   */
+  public static final int MAX_ZOOM = 29;
+
+  private static final double MAX_LATITUDE = 85.0511287798066;
+  private static final int COORDINATE_BITS = 29;
+  private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+
+  private TurfTiles() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Packs the coordinates of a tile into a single id.
+   *
+   * @param x    column of the tile
+   * @param y    row of the tile
+   * @param zoom zoom level of the tile
+   * @return the tile id
+   * @since 7.11.0
+   */
+  public static long tileId(int x, int y, @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    return ((long) zoom << (2 * COORDINATE_BITS)) | ((long) x << COORDINATE_BITS) | y;
+  }
+
+  /**
+   * Returns the column of a tile.
+   *
+   * @param tileId the tile id
+   * @return the x coordinate of the tile
+   * @since 7.11.0
+   */
+  public static int tileX(long tileId) {
+    return (int) ((tileId >>> COORDINATE_BITS) & COORDINATE_MASK);
+  }
+
+  /**
+   * Returns the row of a tile.
+   *
+   * @param tileId the tile id
+   * @return the y coordinate of the tile
+   * @since 7.11.0
+   */
+  public static int tileY(long tileId) {
+    return (int) (tileId & COORDINATE_MASK);
+  }
+
+  /**
+   * Returns the zoom level of a tile.
+   *
+   * @param tileId the tile id
+   * @return the zoom level of the tile
+   * @since 7.11.0
+   */
+  public static int tileZoom(long tileId) {
+    return (int) (tileId >>> (2 * COORDINATE_BITS));
+  }
+
+  /**
+   * Returns the quadkey of a tile, as used by Bing Maps tiles.
+   *
+   * @param tileId the tile id
+   * @return the quadkey, made up of one digit per zoom level
+   * @since 7.11.0
+   */
+  @NonNull
+  public static String quadkey(long tileId) {
+    char[] digits = new char[tileZoom(tileId)];
+    quadkey(tileId, digits, 0);
+    return new String(digits);
+  }
+
+  /**
+   * Writes the quadkey of a tile into an array, without allocating anything.
+   *
+   * @param tileId the tile id
+   * @param output receives the digits of the quadkey
+   * @param offset index of the first digit in the output array
+   * @return the number of digits written, which is the zoom level of the tile
+   * @see #quadkey(long)
+   * @since 7.11.0
+   */
+  public static int quadkey(long tileId, @NonNull char[] output, int offset) {
+    int x = tileX(tileId);
+    int y = tileY(tileId);
+    int zoom = tileZoom(tileId);
+    for (int z = zoom; z > 0; z--) {
+      int mask = 1 << (z - 1);
+      int digit = ((x & mask) != 0 ? 1 : 0) + ((y & mask) != 0 ? 2 : 0);
+      output[offset + zoom - z] = (char) ('0' + digit);
+    }
+    return zoom;
+  }
+
+  /**
+   * Returns the tile of a quadkey.
+   *
+   * @param quadkey the quadkey, made up of one digit per zoom level
+   * @return the tile id
+   * @throws TurfException if the quadkey has more than {@link #MAX_ZOOM} digits or a digit other
+   *                       than 0, 1, 2 and 3
+   * @since 7.11.0
+   */
+  public static long fromQuadkey(@NonNull CharSequence quadkey) {
+    int zoom = quadkey.length();
+    checkZoom(zoom);
+    int x = 0;
+    int y = 0;
+    for (int i = 0; i < zoom; i++) {
+      int digit = quadkey.charAt(i) - '0';
+      if (digit < 0 || digit > 3) {
+        throw new TurfException("Invalid quadkey digit: " + quadkey.charAt(i) + ".");
+      }
+      x = (x << 1) | (digit & 1);
+      y = (y << 1) | (digit >> 1);
+    }
+    return tileId(x, y, zoom);
+  }
+
+  /**
+   * Returns a tile shifted from another one by a number of columns and rows, wrapping around the
+   * antimeridian.
+   *
+   * @param tileId the tile id
+   * @param dx     number of columns to the east, or to the west if negative
+   * @param dy     number of rows to the south, or to the north if negative
+   * @return the id of the shifted tile, or -1 if it's beyond the top or bottom of the map
+   * @since 7.11.0
+   */
+  public static long neighbor(long tileId, int dx, int dy) {
+    int zoom = tileZoom(tileId);
+    long y = (long) tileY(tileId) + dy;
+    if (y < 0 || y >= 1L << zoom) {
+      return -1;
+    }
+    long x = ((long) tileX(tileId) + dx) % (1L << zoom);
+    return tileId((int) (x < 0 ? x + (1L << zoom) : x), (int) y, zoom);
+  }
+
+  /**
+   * Computes the tiles intersecting a bounding box. Boxes whose west edge is east of their east
+   * edge cross the antimeridian.
+   *
+   * @param bbox the box: [west, south, east, north]
+   * @param zoom zoom level of the tiles
+   * @return the sorted tile ids
+   * @throws TurfException if the zoom level isn't supported or the box covers more than
+   *                       {@link Integer#MAX_VALUE} tiles
+   * @since 7.11.0
+   */
+  @NonNull
+  public static long[] bboxCover(@NonNull @Size(min = 4) double[] bbox,
+                                 @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    checkZoom(zoom);
+    int tiles = 1 << zoom;
+    int west = Math.max(0, (int) Math.floor(toTileX(bbox[0], tiles)));
+    int east = Math.min(tiles - 1, (int) Math.floor(toTileX(bbox[2], tiles)));
+    int north = Math.max(0, (int) Math.floor(toTileY(bbox[3], tiles)));
+    int south = Math.min(tiles - 1, (int) Math.floor(toTileY(bbox[1], tiles)));
+    boolean crossing = bbox[0] > bbox[2];
+    long columns = crossing ? Math.min(tiles, tiles - west + east + 1L)
+      : Math.max(0, east - west + 1L);
+    long count = columns * Math.max(0, south - north + 1L);
+    if (count > Integer.MAX_VALUE) {
+      throw new TurfException("The box covers too many tiles: " + count + ".");
+    }
+    long[] ids = new long[(int) count];
+    int index = 0;
+    for (long column = 0; column < columns; column++) {
+      int x = (int) ((west + column) % tiles);
+      for (int y = north; y <= south; y++) {
+        ids[index++] = tileId(x, y, zoom);
+      }
+    }
+    Arrays.sort(ids);
+    return ids;
+  }
+
+  /**
+   * Returns the tile containing a coordinate.
+   *
+   * @param longitude longitude of the coordinate
+   * @param latitude  latitude of the coordinate
+   * @param zoom      zoom level of the tile
+   * @return the tile id
+   * @since 7.11.0
+   */
+  public static long pointToTile(double longitude, double latitude,
+                                 @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    checkZoom(zoom);
+    int tiles = 1 << zoom;
+    return id((int) Math.floor(toTileX(longitude, tiles)),
+      (int) Math.floor(toTileY(latitude, tiles)), zoom);
+  }
+
+  /**
+   * Computes the tiles covering a geometry. Points cover the tile they're in, lines every tile
+   * they cross and polygons every tile they intersect.
+   *
+   * @param geometry the geometry to cover, {@link GeometryCollection}s are covered member by
+   *                 member
+   * @param zoom     zoom level of the tiles
+   * @return the sorted, distinct tile ids
+   * @throws TurfException if the zoom level isn't supported
+   * @since 7.11.0
+   */
+  @NonNull
+  public static long[] tileCover(@NonNull Geometry geometry,
+                                 @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    checkZoom(zoom);
+    TileCollector tiles = new TileCollector(zoom);
+    cover(geometry, tiles);
+    return tiles.toSortedIds();
+  }
+
+  /**
+   * Computes the quadkeys of the tiles covering a geometry.
+   *
+   * @param geometry the geometry to cover
+   * @param zoom     zoom level of the tiles
+   * @return the quadkeys, in the order of the sorted tile ids
+   * @throws TurfException if the zoom level isn't supported
+   * @see #tileCover(Geometry, int)
+   * @since 7.11.0
+   */
+  @NonNull
+  public static List<String> quadkeyCover(@NonNull Geometry geometry,
+                                          @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    long[] ids = tileCover(geometry, zoom);
+    List<String> quadkeys = new ArrayList<>(ids.length);
+    for (long id : ids) {
+      quadkeys.add(quadkey(id));
+    }
+    return quadkeys;
+  }
+
+  /**
+   * Computes the tiles crossed by a line represented by a flat array of coordinates:
+   * [lng1, lat1, lng2, lat2, ...].
+   *
+   * @param flattenLngLat the coordinates of the line
+   * @param zoom          zoom level of the tiles
+   * @return the sorted, distinct tile ids
+   * @throws TurfException if the zoom level isn't supported
+   * @since 7.11.0
+   */
+  @NonNull
+  public static long[] lineCover(@NonNull double[] flattenLngLat,
+                                 @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    checkZoom(zoom);
+    TileCollector tiles = new TileCollector(zoom);
+    lineCoverInto(flattenLngLat, tiles, null);
+    return tiles.toSortedIds();
+  }
+
+  /**
+   * Computes the tiles intersecting a polygon whose rings are represented by flat arrays of
+   * coordinates: [lng1, lat1, lng2, lat2, ...]. The first ring is the outer ring, the following
+   * ones are holes.
+   *
+   * @param flattenRings the closed rings of the polygon
+   * @param zoom         zoom level of the tiles
+   * @return the sorted, distinct tile ids
+   * @throws TurfException if the zoom level isn't supported
+   * @since 7.11.0
+   */
+  @NonNull
+  public static long[] polygonCover(@NonNull double[][] flattenRings,
+                                    @IntRange(from = 0, to = MAX_ZOOM) int zoom) {
+    checkZoom(zoom);
+    TileCollector tiles = new TileCollector(zoom);
+    polygonCoverInto(flattenRings, tiles);
+    return tiles.toSortedIds();
+  }
+
+  private static void cover(Geometry geometry, TileCollector tiles) {
+    if (geometry instanceof Point) {
+      Point point = (Point) geometry;
+      tiles.addPoint(point.longitude(), point.latitude());
+    } else if (geometry instanceof MultiPoint) {
+      double[] coordinates = ((MultiPoint) geometry).flattenCoordinates().getFlattenLngLatArray();
+      for (int i = 0; i + 1 < coordinates.length; i += 2) {
+        tiles.addPoint(coordinates[i], coordinates[i + 1]);
+      }
+    } else if (geometry instanceof LineString) {
+      lineCoverInto(((LineString) geometry).flattenCoordinates().getFlattenLngLatArray(), tiles,
+        null);
+    } else if (geometry instanceof MultiLineString) {
+      for (List<Point> line : ((MultiLineString) geometry).coordinates()) {
+        lineCoverInto(flatten(line), tiles, null);
+      }
+    } else if (geometry instanceof Polygon) {
+      polygonCoverInto(flattenRings(((Polygon) geometry).coordinates()), tiles);
+    } else if (geometry instanceof MultiPolygon) {
+      for (List<List<Point>> polygon : ((MultiPolygon) geometry).coordinates()) {
+        polygonCoverInto(flattenRings(polygon), tiles);
+      }
+    } else if (geometry instanceof GeometryCollection) {
+      // recursive
+      for (Geometry member : ((GeometryCollection) geometry).geometries()) {
+        cover(member, tiles);
+      }
+    } else {
+      throw new TurfException("Unknown geometry class: " + geometry.getClass());
+    }
+  }
+
+  /**
+   * Walks the tiles crossed by every segment with a grid traversal. When a ring collector is
+   * provided, the tiles where the line changes rows are recorded for the polygon scanline.
+   */
+  private static void lineCoverInto(double[] flattenLngLat, TileCollector tiles,
+                                    TileRing ring) {
+    int size = tiles.size;
+    int prevX = Integer.MIN_VALUE;
+    int prevY = Integer.MIN_VALUE;
+    int x = 0;
+    int y = 0;
+    for (int i = 0; i + 3 < flattenLngLat.length; i += 2) {
+      double x0 = toTileX(flattenLngLat[i], size);
+      double y0 = toTileY(flattenLngLat[i + 1], size);
+      double x1 = toTileX(flattenLngLat[i + 2], size);
+      double y1 = toTileY(flattenLngLat[i + 3], size);
+      double dx = x1 - x0;
+      double dy = y1 - y0;
+      if (dx == 0 && dy == 0) {
+        continue;
+      }
+
+      int sx = dx > 0 ? 1 : -1;
+      int sy = dy > 0 ? 1 : -1;
+      x = (int) Math.floor(x0);
+      y = (int) Math.floor(y0);
+      double maxX = dx == 0
+        ? Double.POSITIVE_INFINITY : Math.abs(((dx > 0 ? 1 : 0) + x - x0) / dx);
+      double maxY = dy == 0
+        ? Double.POSITIVE_INFINITY : Math.abs(((dy > 0 ? 1 : 0) + y - y0) / dy);
+      double deltaX = Math.abs(sx / dx);
+      double deltaY = Math.abs(sy / dy);
+
+      if (x != prevX || y != prevY) {
+        tiles.add(x, y);
+        if (ring != null && y != prevY) {
+          ring.add(x, y);
+        }
+        prevX = x;
+        prevY = y;
+      }
+
+      while (maxX < 1 || maxY < 1) {
+        if (maxX < maxY) {
+          maxX += deltaX;
+          x += sx;
+        } else {
+          maxY += deltaY;
+          y += sy;
+        }
+        tiles.add(x, y);
+        if (ring != null && y != prevY) {
+          ring.add(x, y);
+        }
+        prevX = x;
+        prevY = y;
+      }
+    }
+    if (ring != null && ring.size > 0 && y == ring.ys[0]) {
+      ring.size--;
+    }
+  }
+
+  private static void polygonCoverInto(double[][] flattenRings, TileCollector tiles) {
+    // row changes along the rings, sorted by row then column
+    long[] intersections = new long[16];
+    int count = 0;
+    TileRing ring = new TileRing();
+    for (double[] flattenRing : flattenRings) {
+      ring.size = 0;
+      lineCoverInto(flattenRing, tiles, ring);
+      int length = ring.size;
+      for (int j = 0, k = length - 1; j < length; k = j++) {
+        int m = (j + 1) % length;
+        int y = ring.ys[j];
+        // add the intersection if it's neither a local extremum nor a duplicate
+        if ((y > ring.ys[k] || y > ring.ys[m])
+          && (y < ring.ys[k] || y < ring.ys[m])
+          && y != ring.ys[m]) {
+          if (count == intersections.length) {
+            intersections = Arrays.copyOf(intersections, count * 2);
+          }
+          intersections[count++] = ((long) y << 32) | ((ring.xs[j] & 0xFFFFFFFFL) ^ 0x80000000L);
+        }
+      }
+    }
+
+    Arrays.sort(intersections, 0, count);
+    for (int i = 0; i + 1 < count; i += 2) {
+      int y = (int) (intersections[i] >> 32);
+      int fromX = (int) ((intersections[i] & 0xFFFFFFFFL) ^ 0x80000000L);
+      int toX = (int) ((intersections[i + 1] & 0xFFFFFFFFL) ^ 0x80000000L);
+      for (int x = fromX + 1; x < toX; x++) {
+        tiles.add(x, y);
+      }
+    }
+  }
+
+  private static double toTileX(double longitude, int tiles) {
+    return tiles * (longitude / 360 + 0.5);
+  }
+
+  private static double toTileY(double latitude, int tiles) {
+    double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+    double sin = Math.sin(clamped * Math.PI / 180);
+    return tiles * (0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI);
+  }
+
+  /**
+   * Packs a tile, wrapping columns around the antimeridian and clamping rows to the map.
+   */
+  private static long id(int x, int y, int zoom) {
+    int tiles = 1 << zoom;
+    int wrappedX = x % tiles;
+    if (wrappedX < 0) {
+      wrappedX += tiles;
+    }
+    int clampedY = Math.max(0, Math.min(tiles - 1, y));
+    return tileId(wrappedX, clampedY, zoom);
+  }
+
+  private static void checkZoom(int zoom) {
+    if (zoom < 0 || zoom > MAX_ZOOM) {
+      throw new TurfException("Zoom level must be between 0 and " + MAX_ZOOM + ", got "
+        + zoom + ".");
+    }
+  }
+
+  private static double[] flatten(List<Point> points) {
+    double[] flattenLngLat = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      flattenLngLat[2 * i] = points.get(i).longitude();
+      flattenLngLat[2 * i + 1] = points.get(i).latitude();
+    }
+    return flattenLngLat;
+  }
+
+  private static double[][] flattenRings(List<List<Point>> rings) {
+    double[][] flattenRings = new double[rings.size()][];
+    for (int i = 0; i < rings.size(); i++) {
+      flattenRings[i] = flatten(rings.get(i));
+    }
+    return flattenRings;
+  }
+
+  /**
+   * Growable array of packed tile ids.
+   */
+  private static final class TileCollector {
+
+    private final int zoom;
+    private final int size;
+    private long[] ids = new long[64];
+    private int count;
+
+    TileCollector(int zoom) {
+      this.zoom = zoom;
+      this.size = 1 << zoom;
+    }
+
+    void add(int x, int y) {
+      if (count == ids.length) {
+        ids = Arrays.copyOf(ids, count * 2);
+      }
+      ids[count++] = id(x, y, zoom);
+    }
+
+    void addPoint(double longitude, double latitude) {
+      add((int) Math.floor(toTileX(longitude, size)), (int) Math.floor(toTileY(latitude, size)));
+    }
+
+    long[] toSortedIds() {
+      Arrays.sort(ids, 0, count);
+      int distinct = 0;
+      for (int i = 0; i < count; i++) {
+        if (distinct == 0 || ids[i] != ids[distinct - 1]) {
+          ids[distinct++] = ids[i];
+        }
+      }
+      return Arrays.copyOf(ids, distinct);
+    }
+  }
+
+  /**
+   * Tiles where a ring moves to another row, in order along the ring.
+   */
+  private static final class TileRing {
+
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int size;
+
+    void add(int x, int y) {
+      if (size == xs.length) {
+        xs = Arrays.copyOf(xs, size * 2);
+        ys = Arrays.copyOf(ys, size * 2);
+      }
+      xs[size] = x;
+      ys[size] = y;
+      size++;
+    }
+  }
+}
@@ -2,12 +2,20 @@ package com.mapbox.turf;
 
 import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.Size;
 
+import com.mapbox.geojson.GeoJson;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.geojson.Point;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Methods in this class consume one GeoJSON object and output a new object with the defined
@@ -69,21 +77,12 @@ public final class TurfTransformation {
    * @param steps  number of steps which make up the circle parameter
    * @param units  one of the units found inside {@link TurfConstants.TurfUnitCriteria}
    * @return a {@link Polygon} which represents the newly created circle
+   * @see CircleGenerator
    * @since 3.0.0
    */
   public static Polygon circle(@NonNull Point center, double radius, @IntRange(from = 1) int steps,
                                @TurfConstants.TurfUnitCriteria String units) {
-    List<Point> coordinates = new ArrayList<>();
-    for (int i = 0; i < steps; i++) {
-      coordinates.add(TurfMeasurement.destination(center, radius, i * 360d / steps, units));
-    }
-
-    if (coordinates.size() > 0) {
-      coordinates.add(coordinates.get(0));
-    }
-    List<List<Point>> coordinate = new ArrayList<>();
-    coordinate.add(coordinates);
-    return Polygon.fromLngLats(coordinate);
+    return CircleGenerator.fromSteps(steps).circle(center, radius, units);
   }
 
   /**
@@ -143,6 +142,602 @@ public final class TurfTransformation {
     return simplifyDouglasPeucker(dpInput, squaredTolerance);
   }
 
+  /**
+   * Simplifies the provided {@link LineString} into a line made up of fewer coordinates.
+   *
+   * @param lineString  the line to simplify
+   * @param tolerance   tolerance in the same measurement as the point coordinates
+   * @param highQuality true for using Douglas-Peucker, false for Radial-Distance algorithm
+   * @return simplified line
+   * @since 7.11.0
+   */
+  @NonNull
+  public static LineString simplify(
+    @NonNull LineString lineString,
+    double tolerance,
+    boolean highQuality
+  ) {
+    return LineString.fromLngLats(toPoints(simplify(
+      lineString.flattenCoordinates().getFlattenLngLatArray(), tolerance, highQuality)));
+  }
+
+  /**
+   * Simplifies a line represented by a flat array of coordinates: [lng1, lat1, lng2, lat2, ...].
+   * The result is the same as the one of {@link #simplify(List, double, boolean)}, but the
+   * Douglas-Peucker step runs iteratively and only allocates a set of kept indices, so that very
+   * long lines can be simplified without deep recursion.
+   *
+   * @param flattenLngLat the coordinates to simplify
+   * @param tolerance     tolerance in the same measurement as the point coordinates
+   * @param highQuality   true for using Douglas-Peucker, false for Radial-Distance algorithm
+   * @return a new flat array of simplified coordinates
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] simplify(
+    @NonNull double[] flattenLngLat,
+    double tolerance,
+    boolean highQuality
+  ) {
+    if (flattenLngLat.length <= 4) {
+      return flattenLngLat.clone();
+    }
+    double squaredTolerance = tolerance * tolerance;
+    double[] dpInput = highQuality
+      ? flattenLngLat : simplifyRadial(flattenLngLat, squaredTolerance);
+    int size = dpInput.length / 2;
+    if (size <= 2) {
+      return dpInput == flattenLngLat ? flattenLngLat.clone() : dpInput;
+    }
+
+    BitSet kept = simplifyDouglasPeucker(dpInput, squaredTolerance);
+    double[] result = new double[kept.cardinality() * 2];
+    int offset = 0;
+    for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+      result[offset++] = dpInput[2 * i];
+      result[offset++] = dpInput[2 * i + 1];
+    }
+    return result;
+  }
+
+  /**
+   * Simplifies a line represented by a flat array of coordinates: [lng1, lat1, lng2, lat2, ...]
+   * using the Visvalingam-Whyatt algorithm. Vertices are removed in increasing order of the area
+   * of the triangle they form with their neighbours, until every remaining vertex forms a
+   * triangle at least as large as the tolerance. The first and last coordinates are always kept.
+   *
+   * @param flattenLngLat the coordinates to simplify
+   * @param tolerance     minimum triangle area, in the square of the measurement of the point
+   *                      coordinates
+   * @return a new flat array of simplified coordinates
+   * @see <a href="https://bost.ocks.org/mike/simplify/">Line Simplification</a>
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] simplifyVisvalingamWhyatt(
+    @NonNull double[] flattenLngLat,
+    double tolerance
+  ) {
+    return simplifyVisvalingamWhyatt(flattenLngLat, tolerance, 2);
+  }
+
+  /**
+   * Simplifies every ring of a {@link Polygon} using the Visvalingam-Whyatt algorithm, which
+   * preserves the area of the rings better than Douglas-Peucker. Each ring keeps its closing
+   * coordinate and at least 4 coordinates.
+   *
+   * @param polygon   the polygon to simplify
+   * @param tolerance minimum triangle area, in the square of the measurement of the point
+   *                  coordinates
+   * @return the simplified polygon
+   * @see #simplifyVisvalingamWhyatt(double[], double)
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Polygon simplifyVisvalingamWhyatt(@NonNull Polygon polygon, double tolerance) {
+    List<List<Point>> rings = polygon.coordinates();
+    List<List<Point>> simplifiedRings = new ArrayList<>(rings.size());
+    for (int i = 0; i < rings.size(); i++) {
+      simplifiedRings.add(toPoints(
+        simplifyVisvalingamWhyatt(flatten(rings.get(i)), tolerance, 4)));
+    }
+    return Polygon.fromLngLats(simplifiedRings);
+  }
+
+  private static double[] simplifyVisvalingamWhyatt(
+    @NonNull double[] flattenLngLat,
+    double tolerance,
+    int minSize
+  ) {
+    int size = flattenLngLat.length / 2;
+    if (size <= minSize) {
+      return flattenLngLat.clone();
+    }
+
+    int[] prev = new int[size];
+    int[] next = new int[size];
+    IndexedMinHeap heap = new IndexedMinHeap(size);
+    for (int i = 0; i < size; i++) {
+      prev[i] = i - 1;
+      next[i] = i + 1;
+    }
+    for (int i = 1; i < size - 1; i++) {
+      heap.push(i, triangleArea(flattenLngLat, i - 1, i, i + 1));
+    }
+
+    BitSet kept = new BitSet(size);
+    kept.set(0, size);
+    int remaining = size;
+    while (!heap.isEmpty() && remaining > minSize) {
+      int index = heap.peek();
+      double area = heap.key(index);
+      if (area >= tolerance) {
+        break;
+      }
+      heap.poll();
+      kept.clear(index);
+      remaining--;
+
+      int before = prev[index];
+      int after = next[index];
+      next[before] = after;
+      prev[after] = before;
+      // the effective area of a vertex never drops below the one of a vertex removed before it
+      if (heap.contains(before)) {
+        heap.update(before, Math.max(area,
+          triangleArea(flattenLngLat, prev[before], before, after)));
+      }
+      if (heap.contains(after)) {
+        heap.update(after, Math.max(area,
+          triangleArea(flattenLngLat, before, after, next[after])));
+      }
+    }
+
+    double[] result = new double[remaining * 2];
+    int offset = 0;
+    for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+      result[offset++] = flattenLngLat[2 * i];
+      result[offset++] = flattenLngLat[2 * i + 1];
+    }
+    return result;
+  }
+
+  private static double triangleArea(@NonNull double[] flattenLngLat, int a, int b, int c) {
+    double ax = flattenLngLat[2 * a];
+    double ay = flattenLngLat[2 * a + 1];
+    return Math.abs((flattenLngLat[2 * b] - ax) * (flattenLngLat[2 * c + 1] - ay)
+      - (flattenLngLat[2 * c] - ax) * (flattenLngLat[2 * b + 1] - ay)) / 2;
+  }
+
+  /**
+   * Clips a {@link LineString} to a bounding box. The parts of the line inside of the box are
+   * kept, a line leaving and re-entering the box is split into several lines.
+   *
+   * @param lineString the line to clip
+   * @param bbox       a bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the clipped lines, empty if the line doesn't intersect the box
+   * @see <a href="http://turfjs.org/docs/#bboxClip">Turf BBox Clip documentation</a>
+   * @since 7.11.0
+   */
+  @NonNull
+  public static MultiLineString bboxClip(@NonNull LineString lineString,
+                                         @NonNull @Size(min = 4) double[] bbox) {
+    List<double[]> parts = bboxClipLine(
+      lineString.flattenCoordinates().getFlattenLngLatArray(), bbox);
+    List<LineString> lines = new ArrayList<>(parts.size());
+    for (double[] part : parts) {
+      lines.add(LineString.fromLngLats(toPoints(part)));
+    }
+    return MultiLineString.fromLineStrings(lines);
+  }
+
+  /**
+   * Clips every ring of a {@link Polygon} to a bounding box. Rings that end up outside of the box
+   * are removed.
+   *
+   * @param polygon the polygon to clip
+   * @param bbox    a bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the clipped polygon, without any ring if the polygon doesn't intersect the box
+   * @see <a href="http://turfjs.org/docs/#bboxClip">Turf BBox Clip documentation</a>
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Polygon bboxClip(@NonNull Polygon polygon, @NonNull @Size(min = 4) double[] bbox) {
+    List<List<Point>> rings = polygon.coordinates();
+    List<List<Point>> clippedRings = new ArrayList<>(rings.size());
+    for (int i = 0; i < rings.size(); i++) {
+      double[] clipped = bboxClipRing(flatten(rings.get(i)), bbox);
+      if (clipped.length > 0) {
+        clippedRings.add(toPoints(clipped));
+      }
+    }
+    return Polygon.fromLngLats(clippedRings);
+  }
+
+  /**
+   * Clips every ring of a {@link Polygon} to a convex polygon, such as a rotated viewport. Only
+   * convex clip polygons are supported, this isn't a general polygon by polygon clipping.
+   *
+   * @param polygon    the polygon to clip
+   * @param convexClip the convex polygon to clip to, without holes
+   * @return the clipped polygon, without any ring if the polygons don't intersect
+   * @throws TurfException if the clip polygon isn't convex or has holes
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Polygon clipConvex(@NonNull Polygon polygon, @NonNull Polygon convexClip) {
+    List<List<Point>> clipRings = convexClip.coordinates();
+    if (clipRings.size() != 1) {
+      throw new TurfException("The clip polygon must be made up of exactly one ring.");
+    }
+    double[] clipRing = flatten(clipRings.get(0));
+    List<List<Point>> rings = polygon.coordinates();
+    List<List<Point>> clippedRings = new ArrayList<>(rings.size());
+    for (int i = 0; i < rings.size(); i++) {
+      double[] clipped = clipRingConvex(flatten(rings.get(i)), clipRing);
+      if (clipped.length > 0) {
+        clippedRings.add(toPoints(clipped));
+      }
+    }
+    return Polygon.fromLngLats(clippedRings);
+  }
+
+  /**
+   * Clips a line represented by a flat array of coordinates: [lng1, lat1, lng2, lat2, ...] to a
+   * bounding box using the Liang-Barsky algorithm.
+   *
+   * @param flattenLngLat the coordinates of the line
+   * @param bbox          a bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the parts of the line inside of the box, as flat arrays of coordinates made up of at
+   *   least 2 coordinates each
+   * @since 7.11.0
+   */
+  @NonNull
+  public static List<double[]> bboxClipLine(@NonNull double[] flattenLngLat,
+                                            @NonNull @Size(min = 4) double[] bbox) {
+    List<double[]> parts = new ArrayList<>();
+    double[] part = new double[flattenLngLat.length];
+    int size = 0;
+    double[] clipped = new double[2];
+
+    for (int i = 2; i + 1 < flattenLngLat.length; i += 2) {
+      double x0 = flattenLngLat[i - 2];
+      double y0 = flattenLngLat[i - 1];
+      double dx = flattenLngLat[i] - x0;
+      double dy = flattenLngLat[i + 1] - y0;
+
+      if (!liangBarsky(x0, y0, dx, dy, bbox, clipped)) {
+        size = addPart(parts, part, size);
+        continue;
+      }
+      double t0 = clipped[0];
+      double t1 = clipped[1];
+      if (size == 0) {
+        size = addCoordinate(part, size, x0 + t0 * dx, y0 + t0 * dy);
+      }
+      size = addCoordinate(part, size, t1 == 1 ? flattenLngLat[i] : x0 + t1 * dx,
+        t1 == 1 ? flattenLngLat[i + 1] : y0 + t1 * dy);
+      if (t1 < 1) {
+        // the line leaves the box
+        size = addPart(parts, part, size);
+      }
+    }
+    addPart(parts, part, size);
+    return parts;
+  }
+
+  /**
+   * Clips a ring represented by a flat array of coordinates: [lng1, lat1, lng2, lat2, ...] to a
+   * bounding box using the Sutherland-Hodgman algorithm.
+   *
+   * @param flattenRing the coordinates of the ring, closed or not
+   * @param bbox        a bounding box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the clipped ring as a closed flat array of coordinates, empty if the ring doesn't
+   *   intersect the box
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] bboxClipRing(@NonNull double[] flattenRing,
+                                      @NonNull @Size(min = 4) double[] bbox) {
+    double[] clipRing = new double[] {
+      bbox[0], bbox[1],
+      bbox[2], bbox[1],
+      bbox[2], bbox[3],
+      bbox[0], bbox[3]
+    };
+    return sutherlandHodgman(flattenRing, clipRing, 1);
+  }
+
+  /**
+   * Clips a ring represented by a flat array of coordinates: [lng1, lat1, lng2, lat2, ...] to a
+   * convex ring using the Sutherland-Hodgman algorithm, which doesn't support concave clip rings.
+   *
+   * @param flattenRing     the coordinates of the ring to clip, closed or not
+   * @param convexClipRing  the coordinates of the convex ring to clip to, closed or not and in
+   *                        any orientation
+   * @return the clipped ring as a closed flat array of coordinates, empty if the rings don't
+   *   intersect
+   * @throws TurfException if the clip ring isn't convex
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] clipRingConvex(@NonNull double[] flattenRing,
+                                        @NonNull double[] convexClipRing) {
+    double[] clipRing = openRing(convexClipRing);
+    int orientation = convexOrientation(clipRing);
+    if (orientation == 0) {
+      throw new TurfException("The clip ring must be convex and made up of at least 3 "
+        + "distinct coordinates.");
+    }
+    return sutherlandHodgman(flattenRing, clipRing, orientation);
+  }
+
+  /**
+   * Takes any {@link GeoJson} and returns its convex hull, using the monotone chain algorithm.
+   *
+   * @param geoJson any GeoJSON object, all of its coordinates are part of the input
+   * @return the convex hull, or null if the coordinates don't span an area
+   * @see <a href="http://turfjs.org/docs/#convex">Turf Convex documentation</a>
+   * @since 7.11.0
+   */
+  @Nullable
+  public static Polygon convex(@NonNull GeoJson geoJson) {
+    return hullPolygon(convexHull(coordinates(geoJson), null));
+  }
+
+  /**
+   * Computes the convex hull of a flat array of coordinates, using the monotone chain algorithm.
+   * Large inputs are split into chunks which are sorted and reduced to their hull in parallel.
+   *
+   * @param flattenLngLat the coordinates: [lng1, lat1, lng2, lat2, ...], the array isn't modified
+   * @param pool          the pool sorting large inputs, or null to compute the hull on the calling
+   *                      thread
+   * @return the hull as a closed counterclockwise ring without collinear coordinates, holding
+   *   fewer than 4 coordinates if the input doesn't span an area
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] convexHull(@NonNull double[] flattenLngLat,
+                                    @Nullable ForkJoinPool pool) {
+    return ConvexHull.hull(flattenLngLat, pool);
+  }
+
+  /**
+   * Takes any {@link GeoJson} and returns a concave hull of its coordinates. The hull starts as
+   * the convex hull, and its edges are dug into through the closest points, until the points are
+   * too far from the edges relatively to the concavity, or the edges are shorter than the length
+   * threshold.
+   *
+   * @param geoJson         any GeoJSON object, all of its coordinates are part of the input
+   * @param concavity       the relative measure of concavity, 1 results in a relatively detailed
+   *                        shape, {@link Double#POSITIVE_INFINITY} in the convex hull
+   * @param lengthThreshold the length, in degrees, below which edges aren't dug into anymore
+   * @return the concave hull, or null if the coordinates don't span an area
+   * @throws TurfException if the concavity isn't positive or the length threshold is negative
+   * @see <a href="https://github.com/mapbox/concaveman">concaveman</a>
+   * @since 7.11.0
+   */
+  @Nullable
+  public static Polygon concave(@NonNull GeoJson geoJson, double concavity,
+                                double lengthThreshold) {
+    return hullPolygon(concaveHull(coordinates(geoJson), concavity, lengthThreshold, null));
+  }
+
+  /**
+   * Computes a concave hull of a flat array of coordinates, see
+   * {@link #concave(GeoJson, double, double)}.
+   *
+   * @param flattenLngLat   the coordinates: [lng1, lat1, lng2, lat2, ...], the array isn't
+   *                        modified
+   * @param concavity       the relative measure of concavity, 1 results in a relatively detailed
+   *                        shape, {@link Double#POSITIVE_INFINITY} in the convex hull
+   * @param lengthThreshold the length, in degrees, below which edges aren't dug into anymore
+   * @param pool            the pool sorting and indexing large inputs, or null to compute the
+   *                        hull on the calling thread
+   * @return the hull as a closed counterclockwise ring, holding fewer than 4 coordinates if the
+   *   input doesn't span an area
+   * @throws TurfException if the concavity isn't positive or the length threshold is negative
+   * @since 7.11.0
+   */
+  @NonNull
+  public static double[] concaveHull(@NonNull double[] flattenLngLat, double concavity,
+                                     double lengthThreshold, @Nullable ForkJoinPool pool) {
+    if (!(concavity > 0)) {
+      throw new TurfException("The concavity of a hull must be positive, got " + concavity + ".");
+    }
+    if (!(lengthThreshold >= 0)) {
+      throw new TurfException("The length threshold of a hull can't be negative, got "
+        + lengthThreshold + ".");
+    }
+    return ConcaveHull.hull(flattenLngLat, concavity, lengthThreshold, pool);
+  }
+
+  @Nullable
+  private static Polygon hullPolygon(@NonNull double[] ring) {
+    if (ring.length < 8) {
+      return null;
+    }
+    List<List<Point>> rings = new ArrayList<>(1);
+    rings.add(toPoints(ring));
+    return Polygon.fromLngLats(rings);
+  }
+
+  private static double[] coordinates(@NonNull GeoJson geoJson) {
+    final double[][] coordinates = new double[][] {new double[64]};
+    final int[] size = new int[1];
+    TurfMeta.coordEach(geoJson, false, new TurfMeta.CoordinateVisitor() {
+      @Override
+      public void onCoordinate(double longitude, double latitude) {
+        if (size[0] + 2 > coordinates[0].length) {
+          coordinates[0] = Arrays.copyOf(coordinates[0], coordinates[0].length * 2);
+        }
+        coordinates[0][size[0]++] = longitude;
+        coordinates[0][size[0]++] = latitude;
+      }
+    });
+    return Arrays.copyOf(coordinates[0], size[0]);
+  }
+
+  /**
+   * Computes the parameters along the segment where it enters and leaves the box.
+   *
+   * @return false if the segment is outside of the box
+   */
+  private static boolean liangBarsky(double x0, double y0, double dx, double dy,
+                                     double[] bbox, double[] out) {
+    out[0] = 0;
+    out[1] = 1;
+    return clipParameters(-dx, x0 - bbox[0], out)
+      && clipParameters(dx, bbox[2] - x0, out)
+      && clipParameters(-dy, y0 - bbox[1], out)
+      && clipParameters(dy, bbox[3] - y0, out);
+  }
+
+  /**
+   * Narrows the entering and leaving parameters stored in {@code range} by one boundary of the
+   * box.
+   *
+   * @return false if the segment is entirely outside of the boundary
+   */
+  private static boolean clipParameters(double p, double q, double[] range) {
+    if (p == 0) {
+      return q >= 0;
+    }
+    double t = q / p;
+    if (p < 0) {
+      range[0] = Math.max(range[0], t);
+    } else {
+      range[1] = Math.min(range[1], t);
+    }
+    return range[0] <= range[1];
+  }
+
+  private static int addCoordinate(double[] part, int size, double x, double y) {
+    if (size > 0 && part[size - 2] == x && part[size - 1] == y) {
+      return size;
+    }
+    part[size] = x;
+    part[size + 1] = y;
+    return size + 2;
+  }
+
+  private static int addPart(List<double[]> parts, double[] part, int size) {
+    if (size >= 4) {
+      parts.add(Arrays.copyOf(part, size));
+    }
+    return 0;
+  }
+
+  /**
+   * Clips the subject ring successively by the half-plane on the inner side of every edge of the
+   * clip ring, whose orientation is 1 for counterclockwise and -1 for clockwise.
+   */
+  private static double[] sutherlandHodgman(double[] flattenRing, double[] clipRing,
+                                            int orientation) {
+    double[] input = openRing(flattenRing);
+    int clipSize = clipRing.length / 2;
+    for (int edge = 0; edge < clipSize && input.length > 0; edge++) {
+      double ax = clipRing[2 * edge];
+      double ay = clipRing[2 * edge + 1];
+      double bx = clipRing[(2 * edge + 2) % clipRing.length];
+      double by = clipRing[(2 * edge + 3) % clipRing.length];
+
+      // at most one extra coordinate per clip edge crossing
+      double[] output = new double[input.length * 2];
+      int size = 0;
+      int inputSize = input.length / 2;
+      double px = input[input.length - 2];
+      double py = input[input.length - 1];
+      boolean previousInside = side(ax, ay, bx, by, px, py) * orientation >= 0;
+      for (int i = 0; i < inputSize; i++) {
+        double cx = input[2 * i];
+        double cy = input[2 * i + 1];
+        boolean inside = side(ax, ay, bx, by, cx, cy) * orientation >= 0;
+        if (inside != previousInside) {
+          double sp = side(ax, ay, bx, by, px, py);
+          double t = sp / (sp - side(ax, ay, bx, by, cx, cy));
+          size = addCoordinate(output, size, px + t * (cx - px), py + t * (cy - py));
+        }
+        if (inside) {
+          size = addCoordinate(output, size, cx, cy);
+        }
+        px = cx;
+        py = cy;
+        previousInside = inside;
+      }
+      input = Arrays.copyOf(output, size);
+      if (input.length >= 4 && input[0] == input[input.length - 2]
+        && input[1] == input[input.length - 1]) {
+        input = Arrays.copyOf(input, input.length - 2);
+      }
+    }
+
+    if (input.length < 6) {
+      return new double[0];
+    }
+    double[] closed = Arrays.copyOf(input, input.length + 2);
+    closed[input.length] = input[0];
+    closed[input.length + 1] = input[1];
+    return closed;
+  }
+
+  /**
+   * Cross product sign of the point relative to the directed line going from a to b, positive
+   * when the point is on the left.
+   */
+  private static double side(double ax, double ay, double bx, double by, double x, double y) {
+    return (bx - ax) * (y - ay) - (by - ay) * (x - ax);
+  }
+
+  private static int convexOrientation(double[] ring) {
+    int size = ring.length / 2;
+    int orientation = 0;
+    for (int i = 0; i < size; i++) {
+      double turn = side(ring[2 * i], ring[2 * i + 1],
+        ring[2 * ((i + 1) % size)], ring[2 * ((i + 1) % size) + 1],
+        ring[2 * ((i + 2) % size)], ring[2 * ((i + 2) % size) + 1]);
+      int sign = turn > 0 ? 1 : turn < 0 ? -1 : 0;
+      if (sign == 0) {
+        continue;
+      }
+      if (orientation == 0) {
+        orientation = sign;
+      } else if (orientation != sign) {
+        return 0;
+      }
+    }
+    return size >= 3 ? orientation : 0;
+  }
+
+  /**
+   * Returns the coordinates of the ring without its closing coordinate.
+   */
+  private static double[] openRing(double[] flattenRing) {
+    int length = flattenRing.length;
+    if (length >= 4 && flattenRing[0] == flattenRing[length - 2]
+      && flattenRing[1] == flattenRing[length - 1]) {
+      return Arrays.copyOf(flattenRing, length - 2);
+    }
+    return flattenRing;
+  }
+
+  private static double[] flatten(@NonNull List<Point> points) {
+    double[] flattenLngLat = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      flattenLngLat[2 * i] = points.get(i).longitude();
+      flattenLngLat[2 * i + 1] = points.get(i).latitude();
+    }
+    return flattenLngLat;
+  }
+
+  private static List<Point> toPoints(@NonNull double[] flattenLngLat) {
+    List<Point> points = new ArrayList<>(flattenLngLat.length / 2);
+    for (int i = 0; i + 1 < flattenLngLat.length; i += 2) {
+      points.add(Point.fromLngLat(flattenLngLat[i], flattenLngLat[i + 1]));
+    }
+    return points;
+  }
+
   private static List<Point> simplifyRadial(
     @NonNull List<Point> original,
     double squaredTolerance
@@ -170,6 +765,35 @@ public final class TurfTransformation {
     return newCoordinates;
   }
 
+  private static double[] simplifyRadial(
+    @NonNull double[] flattenLngLat,
+    double squaredTolerance
+  ) {
+    int size = flattenLngLat.length / 2;
+    double[] newCoordinates = new double[flattenLngLat.length];
+    newCoordinates[0] = flattenLngLat[0];
+    newCoordinates[1] = flattenLngLat[1];
+    int offset = 2;
+    int prevIndex = 0;
+
+    for (int i = 1; i < size; i++) {
+      double dx = flattenLngLat[2 * prevIndex] - flattenLngLat[2 * i];
+      double dy = flattenLngLat[2 * prevIndex + 1] - flattenLngLat[2 * i + 1];
+      if (dx * dx + dy * dy > squaredTolerance) {
+        newCoordinates[offset++] = flattenLngLat[2 * i];
+        newCoordinates[offset++] = flattenLngLat[2 * i + 1];
+        prevIndex = i;
+      }
+    }
+
+    if (prevIndex != size - 1) {
+      newCoordinates[offset++] = flattenLngLat[2 * (size - 1)];
+      newCoordinates[offset++] = flattenLngLat[2 * (size - 1) + 1];
+    }
+
+    return Arrays.copyOf(newCoordinates, offset);
+  }
+
   private static double squaredDistance(@NonNull Point p1, @NonNull Point p2) {
     double dx = p2.longitude() - p1.longitude();
     double dy = p2.latitude() - p1.latitude();
@@ -184,70 +808,92 @@ public final class TurfTransformation {
       return original;
     }
 
-    int lastPointIndex = original.size() - 1;
-    List<Point> result = new ArrayList<>();
-    result.add(original.get(0));
-    simplifyDouglasPeuckerStep(original, 0, lastPointIndex, tolerance, result);
-    result.add(original.get(lastPointIndex));
+    BitSet kept = simplifyDouglasPeucker(flatten(original), tolerance);
+    List<Point> result = new ArrayList<>(kept.cardinality());
+    for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+      result.add(original.get(i));
+    }
     return result;
   }
 
-  private static void simplifyDouglasPeuckerStep(
-    @NonNull List<Point> original,
-    int startIndex,
-    int endIndex,
-    double tolerance,
-    @NonNull List<Point> simplified
+  /**
+   * Douglas-Peucker over a flat coordinate array, using an explicit stack of index ranges in
+   * place of recursion.
+   *
+   * @return the indices of the coordinates to keep
+   */
+  private static BitSet simplifyDouglasPeucker(
+    @NonNull double[] flattenLngLat,
+    double tolerance
   ) {
-    double maxSquaredDistance = tolerance;
-    int index = 0;
+    int lastPointIndex = flattenLngLat.length / 2 - 1;
+    BitSet kept = new BitSet(lastPointIndex + 1);
+    kept.set(0);
+    kept.set(lastPointIndex);
 
-    for (int i = startIndex + 1; i < endIndex; i++) {
-      double squaredDistance = squaredSegmentDistance(
-        original.get(i),
-        original.get(startIndex),
-        original.get(endIndex)
-      );
-      if (squaredDistance > maxSquaredDistance) {
-        index = i;
-        maxSquaredDistance = squaredDistance;
-      }
-    }
+    int[] stack = new int[64];
+    int stackSize = 0;
+    stack[stackSize++] = 0;
+    stack[stackSize++] = lastPointIndex;
 
-    if (maxSquaredDistance > tolerance) {
-      if (index - startIndex > 1) {
-        simplifyDouglasPeuckerStep(original, startIndex, index, tolerance, simplified);
+    while (stackSize > 0) {
+      int endIndex = stack[--stackSize];
+      int startIndex = stack[--stackSize];
+      double maxSquaredDistance = tolerance;
+      int index = 0;
+
+      for (int i = startIndex + 1; i < endIndex; i++) {
+        double squaredDistance = squaredSegmentDistance(flattenLngLat, i, startIndex, endIndex);
+        if (squaredDistance > maxSquaredDistance) {
+          index = i;
+          maxSquaredDistance = squaredDistance;
+        }
       }
-      simplified.add(original.get(index));
-      if (endIndex - index > 1) {
-        simplifyDouglasPeuckerStep(original, index, endIndex, tolerance, simplified);
+
+      if (maxSquaredDistance > tolerance) {
+        kept.set(index);
+        if (stackSize + 4 > stack.length) {
+          stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        if (index - startIndex > 1) {
+          stack[stackSize++] = startIndex;
+          stack[stackSize++] = index;
+        }
+        if (endIndex - index > 1) {
+          stack[stackSize++] = index;
+          stack[stackSize++] = endIndex;
+        }
       }
     }
+    return kept;
   }
 
   private static double squaredSegmentDistance(
-    @NonNull Point point,
-    @NonNull Point segmentStart,
-    @NonNull Point segmentEnd
+    @NonNull double[] flattenLngLat,
+    int pointIndex,
+    int startIndex,
+    int endIndex
   ) {
-    double x = segmentStart.latitude();
-    double y = segmentStart.longitude();
-    double dx = segmentEnd.latitude() - x;
-    double dy = segmentEnd.longitude() - y;
+    double x = flattenLngLat[2 * startIndex + 1];
+    double y = flattenLngLat[2 * startIndex];
+    double dx = flattenLngLat[2 * endIndex + 1] - x;
+    double dy = flattenLngLat[2 * endIndex] - y;
+    double pointX = flattenLngLat[2 * pointIndex + 1];
+    double pointY = flattenLngLat[2 * pointIndex];
 
     if (dx != 0 || dy != 0) {
-      double t = ((point.latitude() - x) * dx + (point.longitude() - y) * dy) / (dx * dx + dy * dy);
+      double t = ((pointX - x) * dx + (pointY - y) * dy) / (dx * dx + dy * dy);
       if (t > 1) {
-        x = segmentEnd.latitude();
-        y = segmentEnd.longitude();
+        x = flattenLngLat[2 * endIndex + 1];
+        y = flattenLngLat[2 * endIndex];
       } else if (t > 0) {
         x += dx * t;
         y += dy * t;
       }
     }
 
-    dx = point.latitude() - x;
-    dy = point.longitude() - y;
+    dx = pointX - x;
+    dy = pointY - y;
 
     return dx * dx + dy * dy;
   }
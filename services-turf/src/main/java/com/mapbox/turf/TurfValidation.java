@@ -0,0 +1,469 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Methods validating the rings of polygons and normalizing their winding.
+ * <p>
+ * Self-intersections are detected with the Shamos-Hoey sweep line: the edges of all the rings are
+ * swept from west to east and only compared with their neighbours along the sweep line, which
+ * finds whether any two edges intersect in O(n log n) time instead of comparing every pair of
+ * edges. The orientation tests use floating point arithmetic.
+ * </p>
+ *
+ * @since 7.11.0
+ */
+public final class TurfValidation {
+
+  private TurfValidation() {
+    throw new AssertionError("No Instances.");
+  }
+
+  /**
+   * Checks that a polygon is valid: every ring is closed, has at least 3 distinct positions, and
+   * no two edges of its rings intersect or touch, except consecutive edges of a ring at their
+   * shared position. This is stricter than the OGC rules, which allow a hole to touch another
+   * ring at a single point.
+   *
+   * @param polygon the polygon to validate
+   * @return true if the polygon is valid
+   * @since 7.11.0
+   */
+  public static boolean isValid(@NonNull Polygon polygon) {
+    return isValid(flattenRings(polygon.coordinates()));
+  }
+
+  /**
+   * Checks that the polygons of a multi polygon are valid and that none of their rings intersect
+   * or touch each other, as described by {@link #isValid(Polygon)}.
+   *
+   * @param multiPolygon the multi polygon to validate
+   * @return true if the multi polygon is valid
+   * @since 7.11.0
+   */
+  public static boolean isValid(@NonNull MultiPolygon multiPolygon) {
+    List<List<Point>> rings = new ArrayList<>();
+    for (List<List<Point>> polygon : multiPolygon.coordinates()) {
+      rings.addAll(polygon);
+    }
+    return isValid(flattenRings(rings));
+  }
+
+  /**
+   * Checks that rings are valid, as described by {@link #isValid(Polygon)}.
+   *
+   * @param flattenRings the rings, each one as a flat array of coordinates:
+   *                     [lng1, lat1, lng2, lat2, ...]
+   * @return true if the rings are valid
+   * @since 7.11.0
+   */
+  public static boolean isValid(@NonNull double[][] flattenRings) {
+    for (double[] ring : flattenRings) {
+      int last = ring.length / 2 - 1;
+      if (last < 0 || ring[0] != ring[2 * last] || ring[1] != ring[2 * last + 1]) {
+        return false;
+      }
+      if (distinctPositions(ring) < 3) {
+        return false;
+      }
+    }
+    return findIntersection(flattenRings) == null;
+  }
+
+  /**
+   * Finds two edges of the rings which intersect or touch, consecutive edges of a ring only being
+   * reported when they overlap. The rings are treated as closed whether their last position
+   * repeats the first one or not, and repeated consecutive positions are ignored.
+   *
+   * @param flattenRings the rings, each one as a flat array of coordinates:
+   *                     [lng1, lat1, lng2, lat2, ...]
+   * @return null if no edges intersect, otherwise {ring1, position1, ring2, position2}: the index
+   *   of the ring of each edge and the index of the position the edge starts from in that ring
+   * @since 7.11.0
+   */
+  @Nullable
+  public static int[] findIntersection(@NonNull double[][] flattenRings) {
+    return new Sweep(flattenRings).run();
+  }
+
+  /**
+   * Rewinds the rings of a polygon following RFC 7946: the outer ring counterclockwise and the
+   * holes clockwise, like the rewind module of Turf.
+   *
+   * @param polygon the polygon to rewind
+   * @return the rewound polygon, or the same polygon if its rings are already wound correctly
+   * @since 7.11.0
+   */
+  @NonNull
+  public static Polygon rewind(@NonNull Polygon polygon) {
+    List<List<Point>> rings = polygon.coordinates();
+    List<List<Point>> rewound = new ArrayList<>(rings.size());
+    boolean changed = false;
+    for (int i = 0; i < rings.size(); i++) {
+      List<Point> ring = rings.get(i);
+      if (needsReverse(flattenRing(ring), i == 0)) {
+        ring = new ArrayList<>(ring);
+        Collections.reverse(ring);
+        changed = true;
+      }
+      rewound.add(ring);
+    }
+    return changed ? Polygon.fromLngLats(rewound, polygon.bbox()) : polygon;
+  }
+
+  /**
+   * Rewinds the polygons of a multi polygon, as described by {@link #rewind(Polygon)}.
+   *
+   * @param multiPolygon the multi polygon to rewind
+   * @return the rewound multi polygon
+   * @since 7.11.0
+   */
+  @NonNull
+  public static MultiPolygon rewind(@NonNull MultiPolygon multiPolygon) {
+    List<Polygon> polygons = new ArrayList<>();
+    for (Polygon polygon : multiPolygon.polygons()) {
+      polygons.add(rewind(polygon));
+    }
+    return MultiPolygon.fromPolygons(polygons, multiPolygon.bbox());
+  }
+
+  /**
+   * Rewinds rings in place, as described by {@link #rewind(Polygon)}.
+   *
+   * @param flattenRings the outer ring first and then the holes, each one as a flat array of
+   *                     coordinates: [lng1, lat1, lng2, lat2, ...]
+   * @since 7.11.0
+   */
+  public static void rewind(@NonNull double[][] flattenRings) {
+    for (int i = 0; i < flattenRings.length; i++) {
+      double[] ring = flattenRings[i];
+      if (needsReverse(ring, i == 0)) {
+        for (int from = 0, to = ring.length - 2; from < to; from += 2, to -= 2) {
+          swap(ring, from, to);
+          swap(ring, from + 1, to + 1);
+        }
+      }
+    }
+  }
+
+  private static boolean needsReverse(double[] ring, boolean outer) {
+    double area = 0;
+    int count = ring.length / 2;
+    for (int i = 0, j = count - 1; i < count; j = i++) {
+      area += (ring[2 * i] - ring[2 * j]) * (ring[2 * i + 1] + ring[2 * j + 1]);
+    }
+    // the shoelace sum above is positive for clockwise rings
+    return outer ? area > 0 : area < 0;
+  }
+
+  private static void swap(double[] array, int i, int j) {
+    double value = array[i];
+    array[i] = array[j];
+    array[j] = value;
+  }
+
+  private static int distinctPositions(double[] ring) {
+    int count = 0;
+    int last = ring.length / 2 - 1;
+    for (int i = 0; i < last; i++) {
+      if (ring[2 * i] != ring[2 * i + 2] || ring[2 * i + 1] != ring[2 * i + 3]) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static double[][] flattenRings(List<List<Point>> rings) {
+    double[][] flattenRings = new double[rings.size()][];
+    for (int i = 0; i < rings.size(); i++) {
+      flattenRings[i] = flattenRing(rings.get(i));
+    }
+    return flattenRings;
+  }
+
+  private static double[] flattenRing(List<Point> ring) {
+    double[] flatten = new double[ring.size() * 2];
+    for (int i = 0; i < ring.size(); i++) {
+      flatten[2 * i] = ring.get(i).longitude();
+      flatten[2 * i + 1] = ring.get(i).latitude();
+    }
+    return flatten;
+  }
+
+  private static double orient(double ax, double ay, double bx, double by, double cx, double cy) {
+    return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+  }
+
+  /**
+   * Shamos-Hoey sweep over the edges of rings, stopping at the first intersection.
+   */
+  private static final class Sweep implements Comparator<Integer> {
+
+    // edges in ring order: from (startX, startY) to (endX, endY)
+    private final double[] startX;
+    private final double[] startY;
+    private final double[] endX;
+    private final double[] endY;
+    // ring of each edge, position of the edge in its ring and index of its first coordinate
+    private final int[] ring;
+    private final int[] rank;
+    private final int[] position;
+    // number of edges of each ring
+    private final int[] ringSize;
+    private final int count;
+
+    Sweep(double[][] flattenRings) {
+      int total = 0;
+      for (double[] coordinates : flattenRings) {
+        total += coordinates.length / 2;
+      }
+      startX = new double[total];
+      startY = new double[total];
+      endX = new double[total];
+      endY = new double[total];
+      ring = new int[total];
+      rank = new int[total];
+      position = new int[total];
+      ringSize = new int[flattenRings.length];
+
+      int edges = 0;
+      for (int r = 0; r < flattenRings.length; r++) {
+        double[] coordinates = flattenRings[r];
+        int size = coordinates.length / 2;
+        int first = edges;
+        for (int i = 0; i < size; i++) {
+          int j = (i + 1) % size;
+          double x1 = coordinates[2 * i];
+          double y1 = coordinates[2 * i + 1];
+          double x2 = coordinates[2 * j];
+          double y2 = coordinates[2 * j + 1];
+          if (x1 == x2 && y1 == y2) {
+            // repeated positions, including the closing one, make no edge
+            continue;
+          }
+          startX[edges] = x1;
+          startY[edges] = y1;
+          endX[edges] = x2;
+          endY[edges] = y2;
+          ring[edges] = r;
+          rank[edges] = edges - first;
+          position[edges] = i;
+          edges++;
+        }
+        ringSize[r] = edges - first;
+      }
+      count = edges;
+    }
+
+    int[] run() {
+      // even events insert the edge at its left end, odd events remove it at its right end
+      int[] events = new int[2 * count];
+      for (int i = 0; i < events.length; i++) {
+        events[i] = i;
+      }
+      sort(events, 0, events.length - 1, new Random(0));
+
+      TreeSet<Integer> status = new TreeSet<>(this);
+      for (int event : events) {
+        Integer edge = event >> 1;
+        if ((event & 1) == 0) {
+          status.add(edge);
+          Integer above = status.higher(edge);
+          Integer below = status.lower(edge);
+          if (above != null && intersects(edge, above)) {
+            return result(edge, above);
+          }
+          if (below != null && intersects(edge, below)) {
+            return result(edge, below);
+          }
+        } else {
+          Integer above = status.higher(edge);
+          Integer below = status.lower(edge);
+          status.remove(edge);
+          if (above != null && below != null && intersects(above, below)) {
+            return result(above, below);
+          }
+        }
+      }
+      return null;
+    }
+
+    private int[] result(int first, int second) {
+      if (ring[first] > ring[second] || ring[first] == ring[second] && rank[first] > rank[second]) {
+        int swap = first;
+        first = second;
+        second = swap;
+      }
+      return new int[] {ring[first], position[first], ring[second], position[second]};
+    }
+
+    /**
+     * Orders the edges along the sweep line, from south to north, comparing the edge starting
+     * last with the line of the other one.
+     */
+    @Override
+    public int compare(Integer first, Integer second) {
+      int a = first;
+      int b = second;
+      if (a == b) {
+        return 0;
+      }
+      int side = comparePoints(leftX(a), leftY(a), leftX(b), leftY(b)) >= 0
+        ? side(b, a) : -side(a, b);
+      return side != 0 ? side : Integer.compare(a, b);
+    }
+
+    /**
+     * Returns 1 if an edge is above the line of another edge, -1 if below and 0 if collinear.
+     */
+    private int side(int base, int edge) {
+      double orientation = orient(leftX(base), leftY(base), rightX(base), rightY(base),
+        leftX(edge), leftY(edge));
+      if (orientation == 0) {
+        orientation = orient(leftX(base), leftY(base), rightX(base), rightY(base),
+          rightX(edge), rightY(edge));
+      }
+      return (int) Math.signum(orientation);
+    }
+
+    private boolean intersects(int a, int b) {
+      if (ring[a] == ring[b]) {
+        int size = ringSize[ring[a]];
+        int difference = rank[b] - rank[a];
+        if (difference == 1 || difference == 1 - size) {
+          return overlaps(a, b);
+        } else if (difference == -1 || difference == size - 1) {
+          return overlaps(b, a);
+        }
+      }
+      double d1 = orient(startX[a], startY[a], endX[a], endY[a], startX[b], startY[b]);
+      double d2 = orient(startX[a], startY[a], endX[a], endY[a], endX[b], endY[b]);
+      double d3 = orient(startX[b], startY[b], endX[b], endY[b], startX[a], startY[a]);
+      double d4 = orient(startX[b], startY[b], endX[b], endY[b], endX[a], endY[a]);
+      if ((d1 > 0 && d2 < 0 || d1 < 0 && d2 > 0) && (d3 > 0 && d4 < 0 || d3 < 0 && d4 > 0)) {
+        return true;
+      }
+      return d1 == 0 && onSegment(a, startX[b], startY[b])
+        || d2 == 0 && onSegment(a, endX[b], endY[b])
+        || d3 == 0 && onSegment(b, startX[a], startY[a])
+        || d4 == 0 && onSegment(b, endX[a], endY[a]);
+    }
+
+    /**
+     * Checks whether an edge and the next one in its ring fold back over each other.
+     */
+    private boolean overlaps(int edge, int next) {
+      double x0 = startX[edge];
+      double y0 = startY[edge];
+      double x1 = endX[edge];
+      double y1 = endY[edge];
+      double x2 = endX[next];
+      double y2 = endY[next];
+      return orient(x0, y0, x1, y1, x2, y2) == 0
+        && (x0 - x1) * (x2 - x1) + (y0 - y1) * (y2 - y1) > 0;
+    }
+
+    /**
+     * Checks whether a point known to be on the line of an edge is within the edge.
+     */
+    private boolean onSegment(int edge, double x, double y) {
+      return x >= Math.min(startX[edge], endX[edge]) && x <= Math.max(startX[edge], endX[edge])
+        && y >= Math.min(startY[edge], endY[edge]) && y <= Math.max(startY[edge], endY[edge]);
+    }
+
+    private boolean startIsLeft(int edge) {
+      return comparePoints(startX[edge], startY[edge], endX[edge], endY[edge]) < 0;
+    }
+
+    private double leftX(int edge) {
+      return startIsLeft(edge) ? startX[edge] : endX[edge];
+    }
+
+    private double leftY(int edge) {
+      return startIsLeft(edge) ? startY[edge] : endY[edge];
+    }
+
+    private double rightX(int edge) {
+      return startIsLeft(edge) ? endX[edge] : startX[edge];
+    }
+
+    private double rightY(int edge) {
+      return startIsLeft(edge) ? endY[edge] : startY[edge];
+    }
+
+    private double eventX(int event) {
+      return (event & 1) == 0 ? leftX(event >> 1) : rightX(event >> 1);
+    }
+
+    private double eventY(int event) {
+      return (event & 1) == 0 ? leftY(event >> 1) : rightY(event >> 1);
+    }
+
+    /**
+     * Orders the events from west to east, then from south to north, inserting the edges
+     * starting at a position before removing the edges ending there.
+     */
+    private int compareEvents(int a, int b) {
+      int compare = comparePoints(eventX(a), eventY(a), eventX(b), eventY(b));
+      return compare != 0 ? compare : (a & 1) - (b & 1);
+    }
+
+    private static int comparePoints(double ax, double ay, double bx, double by) {
+      int compare = Double.compare(ax, bx);
+      return compare != 0 ? compare : Double.compare(ay, by);
+    }
+
+    /**
+     * Quicksort of the events with random pivots, avoiding boxing millions of events.
+     */
+    private void sort(int[] events, int left, int right, Random random) {
+      while (right - left > 16) {
+        int pivot = events[left + random.nextInt(right - left + 1)];
+        int i = left;
+        int j = right;
+        while (i <= j) {
+          while (compareEvents(events[i], pivot) < 0) {
+            i++;
+          }
+          while (compareEvents(events[j], pivot) > 0) {
+            j--;
+          }
+          if (i <= j) {
+            int swap = events[i];
+            events[i++] = events[j];
+            events[j--] = swap;
+          }
+        }
+        // recurse into the smaller part to bound the stack depth
+        if (j - left < right - i) {
+          sort(events, left, j, random);
+          left = i;
+        } else {
+          sort(events, i, right, random);
+          right = j;
+        }
+      }
+      for (int i = left + 1; i <= right; i++) {
+        int event = events[i];
+        int j = i - 1;
+        while (j >= left && compareEvents(events[j], event) > 0) {
+          events[j + 1] = events[j];
+          j--;
+        }
+        events[j + 1] = event;
+      }
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BinningGridTest extends TestUtils {
+
+  @Test
+  public void fromSquares_coversTheBox() {
+    double side = TurfMeasurement.distance(0, 0, 0.1, 0, TurfConstants.UNIT_KILOMETERS);
+    BinningGrid grid = BinningGrid.fromSquares(new double[] {0, 0, 1.05, 1},
+      side, TurfConstants.UNIT_KILOMETERS);
+
+    assertEquals(100, grid.size());
+    // the columns are centered on the box, ordered column by column
+    Polygon first = grid.cell(0);
+    assertEquals(0.025, first.coordinates().get(0).get(0).longitude(), 1E-9);
+    assertEquals(0, first.coordinates().get(0).get(0).latitude(), 1E-9);
+    assertEquals(0.025, grid.cell(1).coordinates().get(0).get(0).longitude(), 1E-9);
+    assertEquals(0.1, grid.cell(1).coordinates().get(0).get(0).latitude(), 1E-9);
+    assertEquals(0, grid.cellOf(0.03, 0.05));
+    assertEquals(13, grid.cellOf(0.13, 0.35));
+    assertEquals(-1, grid.cellOf(0.01, 0.5));
+    assertEquals(-1, grid.cellOf(0.5, -0.01));
+  }
+
+  @Test
+  public void cellOf_matchesTheSquarePolygons() {
+    BinningGrid grid = BinningGrid.fromSquares(new double[] {-10, 40, 10, 55}, 50,
+      TurfConstants.UNIT_KILOMETERS);
+    assertCellsMatchPolygons(grid, new double[] {-11, 39, 11, 56});
+  }
+
+  @Test
+  public void cellOf_matchesTheHexagonPolygons() {
+    BinningGrid grid = BinningGrid.fromHexagons(new double[] {-10, 40, 10, 55}, 50,
+      TurfConstants.UNIT_KILOMETERS);
+    assertCellsMatchPolygons(grid, new double[] {-11, 39, 11, 56});
+  }
+
+  @Test
+  public void count_parallelMatchesSequential() {
+    BinningGrid grid = BinningGrid.fromHexagons(new double[] {0, 0, 5, 5}, 20,
+      TurfConstants.UNIT_KILOMETERS);
+    Random random = new Random(3);
+    double[] points = new double[2 * 200000];
+    double[] values = new double[200000];
+    for (int i = 0; i < values.length; i++) {
+      points[2 * i] = random.nextDouble() * 5.2 - 0.1;
+      points[2 * i + 1] = random.nextDouble() * 5.2 - 0.1;
+      values[i] = random.nextInt(10);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    int[] counts = grid.count(points, null);
+    assertArrayEquals(counts, grid.count(points, pool));
+    assertArrayEquals(grid.sum(points, values, null), grid.sum(points, values, pool), DELTA);
+    pool.shutdown();
+
+    int total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    int inside = 0;
+    for (int i = 0; i < values.length; i++) {
+      inside += grid.cellOf(points[2 * i], points[2 * i + 1]) >= 0 ? 1 : 0;
+    }
+    assertEquals(inside, total);
+  }
+
+  @Test
+  public void features_onlyEmitsNonEmptyCells() {
+    BinningGrid grid = BinningGrid.fromSquares(new double[] {0, 0, 1, 1}, 10,
+      TurfConstants.UNIT_KILOMETERS);
+    double[] points = new double[] {0.5, 0.5, 0.5, 0.5, 0.1, 0.9, 5, 5};
+    double[] values = new double[] {1, 2, 4, 8};
+
+    int[] counts = grid.count(points, null);
+    double[] sums = grid.sum(points, values, null);
+    FeatureCollection cells = grid.features(counts, sums);
+
+    List<Feature> features = cells.features();
+    assertEquals(2, features.size());
+    Feature center = features.get(0).getNumberProperty("count").intValue() == 2
+      ? features.get(0) : features.get(1);
+    assertEquals(3, center.getNumberProperty("sum").doubleValue(), DELTA);
+    assertTrue(TurfJoins.inside(Point.fromLngLat(0.5, 0.5), (Polygon) center.geometry()));
+    assertEquals(2, grid.features(counts).features().size());
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromHexagons_nonPositiveCellSideThrows() {
+    BinningGrid.fromHexagons(new double[] {0, 0, 1, 1}, 0, TurfConstants.UNIT_KILOMETERS);
+  }
+
+  private static void assertCellsMatchPolygons(BinningGrid grid, double[] area) {
+    FeatureCollection cells = grid.cells();
+    assertEquals(grid.size(), cells.features().size());
+    assertTrue(grid.size() > 20);
+    Random random = new Random(1);
+    for (int i = 0; i < 5000; i++) {
+      Point point = Point.fromLngLat(area[0] + random.nextDouble() * (area[2] - area[0]),
+        area[1] + random.nextDouble() * (area[3] - area[1]));
+      int expected = -1;
+      for (int cell = 0; cell < grid.size(); cell++) {
+        if (TurfJoins.inside(point, (Polygon) cells.features().get(cell).geometry())) {
+          expected = cell;
+          break;
+        }
+      }
+      assertEquals(expected, grid.cellOf(point.longitude(), point.latitude()));
+    }
+  }
+}
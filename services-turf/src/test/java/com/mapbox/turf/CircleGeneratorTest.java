@@ -0,0 +1,97 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class CircleGeneratorTest extends TestUtils {
+
+  @Test
+  public void circle_matchesDestination() {
+    Point center = Point.fromLngLat(-75.343, 39.984);
+    Polygon circle = CircleGenerator.fromSteps(32).circle(center, 5,
+      TurfConstants.UNIT_KILOMETERS);
+
+    List<Point> ring = circle.coordinates().get(0);
+    assertEquals(33, ring.size());
+    for (int i = 0; i < 32; i++) {
+      Point expected = TurfMeasurement.destination(center, 5, i * 360d / 32,
+        TurfConstants.UNIT_KILOMETERS);
+      assertEquals(expected.longitude(), ring.get(i).longitude(), 0);
+      assertEquals(expected.latitude(), ring.get(i).latitude(), 0);
+    }
+    assertEquals(ring.get(0), ring.get(32));
+  }
+
+  @Test
+  public void circles_writesConsecutiveRings() {
+    CircleGenerator generator = CircleGenerator.fromSteps(16);
+    double[] centers = new double[] {0, 0, 10, 45, -120, -30};
+
+    double[] rings = generator.circles(centers, 250, TurfConstants.UNIT_METERS);
+
+    int ringLength = generator.ringSize() * 2;
+    assertEquals(3 * ringLength, rings.length);
+    for (int i = 0; i < 3; i++) {
+      double[] expected = new double[ringLength];
+      generator.circle(centers[2 * i], centers[2 * i + 1], 250, TurfConstants.UNIT_METERS,
+        expected, 0);
+      assertArrayEquals(expected,
+        Arrays.copyOfRange(rings, i * ringLength, (i + 1) * ringLength), 0);
+    }
+  }
+
+  @Test
+  public void circles_parallelMatchesSequential() {
+    Random random = new Random(9);
+    int count = 2000;
+    double[] centers = new double[count * 2];
+    double[] radii = new double[count];
+    for (int i = 0; i < count; i++) {
+      centers[2 * i] = random.nextDouble() * 360 - 180;
+      centers[2 * i + 1] = random.nextDouble() * 160 - 80;
+      radii[i] = random.nextDouble() * 50;
+    }
+    CircleGenerator generator = CircleGenerator.fromSteps(64);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      double[] rings = generator.circles(centers, radii, TurfConstants.UNIT_MILES, pool);
+      int ringLength = generator.ringSize() * 2;
+      double[] expected = new double[ringLength];
+      for (int i = 0; i < count; i += 97) {
+        generator.circle(centers[2 * i], centers[2 * i + 1], radii[i], TurfConstants.UNIT_MILES,
+          expected, 0);
+        assertArrayEquals(expected,
+          Arrays.copyOfRange(rings, i * ringLength, (i + 1) * ringLength), 0);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void circles_radiiMismatchThrows() {
+    ForkJoinPool pool = new ForkJoinPool(1);
+    try {
+      CircleGenerator.fromSteps(8).circles(new double[] {0, 0, 1, 1}, new double[] {1},
+        TurfConstants.UNIT_METERS, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromSteps_zeroThrows() {
+    CircleGenerator.fromSteps(0);
+  }
+}
@@ -0,0 +1,169 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+public class ClusterIndexTest extends TestUtils {
+
+  private static final double[] WORLD = new double[] {-180, -85, 180, 85};
+
+  @Test
+  public void getClusters_countsEveryPointOnce() {
+    List<Feature> features = randomFeatures(5000, 1);
+    ClusterIndex index = ClusterIndex.fromFeatures(features);
+
+    for (int zoom = 0; zoom <= 17; zoom++) {
+      int total = 0;
+      for (Feature feature : index.getClusters(WORLD, zoom)) {
+        total += isCluster(feature) ? feature.getNumberProperty("point_count").intValue() : 1;
+      }
+      assertEquals(features.size(), total);
+    }
+    assertTrue(index.getClusters(WORLD, 0).size() < 100);
+    assertEquals(features.size(), index.getClusters(WORLD, 17).size());
+  }
+
+  @Test
+  public void getLeaves_returnsAllThePointsOfACluster() {
+    List<Feature> features = randomFeatures(2000, 2);
+    ClusterIndex index = ClusterIndex.fromFeatures(features);
+
+    Set<Feature> leaves = new HashSet<>();
+    for (Feature feature : index.getClusters(WORLD, 2)) {
+      if (isCluster(feature)) {
+        long id = feature.getNumberProperty("cluster_id").longValue();
+        int count = feature.getNumberProperty("point_count").intValue();
+        List<Feature> clusterLeaves = index.getLeaves(id, Integer.MAX_VALUE, 0);
+        assertEquals(count, clusterLeaves.size());
+        leaves.addAll(clusterLeaves);
+      } else {
+        leaves.add(feature);
+      }
+    }
+    assertEquals(features.size(), leaves.size());
+  }
+
+  @Test
+  public void getLeaves_paginates() {
+    ClusterIndex index = ClusterIndex.fromFeatures(randomFeatures(1000, 3));
+    Feature cluster = largestCluster(index.getClusters(WORLD, 0));
+    long id = cluster.getNumberProperty("cluster_id").longValue();
+
+    List<Feature> all = index.getLeaves(id, Integer.MAX_VALUE, 0);
+    assertEquals(all.subList(0, 10), index.getLeaves(id, 10, 0));
+    assertEquals(all.subList(25, 40), index.getLeaves(id, 15, 25));
+    assertEquals(0, index.getLeaves(id, 10, all.size()).size());
+  }
+
+  @Test
+  public void getChildren_splitsAClusterAtTheNextZoom() {
+    ClusterIndex index = ClusterIndex.fromFeatures(randomFeatures(1000, 4));
+    Feature cluster = largestCluster(index.getClusters(WORLD, 0));
+    long id = cluster.getNumberProperty("cluster_id").longValue();
+
+    int total = 0;
+    for (Feature child : index.getChildren(id)) {
+      total += isCluster(child) ? child.getNumberProperty("point_count").intValue() : 1;
+    }
+    assertEquals(cluster.getNumberProperty("point_count").intValue(), total);
+
+    int expansionZoom = index.getClusterExpansionZoom(id);
+    assertTrue(expansionZoom >= 1);
+    assertTrue(expansionZoom <= 17);
+  }
+
+  @Test
+  public void getClusters_crossesTheAntimeridian() {
+    List<Feature> features = new ArrayList<>();
+    features.add(Feature.fromGeometry(Point.fromLngLat(179.5, 10)));
+    features.add(Feature.fromGeometry(Point.fromLngLat(-179.5, 10)));
+    features.add(Feature.fromGeometry(Point.fromLngLat(0, 10)));
+    ClusterIndex index = ClusterIndex.fromFeatures(features);
+
+    List<Feature> clusters = index.getClusters(new double[] {179, 0, -179, 20}, 17);
+
+    assertEquals(2, clusters.size());
+    assertTrue(clusters.contains(features.get(0)));
+    assertTrue(clusters.contains(features.get(1)));
+  }
+
+  @Test
+  public void fromFeatures_ignoresOtherGeometries() {
+    Feature point = Feature.fromGeometry(Point.fromLngLat(1, 2));
+    Feature line = Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 1))));
+    ClusterIndex index = ClusterIndex.fromFeatures(Arrays.asList(line, point));
+
+    List<Feature> clusters = index.getClusters(WORLD, 0);
+    assertEquals(1, clusters.size());
+    assertSame(point, clusters.get(0));
+  }
+
+  @Test
+  public void fromFeatures_parallelMatchesSequential() {
+    List<Feature> features = randomFeatures(30000, 5);
+    ClusterIndex sequential = ClusterIndex.fromFeatures(features, 0, 16, 40, 512, 2, null);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ClusterIndex parallel = ClusterIndex.fromFeatures(features, 0, 16, 40, 512, 2, pool);
+      for (int zoom = 0; zoom <= 17; zoom += 4) {
+        assertEquals(new HashSet<>(sequential.getClusters(WORLD, zoom)),
+          new HashSet<>(parallel.getClusters(WORLD, zoom)));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void getChildren_unknownClusterThrows() {
+    ClusterIndex index = ClusterIndex.fromFeatures(randomFeatures(100, 6));
+    index.getChildren(100 + (1000000L << 5) + 1);
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromFeatures_invalidZoomThrows() {
+    ClusterIndex.fromFeatures(randomFeatures(10, 7), 5, 31, 40, 512, 2, null);
+  }
+
+  private static boolean isCluster(Feature feature) {
+    return feature.hasProperty("cluster") && feature.getBooleanProperty("cluster");
+  }
+
+  private static Feature largestCluster(List<Feature> features) {
+    Feature largest = null;
+    for (Feature feature : features) {
+      if (isCluster(feature) && (largest == null
+        || feature.getNumberProperty("point_count").intValue()
+        > largest.getNumberProperty("point_count").intValue())) {
+        largest = feature;
+      }
+    }
+    return largest;
+  }
+
+  private static List<Feature> randomFeatures(int count, long seed) {
+    Random random = new Random(seed);
+    List<Feature> features = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      features.add(Feature.fromGeometry(Point.fromLngLat(random.nextDouble() * 360 - 180,
+        random.nextDouble() * 160 - 80), null, String.valueOf(i)));
+    }
+    return features;
+  }
+}
@@ -0,0 +1,117 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class CorridorSearchTest extends TestUtils {
+
+  @Test
+  public void along_reportsDistanceAlongAndSignedOffset() {
+    List<Feature> features = Arrays.asList(
+      Feature.fromGeometry(Point.fromLngLat(0.5, 0.001), null, "left"),
+      Feature.fromGeometry(Point.fromLngLat(0.2, -0.002), null, "right"),
+      Feature.fromGeometry(Point.fromLngLat(0.7, 0.1), null, "far"),
+      Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+        Point.fromLngLat(0.3, 0), Point.fromLngLat(0.4, 0))), null, "line"));
+    CorridorSearch search = CorridorSearch.fromFeatures(FeatureCollection.fromFeatures(features));
+    LineString route = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0)));
+
+    List<CorridorSearch.Hit> hits = search.along(route, 500, TurfConstants.UNIT_METERS);
+
+    assertEquals(3, search.size());
+    assertEquals(2, hits.size());
+    assertEquals("right", hits.get(0).feature().id());
+    assertEquals(TurfMeasurement.distance(Point.fromLngLat(0, 0), Point.fromLngLat(0.2, 0),
+      TurfConstants.UNIT_METERS), hits.get(0).distanceAlong(), 1E-6);
+    assertEquals(TurfMeasurement.distance(Point.fromLngLat(0.2, 0), Point.fromLngLat(0.2, -0.002),
+      TurfConstants.UNIT_METERS), hits.get(0).offset(), 1E-6);
+    assertEquals("left", hits.get(1).feature().id());
+    assertEquals(-TurfMeasurement.distance(Point.fromLngLat(0.5, 0), Point.fromLngLat(0.5, 0.001),
+      TurfConstants.UNIT_METERS), hits.get(1).offset(), 1E-6);
+    assertEquals(0, hits.get(1).segmentIndex());
+  }
+
+  @Test
+  public void along_projectsOnTheClosestSegment() {
+    CorridorSearch search = CorridorSearch.fromFeatures(FeatureCollection.fromFeature(
+      Feature.fromGeometry(Point.fromLngLat(1.001, 0.5))));
+    // the route passes twice near the point, the second time closer
+    LineString route = LineString.fromLngLats(Arrays.asList(Point.fromLngLat(1.003, 0),
+      Point.fromLngLat(1.003, 1), Point.fromLngLat(1.0015, 1), Point.fromLngLat(1.0015, 0)));
+
+    List<CorridorSearch.Hit> hits = search.along(route, 1, TurfConstants.UNIT_KILOMETERS);
+
+    assertEquals(1, hits.size());
+    assertEquals(2, hits.get(0).segmentIndex());
+    assertTrue(hits.get(0).offset() > 0);
+    double firstLegs = TurfMeasurement.length(LineString.fromLngLats(
+      route.coordinates().subList(0, 3)), TurfConstants.UNIT_KILOMETERS);
+    assertEquals(firstLegs + TurfMeasurement.distance(Point.fromLngLat(1.0015, 1),
+      Point.fromLngLat(1.0015, 0.5), TurfConstants.UNIT_KILOMETERS),
+      hits.get(0).distanceAlong(), 1E-3);
+  }
+
+  @Test
+  public void along_matchesNearestPointOnLine() {
+    Random random = new Random(7);
+    List<Point> route = new ArrayList<>();
+    double lng = 2;
+    double lat = 45;
+    for (int i = 0; i < 200; i++) {
+      route.add(Point.fromLngLat(lng, lat));
+      lng += random.nextDouble() * 0.02;
+      lat += random.nextDouble() * 0.02 - 0.01;
+    }
+    List<Feature> features = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      features.add(Feature.fromGeometry(Point.fromLngLat(
+        2 + random.nextDouble() * 2.2, 44.5 + random.nextDouble() * 1.5)));
+    }
+    CorridorSearch search = CorridorSearch.fromFeatures(FeatureCollection.fromFeatures(features));
+
+    List<CorridorSearch.Hit> hits = search.along(
+      LineString.fromLngLats(route), 500, TurfConstants.UNIT_METERS);
+
+    Set<Feature> found = new HashSet<>();
+    double previous = 0;
+    for (CorridorSearch.Hit hit : hits) {
+      assertTrue(hit.distanceAlong() >= previous);
+      previous = hit.distanceAlong();
+      found.add(hit.feature());
+      double expected = TurfMisc.nearestPointOnLine((Point) hit.feature().geometry(), route,
+        TurfConstants.UNIT_METERS).getNumberProperty("dist").doubleValue();
+      assertEquals(expected, Math.abs(hit.offset()), 1);
+    }
+    assertTrue(hits.size() > 100);
+    for (Feature feature : features) {
+      double distance = TurfMisc.nearestPointOnLine((Point) feature.geometry(), route,
+        TurfConstants.UNIT_METERS).getNumberProperty("dist").doubleValue();
+      if (distance < 499) {
+        assertTrue(found.contains(feature));
+      } else if (distance > 501) {
+        assertTrue(!found.contains(feature));
+      }
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void along_negativeWidthThrows() {
+    CorridorSearch.fromFeatures(FeatureCollection.fromFeatures(new ArrayList<Feature>()))
+      .along(new double[] {0, 0, 1, 1}, -1, TurfConstants.UNIT_METERS);
+  }
+}
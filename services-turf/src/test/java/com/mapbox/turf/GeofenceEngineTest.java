@@ -0,0 +1,193 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GeofenceEngineTest extends TestUtils {
+
+  @Test
+  public void update_reportsEnterDwellAndExit() {
+    Recorder recorder = new Recorder();
+    GeofenceEngine engine = GeofenceEngine.fromFeatures(
+      Arrays.asList(square("a", 0, 0, 10), square("b", 5, 5, 10)), 100, recorder);
+
+    engine.update("car", -1, -1, 0);
+    engine.update("car", 1, 1, 10);
+    engine.update("car", 6, 6, 20);
+    engine.update("car", 7, 7, 110);
+    engine.update("car", 7, 7, 200);
+    engine.update("car", 12, 12, 300);
+    engine.update("car", 20, 20, 400);
+
+    assertEquals(Arrays.asList(
+      "car a enter 10",
+      "car b enter 20",
+      "car a dwell 110",
+      "car b dwell 200",
+      "car a exit 300",
+      "car b exit 400"), recorder.transitions);
+    assertEquals(Collections.<String>emptyList(), engine.fencesOf("car"));
+  }
+
+  @Test
+  public void update_ignoresOutOfOrderPositions() {
+    Recorder recorder = new Recorder();
+    GeofenceEngine engine = GeofenceEngine.fromFeatures(
+      Collections.singletonList(square("a", 0, 0, 10)), 1000, recorder);
+
+    engine.update("car", 1, 1, 50);
+    engine.update("car", 20, 20, 40);
+
+    assertEquals(Collections.singletonList("car a enter 50"), recorder.transitions);
+    assertEquals(Collections.singletonList("a"), engine.fencesOf("car"));
+  }
+
+  @Test
+  public void remove_reportsExits() {
+    Recorder recorder = new Recorder();
+    GeofenceEngine engine = GeofenceEngine.fromFeatures(
+      Arrays.asList(square("a", 0, 0, 10), square("b", 5, 5, 10)), 1000, recorder);
+
+    engine.update("car", 6, 6, 0);
+    engine.remove("car", 5);
+
+    assertEquals(Arrays.asList("car a enter 0", "car b enter 0", "car a exit 5", "car b exit 5"),
+      recorder.transitions);
+  }
+
+  @Test
+  public void fencesAt_matchesTurfJoins() {
+    Random random = new Random(1);
+    List<Feature> fences = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      Feature fence = Feature.fromGeometry(TurfTransformation.circle(
+        Point.fromLngLat(random.nextDouble() * 100, random.nextDouble() * 50),
+        random.nextDouble() * 300, 12, TurfConstants.UNIT_KILOMETERS), null, "fence" + i);
+      fences.add(fence);
+    }
+    GeofenceEngine engine = GeofenceEngine.fromFeatures(fences, 0, new Recorder());
+
+    for (int i = 0; i < 500; i++) {
+      Point point = Point.fromLngLat(random.nextDouble() * 100, random.nextDouble() * 50);
+      Set<String> expected = new HashSet<>();
+      for (Feature fence : fences) {
+        if (TurfJoins.inside(point, (Polygon) fence.geometry())) {
+          expected.add(fence.id());
+        }
+      }
+      assertEquals(expected,
+        new HashSet<>(engine.fencesAt(point.longitude(), point.latitude())));
+    }
+  }
+
+  @Test
+  public void update_concurrentEntitiesKeepBalancedTransitions() throws Exception {
+    List<Feature> fences = new ArrayList<>();
+    for (int x = 0; x < 10; x++) {
+      for (int y = 0; y < 10; y++) {
+        fences.add(square(x + ":" + y, x * 2, y * 2, 1.5));
+      }
+    }
+    final ConcurrentHashMap<String, AtomicInteger> balance = new ConcurrentHashMap<>();
+    final GeofenceEngine engine = GeofenceEngine.fromFeatures(fences, 0,
+      new GeofenceEngine.TransitionListener() {
+        @Override
+        public void onTransition(String entityId, String fenceId, int transition, long time) {
+          String key = entityId + "/" + fenceId;
+          balance.putIfAbsent(key, new AtomicInteger());
+          if (transition == GeofenceEngine.TRANSITION_ENTER) {
+            assertEquals(1, balance.get(key).incrementAndGet());
+          } else if (transition == GeofenceEngine.TRANSITION_EXIT) {
+            assertEquals(0, balance.get(key).decrementAndGet());
+          }
+        }
+      });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final double[][] last = new double[200][];
+    for (int thread = 0; thread < 4; thread++) {
+      final int seed = thread;
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          Random random = new Random(seed);
+          try {
+            for (int time = 0; time < 2000; time++) {
+              // every thread updates its own entities, in order
+              int entity = random.nextInt(50) * 4 + seed;
+              double[] position = new double[] {random.nextDouble() * 20, random.nextDouble() * 20};
+              engine.update("entity" + entity, position[0], position[1], time);
+              last[entity] = position;
+            }
+          } catch (Throwable throwable) {
+            failure.set(throwable);
+          }
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    assertEquals(null, failure.get());
+
+    for (int entity = 0; entity < last.length; entity++) {
+      if (last[entity] == null) {
+        continue;
+      }
+      assertEquals(new HashSet<>(engine.fencesAt(last[entity][0], last[entity][1])),
+        new HashSet<>(engine.fencesOf("entity" + entity)));
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromFeatures_fenceWithoutIdThrows() {
+    GeofenceEngine.fromFeatures(Collections.singletonList(
+      Feature.fromGeometry(square("a", 0, 0, 1).geometry())), 0, new Recorder());
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromFeatures_lineFenceThrows() {
+    GeofenceEngine.fromFeatures(Collections.singletonList(
+      Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+        Point.fromLngLat(0, 0), Point.fromLngLat(1, 1))), null, "line")), 0, new Recorder());
+  }
+
+  private static Feature square(String id, double x, double y, double size) {
+    return Feature.fromGeometry(Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(x, y), Point.fromLngLat(x + size, y), Point.fromLngLat(x + size, y + size),
+      Point.fromLngLat(x, y + size), Point.fromLngLat(x, y)))), null, id);
+  }
+
+  private static class Recorder implements GeofenceEngine.TransitionListener {
+
+    private final List<String> transitions = new ArrayList<>();
+
+    @Override
+    public void onTransition(String entityId, String fenceId, int transition, long time) {
+      String name = transition == GeofenceEngine.TRANSITION_ENTER
+        ? "enter" : transition == GeofenceEngine.TRANSITION_EXIT ? "exit" : "dwell";
+      transitions.add(entityId + " " + fenceId + " " + name + " " + time);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class KdTreeTest extends TestUtils {
+
+  private static final String PT = "turf-classification/pt.json";
+  private static final String PTS = "turf-classification/pts.json";
+
+  @Test
+  public void nearest_matchesTurfClassification() {
+    Point pt = (Point) Feature.fromJson(loadJsonFixture(PT)).geometry();
+    FeatureCollection pts = FeatureCollection.fromJson(loadJsonFixture(PTS));
+    List<Point> pointList = new ArrayList<>();
+    for (Feature feature : pts.features()) {
+      pointList.add((Point) feature.geometry());
+    }
+
+    KdTree kdTree = KdTree.fromPoints(pointList);
+
+    assertSame(TurfClassification.nearestPoint(pt, pointList), kdTree.nearest(pt));
+  }
+
+  @Test
+  public void nearest_randomPointsMatchBruteForce() {
+    double[] coords = randomCoordinates(new Random(42), 5000);
+    KdTree kdTree = KdTree.fromLngLats(coords, 8);
+    List<Point> points = toPoints(coords);
+
+    Random random = new Random(7);
+    for (int i = 0; i < 200; i++) {
+      Point target = Point.fromLngLat(random.nextDouble() * 360 - 180,
+        random.nextDouble() * 180 - 90);
+      Point expected = TurfClassification.nearestPoint(target, points);
+      assertEquals(TurfMeasurement.distance(target, expected),
+        TurfMeasurement.distance(target, kdTree.nearest(target)), DELTA);
+    }
+  }
+
+  @Test
+  public void kNearest_orderedByDistance() {
+    double[] coords = randomCoordinates(new Random(1), 2000);
+    KdTree kdTree = KdTree.fromLngLats(coords);
+    List<Point> points = toPoints(coords);
+    Point target = Point.fromLngLat(13.4, 52.5);
+
+    double[] expected = sortedDistances(target, points);
+    int[] result = kdTree.kNearest(target.longitude(), target.latitude(), 25);
+
+    assertEquals(25, result.length);
+    for (int i = 0; i < result.length; i++) {
+      assertEquals(expected[i], TurfMeasurement.distance(target, points.get(result[i])), DELTA);
+    }
+  }
+
+  @Test
+  public void kNearest_moreThanSizeReturnsAll() {
+    KdTree kdTree = KdTree.fromLngLats(new double[] {0, 0, 1, 1, 2, 2});
+
+    assertArrayEquals(new int[] {1, 2, 0}, kdTree.kNearest(1.1, 1.1, 10));
+  }
+
+  @Test
+  public void withinRadius_matchesBruteForce() {
+    double[] coords = randomCoordinates(new Random(3), 3000);
+    KdTree kdTree = KdTree.fromLngLats(coords);
+    List<Point> points = toPoints(coords);
+    Point target = Point.fromLngLat(-75.3, 39.4);
+
+    int[] result = kdTree.withinRadius(target.longitude(), target.latitude(), 1500,
+      TurfConstants.UNIT_KILOMETERS);
+
+    int expected = 0;
+    for (Point point : points) {
+      if (TurfMeasurement.distance(target, point) <= 1500) {
+        expected++;
+      }
+    }
+    assertEquals(expected, result.length);
+    double previous = 0;
+    for (int index : result) {
+      double distance = TurfMeasurement.distance(target, points.get(index));
+      assertTrue(distance <= 1500 && distance >= previous);
+      previous = distance;
+    }
+  }
+
+  @Test
+  public void withinRadius_acrossAntimeridian() {
+    KdTree kdTree = KdTree.fromLngLats(new double[] {179.9, 0, -179.9, 0, 0, 0});
+
+    int[] result = kdTree.withinRadius(179.95, 0, 50, TurfConstants.UNIT_KILOMETERS);
+
+    Arrays.sort(result);
+    assertArrayEquals(new int[] {0, 1}, result);
+  }
+
+  @Test
+  public void range_returnsPointsInsideBox() {
+    KdTree kdTree = KdTree.fromLngLats(new double[] {0, 0, 1, 1, 2, 2, 3, 3}, 1);
+
+    int[] result = kdTree.range(0.5, 0.5, 2.5, 2.5);
+
+    Arrays.sort(result);
+    assertArrayEquals(new int[] {1, 2}, result);
+  }
+
+  @Test
+  public void point_fromLngLatsCreatesPoint() {
+    KdTree kdTree = KdTree.fromLngLats(new double[] {5, 6, 7, 8});
+
+    assertEquals(Point.fromLngLat(7, 8), kdTree.point(1));
+    assertEquals(2, kdTree.size());
+  }
+
+  @Test
+  public void emptyIndex() {
+    KdTree kdTree = KdTree.fromPoints(Collections.<Point>emptyList());
+
+    assertNull(kdTree.nearest(Point.fromLngLat(0, 0)));
+    assertEquals(-1, kdTree.nearest(0, 0));
+    assertEquals(0, kdTree.withinRadius(0, 0, 10, TurfConstants.UNIT_METERS).length);
+    assertEquals(0, kdTree.range(-180, -90, 180, 90).length);
+  }
+
+  @Test
+  public void fromLngLats_parallelBuildMatchesSequential() {
+    double[] coords = randomCoordinates(new Random(21), 50000);
+    KdTree sequential = KdTree.fromLngLats(coords, 16);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      KdTree parallel = KdTree.fromLngLats(coords, 16, pool);
+      int[] expected = sequential.range(-20, -10, 35, 40);
+      int[] actual = parallel.range(-20, -10, 35, 40);
+      Arrays.sort(expected);
+      Arrays.sort(actual);
+      assertArrayEquals(expected, actual);
+      assertEquals(sequential.nearest(12.5, 7.5), parallel.nearest(12.5, 7.5));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromLngLats_oddLengthThrows() {
+    KdTree.fromLngLats(new double[] {1, 2, 3});
+  }
+
+  private static double[] randomCoordinates(Random random, int count) {
+    double[] coords = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      coords[i * 2] = random.nextDouble() * 360 - 180;
+      coords[i * 2 + 1] = random.nextDouble() * 180 - 90;
+    }
+    return coords;
+  }
+
+  private static List<Point> toPoints(double[] coords) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < coords.length; i += 2) {
+      points.add(Point.fromLngLat(coords[i], coords[i + 1]));
+    }
+    return points;
+  }
+
+  private static double[] sortedDistances(Point target, List<Point> points) {
+    double[] distances = new double[points.size()];
+    for (int i = 0; i < points.size(); i++) {
+      distances[i] = TurfMeasurement.distance(target, points.get(i));
+    }
+    Arrays.sort(distances);
+    return distances;
+  }
+}
@@ -0,0 +1,110 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+public class LocalRulerTest extends TestUtils {
+
+  private static final String TURF_ALONG_DC_LINE = "turf-along/dc-line.geojson";
+
+  @Test
+  public void distance_closeToHaversine() {
+    LocalRuler ruler = LocalRuler.fromLatitude(38.9, TurfConstants.UNIT_METERS);
+    Point from = Point.fromLngLat(-77.031669, 38.878605);
+    Point to = Point.fromLngLat(-77.009209, 38.889563);
+
+    double expected = TurfMeasurement.distance(from, to, TurfConstants.UNIT_METERS);
+    double actual = ruler.distance(from.longitude(), from.latitude(),
+      to.longitude(), to.latitude());
+
+    assertEquals(expected, actual, expected * 0.005);
+  }
+
+  @Test
+  public void distance_wrapsAntimeridian() {
+    LocalRuler ruler = LocalRuler.fromLatitude(0);
+
+    assertEquals(ruler.distance(179.9, 0, 180.1, 0), ruler.distance(179.9, 0, -179.9, 0), DELTA);
+  }
+
+  @Test
+  public void bearing_closeToTurfMeasurement() {
+    LocalRuler ruler = LocalRuler.fromLatitude(52.5);
+    Point from = Point.fromLngLat(13.38, 52.51);
+    Point to = Point.fromLngLat(13.41, 52.53);
+
+    assertEquals(TurfMeasurement.bearing(from, to),
+      ruler.bearing(from.longitude(), from.latitude(), to.longitude(), to.latitude()), 0.1);
+  }
+
+  @Test
+  public void destination_roundTrip() {
+    LocalRuler ruler = LocalRuler.fromLatitude(45, TurfConstants.UNIT_METERS);
+    double[] out = new double[4];
+
+    ruler.destination(10, 45, 1500, 30, out, 2);
+
+    assertEquals(1500, ruler.distance(10, 45, out[2], out[3]), 1E-6);
+    assertEquals(30, ruler.bearing(10, 45, out[2], out[3]), 1E-6);
+  }
+
+  @Test
+  public void length_closeToTurfMeasurement() {
+    LineString line = (LineString) Feature.fromJson(loadJsonFixture(TURF_ALONG_DC_LINE))
+      .geometry();
+    double[] coords = line.flattenCoordinates().getFlattenLngLatArray();
+    LocalRuler ruler = LocalRuler.fromBbox(TurfMeasurement.bbox(line),
+      TurfConstants.UNIT_KILOMETERS);
+
+    double expected = TurfMeasurement.length(line, TurfConstants.UNIT_KILOMETERS);
+    assertEquals(expected, ruler.length(coords), expected * 0.005);
+  }
+
+  @Test
+  public void pointOnLine_snapsToSegment() {
+    LocalRuler ruler = LocalRuler.fromLatitude(0);
+    double[] line = new double[] {0, 0, 1, 0, 1, 1};
+    double[] out = new double[3];
+
+    int index = ruler.pointOnLine(line, 0.5, 0.2, out);
+
+    assertEquals(0, index);
+    assertArrayEquals(new double[] {0.5, 0, 0.5}, out, DELTA);
+
+    index = ruler.pointOnLine(line, 2, 2, out);
+
+    assertEquals(1, index);
+    assertArrayEquals(new double[] {1, 1, 1}, out, DELTA);
+  }
+
+  @Test
+  public void lineSliceAlong_interpolatesEnds() {
+    LocalRuler ruler = LocalRuler.fromLatitude(0);
+    double[] line = new double[] {0, 0, 1, 0, 2, 0};
+    double segment = ruler.distance(0, 0, 1, 0);
+
+    double[] slice = ruler.lineSliceAlong(line, segment / 2, segment * 1.5);
+
+    assertArrayEquals(new double[] {0.5, 0, 1, 0, 1.5, 0}, slice, 1E-9);
+    assertEquals(0, ruler.lineSliceAlong(line, segment * 3, segment * 4).length);
+  }
+
+  @Test
+  public void bufferBBox_expandsEachSide() {
+    LocalRuler ruler = LocalRuler.fromLatitude(40, TurfConstants.UNIT_METERS);
+    double[] bbox = new double[] {-74, 40, -73.9, 40.1};
+
+    double[] buffered = ruler.bufferBBox(bbox, 100);
+
+    assertEquals(100, ruler.distance(-74, 40, buffered[0], 40), 1E-6);
+    assertEquals(100, ruler.distance(-74, 40, -74, buffered[1]), 1E-6);
+    assertEquals(100, ruler.distance(-73.9, 40.1, buffered[2], 40.1), 1E-6);
+    assertEquals(100, ruler.distance(-73.9, 40.1, -73.9, buffered[3]), 1E-6);
+  }
+}
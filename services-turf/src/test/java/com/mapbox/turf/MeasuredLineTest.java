@@ -0,0 +1,100 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+public class MeasuredLineTest extends TestUtils {
+
+  private static final String TURF_ALONG_DC_LINE = "turf-along/dc-line.geojson";
+  private static final String LINE_SLICE_ALONG_LINE_ONE = "turf-line-slice-along/line1.geojson";
+  private static final String LINE_SLICE_ALONG_ROUTE_ONE = "turf-line-slice-along/route1.geojson";
+  private static final String LINE_SLICE_ALONG_ROUTE_TWO = "turf-line-slice-along/route2.geojson";
+
+  @Test
+  public void length_matchesTurfMeasurement() {
+    LineString line = loadLine(LINE_SLICE_ALONG_ROUTE_ONE);
+    MeasuredLine measuredLine = MeasuredLine.fromLineString(line);
+
+    assertEquals(TurfMeasurement.length(line, TurfConstants.UNIT_MILES),
+      measuredLine.length(TurfConstants.UNIT_MILES), 1E-8);
+    assertEquals(0, measuredLine.distanceAt(0, TurfConstants.UNIT_METERS), DELTA);
+    assertEquals(line.flattenCoordinates().size(), measuredLine.size());
+  }
+
+  @Test
+  public void distanceAt_isCumulative() {
+    MeasuredLine measuredLine = MeasuredLine.fromLngLats(new double[] {0, 0, 1, 0, 1, 1});
+
+    double first = TurfMeasurement.distance(Point.fromLngLat(0, 0), Point.fromLngLat(1, 0));
+    double second = TurfMeasurement.distance(Point.fromLngLat(1, 0), Point.fromLngLat(1, 1));
+    assertEquals(first, measuredLine.distanceAt(1, TurfConstants.UNIT_KILOMETERS), DELTA);
+    assertEquals(first + second, measuredLine.distanceAt(2, TurfConstants.UNIT_KILOMETERS),
+      DELTA);
+    assertEquals(1, measuredLine.indexAt(first / 2, TurfConstants.UNIT_KILOMETERS));
+    assertEquals(3, measuredLine.indexAt(first * 10, TurfConstants.UNIT_KILOMETERS));
+  }
+
+  @Test
+  public void along_matchesTurfMeasurement() {
+    LineString line = loadLine(TURF_ALONG_DC_LINE);
+    MeasuredLine measuredLine = MeasuredLine.fromLineString(line);
+
+    double[] distances = new double[] {0, 0.3, 1, 1.2, 1.4, 1.6, 1.8, 2, 100};
+    for (double distance : distances) {
+      Point expected = TurfMeasurement.along(line, distance, TurfConstants.UNIT_MILES);
+      Point actual = measuredLine.along(distance, TurfConstants.UNIT_MILES);
+      assertEquals(expected.longitude(), actual.longitude(), DELTA);
+      assertEquals(expected.latitude(), actual.latitude(), DELTA);
+    }
+  }
+
+  @Test
+  public void along_singlePoint() {
+    MeasuredLine measuredLine = MeasuredLine.fromLngLats(new double[] {1.0, 1.0});
+
+    assertEquals(Point.fromLngLat(1.0, 1.0), measuredLine.along(0, TurfConstants.UNIT_METERS));
+    assertEquals(0, measuredLine.length(TurfConstants.UNIT_METERS), DELTA);
+  }
+
+  @Test
+  public void lineSliceAlong_matchesTurfMisc() {
+    String[] fixtures = new String[] {
+      LINE_SLICE_ALONG_LINE_ONE, LINE_SLICE_ALONG_ROUTE_ONE, LINE_SLICE_ALONG_ROUTE_TWO
+    };
+    double[][] ranges = new double[][] {{0, 50}, {12.5, 25}, {50, 5000}, {100, 0.5}};
+    for (String fixture : fixtures) {
+      LineString line = loadLine(fixture);
+      MeasuredLine measuredLine = MeasuredLine.fromLineString(line);
+      for (double[] range : ranges) {
+        LineString expected = TurfMisc.lineSliceAlong(line, range[0], range[1],
+          TurfConstants.UNIT_MILES);
+        LineString actual = measuredLine.lineSliceAlong(range[0], range[1],
+          TurfConstants.UNIT_MILES);
+        assertArrayEquals(expected.flattenCoordinates().getFlattenLngLatArray(),
+          actual.flattenCoordinates().getFlattenLngLatArray(), DELTA);
+      }
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void lineSliceAlong_startBeyondLineThrows() {
+    LineString line = loadLine(LINE_SLICE_ALONG_LINE_ONE);
+
+    MeasuredLine.fromLineString(line).lineSliceAlong(5000, 6000, TurfConstants.UNIT_MILES);
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromLngLats_emptyThrows() {
+    MeasuredLine.fromLngLats(new double[0]);
+  }
+
+  private LineString loadLine(String fixture) {
+    return (LineString) Feature.fromJson(loadJsonFixture(fixture)).geometry();
+  }
+}
@@ -0,0 +1,124 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class StreamingSimplifierTest extends TestUtils {
+
+  @Test
+  public void collinearCoordinatesAreDropped() {
+    Collector collector = new Collector();
+    StreamingSimplifier simplifier = StreamingSimplifier.fromTolerance(0.01, 16, collector);
+    for (int i = 0; i <= 10; i++) {
+      simplifier.add(i, 0);
+    }
+    for (int i = 1; i <= 10; i++) {
+      simplifier.add(10, i);
+    }
+    simplifier.finish();
+
+    assertArrayEquals(new double[] {0, 0, 10, 0, 10, 10}, collector.coordinates(), DELTA);
+  }
+
+  @Test
+  public void firstCoordinateIsEmittedRightAway() {
+    Collector collector = new Collector();
+    StreamingSimplifier simplifier = StreamingSimplifier.fromTolerance(1, 4, collector);
+    simplifier.add(1, 2);
+
+    assertArrayEquals(new double[] {1, 2}, collector.coordinates(), DELTA);
+    assertEquals(0, simplifier.pending());
+  }
+
+  @Test
+  public void bufferIsBoundedAndErrorWithinTolerance() {
+    Random random = new Random(11);
+    int count = 20000;
+    double[] trace = new double[count * 2];
+    double heading = 0;
+    for (int i = 1; i < count; i++) {
+      heading += random.nextGaussian() * 0.2;
+      trace[2 * i] = trace[2 * (i - 1)] + Math.cos(heading) * 0.001;
+      trace[2 * i + 1] = trace[2 * (i - 1) + 1] + Math.sin(heading) * 0.001;
+    }
+
+    double tolerance = 0.0005;
+    int capacity = 32;
+    Collector collector = new Collector();
+    StreamingSimplifier simplifier = StreamingSimplifier.fromTolerance(tolerance, capacity,
+      collector);
+    for (int i = 0; i < count; i++) {
+      simplifier.add(trace[2 * i], trace[2 * i + 1]);
+      assertTrue(simplifier.pending() <= capacity);
+    }
+    simplifier.finish();
+
+    double[] simplified = collector.coordinates();
+    assertTrue(simplified.length < trace.length / 2);
+    assertEquals(trace[0], simplified[0], DELTA);
+    assertEquals(trace[trace.length - 1], simplified[simplified.length - 1], DELTA);
+    for (int i = 0; i < count; i++) {
+      assertTrue(distanceToLine(trace[2 * i], trace[2 * i + 1], simplified) <= tolerance + 1E-12);
+    }
+  }
+
+  @Test
+  public void finishStartsNewLine() {
+    Collector collector = new Collector();
+    StreamingSimplifier simplifier = StreamingSimplifier.fromTolerance(0.5, 8, collector);
+    simplifier.add(0, 0);
+    simplifier.add(1, 0);
+    simplifier.add(2, 0);
+    simplifier.finish();
+    simplifier.add(5, 5);
+    simplifier.add(6, 6);
+    simplifier.finish();
+
+    assertArrayEquals(new double[] {0, 0, 2, 0, 5, 5, 6, 6}, collector.coordinates(), DELTA);
+    assertEquals(0, simplifier.pending());
+  }
+
+  @Test(expected = TurfException.class)
+  public void capacityTooSmallThrows() {
+    StreamingSimplifier.fromTolerance(1, 1, new Collector());
+  }
+
+  private static double distanceToLine(double x, double y, double[] line) {
+    double min = Double.POSITIVE_INFINITY;
+    for (int i = 0; i + 3 < line.length; i += 2) {
+      double x0 = line[i];
+      double y0 = line[i + 1];
+      double dx = line[i + 2] - x0;
+      double dy = line[i + 3] - y0;
+      double t = dx == 0 && dy == 0 ? 0 : ((x - x0) * dx + (y - y0) * dy) / (dx * dx + dy * dy);
+      t = Math.max(0, Math.min(1, t));
+      min = Math.min(min, Math.hypot(x - (x0 + dx * t), y - (y0 + dy * t)));
+    }
+    return min;
+  }
+
+  private static class Collector implements TurfMeta.CoordinateVisitor {
+
+    private double[] coordinates = new double[16];
+    private int size;
+
+    @Override
+    public void onCoordinate(double longitude, double latitude) {
+      if (size + 2 > coordinates.length) {
+        coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+      }
+      coordinates[size++] = longitude;
+      coordinates[size++] = latitude;
+    }
+
+    double[] coordinates() {
+      return Arrays.copyOf(coordinates, size);
+    }
+  }
+}
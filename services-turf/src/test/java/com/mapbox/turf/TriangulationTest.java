@@ -0,0 +1,162 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class TriangulationTest extends TestUtils {
+
+  @Test
+  public void fromLngLats_squareWithHole() {
+    double[] outer = new double[] {0, 0, 10, 0, 10, 10, 0, 10, 0, 0};
+    double[] hole = new double[] {2, 2, 2, 6, 6, 6, 6, 2, 2, 2};
+
+    Triangulation triangulation = Triangulation.fromLngLats(new double[][] {outer, hole});
+
+    assertEquals(8, triangulation.size());
+    assertEquals(100 - 16, planarArea(triangulation), DELTA);
+    for (int index : triangulation.triangles()) {
+      // the closing coordinates are never used
+      assertTrue(index != 4 && index != 9);
+    }
+  }
+
+  @Test
+  public void fromPolygon_largeStarPolygon() {
+    Polygon polygon = star(500, 1);
+
+    Triangulation triangulation = Triangulation.fromPolygon(polygon);
+
+    // a simple ring of n distinct vertices makes n - 2 triangles
+    assertEquals(500 - 2, triangulation.size());
+    assertEquals(Math.abs(ringArea(polygon.coordinates().get(0))), planarArea(triangulation),
+      1E-9);
+  }
+
+  @Test
+  public void fromMultiPolygon_offsetsTheIndicesOfEachPolygon() {
+    Polygon first = Polygon.fromLngLats(Arrays.asList(Arrays.asList(Point.fromLngLat(0, 0),
+      Point.fromLngLat(1, 0), Point.fromLngLat(1, 1), Point.fromLngLat(0, 0))));
+    Polygon second = Polygon.fromLngLats(Arrays.asList(Arrays.asList(Point.fromLngLat(5, 5),
+      Point.fromLngLat(6, 5), Point.fromLngLat(6, 6), Point.fromLngLat(5, 6),
+      Point.fromLngLat(5, 5))));
+
+    Triangulation triangulation = Triangulation.fromMultiPolygon(
+      MultiPolygon.fromPolygons(Arrays.asList(first, second)));
+
+    assertEquals(18, triangulation.coordinates().length);
+    assertEquals(3, triangulation.size());
+    int[] triangles = triangulation.triangles();
+    int[] firstTriangle = Arrays.copyOf(triangles, 3);
+    Arrays.sort(firstTriangle);
+    assertArrayEquals(new int[] {0, 1, 2}, firstTriangle);
+    for (int i = 3; i < triangles.length; i++) {
+      assertTrue(triangles[i] >= 4 && triangles[i] < 8);
+    }
+  }
+
+  @Test
+  public void area_matchesTurfMeasurement() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      Arrays.asList(Point.fromLngLat(-10, -10), Point.fromLngLat(10, -10),
+        Point.fromLngLat(10, 10), Point.fromLngLat(-10, 10), Point.fromLngLat(-10, -10)),
+      Arrays.asList(Point.fromLngLat(-2, -2), Point.fromLngLat(-2, 2), Point.fromLngLat(2, 2),
+        Point.fromLngLat(2, -2), Point.fromLngLat(-2, -2))));
+
+    double expected = TurfMeasurement.area(polygon);
+    assertEquals(expected, Triangulation.fromPolygon(polygon).area(), expected * 1E-9);
+  }
+
+  @Test
+  public void centroid_isWeightedByArea() {
+    double[] outer = new double[] {0, 0, 10, 0, 10, 10, 0, 10, 0, 0};
+    double[] hole = new double[] {0, 0, 0, 10, 5, 10, 5, 0, 0, 0};
+
+    assertEquals(Point.fromLngLat(5, 5),
+      Triangulation.fromLngLats(new double[][] {outer}).centroid());
+    Point centroid = Triangulation.fromLngLats(new double[][] {outer, hole}).centroid();
+    assertEquals(7.5, centroid.longitude(), DELTA);
+    assertEquals(5, centroid.latitude(), DELTA);
+  }
+
+  @Test
+  public void contains_matchesTurfJoins() {
+    Polygon polygon = star(200, 2);
+    Triangulation triangulation = Triangulation.fromPolygon(polygon);
+
+    Random random = new Random(3);
+    for (int i = 0; i < 5000; i++) {
+      Point point = Point.fromLngLat(random.nextDouble() * 24 - 12, random.nextDouble() * 24 - 12);
+      assertEquals(TurfJoins.inside(point, polygon), triangulation.contains(point));
+    }
+    assertTrue(triangulation.contains(polygon.coordinates().get(0).get(7)));
+    assertFalse(triangulation.contains(100, 100));
+  }
+
+  @Test
+  public void randomPoints_areInsideThePolygon() {
+    Polygon polygon = star(100, 4);
+    Triangulation triangulation = Triangulation.fromPolygon(polygon);
+
+    double[] points = triangulation.randomPoints(2000, new Random(5));
+
+    assertEquals(4000, points.length);
+    for (int i = 0; i < points.length; i += 2) {
+      assertTrue(triangulation.contains(points[i], points[i + 1]));
+    }
+  }
+
+  @Test(expected = TurfException.class)
+  public void randomPoints_withoutAreaThrows() {
+    Triangulation.fromLngLats(new double[][] {{0, 0, 1, 1, 2, 2, 0, 0}})
+      .randomPoints(1, new Random());
+  }
+
+  private static Polygon star(int count, long seed) {
+    Random random = new Random(seed);
+    List<Point> ring = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      double angle = 2 * Math.PI * i / count;
+      double radius = 4 + random.nextDouble() * 6;
+      ring.add(Point.fromLngLat(Math.cos(angle) * radius, Math.sin(angle) * radius));
+    }
+    ring.add(ring.get(0));
+    return Polygon.fromLngLats(Arrays.asList(ring));
+  }
+
+  private static double planarArea(Triangulation triangulation) {
+    double[] coordinates = triangulation.coordinates();
+    int[] triangles = triangulation.triangles();
+    double area = 0;
+    for (int i = 0; i < triangles.length; i += 3) {
+      area += Math.abs(ringArea(Arrays.asList(
+        Point.fromLngLat(coordinates[2 * triangles[i]], coordinates[2 * triangles[i] + 1]),
+        Point.fromLngLat(coordinates[2 * triangles[i + 1]], coordinates[2 * triangles[i + 1] + 1]),
+        Point.fromLngLat(coordinates[2 * triangles[i + 2]],
+          coordinates[2 * triangles[i + 2] + 1]))));
+    }
+    return area;
+  }
+
+  private static double ringArea(List<Point> ring) {
+    double area = 0;
+    for (int i = 0; i < ring.size(); i++) {
+      Point a = ring.get(i);
+      Point b = ring.get((i + 1) % ring.size());
+      area += a.longitude() * b.latitude() - b.longitude() * a.latitude();
+    }
+    return area / 2;
+  }
+}
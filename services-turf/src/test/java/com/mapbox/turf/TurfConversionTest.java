@@ -669,4 +669,38 @@ public class TurfConversionTest extends TestUtils {
     FeatureCollection expected = FeatureCollection.fromJson(loadJsonFixture(TURF_POLYGON_TO_LINE_PATH_OUT + TURF_POLYGON_TO_LINE_FILENAME_MULTIPOLYGON_OUTER_DOUGHNUT));
     compareJson(expected.toJson(), TurfConversion.multiPolygonToLine(multiPolygon).toJson());
   }
+
+  @Test
+  public void toMercator_matchesTurfProjection() {
+    double[] lngLats = new double[] {-71, 41, 0, 0, 540, 0, 10, 90};
+    double[] mercator = new double[lngLats.length];
+
+    TurfConversion.toMercator(lngLats, mercator);
+
+    assertEquals(-7903683.846322424, mercator[0], 1E-6);
+    assertEquals(5012341.663847514, mercator[1], 1E-6);
+    assertEquals(0, mercator[2], DELTA);
+    assertEquals(0, mercator[3], DELTA);
+    assertEquals(20037508.342789244, mercator[4], 1E-6);
+    assertEquals(20037508.342789244, mercator[7], 1E-6);
+  }
+
+  @Test
+  public void fromMercator_roundTripsInPlace() {
+    double[] coordinates = new double[] {-71, 41, 12.5, -33.25, 179.9, 84.9};
+    double[] expected = coordinates.clone();
+
+    TurfConversion.toMercator(coordinates, coordinates);
+    TurfConversion.fromMercator(coordinates, coordinates);
+
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], coordinates[i], 1E-9);
+    }
+  }
+
+  @Test
+  public void toMercator_shortOutputThrows() {
+    thrown.expect(TurfException.class);
+    TurfConversion.toMercator(new double[] {0, 0}, new double[1]);
+  }
 }
@@ -0,0 +1,97 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TurfDeduplicationTest extends TestUtils {
+
+  @Test
+  public void dedupe_removesCloseDuplicates() {
+    double[] positions = new double[] {
+      2.35, 48.85, 2.35001, 48.85001, 2.36, 48.85, 2.35, 48.85, 2.36, 48.850005};
+
+    double[] kept = TurfDeduplication.dedupe(positions, 5, TurfConstants.UNIT_METERS, null);
+
+    assertArrayEquals(new double[] {2.35, 48.85, 2.36, 48.85}, kept, 0);
+    assertArrayEquals(new int[] {0, 0, 2, 0, 2}, TurfDeduplication.dedupeIndices(positions, 5,
+      TurfConstants.UNIT_METERS, null));
+  }
+
+  @Test
+  public void dedupe_acrossTheAntimeridianAndNearThePoles() {
+    double[] positions = new double[] {
+      179.99999, 10, -179.99999, 10, 0, 89.99999, 120, 89.99999, 0, -90, 180, -90};
+
+    int[] kept = TurfDeduplication.dedupeIndices(positions, 10, TurfConstants.UNIT_METERS, null);
+
+    assertArrayEquals(new int[] {0, 0, 2, 2, 4, 4}, kept);
+  }
+
+  @Test
+  public void dedupeIndices_keepsDistantPositionsAndMatchesInParallel() {
+    Random random = new Random(48);
+    int count = 100000;
+    double[] positions = new double[2 * count];
+    for (int i = 0; i < count; i++) {
+      // clusters of near duplicates around random positions of a small area
+      int base = random.nextInt(i / 3 + 1);
+      boolean duplicate = i > 0 && random.nextBoolean();
+      positions[2 * i] = duplicate ? positions[2 * base] + random.nextGaussian() * 0.0001
+        : 13 + random.nextDouble() * 0.5;
+      positions[2 * i + 1] = duplicate ? positions[2 * base + 1] + random.nextGaussian() * 0.0001
+        : 52 + random.nextDouble() * 0.5;
+    }
+
+    int[] kept = TurfDeduplication.dedupeIndices(positions, 20, TurfConstants.UNIT_METERS, null);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    assertArrayEquals(kept, TurfDeduplication.dedupeIndices(positions, 20,
+      TurfConstants.UNIT_METERS, pool));
+    pool.shutdown();
+
+    int removed = 0;
+    for (int i = 0; i < count; i++) {
+      assertEquals(kept[i], kept[kept[i]]);
+      assertTrue(distance(positions, i, kept[i]) <= 20);
+      removed += kept[i] != i ? 1 : 0;
+    }
+    assertTrue(removed > count / 4);
+    // a sample of the kept positions against all of them
+    for (int i = 0; i < count; i += 97) {
+      if (kept[i] != i) {
+        continue;
+      }
+      for (int j = 0; j < count; j++) {
+        assertTrue(j == i || kept[j] != j || distance(positions, i, j) > 20);
+      }
+    }
+  }
+
+  @Test
+  public void snapRound_roundsToTheGrid() {
+    double step = TurfConversion.lengthToDegrees(10, TurfConstants.UNIT_METERS);
+    double lng = 23456 * step;
+    double lat = 54321 * step;
+    double[] positions = new double[] {lng + step * 0.1, lat - step * 0.2, lng - step * 0.4,
+      lat + step * 0.3, lng + step * 0.6, lat};
+
+    TurfDeduplication.snapRound(positions, positions, 10, TurfConstants.UNIT_METERS);
+
+    assertArrayEquals(new double[] {lng, lat, lng, lat, lng + step, lat}, positions, 1E-12);
+  }
+
+  @Test(expected = TurfException.class)
+  public void dedupe_nonPositiveToleranceThrows() {
+    TurfDeduplication.dedupe(new double[] {0, 0}, 0, TurfConstants.UNIT_METERS, null);
+  }
+
+  private static double distance(double[] positions, int i, int j) {
+    return TurfMeasurement.distance(positions[2 * i], positions[2 * i + 1], positions[2 * j],
+      positions[2 * j + 1], TurfConstants.UNIT_METERS);
+  }
+}
@@ -0,0 +1,104 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TurfGeohashTest extends TestUtils {
+
+  @Test
+  public void pointToGeohash_knownGeohashes() {
+    assertEquals("ezs42", TurfGeohash.geohash(TurfGeohash.pointToGeohash(-5.6, 42.6, 5)));
+    assertEquals("u4pruydqqvj",
+      TurfGeohash.geohash(TurfGeohash.pointToGeohash(10.40744, 57.64911, 11)));
+    assertEquals("", TurfGeohash.geohash(TurfGeohash.pointToGeohash(10, 20, 0)));
+  }
+
+  @Test
+  public void fromGeohash_roundTrip() {
+    long id = TurfGeohash.fromGeohash("U4PRUYDQQVJ");
+    char[] characters = new char[14];
+
+    assertEquals(11, TurfGeohash.geohash(id, characters, 2));
+    assertEquals("u4pruydqqvj", new String(characters, 2, 11));
+    assertEquals(11, TurfGeohash.precision(id));
+    assertEquals(TurfGeohash.pointToGeohash(10.40744, 57.64911, 11), id);
+    long max = TurfGeohash.fromGeohash("zzzzzzzzzzzz");
+    assertEquals(TurfGeohash.MAX_PRECISION, TurfGeohash.precision(max));
+    assertTrue(max > 0);
+  }
+
+  @Test
+  public void bbox_containsThePoint() {
+    double[] bbox = new double[4];
+    TurfGeohash.bbox(TurfGeohash.fromGeohash("ezs42"), bbox);
+
+    assertEquals(-5.625, bbox[0], 1E-12);
+    assertEquals(42.5830078125, bbox[1], 1E-12);
+    assertEquals(-5.5810546875, bbox[2], 1E-12);
+    assertEquals(42.626953125, bbox[3], 1E-12);
+  }
+
+  @Test
+  public void neighbor_matchesTheShiftedCenters() {
+    Random random = new Random(49);
+    double[] bbox = new double[4];
+    long[] neighbors = new long[8];
+    int[] dx = new int[] {0, 1, 1, 1, 0, -1, -1, -1};
+    int[] dy = new int[] {1, 1, 0, -1, -1, -1, 0, 1};
+    for (int test = 0; test < 1000; test++) {
+      int precision = 1 + random.nextInt(TurfGeohash.MAX_PRECISION);
+      long id = TurfGeohash.pointToGeohash(random.nextDouble() * 360 - 180,
+        random.nextDouble() * 180 - 90, precision);
+      TurfGeohash.bbox(id, bbox);
+      TurfGeohash.neighbors(id, neighbors);
+      for (int i = 0; i < 8; i++) {
+        double longitude = (bbox[0] + bbox[2]) / 2 + dx[i] * (bbox[2] - bbox[0]);
+        double latitude = (bbox[1] + bbox[3]) / 2 + dy[i] * (bbox[3] - bbox[1]);
+        longitude += longitude > 180 ? -360 : longitude < -180 ? 360 : 0;
+        long expected = latitude < -90 || latitude > 90 ? -1
+          : TurfGeohash.pointToGeohash(longitude, latitude, precision);
+        assertEquals(expected, neighbors[i]);
+      }
+    }
+  }
+
+  @Test
+  public void neighbor_wrapsAroundTheAntimeridian() {
+    assertEquals("b", TurfGeohash.geohash(TurfGeohash.neighbor(TurfGeohash.fromGeohash("z"),
+      1, 0)));
+    assertEquals(-1, TurfGeohash.neighbor(TurfGeohash.fromGeohash("z"), 0, 1));
+  }
+
+  @Test
+  public void bboxCover_coversTheBox() {
+    long[] ids = TurfGeohash.bboxCover(new double[] {-5.7, 42.5, -5.5, 42.7}, 5);
+
+    double[] bbox = new double[4];
+    assertEquals(5 * 5, ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      assertTrue(i == 0 || ids[i] > ids[i - 1]);
+      TurfGeohash.bbox(ids[i], bbox);
+      assertTrue(bbox[0] < -5.5 && bbox[2] > -5.7 && bbox[1] < 42.7 && bbox[3] > 42.5);
+    }
+    assertTrue(Arrays.binarySearch(ids, TurfGeohash.fromGeohash("ezs42")) >= 0);
+  }
+
+  @Test
+  public void bboxCover_acrossTheAntimeridian() {
+    long[] ids = TurfGeohash.bboxCover(new double[] {170, -10, -170, 10}, 1);
+
+    assertArrayEquals(new long[] {TurfGeohash.fromGeohash("2"), TurfGeohash.fromGeohash("8"),
+      TurfGeohash.fromGeohash("r"), TurfGeohash.fromGeohash("x")}, ids);
+  }
+
+  @Test(expected = TurfException.class)
+  public void fromGeohash_invalidCharacterThrows() {
+    TurfGeohash.fromGeohash("ezs4a");
+  }
+}
@@ -20,7 +20,10 @@ import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -554,6 +557,88 @@ public class TurfMeasurementTest extends TestUtils {
     assertEquals(expected, TurfMeasurement.area(FeatureCollection.fromJson(loadJsonFixture(TURF_AREA_FEATURECOLLECTION_POLYGON_GEOJSON))), 1);
   }
 
+  @Test
+  public void areaGeometryCollection() {
+    Polygon polygon = Polygon.fromJson(loadJsonFixture(TURF_AREA_GEOM_POLYGON_GEOJSON));
+    GeometryCollection geometryCollection = GeometryCollection.fromGeometries(
+      Arrays.<Geometry>asList(polygon, Point.fromLngLat(1, 2), polygon));
+    assertEquals(2 * TurfMeasurement.area(polygon), TurfMeasurement.area(geometryCollection), 1);
+  }
+
+  @Test
+  public void areaFlattenRings() {
+    Polygon polygon = Polygon.fromJson(loadJsonFixture(TURF_AREA_GEOM_POLYGON_GEOJSON));
+    List<List<Point>> rings = polygon.coordinates();
+    double[][] flattenRings = new double[rings.size()][];
+    for (int i = 0; i < rings.size(); i++) {
+      flattenRings[i] = flatten(rings.get(i));
+    }
+    assertEquals(TurfMeasurement.area(polygon), TurfMeasurement.area(flattenRings), 1E-6);
+  }
+
+  @Test
+  public void areasInParallel() {
+    FeatureCollection featureCollection = FeatureCollection.fromJson(
+      loadJsonFixture(TURF_AREA_FEATURECOLLECTION_POLYGON_GEOJSON));
+    List<Feature> features = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      features.addAll(featureCollection.features());
+      features.add(Feature.fromGeometry(Point.fromLngLat(i, i)));
+    }
+    FeatureCollection large = FeatureCollection.fromFeatures(features);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      double[] areas = TurfMeasurement.areas(large, pool);
+      assertEquals(features.size(), areas.length);
+      for (int i = 0; i < features.size(); i++) {
+        assertEquals(TurfMeasurement.area(features.get(i)), areas[i], 1E-6);
+      }
+      assertEquals(TurfMeasurement.area(large), TurfMeasurement.area(large, pool), 1);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void lengthsInParallel() {
+    LineString route = (LineString) Feature.fromJson(
+      loadJsonFixture(LINE_DISTANCE_ROUTE_ONE)).geometry();
+    Polygon polygon = (Polygon) Feature.fromJson(loadJsonFixture(LINE_DISTANCE_POLYGON))
+      .geometry();
+    List<Feature> features = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      features.add(Feature.fromGeometry(route));
+      features.add(Feature.fromGeometry(polygon));
+      features.add(Feature.fromGeometry(Point.fromLngLat(i, i)));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      double[] lengths = TurfMeasurement.lengths(FeatureCollection.fromFeatures(features),
+        TurfConstants.UNIT_MILES, pool);
+      for (int i = 0; i < lengths.length; i += 3) {
+        assertEquals(TurfMeasurement.length(route, TurfConstants.UNIT_MILES), lengths[i], 1E-9);
+        assertEquals(TurfMeasurement.length(polygon, TurfConstants.UNIT_MILES), lengths[i + 1],
+          1E-9);
+        assertEquals(0, lengths[i + 2], DELTA);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void lengthFlattenCoordinates() {
+    LineString route = (LineString) Feature.fromJson(
+      loadJsonFixture(LINE_DISTANCE_ROUTE_TWO)).geometry();
+    assertEquals(TurfMeasurement.length(route.coordinates(), TurfConstants.UNIT_KILOMETERS),
+      TurfMeasurement.length(route.flattenCoordinates().getFlattenLngLatArray(),
+        TurfConstants.UNIT_KILOMETERS), 1E-9);
+    assertEquals(0, TurfMeasurement.length(new double[] {1, 2}, TurfConstants.UNIT_METERS),
+      DELTA);
+  }
+
   @Test
   public void centerFeature() {
     Feature expectedFeature = Feature.fromGeometry(Point.fromLngLat(133.5, -27.0));
@@ -602,4 +687,126 @@ public class TurfMeasurementTest extends TestUtils {
       assertEquals(47.214224817196836, returnedPoint.latitude(), DELTA);
     }
   }
+
+  private static double[] flatten(List<Point> points) {
+    double[] flattenLngLat = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      flattenLngLat[2 * i] = points.get(i).longitude();
+      flattenLngLat[2 * i + 1] = points.get(i).latitude();
+    }
+    return flattenLngLat;
+  }
+
+  @Test
+  public void distances_oneToManyMatchesDistance() {
+    Random random = new Random(11);
+    double[] coordinates = new double[2 * 1000];
+    for (int i = 0; i < coordinates.length; i += 2) {
+      coordinates[i] = random.nextDouble() * 720 - 360;
+      coordinates[i + 1] = random.nextDouble() * 180 - 90;
+    }
+    double[] distances = new double[1000];
+
+    TurfMeasurement.distances(12.5, -41.25, coordinates, distances, TurfConstants.UNIT_MILES);
+
+    for (int i = 0; i < distances.length; i++) {
+      double expected = TurfMeasurement.distance(12.5, -41.25, coordinates[2 * i],
+        coordinates[2 * i + 1], TurfConstants.UNIT_MILES);
+      assertEquals(expected, distances[i], 1E-9 * Math.max(1, expected));
+    }
+  }
+
+  @Test
+  public void distances_sameIndexPairsMatchDistance() {
+    Random random = new Random(12);
+    double[] first = new double[2 * 1000];
+    double[] second = new double[2 * 1000];
+    for (int i = 0; i < first.length; i += 2) {
+      first[i] = random.nextDouble() * 360 - 180;
+      first[i + 1] = random.nextDouble() * 180 - 90;
+      second[i] = first[i] + random.nextDouble() * 0.01;
+      second[i + 1] = first[i + 1] + random.nextDouble() * 0.01 - 0.005;
+    }
+    double[] distances = new double[1000];
+
+    TurfMeasurement.distances(first, second, distances, TurfConstants.UNIT_METERS);
+
+    for (int i = 0; i < distances.length; i++) {
+      double expected = TurfMeasurement.distance(first[2 * i], first[2 * i + 1], second[2 * i],
+        second[2 * i + 1], TurfConstants.UNIT_METERS);
+      assertEquals(expected, distances[i], 1E-6);
+    }
+  }
+
+  @Test
+  public void distances_mismatchedArraysThrow() {
+    thrown.expect(TurfException.class);
+    TurfMeasurement.distances(new double[] {0, 0, 1, 1}, new double[] {0, 0},
+      new double[2], TurfConstants.UNIT_METERS);
+  }
+
+  @Test
+  public void distances_shortOutputThrows() {
+    thrown.expect(TurfException.class);
+    TurfMeasurement.distances(0, 0, new double[] {0, 0, 1, 1}, new double[1],
+      TurfConstants.UNIT_METERS);
+  }
+
+  @Test
+  public void distanceMatrix_matchesDistance() {
+    Random random = new Random(13);
+    double[] sources = new double[2 * 300];
+    double[] destinations = new double[2 * 700];
+    for (int i = 0; i < sources.length; i++) {
+      sources[i] = random.nextDouble() * 180 - 90;
+    }
+    for (int i = 0; i < destinations.length; i++) {
+      destinations[i] = random.nextDouble() * 180 - 90;
+    }
+
+    double[] matrix = TurfMeasurement.distanceMatrix(sources, destinations,
+      TurfConstants.UNIT_KILOMETERS, null);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    double[] parallel = TurfMeasurement.distanceMatrix(sources, destinations,
+      TurfConstants.UNIT_KILOMETERS, pool);
+    pool.shutdown();
+
+    assertEquals(300 * 700, matrix.length);
+    assertArrayEquals(matrix, parallel, 0);
+    for (int i = 0; i < 300; i++) {
+      for (int j = 0; j < 700; j++) {
+        assertEquals(TurfMeasurement.distance(sources[2 * i], sources[2 * i + 1],
+          destinations[2 * j], destinations[2 * j + 1], TurfConstants.UNIT_KILOMETERS),
+          matrix[i * 700 + j], 1E-8);
+      }
+    }
+  }
+
+  @Test
+  public void distanceMatrix_largeWithoutPool() {
+    Random random = new Random(17);
+    double[] points = new double[2 * 300];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = random.nextDouble() * 180 - 90;
+    }
+
+    double[] matrix = TurfMeasurement.distanceMatrix(points, points,
+      TurfConstants.UNIT_METERS, null);
+
+    assertEquals(300 * 300, matrix.length);
+    for (int i = 0; i < 300; i++) {
+      assertEquals(0, matrix[i * 300 + i], 0);
+      for (int j = 0; j < 300; j++) {
+        assertEquals(TurfMeasurement.distance(points[2 * i], points[2 * i + 1],
+          points[2 * j], points[2 * j + 1], TurfConstants.UNIT_METERS),
+          matrix[i * 300 + j], 1E-5);
+      }
+    }
+  }
+
+  @Test
+  public void distanceMatrix_emptyDestinations() {
+    assertEquals(0, TurfMeasurement.distanceMatrix(new double[] {0, 0}, new double[0],
+      TurfConstants.UNIT_METERS, null).length);
+  }
 }
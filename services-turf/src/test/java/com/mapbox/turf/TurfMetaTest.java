@@ -6,6 +6,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Geometry;
 import com.mapbox.geojson.GeometryCollection;
 import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiPoint;
 import com.mapbox.geojson.MultiPolygon;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
@@ -19,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -148,6 +150,99 @@ public class TurfMetaTest extends TestUtils {
     assertEquals(2.0, TurfMeta.coordAll(featureCollection,true).get(0).latitude(), DELTA);
   }
 
+  @Test
+  public void coordEachMatchesCoordAll() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      Arrays.asList(
+        Point.fromLngLat(0, 0),
+        Point.fromLngLat(1, 0),
+        Point.fromLngLat(1, 1),
+        Point.fromLngLat(0, 0))));
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(5, 6),
+      Point.fromLngLat(7, 8)));
+    FeatureCollection featureCollection = FeatureCollection.fromFeatures(Arrays.asList(
+      Feature.fromGeometry(polygon),
+      Feature.fromGeometry(null),
+      Feature.fromGeometry(GeometryCollection.fromGeometries(
+        Arrays.<Geometry>asList(lineString, Point.fromLngLat(9, 10))))));
+
+    for (boolean excludeWrapCoord : new boolean[] {true, false}) {
+      final List<Point> visited = new ArrayList<>();
+      TurfMeta.coordEach(featureCollection, excludeWrapCoord, new TurfMeta.CoordinateVisitor() {
+        @Override
+        public void onCoordinate(double longitude, double latitude) {
+          visited.add(Point.fromLngLat(longitude, latitude));
+        }
+      });
+      assertEquals(TurfMeta.coordAll(featureCollection, excludeWrapCoord), visited);
+    }
+  }
+
+  @Test
+  public void segmentEachPolygon() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      Arrays.asList(
+        Point.fromLngLat(0, 0),
+        Point.fromLngLat(1, 0),
+        Point.fromLngLat(1, 1),
+        Point.fromLngLat(0, 0))));
+    final List<double[]> segments = new ArrayList<>();
+    TurfMeta.segmentEach(Feature.fromGeometry(polygon), new TurfMeta.SegmentVisitor() {
+      @Override
+      public void onSegment(double startLongitude, double startLatitude,
+                            double endLongitude, double endLatitude) {
+        segments.add(new double[] {startLongitude, startLatitude, endLongitude, endLatitude});
+      }
+    });
+
+    assertEquals(3, segments.size());
+    assertArrayEquals(new double[] {0, 0, 1, 0}, segments.get(0), DELTA);
+    assertArrayEquals(new double[] {1, 1, 0, 0}, segments.get(2), DELTA);
+  }
+
+  @Test
+  public void segmentEachSkipsPoints() {
+    final int[] count = new int[1];
+    TurfMeta.segmentEach(MultiPoint.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0),
+      Point.fromLngLat(1, 1))), new TurfMeta.SegmentVisitor() {
+        @Override
+        public void onSegment(double startLongitude, double startLatitude,
+                              double endLongitude, double endLatitude) {
+          count[0]++;
+        }
+      });
+
+    assertEquals(0, count[0]);
+  }
+
+  @Test
+  public void geomEachFlattensGeometryCollections() {
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(5, 6),
+      Point.fromLngLat(7, 8)));
+    FeatureCollection featureCollection = FeatureCollection.fromFeatures(Arrays.asList(
+      Feature.fromGeometry(Point.fromLngLat(1, 2)),
+      Feature.fromGeometry(null),
+      Feature.fromGeometry(GeometryCollection.fromGeometries(
+        Arrays.<Geometry>asList(lineString, Point.fromLngLat(9, 10))))));
+
+    final List<Geometry> geometries = new ArrayList<>();
+    final List<Integer> featureIndices = new ArrayList<>();
+    TurfMeta.geomEach(featureCollection, new TurfMeta.GeometryVisitor() {
+      @Override
+      public void onGeometry(Geometry geometry, int featureIndex) {
+        geometries.add(geometry);
+        featureIndices.add(featureIndex);
+      }
+    });
+
+    assertEquals(Arrays.<Geometry>asList(Point.fromLngLat(1, 2), lineString,
+      Point.fromLngLat(9, 10)), geometries);
+    assertEquals(Arrays.asList(0, 2, 2), featureIndices);
+  }
+
   @Test
   public void wrongFeatureGeometryForGetCoordThrowsException() throws TurfException {
     thrown.expect(TurfException.class);
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.hamcrest.CoreMatchers.startsWith;
@@ -607,4 +608,77 @@ public class TurfMiscTest extends TestUtils {
     assertArrayEquals(slicedCoordinates.get(slicedCoordinates.size() - 1).flattenCoordinates(),
             end_point.flattenCoordinates(), DELTA);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void resample_matchesAlong() {
+    LineString line = randomLine(new Random(31), 300);
+    double length = TurfMeasurement.length(line, TurfConstants.UNIT_METERS);
+
+    double[] samples = TurfMisc.resample(line, 250, TurfConstants.UNIT_METERS);
+
+    int count = (int) Math.floor(length / 250) + 1;
+    assertEquals(2 * (count + 1), samples.length);
+    for (int k = 0; k < count; k++) {
+      Point expected = TurfMeasurement.along(line, k * 250, TurfConstants.UNIT_METERS);
+      assertEquals(expected.longitude(), samples[2 * k], 1E-9);
+      assertEquals(expected.latitude(), samples[2 * k + 1], 1E-9);
+    }
+    Point last = line.coordinates().get(line.coordinates().size() - 1);
+    assertEquals(last.longitude(), samples[2 * count], 0);
+    assertEquals(last.latitude(), samples[2 * count + 1], 0);
+  }
+
+  @Test
+  public void resample_lengthMultipleOfTheInterval() {
+    LineString line = LineString.fromLngLats(Arrays.asList(Point.fromLngLat(0, 0),
+      Point.fromLngLat(1, 0), Point.fromLngLat(2, 0)));
+
+    double[] samples = TurfMisc.resample(line, 0.5, TurfConstants.UNIT_DEGREES);
+
+    assertArrayEquals(new double[] {0, 0, 0.5, 0, 1, 0, 1.5, 0, 2, 0}, samples, 1E-9);
+  }
+
+  @Test
+  public void lineChunk_matchesLineSliceAlong() {
+    LineString line = randomLine(new Random(32), 200);
+    double length = TurfMeasurement.length(line, TurfConstants.UNIT_KILOMETERS);
+
+    double[][] chunks = TurfMisc.lineChunk(line, 3, TurfConstants.UNIT_KILOMETERS);
+
+    assertEquals((int) Math.ceil(length / 3), chunks.length);
+    for (int i = 0; i < chunks.length; i++) {
+      LineString slice = TurfMisc.lineSliceAlong(line, i * 3, (i + 1) * 3,
+        TurfConstants.UNIT_KILOMETERS);
+      assertArrayEquals(slice.flattenCoordinates().getFlattenLngLatArray(), chunks[i], 1E-9);
+    }
+  }
+
+  @Test
+  public void lineChunk_shortLineIsASingleChunk() {
+    LineString line = LineString.fromLngLats(Arrays.asList(Point.fromLngLat(0, 0),
+      Point.fromLngLat(0.001, 0), Point.fromLngLat(0.002, 0.001)));
+
+    double[][] chunks = TurfMisc.lineChunk(line, 10, TurfConstants.UNIT_KILOMETERS);
+
+    assertEquals(1, chunks.length);
+    assertArrayEquals(line.flattenCoordinates().getFlattenLngLatArray(), chunks[0], 0);
+  }
+
+  @Test
+  public void resample_nonPositiveIntervalThrows() {
+    thrown.expect(TurfException.class);
+    TurfMisc.resample(new double[] {0, 0, 1, 1}, 0, TurfConstants.UNIT_METERS);
+  }
+
+  private static LineString randomLine(Random random, int count) {
+    List<Point> points = new ArrayList<>();
+    double lng = 7;
+    double lat = 46;
+    for (int i = 0; i < count; i++) {
+      points.add(Point.fromLngLat(lng, lat));
+      lng += random.nextGaussian() * 0.01;
+      lat += random.nextGaussian() * 0.01;
+    }
+    return LineString.fromLngLats(points);
+  }
+}
@@ -0,0 +1,99 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TurfPartitionTest extends TestUtils {
+
+  @Test
+  public void kMeans_separatesDistantClusters() {
+    double[][] centers = new double[][] {{2.35, 48.85}, {-0.12, 51.5}, {13.4, 52.5}};
+    double[] positions = clusteredPositions(new Random(50), centers, 300, 0.05);
+
+    int[] groups = TurfPartition.kMeans(positions, 3, 1, null);
+
+    for (int i = 0; i < groups.length; i++) {
+      assertEquals(groups[i % 3], groups[i]);
+    }
+    assertNotEquals(groups[0], groups[1]);
+    assertNotEquals(groups[1], groups[2]);
+    assertNotEquals(groups[0], groups[2]);
+  }
+
+  @Test
+  public void kMeans_parallelMatchesSequential() {
+    double[] positions = randomPositions(new Random(51), 50000);
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    assertArrayEquals(TurfPartition.kMeans(positions, 40, 7, null),
+      TurfPartition.kMeans(positions, 40, 7, pool));
+    assertArrayEquals(TurfPartition.balancedKMeans(positions, 1000, 7, null),
+      TurfPartition.balancedKMeans(positions, 1000, 7, pool));
+    pool.shutdown();
+  }
+
+  @Test
+  public void balancedKMeans_respectsTheCapacity() {
+    // an unbalanced set of positions: most of them around the first center
+    double[] crowded = clusteredPositions(new Random(53), new double[][] {{7, 46}}, 900, 0.1);
+    double[] sparse = clusteredPositions(new Random(54), new double[][] {{7.5, 46.2}}, 100, 0.1);
+    double[] positions = new double[crowded.length + sparse.length];
+    System.arraycopy(crowded, 0, positions, 0, crowded.length);
+    System.arraycopy(sparse, 0, positions, crowded.length, sparse.length);
+
+    int[] groups = TurfPartition.balancedKMeans(positions, 120, 3, null);
+
+    int[][] indices = TurfPartition.groupIndices(groups);
+    assertEquals(9, indices.length);
+    int total = 0;
+    for (int[] group : indices) {
+      assertTrue(group.length <= 120);
+      for (int k = 1; k < group.length; k++) {
+        assertTrue(group[k] > group[k - 1]);
+      }
+      total += group.length;
+    }
+    assertEquals(1000, total);
+  }
+
+  @Test
+  public void kMeans_moreGroupsThanPositions() {
+    int[] groups = TurfPartition.kMeans(new double[] {1, 1, 1, 1, 2, 2}, 5, 0, null);
+
+    assertEquals(groups[0], groups[1]);
+    assertNotEquals(groups[0], groups[2]);
+    assertArrayEquals(new int[0], TurfPartition.kMeans(new double[0], 2, 0, null));
+  }
+
+  @Test(expected = TurfException.class)
+  public void balancedKMeans_nonPositiveCapacityThrows() {
+    TurfPartition.balancedKMeans(new double[] {0, 0}, 0, 0, null);
+  }
+
+  private static double[] clusteredPositions(Random random, double[][] centers, int count,
+                                             double spread) {
+    double[] positions = new double[2 * count];
+    for (int i = 0; i < count; i++) {
+      double[] center = centers[i % centers.length];
+      positions[2 * i] = center[0] + random.nextGaussian() * spread;
+      positions[2 * i + 1] = center[1] + random.nextGaussian() * spread;
+    }
+    return positions;
+  }
+
+  private static double[] randomPositions(Random random, int count) {
+    double[] positions = new double[2 * count];
+    for (int i = 0; i < count; i++) {
+      positions[2 * i] = -74 + random.nextDouble();
+      positions[2 * i + 1] = 40.5 + random.nextDouble() * 0.5;
+    }
+    return positions;
+  }
+}
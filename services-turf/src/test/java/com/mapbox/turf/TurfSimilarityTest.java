@@ -0,0 +1,126 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class TurfSimilarityTest extends TestUtils {
+
+  @Test
+  public void frechetDistance_followsTheOrderOfThePositions() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0), Point.fromLngLat(2, 0)));
+    List<Point> reversed = new ArrayList<>(line.coordinates());
+    Collections.reverse(reversed);
+    LineString backward = LineString.fromLngLats(reversed);
+
+    assertEquals(0, TurfSimilarity.hausdorffDistance(line, backward,
+      TurfConstants.UNIT_KILOMETERS), DELTA);
+    assertEquals(TurfMeasurement.distance(0, 0, 2, 0, TurfConstants.UNIT_KILOMETERS),
+      TurfSimilarity.frechetDistance(line, backward, TurfConstants.UNIT_KILOMETERS), 1E-9);
+    assertEquals(0, TurfSimilarity.frechetDistance(line, line, TurfConstants.UNIT_KILOMETERS),
+      DELTA);
+  }
+
+  @Test
+  public void hausdorffDistance_matchesBruteForce() {
+    Random random = new Random(21);
+    for (int test = 0; test < 200; test++) {
+      List<Point> first = randomWalk(random, 1 + random.nextInt(80));
+      List<Point> second = randomWalk(random, 1 + random.nextInt(80));
+      double expected = Math.max(bruteForceDirected(first, second),
+        bruteForceDirected(second, first));
+      double actual = TurfSimilarity.hausdorffDistance(LineString.fromLngLats(first),
+        LineString.fromLngLats(second), TurfConstants.UNIT_METERS);
+
+      assertEquals(expected, actual, 1E-6);
+      assertTrue(TurfSimilarity.isHausdorffWithin(LineString.fromLngLats(first),
+        LineString.fromLngLats(second), expected + 1E-3, TurfConstants.UNIT_METERS));
+      assertFalse(TurfSimilarity.isHausdorffWithin(LineString.fromLngLats(first),
+        LineString.fromLngLats(second), expected - 1E-3, TurfConstants.UNIT_METERS));
+    }
+  }
+
+  @Test
+  public void isFrechetWithin_matchesFrechetDistance() {
+    Random random = new Random(22);
+    for (int test = 0; test < 300; test++) {
+      List<Point> first = randomWalk(random, 1 + random.nextInt(60));
+      List<Point> second = new ArrayList<>();
+      // a noisy copy of the first line, sometimes with skipped or repeated positions
+      for (Point point : first) {
+        int copies = random.nextInt(4) == 0 ? random.nextInt(3) : 1;
+        for (int i = 0; i < copies; i++) {
+          second.add(Point.fromLngLat(point.longitude() + random.nextGaussian() * 0.001,
+            point.latitude() + random.nextGaussian() * 0.001));
+        }
+      }
+      if (second.isEmpty()) {
+        second.add(first.get(0));
+      }
+      LineString line1 = LineString.fromLngLats(first);
+      LineString line2 = LineString.fromLngLats(second);
+      double frechet = TurfSimilarity.frechetDistance(line1, line2, TurfConstants.UNIT_METERS);
+
+      assertEquals(frechet, TurfSimilarity.frechetDistance(line2, line1,
+        TurfConstants.UNIT_METERS), 1E-6);
+      assertTrue(frechet >= TurfSimilarity.hausdorffDistance(line1, line2,
+        TurfConstants.UNIT_METERS) - 1E-6);
+      assertTrue(TurfSimilarity.isFrechetWithin(line1, line2, frechet + 1E-3,
+        TurfConstants.UNIT_METERS));
+      assertFalse(TurfSimilarity.isFrechetWithin(line1, line2, frechet - 1E-3,
+        TurfConstants.UNIT_METERS));
+    }
+  }
+
+  @Test
+  public void isFrechetWithin_longSimilarRoutes() {
+    Random random = new Random(23);
+    List<Point> route = randomWalk(random, 20000);
+    List<Point> trace = new ArrayList<>();
+    for (Point point : route) {
+      trace.add(Point.fromLngLat(point.longitude() + random.nextGaussian() * 0.0001,
+        point.latitude() + random.nextGaussian() * 0.0001));
+    }
+
+    assertTrue(TurfSimilarity.isFrechetWithin(LineString.fromLngLats(route),
+      LineString.fromLngLats(trace), 100, TurfConstants.UNIT_METERS));
+    assertFalse(TurfSimilarity.isFrechetWithin(LineString.fromLngLats(route),
+      LineString.fromLngLats(trace), 1, TurfConstants.UNIT_METERS));
+  }
+
+  private static List<Point> randomWalk(Random random, int count) {
+    List<Point> points = new ArrayList<>(count);
+    double lng = random.nextDouble() * 10;
+    double lat = 40 + random.nextDouble() * 10;
+    for (int i = 0; i < count; i++) {
+      points.add(Point.fromLngLat(lng, lat));
+      lng += random.nextGaussian() * 0.01;
+      lat += random.nextGaussian() * 0.01;
+    }
+    return points;
+  }
+
+  private static double bruteForceDirected(List<Point> from, List<Point> to) {
+    double largest = 0;
+    for (Point a : from) {
+      double closest = Double.POSITIVE_INFINITY;
+      for (Point b : to) {
+        closest = Math.min(closest, TurfMeasurement.distance(a, b, TurfConstants.UNIT_METERS));
+      }
+      largest = Math.max(largest, closest);
+    }
+    return largest;
+  }
+}
@@ -0,0 +1,227 @@
+package com.mapbox.turf;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TurfTilesTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void tileId_roundTrip() {
+    long id = TurfTiles.tileId(123456, 654321, 21);
+
+    assertEquals(123456, TurfTiles.tileX(id));
+    assertEquals(654321, TurfTiles.tileY(id));
+    assertEquals(21, TurfTiles.tileZoom(id));
+
+    long max = TurfTiles.tileId((1 << 29) - 1, (1 << 29) - 1, TurfTiles.MAX_ZOOM);
+    assertEquals((1 << 29) - 1, TurfTiles.tileX(max));
+    assertEquals((1 << 29) - 1, TurfTiles.tileY(max));
+    assertEquals(TurfTiles.MAX_ZOOM, TurfTiles.tileZoom(max));
+  }
+
+  @Test
+  public void quadkey() {
+    assertEquals("213", TurfTiles.quadkey(TurfTiles.tileId(3, 5, 3)));
+    assertEquals("", TurfTiles.quadkey(TurfTiles.tileId(0, 0, 0)));
+  }
+
+  @Test
+  public void pointToTile() {
+    long id = TurfTiles.pointToTile(-77.03239381313323, 38.91326516559442, 10);
+
+    assertEquals(292, TurfTiles.tileX(id));
+    assertEquals(391, TurfTiles.tileY(id));
+    assertEquals(TurfTiles.tileId(0, 0, 1), TurfTiles.pointToTile(-180, 90, 1));
+    // the antimeridian wraps around to the first column
+    assertEquals(TurfTiles.tileId(0, 1, 1), TurfTiles.pointToTile(180, -90, 1));
+  }
+
+  @Test
+  public void lineCover_isContinuousAlongASegment() {
+    int zoom = 14;
+    double[] line = new double[] {-122.4194, 37.7749, -74.0060, 40.7128};
+
+    long[] tiles = TurfTiles.lineCover(line, zoom);
+
+    long start = TurfTiles.pointToTile(line[0], line[1], zoom);
+    long end = TurfTiles.pointToTile(line[2], line[3], zoom);
+    int expected = Math.abs(TurfTiles.tileX(end) - TurfTiles.tileX(start))
+      + Math.abs(TurfTiles.tileY(end) - TurfTiles.tileY(start)) + 1;
+    assertEquals(expected, tiles.length);
+    assertTrue(Arrays.binarySearch(tiles, start) >= 0);
+    assertTrue(Arrays.binarySearch(tiles, end) >= 0);
+  }
+
+  @Test
+  public void tileCover_lineContainsSampledPoints() {
+    int zoom = 12;
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(2.3522, 48.8566),
+      Point.fromLngLat(4.8357, 45.7640),
+      Point.fromLngLat(5.3698, 43.2965)));
+
+    long[] tiles = TurfTiles.tileCover(lineString, zoom);
+
+    double[] coordinates = lineString.flattenCoordinates().getFlattenLngLatArray();
+    for (int i = 0; i + 3 < coordinates.length; i += 2) {
+      // segments are straight lines in the tile grid
+      double[] start = tileFraction(coordinates[i], coordinates[i + 1], zoom);
+      double[] end = tileFraction(coordinates[i + 2], coordinates[i + 3], zoom);
+      for (int step = 0; step <= 1000; step++) {
+        double t = step / 1000d;
+        Point point = tileCorner(start[0] + (end[0] - start[0]) * t,
+          start[1] + (end[1] - start[1]) * t, zoom);
+        long tile = TurfTiles.pointToTile(point.longitude(), point.latitude(), zoom);
+        assertTrue(Arrays.binarySearch(tiles, tile) >= 0);
+      }
+    }
+  }
+
+  @Test
+  public void polygonCover_coversTileRange() {
+    int zoom = 8;
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      tileCorner(10.1, 20.1, zoom),
+      tileCorner(14.9, 20.1, zoom),
+      tileCorner(14.9, 23.9, zoom),
+      tileCorner(10.1, 23.9, zoom),
+      tileCorner(10.1, 20.1, zoom))));
+
+    long[] tiles = TurfTiles.tileCover(polygon, zoom);
+
+    List<Long> expected = new ArrayList<>();
+    for (int x = 10; x <= 14; x++) {
+      for (int y = 20; y <= 23; y++) {
+        expected.add(TurfTiles.tileId(x, y, zoom));
+      }
+    }
+    assertEquals(expected.size(), tiles.length);
+    for (long id : expected) {
+      assertTrue(Arrays.binarySearch(tiles, id) >= 0);
+    }
+  }
+
+  @Test
+  public void polygonCover_excludesHoles() {
+    int zoom = 8;
+    double[] outer = flatten(tileCorner(0.5, 0.5, zoom), tileCorner(9.5, 0.5, zoom),
+      tileCorner(9.5, 9.5, zoom), tileCorner(0.5, 9.5, zoom), tileCorner(0.5, 0.5, zoom));
+    double[] hole = flatten(tileCorner(2.5, 2.5, zoom), tileCorner(7.5, 2.5, zoom),
+      tileCorner(7.5, 7.5, zoom), tileCorner(2.5, 7.5, zoom), tileCorner(2.5, 2.5, zoom));
+
+    long[] tiles = TurfTiles.polygonCover(new double[][] {outer, hole}, zoom);
+
+    assertEquals(100 - 16, tiles.length);
+    assertTrue(Arrays.binarySearch(tiles, TurfTiles.tileId(5, 5, zoom)) < 0);
+    assertTrue(Arrays.binarySearch(tiles, TurfTiles.tileId(2, 2, zoom)) >= 0);
+  }
+
+  @Test
+  public void quadkeyCover_point() {
+    assertEquals(Arrays.asList("0"), TurfTiles.quadkeyCover(Point.fromLngLat(-90, 45), 1));
+  }
+
+  @Test
+  public void tileCover_invalidZoomThrows() {
+    thrown.expect(TurfException.class);
+    thrown.expectMessage(startsWith("Zoom level must be between 0 and 29"));
+    TurfTiles.tileCover(Point.fromLngLat(0, 0), 30);
+  }
+
+  @Test
+  public void lineCover_singleCoordinateIsEmpty() {
+    assertArrayEquals(new long[0], TurfTiles.lineCover(new double[] {1, 2}, 5));
+  }
+
+  private static Point tileCorner(double x, double y, int zoom) {
+    double tiles = 1 << zoom;
+    double longitude = x / tiles * 360 - 180;
+    double latitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / tiles))));
+    return Point.fromLngLat(longitude, latitude);
+  }
+
+  private static double[] tileFraction(double longitude, double latitude, int zoom) {
+    double tiles = 1 << zoom;
+    double sin = Math.sin(Math.toRadians(latitude));
+    return new double[] {
+      tiles * (longitude / 360 + 0.5),
+      tiles * (0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI)
+    };
+  }
+
+  private static double[] flatten(Point... points) {
+    double[] flattenLngLat = new double[points.length * 2];
+    for (int i = 0; i < points.length; i++) {
+      flattenLngLat[2 * i] = points[i].longitude();
+      flattenLngLat[2 * i + 1] = points[i].latitude();
+    }
+    return flattenLngLat;
+  }
+
+  @Test
+  public void fromQuadkey_roundTrip() {
+    long id = TurfTiles.tileId(3, 5, 3);
+    char[] digits = new char[5];
+
+    assertEquals(3, TurfTiles.quadkey(id, digits, 1));
+    assertEquals("213", new String(digits, 1, 3));
+    assertEquals(id, TurfTiles.fromQuadkey("213"));
+    assertEquals(TurfTiles.tileId(0, 0, 0), TurfTiles.fromQuadkey(""));
+  }
+
+  @Test
+  public void fromQuadkey_invalidDigitThrows() {
+    thrown.expect(TurfException.class);
+    TurfTiles.fromQuadkey("214");
+  }
+
+  @Test
+  public void neighbor_wrapsColumnsAndStopsAtTheEdges() {
+    long id = TurfTiles.tileId(7, 0, 3);
+
+    assertEquals(TurfTiles.tileId(0, 1, 3), TurfTiles.neighbor(id, 1, 1));
+    assertEquals(TurfTiles.tileId(6, 0, 3), TurfTiles.neighbor(id, -1, 0));
+    assertEquals(-1, TurfTiles.neighbor(id, 0, -1));
+  }
+
+  @Test
+  public void bboxCover_matchesPointToTile() {
+    int zoom = 10;
+    double[] bbox = new double[] {-77.1, 38.8, -76.9, 39};
+    long[] ids = TurfTiles.bboxCover(bbox, zoom);
+
+    long northWest = TurfTiles.pointToTile(bbox[0], bbox[3], zoom);
+    long southEast = TurfTiles.pointToTile(bbox[2], bbox[1], zoom);
+    int columns = TurfTiles.tileX(southEast) - TurfTiles.tileX(northWest) + 1;
+    int rows = TurfTiles.tileY(southEast) - TurfTiles.tileY(northWest) + 1;
+    assertEquals(columns * rows, ids.length);
+    assertEquals(northWest, ids[0]);
+    assertEquals(southEast, ids[ids.length - 1]);
+    assertArrayEquals(ids, TurfTiles.polygonCover(new double[][] {{bbox[0], bbox[1], bbox[2],
+      bbox[1], bbox[2], bbox[3], bbox[0], bbox[3], bbox[0], bbox[1]}}, zoom));
+  }
+
+  @Test
+  public void bboxCover_acrossTheAntimeridian() {
+    long[] ids = TurfTiles.bboxCover(new double[] {170, 10, -170, 20}, 2);
+
+    assertArrayEquals(new long[] {TurfTiles.tileId(0, 1, 2), TurfTiles.tileId(3, 1, 2)}, ids);
+  }
+}
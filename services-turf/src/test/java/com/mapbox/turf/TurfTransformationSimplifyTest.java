@@ -49,6 +49,30 @@ public class TurfTransformationSimplifyTest {
         checkPointsEquality(output, expected, 0.00001);
     }
 
+    @Test
+    public void simplifyFlattenCoordinates() {
+        String inputContent = testUtils.readFile("src/test/resources/turf-simplify/input/" + fileName);
+        JsonObject json = JsonParser.parseString(inputContent).getAsJsonObject();
+        JsonObject properties = json.getAsJsonObject("properties");
+        double tolerance = properties.get("tolerance").getAsDouble();
+        boolean highQuality = properties.get("highQuality").getAsBoolean();
+        List<Point> input = parseCoordinates(json);
+        double[] flattenInput = new double[input.size() * 2];
+        for (int i = 0; i < input.size(); i++) {
+            flattenInput[2 * i] = input.get(i).longitude();
+            flattenInput[2 * i + 1] = input.get(i).latitude();
+        }
+
+        List<Point> expected = TurfTransformation.simplify(input, tolerance, highQuality);
+        double[] output = TurfTransformation.simplify(flattenInput, tolerance, highQuality);
+
+        assertEquals(expected.size() * 2, output.length);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).longitude(), output[2 * i], 0);
+            assertEquals(expected.get(i).latitude(), output[2 * i + 1], 0);
+        }
+    }
+
     private List<Point> parseCoordinates(JsonObject json) {
         List<Point> points = new ArrayList<>();
         JsonArray jsonArray = json.getAsJsonArray("coordinates");
@@ -2,12 +2,26 @@ package com.mapbox.turf;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.geojson.Point;
 
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 public class TurfTransformationTest extends TestUtils {
 
   private static final String CIRCLE_IN = "turf-transformation/circle_in.json";
@@ -23,4 +37,286 @@ public class TurfTransformationTest extends TestUtils {
     FeatureCollection featureCollection = FeatureCollection.fromJson(loadJsonFixture(CIRCLE_OUT));
     compareJson(featureCollection.features().get(1).geometry().toJson(), polygon.toJson());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void simplifyLineString() {
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0),
+      Point.fromLngLat(1, 0.01),
+      Point.fromLngLat(2, 0),
+      Point.fromLngLat(3, 5),
+      Point.fromLngLat(4, 0)));
+
+    LineString simplified = TurfTransformation.simplify(lineString, 0.1, true);
+
+    assertArrayEquals(new double[] {0, 0, 2, 0, 3, 5, 4, 0},
+      simplified.flattenCoordinates().getFlattenLngLatArray(), DELTA);
+  }
+
+  @Test
+  public void simplifyVisvalingamWhyatt_removesSmallestTriangles() {
+    double[] line = new double[] {0, 0, 1, 0.1, 2, 0, 3, 2, 4, 0, 5, 0.05, 6, 0};
+
+    assertArrayEquals(new double[] {0, 0, 2, 0, 3, 2, 4, 0, 6, 0},
+      TurfTransformation.simplifyVisvalingamWhyatt(line, 0.5), DELTA);
+    assertArrayEquals(new double[] {0, 0, 6, 0},
+      TurfTransformation.simplifyVisvalingamWhyatt(line, 100), DELTA);
+    assertArrayEquals(line, TurfTransformation.simplifyVisvalingamWhyatt(line, 0), DELTA);
+  }
+
+  @Test
+  public void simplifyVisvalingamWhyatt_keepsValidRings() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(0, 0),
+      Point.fromLngLat(5, 0.01),
+      Point.fromLngLat(10, 0),
+      Point.fromLngLat(10, 10),
+      Point.fromLngLat(5, 10.01),
+      Point.fromLngLat(0, 10),
+      Point.fromLngLat(0, 0))));
+
+    Polygon simplified = TurfTransformation.simplifyVisvalingamWhyatt(polygon, 1);
+    List<Point> ring = simplified.coordinates().get(0);
+    assertEquals(Arrays.asList(
+      Point.fromLngLat(0, 0),
+      Point.fromLngLat(10, 0),
+      Point.fromLngLat(10, 10),
+      Point.fromLngLat(0, 10),
+      Point.fromLngLat(0, 0)), ring);
+
+    List<Point> collapsed = TurfTransformation.simplifyVisvalingamWhyatt(polygon, 1000)
+      .coordinates().get(0);
+    assertEquals(4, collapsed.size());
+    assertEquals(collapsed.get(0), collapsed.get(3));
+  }
+
+  @Test
+  public void bboxClipLine_splitsLineLeavingTheBox() {
+    double[] line = new double[] {-5, 5, 5, 5, 15, 5, 15, 8, 5, 8, 5, 12};
+
+    List<double[]> parts = TurfTransformation.bboxClipLine(line, new double[] {0, 0, 10, 10});
+
+    assertEquals(2, parts.size());
+    assertArrayEquals(new double[] {0, 5, 5, 5, 10, 5}, parts.get(0), DELTA);
+    assertArrayEquals(new double[] {10, 8, 5, 8, 5, 10}, parts.get(1), DELTA);
+  }
+
+  @Test
+  public void bboxClipLine_insideAndOutside() {
+    double[] bbox = new double[] {0, 0, 10, 10};
+    double[] inside = new double[] {1, 1, 2, 2, 3, 1};
+
+    List<double[]> parts = TurfTransformation.bboxClipLine(inside, bbox);
+    assertEquals(1, parts.size());
+    assertArrayEquals(inside, parts.get(0), 0);
+    assertEquals(0, TurfTransformation.bboxClipLine(new double[] {-1, -1, -5, 20}, bbox).size());
+  }
+
+  @Test
+  public void bboxClip_lineString() {
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-5, 5),
+      Point.fromLngLat(15, 5)));
+
+    MultiLineString clipped = TurfTransformation.bboxClip(lineString, new double[] {0, 0, 10, 10});
+
+    assertEquals(Arrays.asList(Point.fromLngLat(0, 5), Point.fromLngLat(10, 5)),
+      clipped.coordinates().get(0));
+  }
+
+  @Test
+  public void bboxClipRing_overlappingSquare() {
+    double[] ring = new double[] {5, 5, 15, 5, 15, 15, 5, 15, 5, 5};
+
+    assertArrayEquals(new double[] {5, 10, 5, 5, 10, 5, 10, 10, 5, 10},
+      TurfTransformation.bboxClipRing(ring, new double[] {0, 0, 10, 10}), DELTA);
+    assertEquals(0,
+      TurfTransformation.bboxClipRing(ring, new double[] {20, 20, 30, 30}).length);
+  }
+
+  @Test
+  public void bboxClip_polygonDropsRingsOutsideOfTheBox() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      Arrays.asList(
+        Point.fromLngLat(-10, -10),
+        Point.fromLngLat(30, -10),
+        Point.fromLngLat(30, 30),
+        Point.fromLngLat(-10, 30),
+        Point.fromLngLat(-10, -10)),
+      Arrays.asList(
+        Point.fromLngLat(20, 20),
+        Point.fromLngLat(25, 20),
+        Point.fromLngLat(25, 25),
+        Point.fromLngLat(20, 20))));
+
+    Polygon clipped = TurfTransformation.bboxClip(polygon, new double[] {0, 0, 10, 10});
+
+    assertEquals(1, clipped.coordinates().size());
+    assertEquals(TurfMeasurement.area(TurfMeasurement.bboxPolygon(new double[] {0, 0, 10, 10})),
+      TurfMeasurement.area(clipped), 1);
+  }
+
+  @Test
+  public void clipRingConvex_convexClipInAnyOrientation() {
+    double[] square = new double[] {0, 0, 4, 0, 4, 4, 0, 4, 0, 0};
+    double[] counterClockwise = new double[] {2, -1, 5, 2, 2, 5, -1, 2, 2, -1};
+    double[] clockwise = new double[] {2, -1, -1, 2, 2, 5, 5, 2, 2, -1};
+
+    double[] clipped = TurfTransformation.clipRingConvex(square, counterClockwise);
+    assertEquals(16 - 4 * 0.5, Math.abs(planarArea(clipped)), DELTA);
+    assertEquals(Math.abs(planarArea(clipped)),
+      Math.abs(planarArea(TurfTransformation.clipRingConvex(square, clockwise))), DELTA);
+  }
+
+  @Test(expected = TurfException.class)
+  public void clipRingConvex_concaveClipThrows() {
+    TurfTransformation.clipRingConvex(new double[] {0, 0, 1, 0, 1, 1, 0, 0},
+      new double[] {0, 0, 4, 0, 2, 1, 4, 4, 0, 4});
+  }
+
+  @Test
+  public void convexHull_dropsInteriorAndCollinearCoordinates() {
+    double[] coordinates = new double[] {1, 1, 0, 0, 2, 0, 4, 0, 4, 4, 2, 2, 0, 4, 0, 2, 4, 0};
+
+    assertArrayEquals(new double[] {0, 0, 4, 0, 4, 4, 0, 4, 0, 0},
+      TurfTransformation.convexHull(coordinates, null), DELTA);
+  }
+
+  @Test
+  public void convexHull_parallelMatchesSequential() {
+    double[] coordinates = randomCoordinates(new Random(3), 100000);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertArrayEquals(TurfTransformation.convexHull(coordinates, null),
+        TurfTransformation.convexHull(coordinates, pool), 0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void convex_collinearIsNull() {
+    MultiPoint multiPoint = MultiPoint.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 1), Point.fromLngLat(2, 2)));
+
+    assertNull(TurfTransformation.convex(multiPoint));
+  }
+
+  @Test
+  public void concave_followsTheShapeOfThePoints() {
+    // a U shape: the points of a 10 x 10 grid, without the middle of the top rows
+    List<Point> points = new ArrayList<>();
+    for (int x = 0; x <= 10; x++) {
+      for (int y = 0; y <= 10; y++) {
+        if (x < 3 || x > 7 || y < 3) {
+          points.add(Point.fromLngLat(x, y));
+        }
+      }
+    }
+    MultiPoint multiPoint = MultiPoint.fromLngLats(points);
+
+    Polygon convex = TurfTransformation.convex(multiPoint);
+    Polygon concave = TurfTransformation.concave(multiPoint, 0.5, 0);
+
+    double[] ring = flatten(concave.coordinates().get(0));
+    assertEquals(100, planarArea(flatten(convex.coordinates().get(0))), DELTA);
+    // the hull runs along the inner columns and row of points around the notch
+    assertEquals(100 - 6 * 8, planarArea(ring), DELTA);
+    for (Point point : points) {
+      assertTrue(TurfJoins.inside(point, concave) || onRing(point, ring));
+    }
+  }
+
+  @Test
+  public void concaveHull_containsAllTheCoordinates() {
+    Random random = new Random(7);
+    double[] coordinates = randomCoordinates(random, 20000);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      double[] ring = TurfTransformation.concaveHull(coordinates, 2, 0, pool);
+      double[] convex = TurfTransformation.convexHull(coordinates, null);
+      assertTrue(planarArea(ring) > 0);
+      assertTrue(planarArea(ring) <= planarArea(convex));
+      Polygon polygon = Polygon.fromLngLats(Arrays.asList(toPoints(ring)));
+      for (int i = 0; i < coordinates.length; i += 2 * 97) {
+        Point point = Point.fromLngLat(coordinates[i], coordinates[i + 1]);
+        assertTrue(TurfJoins.inside(point, polygon) || onRing(point, ring));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void concaveHull_detailedHullDoesNotCrossItself() {
+    double[] coordinates = randomCoordinates(new Random(8), 50000);
+
+    double[] ring = TurfTransformation.concaveHull(coordinates, 1, 0, null);
+
+    assertTrue(ring.length > 2000);
+    assertTrue(TurfValidation.isValid(new double[][] {ring}));
+  }
+
+  @Test
+  public void concaveHull_infiniteConcavityIsConvex() {
+    double[] coordinates = randomCoordinates(new Random(5), 1000);
+
+    assertArrayEquals(TurfTransformation.convexHull(coordinates, null),
+      TurfTransformation.concaveHull(coordinates, Double.POSITIVE_INFINITY, 0, null), 0);
+  }
+
+  @Test(expected = TurfException.class)
+  public void concaveHull_zeroConcavityThrows() {
+    TurfTransformation.concaveHull(new double[] {0, 0, 1, 0, 0, 1}, 0, 0, null);
+  }
+
+  private static double[] randomCoordinates(Random random, int count) {
+    double[] coordinates = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      // a ring, so that the concave hull has something to dig into
+      double angle = random.nextDouble() * 2 * Math.PI;
+      double radius = 5 + random.nextDouble() * 5;
+      coordinates[2 * i] = Math.cos(angle) * radius;
+      coordinates[2 * i + 1] = Math.sin(angle) * radius;
+    }
+    return coordinates;
+  }
+
+  private static boolean onRing(Point point, double[] ring) {
+    for (int i = 0; i + 3 < ring.length; i += 2) {
+      double dx = ring[i + 2] - ring[i];
+      double dy = ring[i + 3] - ring[i + 1];
+      double cross = (point.longitude() - ring[i]) * dy - (point.latitude() - ring[i + 1]) * dx;
+      double dot = (point.longitude() - ring[i]) * dx + (point.latitude() - ring[i + 1]) * dy;
+      if (Math.abs(cross) < 1E-9 && dot >= 0 && dot <= dx * dx + dy * dy) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static double[] flatten(List<Point> points) {
+    double[] flattenLngLat = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      flattenLngLat[2 * i] = points.get(i).longitude();
+      flattenLngLat[2 * i + 1] = points.get(i).latitude();
+    }
+    return flattenLngLat;
+  }
+
+  private static List<Point> toPoints(double[] flattenLngLat) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < flattenLngLat.length; i += 2) {
+      points.add(Point.fromLngLat(flattenLngLat[i], flattenLngLat[i + 1]));
+    }
+    return points;
+  }
+
+  private static double planarArea(double[] ring) {
+    double area = 0;
+    for (int i = 2; i + 1 < ring.length; i += 2) {
+      area += ring[i - 2] * ring[i + 1] - ring[i] * ring[i - 1];
+    }
+    return area / 2;
+  }
+}
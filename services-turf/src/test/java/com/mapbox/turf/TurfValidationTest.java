@@ -0,0 +1,208 @@
+package com.mapbox.turf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class TurfValidationTest extends TestUtils {
+
+  private static final double[] SQUARE = new double[] {0, 0, 10, 0, 10, 10, 0, 10, 0, 0};
+
+  @Test
+  public void isValid_squareWithHole() {
+    double[] hole = new double[] {2, 2, 2, 6, 6, 6, 6, 2, 2, 2};
+    assertTrue(TurfValidation.isValid(new double[][] {SQUARE, hole}));
+    assertTrue(TurfValidation.isValid(Polygon.fromLngLats(Arrays.asList(ring(SQUARE)))));
+  }
+
+  @Test
+  public void isValid_rejectsUnclosedAndDegenerateRings() {
+    assertFalse(TurfValidation.isValid(new double[][] {{0, 0, 10, 0, 10, 10, 0, 10}}));
+    assertFalse(TurfValidation.isValid(new double[][] {{0, 0, 10, 0, 10, 0, 0, 0}}));
+    assertFalse(TurfValidation.isValid(new double[][] {{0, 0, 10, 0, 5, 0, 0, 0}}));
+  }
+
+  @Test
+  public void findIntersection_bowtie() {
+    double[] bowtie = new double[] {0, 0, 10, 10, 10, 0, 0, 10, 0, 0};
+
+    assertArrayEquals(new int[] {0, 0, 0, 2}, TurfValidation.findIntersection(
+      new double[][] {bowtie}));
+    assertFalse(TurfValidation.isValid(new double[][] {bowtie}));
+  }
+
+  @Test
+  public void findIntersection_holeCrossingTheOuterRing() {
+    double[] hole = new double[] {8, 2, 8, 6, 12, 6, 12, 2, 8, 2};
+
+    int[] intersection = TurfValidation.findIntersection(new double[][] {SQUARE, hole});
+
+    assertNotNull(intersection);
+    assertEquals(0, intersection[0]);
+    assertEquals(1, intersection[2]);
+  }
+
+  @Test
+  public void findIntersection_touchingRingsAndRepeatedPositions() {
+    double[] touching = new double[] {10, 5, 12, 4, 12, 6, 10, 5};
+    double[] repeated = new double[] {0, 0, 10, 0, 10, 0, 10, 10, 0, 10, 0, 10, 0, 0};
+
+    assertNotNull(TurfValidation.findIntersection(new double[][] {SQUARE, touching}));
+    assertNull(TurfValidation.findIntersection(new double[][] {repeated}));
+    assertTrue(TurfValidation.isValid(new double[][] {repeated}));
+  }
+
+  @Test
+  public void isValid_multiPolygonWithOverlappingPolygons() {
+    Polygon first = Polygon.fromLngLats(Arrays.asList(ring(SQUARE)));
+    Polygon second = Polygon.fromLngLats(Arrays.asList(ring(
+      new double[] {5, 5, 15, 5, 15, 15, 5, 15, 5, 5})));
+    Polygon third = Polygon.fromLngLats(Arrays.asList(ring(
+      new double[] {20, 20, 25, 20, 25, 25, 20, 20})));
+
+    assertFalse(TurfValidation.isValid(MultiPolygon.fromPolygons(Arrays.asList(first, second))));
+    assertTrue(TurfValidation.isValid(MultiPolygon.fromPolygons(Arrays.asList(first, third))));
+  }
+
+  @Test
+  public void findIntersection_matchesBruteForce() {
+    Random random = new Random(17);
+    int found = 0;
+    for (int test = 0; test < 3000; test++) {
+      // small integer grids make plenty of collinear, touching and overlapping edges
+      double[][] rings = new double[1 + random.nextInt(2)][];
+      for (int r = 0; r < rings.length; r++) {
+        rings[r] = new double[2 * (3 + random.nextInt(5))];
+        for (int i = 0; i < rings[r].length; i++) {
+          rings[r][i] = random.nextInt(6);
+        }
+      }
+      boolean expected = bruteForceIntersects(rings);
+      found += expected ? 1 : 0;
+      assertEquals(Arrays.deepToString(rings), expected,
+        TurfValidation.findIntersection(rings) != null);
+    }
+    assertTrue(found > 100 && found < 2900);
+  }
+
+  @Test
+  public void isValid_largeStarPolygon() {
+    int count = 200000;
+    double[] star = new double[2 * count + 2];
+    Random random = new Random(5);
+    for (int i = 0; i < count; i++) {
+      double angle = 2 * Math.PI * i / count;
+      double radius = 5 + random.nextDouble();
+      star[2 * i] = Math.cos(angle) * radius;
+      star[2 * i + 1] = Math.sin(angle) * radius;
+    }
+    star[2 * count] = star[0];
+    star[2 * count + 1] = star[1];
+    assertTrue(TurfValidation.isValid(new double[][] {star}));
+
+    // push a vertex across the ring
+    star[2 * 1000] = -star[2 * 1000];
+    assertFalse(TurfValidation.isValid(new double[][] {star}));
+  }
+
+  @Test
+  public void rewind_followsTheRightHandRule() {
+    double[] clockwise = new double[] {0, 0, 0, 10, 10, 10, 10, 0, 0, 0};
+    double[] counterClockwiseHole = new double[] {2, 2, 6, 2, 6, 6, 2, 6, 2, 2};
+    double[][] rings = new double[][] {clockwise.clone(), counterClockwiseHole.clone()};
+
+    TurfValidation.rewind(rings);
+
+    assertArrayEquals(SQUARE, rings[0], 0);
+    assertArrayEquals(new double[] {2, 2, 2, 6, 6, 6, 6, 2, 2, 2}, rings[1], 0);
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(ring(clockwise),
+      ring(counterClockwiseHole)));
+    Polygon rewound = TurfValidation.rewind(polygon);
+    assertEquals(ring(SQUARE), rewound.coordinates().get(0));
+    assertSame(rewound, TurfValidation.rewind(rewound));
+  }
+
+  private static List<Point> ring(double[] coordinates) {
+    List<Point> ring = new ArrayList<>();
+    for (int i = 0; i < coordinates.length; i += 2) {
+      ring.add(Point.fromLngLat(coordinates[i], coordinates[i + 1]));
+    }
+    return ring;
+  }
+
+  private static boolean bruteForceIntersects(double[][] rings) {
+    List<double[]> edges = new ArrayList<>();
+    for (int r = 0; r < rings.length; r++) {
+      List<double[]> ringEdges = new ArrayList<>();
+      int size = rings[r].length / 2;
+      for (int i = 0; i < size; i++) {
+        int j = (i + 1) % size;
+        if (rings[r][2 * i] != rings[r][2 * j] || rings[r][2 * i + 1] != rings[r][2 * j + 1]) {
+          ringEdges.add(new double[] {rings[r][2 * i], rings[r][2 * i + 1], rings[r][2 * j],
+            rings[r][2 * j + 1], r, ringEdges.size()});
+        }
+      }
+      for (double[] edge : ringEdges) {
+        edges.add(Arrays.copyOf(edge, 7));
+        edges.get(edges.size() - 1)[6] = ringEdges.size();
+      }
+    }
+    for (int a = 0; a < edges.size(); a++) {
+      for (int b = a + 1; b < edges.size(); b++) {
+        double[] e = edges.get(a);
+        double[] f = edges.get(b);
+        if (e[4] == f[4] && (Math.abs(e[5] - f[5]) == 1 || Math.abs(e[5] - f[5]) == e[6] - 1)) {
+          // consecutive edges only intersect when folding back
+          double[] first = f[5] == (e[5] + 1) % e[6] ? e : f;
+          double[] next = first == e ? f : e;
+          if (cross(first[0], first[1], first[2], first[3], next[2], next[3]) == 0
+            && (first[0] - first[2]) * (next[2] - first[2])
+            + (first[1] - first[3]) * (next[3] - first[3]) > 0) {
+            return true;
+          }
+          continue;
+        }
+        if (segmentsIntersect(e, f)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean segmentsIntersect(double[] e, double[] f) {
+    double d1 = cross(e[0], e[1], e[2], e[3], f[0], f[1]);
+    double d2 = cross(e[0], e[1], e[2], e[3], f[2], f[3]);
+    double d3 = cross(f[0], f[1], f[2], f[3], e[0], e[1]);
+    double d4 = cross(f[0], f[1], f[2], f[3], e[2], e[3]);
+    if (d1 * d2 < 0 && d3 * d4 < 0) {
+      return true;
+    }
+    return d1 == 0 && within(e, f[0], f[1]) || d2 == 0 && within(e, f[2], f[3])
+      || d3 == 0 && within(f, e[0], e[1]) || d4 == 0 && within(f, e[2], e[3]);
+  }
+
+  private static boolean within(double[] e, double x, double y) {
+    return x >= Math.min(e[0], e[2]) && x <= Math.max(e[0], e[2])
+      && y >= Math.min(e[1], e[3]) && y <= Math.max(e[1], e[3]);
+  }
+
+  private static double cross(double ax, double ay, double bx, double by, double cx, double cy) {
+    return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+  }
+}